@@ -17,6 +17,8 @@ import java.util.Map;
 import org.eclipse.che.api.core.notification.RemoteSubscriptionStorage;
 import org.eclipse.che.api.workspace.server.WorkspaceLockService;
 import org.eclipse.che.api.workspace.server.WorkspaceStatusCache;
+import org.eclipse.che.multiuser.api.distributed.MachineTokenInvalidator;
+import org.eclipse.che.multiuser.api.distributed.SignatureKeyInvalidator;
 import org.eclipse.che.multiuser.api.distributed.WorkspaceStopPropagator;
 import org.eclipse.che.multiuser.api.distributed.subscription.DistributedRemoteSubscriptionStorage;
 import org.eclipse.persistence.config.CacheCoordinationProtocol;
@@ -52,5 +54,7 @@ public class ReplicationModule extends AbstractModule {
         .to(org.eclipse.che.multiuser.api.distributed.cache.JGroupsWorkspaceStatusCache.class);
 
     bind(WorkspaceStopPropagator.class).asEagerSingleton();
+    bind(SignatureKeyInvalidator.class).asEagerSingleton();
+    bind(MachineTokenInvalidator.class).asEagerSingleton();
   }
 }
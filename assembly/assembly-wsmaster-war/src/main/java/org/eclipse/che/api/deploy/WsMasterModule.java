@@ -15,7 +15,6 @@ import static com.google.common.base.Strings.isNullOrEmpty;
 import static com.google.inject.matcher.Matchers.subclassesOf;
 import static org.eclipse.che.inject.Matchers.names;
 
-import com.auth0.jwk.JwkProvider;
 import com.google.inject.AbstractModule;
 import com.google.inject.TypeLiteral;
 import com.google.inject.assistedinject.FactoryModuleBuilder;
@@ -88,7 +87,6 @@ import org.eclipse.che.multiuser.api.permission.server.PermissionCheckerImpl;
 import org.eclipse.che.multiuser.machine.authentication.server.MachineAuthModule;
 import org.eclipse.che.multiuser.oidc.OIDCInfo;
 import org.eclipse.che.multiuser.oidc.OIDCInfoProvider;
-import org.eclipse.che.multiuser.oidc.OIDCJwkProvider;
 import org.eclipse.che.multiuser.oidc.OIDCJwtParserProvider;
 import org.eclipse.che.multiuser.oidc.OIDCSigningKeyResolver;
 import org.eclipse.che.security.PBKDF2PasswordEncryptor;
@@ -116,6 +114,7 @@ import org.eclipse.che.workspace.infrastructure.openshift.OpenShiftInfraModule;
 import org.eclipse.che.workspace.infrastructure.openshift.OpenShiftInfrastructure;
 import org.eclipse.che.workspace.infrastructure.openshift.authorization.OpenShiftAuthorizationCheckerImpl;
 import org.eclipse.che.workspace.infrastructure.openshift.environment.OpenShiftEnvironment;
+import org.eclipse.che.workspace.infrastructure.openshift.metrics.OpenShiftMetricsModule;
 import org.eclipse.persistence.config.PersistenceUnitProperties;
 
 /**
@@ -231,6 +230,9 @@ public class WsMasterModule extends AbstractModule {
 
     bind(org.eclipse.che.security.oauth.OAuthAuthenticatorProvider.class)
         .to(org.eclipse.che.security.oauth.OAuthAuthenticatorProviderImpl.class);
+    bind(com.google.api.client.util.store.DataStoreFactory.class)
+        .toProvider(org.eclipse.che.security.oauth.jpa.OAuthDataStoreFactoryProvider.class);
+    bind(org.eclipse.che.security.oauth.jpa.OAuthDataStoreCleaner.class);
 
     install(new org.eclipse.che.api.core.rest.CoreRestModule());
     install(new org.eclipse.che.api.core.util.FileCleaner.FileCleanerModule());
@@ -296,6 +298,9 @@ public class WsMasterModule extends AbstractModule {
     if (Boolean.valueOf(System.getenv("CHE_METRICS_ENABLED"))) {
       install(new org.eclipse.che.core.metrics.MetricsModule());
       install(new InfrastructureMetricsModule());
+      if (OpenShiftInfrastructure.NAME.equals(infrastructure)) {
+        install(new OpenShiftMetricsModule());
+      }
     }
     if (Boolean.valueOf(System.getenv("CHE_TRACING_ENABLED"))
         && Boolean.valueOf(System.getenv("CHE_METRICS_ENABLED"))) {
@@ -323,7 +328,6 @@ public class WsMasterModule extends AbstractModule {
       bind(OIDCInfo.class).toProvider(OIDCInfoProvider.class).asEagerSingleton();
       bind(SigningKeyResolver.class).to(OIDCSigningKeyResolver.class);
       bind(JwtParser.class).toProvider(OIDCJwtParserProvider.class);
-      bind(JwkProvider.class).toProvider(OIDCJwkProvider.class);
       bind(AuthorizationChecker.class).to(KubernetesOIDCAuthorizationCheckerImpl.class);
     }
     bind(TokenValidator.class).to(NotImplementedTokenValidator.class);
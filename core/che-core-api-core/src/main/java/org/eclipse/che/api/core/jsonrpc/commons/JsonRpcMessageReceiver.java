@@ -16,17 +16,20 @@ import static com.google.common.base.Preconditions.checkNotNull;
 import static org.eclipse.che.api.core.websocket.impl.WebsocketIdService.SEPARATOR;
 import static org.slf4j.LoggerFactory.getLogger;
 
-import java.util.List;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import org.eclipse.che.api.core.websocket.commons.WebSocketMessageReceiver;
 import org.slf4j.Logger;
 
 /**
- * Receives and process messages coming from web socket service. Basically it validates, qualifies
- * and transforms a raw web socket message to a JSON RPC known structure and pass it further to
+ * Receives and process messages coming from web socket service. Basically it transforms a raw web
+ * socket message to JSON RPC known structures, parsing it only once, and pass them further to
  * appropriate dispatchers. In case of any {@link JsonRpcException} happens during request/response
  * processing this class is also responsible for an error transmission.
+ *
+ * <p>The entities of a batch are handled in separate passes: the errors are transmitted first, then
+ * the responses are dispatched and then the requests are processed. So the order of the batch is
+ * kept only among the entities of the same kind.
  */
 @Singleton
 public class JsonRpcMessageReceiver implements WebSocketMessageReceiver {
@@ -35,7 +38,6 @@ public class JsonRpcMessageReceiver implements WebSocketMessageReceiver {
   private final RequestDispatcher requestDispatcher;
   private final ResponseDispatcher responseDispatcher;
   private final JsonRpcErrorTransmitter errorTransmitter;
-  private final JsonRpcQualifier jsonRpcQualifier;
   private final JsonRpcUnmarshaller jsonRpcUnmarshaller;
   private final RequestProcessor requestProcessor;
 
@@ -44,13 +46,11 @@ public class JsonRpcMessageReceiver implements WebSocketMessageReceiver {
       RequestDispatcher requestDispatcher,
       ResponseDispatcher responseDispatcher,
       JsonRpcErrorTransmitter errorTransmitter,
-      JsonRpcQualifier jsonRpcQualifier,
       JsonRpcUnmarshaller jsonRpcUnmarshaller,
       RequestProcessor requestProcessor) {
     this.requestDispatcher = requestDispatcher;
     this.responseDispatcher = responseDispatcher;
     this.errorTransmitter = errorTransmitter;
-    this.jsonRpcQualifier = jsonRpcQualifier;
     this.jsonRpcUnmarshaller = jsonRpcUnmarshaller;
     this.requestProcessor = requestProcessor;
   }
@@ -63,55 +63,50 @@ public class JsonRpcMessageReceiver implements WebSocketMessageReceiver {
     checkArgument(!message.isEmpty(), "Message must not be empty");
 
     LOGGER.trace("Receiving message: {}, from endpoint: {}", message, combinedEndpointId);
-    if (!jsonRpcQualifier.isValidJson(message)) {
-      String error = "An error occurred on the server while parsing the JSON text";
-      errorTransmitter.transmit(combinedEndpointId, new JsonRpcException(-32700, error));
+    JsonRpcMessages messages;
+    try {
+      messages = jsonRpcUnmarshaller.unmarshal(message);
+    } catch (JsonRpcException e) {
+      LOGGER.warn(
+          "Failed to parse message from endpoint {}: {}", combinedEndpointId, e.getMessage());
+      errorTransmitter.transmit(combinedEndpointId, e);
+      return;
     }
 
-    List<String> messages = jsonRpcUnmarshaller.unmarshalArray(message);
-    for (String innerMessage : messages) {
-      if (jsonRpcQualifier.isJsonRpcRequest(innerMessage)) {
-        String endpointId = combinedEndpointId.split(SEPARATOR)[1];
-        ProcessRequestTask task = new ProcessRequestTask(combinedEndpointId, innerMessage);
-        requestProcessor.process(endpointId, task);
-      } else if (jsonRpcQualifier.isJsonRpcResponse(innerMessage)) {
-        processResponse(combinedEndpointId, innerMessage);
-      } else {
-        processError();
+    for (JsonRpcException error : messages.getErrors()) {
+      LOGGER.warn(
+          "Received invalid JSON RPC structure from endpoint {}: {}",
+          combinedEndpointId,
+          error.getMessage());
+      errorTransmitter.transmit(combinedEndpointId, error);
+    }
+    for (JsonRpcResponse response : messages.getResponses()) {
+      responseDispatcher.dispatch(combinedEndpointId, response);
+    }
+    if (!messages.getRequests().isEmpty()) {
+      String endpointId = combinedEndpointId.split(SEPARATOR)[1];
+      for (JsonRpcRequest request : messages.getRequests()) {
+        requestProcessor.process(endpointId, new ProcessRequestTask(combinedEndpointId, request));
       }
     }
   }
 
-  private void processError() {
-    String error = "Something wen't wrong during incoming websocket message parsing";
-    IllegalStateException exception = new IllegalStateException(error);
-    LOGGER.error(error, exception);
-    throw exception;
-  }
-
-  private void processResponse(String endpointId, String innerMessage) {
-    JsonRpcResponse response = jsonRpcUnmarshaller.unmarshalResponse(innerMessage);
-    responseDispatcher.dispatch(endpointId, response);
-  }
-
   private class ProcessRequestTask implements Runnable {
 
     private final String endpointId;
-    private final String innerMessage;
+    private final JsonRpcRequest request;
 
-    public ProcessRequestTask(String endpointId, String innerMessage) {
+    public ProcessRequestTask(String endpointId, JsonRpcRequest request) {
       this.endpointId = endpointId;
-      this.innerMessage = innerMessage;
+      this.request = request;
     }
 
     @Override
     public void run() {
-      JsonRpcRequest request = null;
       try {
-        request = jsonRpcUnmarshaller.unmarshalRequest(innerMessage);
         requestDispatcher.dispatch(endpointId, request);
       } catch (JsonRpcException e) {
-        if (request == null || request.getId() == null) {
+        if (request.getId() == null) {
           errorTransmitter.transmit(endpointId, e);
         } else {
           errorTransmitter.transmit(
@@ -122,7 +117,7 @@ public class JsonRpcMessageReceiver implements WebSocketMessageReceiver {
 
     @Override
     public String toString() {
-      return "JsonRPC request `" + innerMessage + "` for " + endpointId;
+      return "JsonRPC request `" + request.getMethod() + "` for " + endpointId;
     }
   }
 }
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2012-2026 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.api.core.jsonrpc.commons;
+
+import java.util.List;
+
+/**
+ * JSON RPC entities of a single plain text message, which is either a single JSON RPC structure or
+ * a batch of them.
+ *
+ * <p>The entities are grouped by their kind. The order within each group is the order of the
+ * message, the order of the entities of different kinds relative to each other is not kept.
+ */
+public class JsonRpcMessages {
+  private final List<JsonRpcRequest> requests;
+  private final List<JsonRpcResponse> responses;
+  private final List<JsonRpcException> errors;
+
+  public JsonRpcMessages(
+      List<JsonRpcRequest> requests,
+      List<JsonRpcResponse> responses,
+      List<JsonRpcException> errors) {
+    this.requests = List.copyOf(requests);
+    this.responses = List.copyOf(responses);
+    this.errors = List.copyOf(errors);
+  }
+
+  /** Returns the requests and notifications of the message, in the order they appear in it. */
+  public List<JsonRpcRequest> getRequests() {
+    return requests;
+  }
+
+  /** Returns the responses of the message, in the order they appear in it. */
+  public List<JsonRpcResponse> getResponses() {
+    return responses;
+  }
+
+  /**
+   * Returns the errors describing the structures of the message which are neither requests nor
+   * responses.
+   */
+  public List<JsonRpcException> getErrors() {
+    return errors;
+  }
+}
@@ -11,6 +11,13 @@
  */
 package org.eclipse.che.api.core.jsonrpc.commons;
 
+/**
+ * Qualifies plain text messages as JSON RPC requests or responses.
+ *
+ * @deprecated {@link JsonRpcUnmarshaller#unmarshal(String)} qualifies the JSON RPC structures
+ *     while it parses the message, so the message does not need to be parsed again to qualify it
+ */
+@Deprecated
 public interface JsonRpcQualifier {
   boolean isValidJson(String message);
 
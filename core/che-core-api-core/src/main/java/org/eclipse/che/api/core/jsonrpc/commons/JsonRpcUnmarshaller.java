@@ -21,9 +21,25 @@ public interface JsonRpcUnmarshaller {
    *
    * @param message incoming message
    * @return array of serialized JSON RPC
+   * @deprecated use {@link #unmarshal(String)}, which parses the message once and creates the JSON
+   *     RPC entities right away
    */
+  @Deprecated
   List<String> unmarshalArray(String message);
 
+  /**
+   * Parses a plain text message, which is either a single JSON RPC structure or an array of them,
+   * only once and creates the JSON RPC entities it contains. The entities are grouped by their
+   * kind, so the order of the requests, the responses and the errors relative to each other is not
+   * kept.
+   *
+   * @param message plain text message
+   * @return requests and responses of the message, each element that is neither a request nor a
+   *     response is represented by a {@link JsonRpcException} describing the error
+   * @throws JsonRpcException when the message is not a valid JSON
+   */
+  JsonRpcMessages unmarshal(String message);
+
   /**
    * Creates a request out of a plain text message
    *
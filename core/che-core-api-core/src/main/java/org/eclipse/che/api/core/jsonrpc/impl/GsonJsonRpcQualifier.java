@@ -26,6 +26,10 @@ import java.util.stream.Collectors;
 import org.eclipse.che.api.core.jsonrpc.commons.JsonRpcQualifier;
 import org.slf4j.Logger;
 
+/**
+ * @deprecated see {@link JsonRpcQualifier}
+ */
+@Deprecated
 @Singleton
 public class GsonJsonRpcQualifier implements JsonRpcQualifier {
   private static final Logger LOGGER = getLogger(GsonJsonRpcQualifier.class);
@@ -18,6 +18,7 @@ import static java.util.Collections.singletonList;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
 import com.google.gson.JsonParser;
 import com.google.gson.JsonPrimitive;
 import com.google.inject.Inject;
@@ -25,6 +26,8 @@ import com.google.inject.Singleton;
 import java.util.ArrayList;
 import java.util.List;
 import org.eclipse.che.api.core.jsonrpc.commons.JsonRpcError;
+import org.eclipse.che.api.core.jsonrpc.commons.JsonRpcException;
+import org.eclipse.che.api.core.jsonrpc.commons.JsonRpcMessages;
 import org.eclipse.che.api.core.jsonrpc.commons.JsonRpcParams;
 import org.eclipse.che.api.core.jsonrpc.commons.JsonRpcRequest;
 import org.eclipse.che.api.core.jsonrpc.commons.JsonRpcResponse;
@@ -33,6 +36,9 @@ import org.eclipse.che.api.core.jsonrpc.commons.JsonRpcUnmarshaller;
 
 @Singleton
 public class GsonJsonRpcUnmarshaller implements JsonRpcUnmarshaller {
+  private static final int PARSE_ERROR = -32700;
+  private static final int INVALID_REQUEST = -32600;
+
   private final JsonParser jsonParser;
 
   @Inject
@@ -40,23 +46,59 @@ public class GsonJsonRpcUnmarshaller implements JsonRpcUnmarshaller {
     this.jsonParser = jsonParser;
   }
 
+  /**
+   * @deprecated use {@link #unmarshal(String)}, which parses the message once
+   */
+  @Deprecated
   @Override
   public List<String> unmarshalArray(String message) {
-    return getArray(message, jsonParser.parse(message).isJsonArray());
+    checkNotNull(message, "Message must not be null");
+    checkArgument(!message.isEmpty(), "Message must not be empty");
+
+    JsonElement root = jsonParser.parse(message);
+    if (!root.isJsonArray()) {
+      return singletonList(message);
+    }
+
+    JsonArray jsonArray = root.getAsJsonArray();
+    List<String> result = new ArrayList<>(jsonArray.size());
+    for (JsonElement jsonElement : jsonArray) {
+      result.add(jsonElement.toString());
+    }
+    return result;
   }
 
   @Override
-  public JsonRpcRequest unmarshalRequest(String message) {
+  public JsonRpcMessages unmarshal(String message) {
     checkNotNull(message, "Message must not be null");
     checkArgument(!message.isEmpty(), "Message must not be empty");
 
-    JsonObject request = jsonParser.parse(message).getAsJsonObject();
+    JsonElement root;
+    try {
+      root = jsonParser.parse(message);
+    } catch (JsonParseException e) {
+      throw new JsonRpcException(
+          PARSE_ERROR, "An error occurred on the server while parsing the JSON text");
+    }
+    List<JsonRpcRequest> requests = new ArrayList<>();
+    List<JsonRpcResponse> responses = new ArrayList<>();
+    List<JsonRpcException> errors = new ArrayList<>();
+    if (root.isJsonArray()) {
+      for (JsonElement jsonElement : root.getAsJsonArray()) {
+        addEntity(jsonElement, requests, responses, errors);
+      }
+    } else {
+      addEntity(root, requests, responses, errors);
+    }
+    return new JsonRpcMessages(requests, responses, errors);
+  }
 
-    String method = getMethod(request);
-    String id = getId(request);
-    JsonRpcParams params = getParams(request);
+  @Override
+  public JsonRpcRequest unmarshalRequest(String message) {
+    checkNotNull(message, "Message must not be null");
+    checkArgument(!message.isEmpty(), "Message must not be empty");
 
-    return new JsonRpcRequest(id, method, params);
+    return toRequest(jsonParser.parse(message).getAsJsonObject());
   }
 
   @Override
@@ -64,8 +106,115 @@ public class GsonJsonRpcUnmarshaller implements JsonRpcUnmarshaller {
     checkNotNull(message, "Message must not be null");
     checkArgument(!message.isEmpty(), "Message must not be empty");
 
-    JsonObject response = jsonParser.parse(message).getAsJsonObject();
+    return toResponse(jsonParser.parse(message).getAsJsonObject());
+  }
+
+  /**
+   * Qualifies the given element and adds the request, the response or the error created out of it
+   * to the corresponding list.
+   */
+  private void addEntity(
+      JsonElement jsonElement,
+      List<JsonRpcRequest> requests,
+      List<JsonRpcResponse> responses,
+      List<JsonRpcException> errors) {
+    if (jsonElement.isJsonObject()) {
+      JsonObject jsonObject = jsonElement.getAsJsonObject();
+      if (jsonObject.has("method")) {
+        String violation = validateRequest(jsonObject);
+        if (violation == null) {
+          requests.add(toRequest(jsonObject));
+        } else {
+          errors.add(invalidStructure(violation));
+        }
+        return;
+      }
+      if (jsonObject.has("error") != jsonObject.has("result")) {
+        String violation = validateResponse(jsonObject);
+        if (violation == null) {
+          responses.add(toResponse(jsonObject));
+        } else {
+          errors.add(invalidStructure(violation));
+        }
+        return;
+      }
+    }
+    errors.add(
+        new JsonRpcException(
+            INVALID_REQUEST, "JSON RPC structure is neither a request nor a response"));
+  }
+
+  private static JsonRpcException invalidStructure(String violation) {
+    return new JsonRpcException(INVALID_REQUEST, "Invalid JSON RPC structure: " + violation);
+  }
 
+  /** Returns what prevents creating a request out of the given object, or null if nothing. */
+  private static String validateRequest(JsonObject request) {
+    if (!request.get("method").isJsonPrimitive()) {
+      return "'method' must be a string";
+    }
+    if (!isValidId(request)) {
+      return "'id' must be a string or a number";
+    }
+    if (!isValidValue(request.get("params"))) {
+      return "'params' must not contain nested arrays";
+    }
+    return null;
+  }
+
+  /** Returns what prevents creating a response out of the given object, or null if nothing. */
+  private static String validateResponse(JsonObject response) {
+    if (!isValidId(response)) {
+      return "'id' must be a string or a number";
+    }
+    if (!isValidValue(response.get("result"))) {
+      return "'result' must not contain nested arrays";
+    }
+    if (response.has("error")) {
+      JsonElement error = response.get("error");
+      if (!error.isJsonObject()
+          || !isNumber(error.getAsJsonObject().get("code"))
+          || !isPrimitive(error.getAsJsonObject().get("message"))) {
+        return "'error' must be an object with a numeric 'code' and a string 'message'";
+      }
+    }
+    return null;
+  }
+
+  private static boolean isValidId(JsonObject jsonObject) {
+    return !jsonObject.has("id") || isPrimitive(jsonObject.get("id"));
+  }
+
+  /** Params and results are a single value or an array of values, which are not arrays. */
+  private static boolean isValidValue(JsonElement jsonElement) {
+    if (jsonElement == null || !jsonElement.isJsonArray()) {
+      return true;
+    }
+    for (JsonElement item : jsonElement.getAsJsonArray()) {
+      if (item.isJsonArray()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean isPrimitive(JsonElement jsonElement) {
+    return jsonElement != null && jsonElement.isJsonPrimitive();
+  }
+
+  private static boolean isNumber(JsonElement jsonElement) {
+    return isPrimitive(jsonElement) && jsonElement.getAsJsonPrimitive().isNumber();
+  }
+
+  private JsonRpcRequest toRequest(JsonObject request) {
+    String method = getMethod(request);
+    String id = getId(request);
+    JsonRpcParams params = getParams(request);
+
+    return new JsonRpcRequest(id, method, params);
+  }
+
+  private JsonRpcResponse toResponse(JsonObject response) {
     String id = getId(response);
     JsonRpcResult result = getResult(response);
     JsonRpcError error = getError(response);
@@ -133,21 +282,6 @@ public class GsonJsonRpcUnmarshaller implements JsonRpcUnmarshaller {
     return jsonObject.get("method").getAsString();
   }
 
-  private List<String> getArray(String message, boolean isArray) {
-    if (!isArray) {
-      return singletonList(message);
-    }
-
-    JsonArray jsonArray = jsonParser.parse(message).getAsJsonArray();
-    int size = jsonArray.size();
-    List<String> result = new ArrayList<>(size);
-    for (int i = 0; i < size; i++) {
-      JsonElement jsonElement = jsonArray.get(i);
-      result.add(jsonElement.toString());
-    }
-    return result;
-  }
-
   private Object getInnerItem(JsonElement jsonElement) {
     if (jsonElement.isJsonNull()) {
       return null;
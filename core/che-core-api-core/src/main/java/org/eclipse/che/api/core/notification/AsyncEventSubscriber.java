@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2012-2026 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.api.core.notification;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import org.eclipse.che.commons.lang.concurrent.ThreadLocalPropagateContext;
+
+/**
+ * Delivers events to the wrapped subscriber on the threads of the given executor, so the publisher
+ * does not wait for the subscriber.
+ *
+ * <p>Events are split into partitions by their type. Events of the same type are delivered one by
+ * one in the order they were published, events of different types may be delivered concurrently.
+ * The number of the events waiting for the subscriber is limited, the events which do not fit are
+ * rejected. A partition delivers at most {@link #MAX_BATCH_SIZE} events at a time and then gives
+ * the thread back to the executor, so a partition with a long backlog does not hold the shared
+ * threads while the other partitions wait.
+ *
+ * <p>Each event is delivered with the thread local values, e.g. the {@link
+ * org.eclipse.che.commons.env.EnvironmentContext}, of the thread which published it.
+ */
+class AsyncEventSubscriber<T> implements EventSubscriber<T> {
+
+  /** Maximum number of the events a partition delivers before it is rescheduled. */
+  static final int MAX_BATCH_SIZE = 64;
+
+  /** Delivery statistics shared by all the asynchronous subscribers of an event service. */
+  static class Statistics {
+    final AtomicLong delivered = new AtomicLong();
+    final AtomicLong failed = new AtomicLong();
+    final AtomicLong rejected = new AtomicLong();
+    final AtomicLong lagNanos = new AtomicLong();
+  }
+
+  private final EventSubscriber<T> delegate;
+  private final int capacity;
+  private final Executor executor;
+  private final Statistics statistics;
+  private final BiConsumer<T, Throwable> undeliveredHandler;
+  private final Map<Class<?>, Partition> partitions = new ConcurrentHashMap<>();
+  private final AtomicInteger queued = new AtomicInteger();
+
+  AsyncEventSubscriber(
+      EventSubscriber<T> delegate,
+      int capacity,
+      Executor executor,
+      Statistics statistics,
+      BiConsumer<T, Throwable> undeliveredHandler) {
+    this.delegate = delegate;
+    this.capacity = capacity;
+    this.executor = executor;
+    this.statistics = statistics;
+    this.undeliveredHandler = undeliveredHandler;
+  }
+
+  @Override
+  public void onEvent(T event) {
+    if (queued.incrementAndGet() > capacity) {
+      queued.decrementAndGet();
+      statistics.rejected.incrementAndGet();
+      undeliveredHandler.accept(event, null);
+      return;
+    }
+    partitions.computeIfAbsent(event.getClass(), type -> new Partition()).add(event);
+  }
+
+  /** Returns the number of the events waiting for the subscriber. */
+  int getQueuedCount() {
+    return queued.get();
+  }
+
+  EventSubscriber<T> getDelegate() {
+    return delegate;
+  }
+
+  /**
+   * Asynchronous subscribers are equal when they wrap equal subscribers, so that subscribing the
+   * same subscriber asynchronously twice does not deliver the events twice.
+   */
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (!(obj instanceof AsyncEventSubscriber)) {
+      return false;
+    }
+    return delegate.equals(((AsyncEventSubscriber<?>) obj).delegate);
+  }
+
+  @Override
+  public int hashCode() {
+    return delegate.hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return "AsyncEventSubscriber{" + delegate + '}';
+  }
+
+  /** Events of a single type, delivered by at most one thread at a time. */
+  private class Partition implements Runnable {
+    private final Queue<QueuedEvent<T>> events = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+
+    void add(T event) {
+      events.add(
+          new QueuedEvent<>(
+              event,
+              ThreadLocalPropagateContext.wrap(() -> delegate.onEvent(event)),
+              System.nanoTime()));
+      schedule();
+    }
+
+    private void schedule() {
+      if (scheduled.compareAndSet(false, true)) {
+        try {
+          executor.execute(this);
+        } catch (RuntimeException e) {
+          scheduled.set(false);
+          throw e;
+        }
+      }
+    }
+
+    @Override
+    public void run() {
+      QueuedEvent<T> next;
+      for (int i = 0; i < MAX_BATCH_SIZE && (next = events.poll()) != null; i++) {
+        queued.decrementAndGet();
+        long lagNanos = System.nanoTime() - next.queuedAt;
+        try {
+          next.delivery.run();
+          // the lag is only accounted for delivered events, as the delivered count is its divisor
+          statistics.lagNanos.addAndGet(lagNanos);
+          statistics.delivered.incrementAndGet();
+        } catch (RuntimeException e) {
+          statistics.failed.incrementAndGet();
+          undeliveredHandler.accept(next.event, e);
+        }
+      }
+      scheduled.set(false);
+      // the batch may have ended before the queue was drained, or an event may have been added
+      // after the last poll but before the flag was reset, either way the partition is queued again
+      if (!events.isEmpty()) {
+        schedule();
+      }
+    }
+  }
+
+  private static class QueuedEvent<T> {
+    private final T event;
+    private final Runnable delivery;
+    private final long queuedAt;
+
+    private QueuedEvent(T event, Runnable delivery, long queuedAt) {
+      this.event = event;
+      this.delivery = delivery;
+      this.queuedAt = queuedAt;
+    }
+  }
+}
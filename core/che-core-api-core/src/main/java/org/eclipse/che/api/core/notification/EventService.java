@@ -14,6 +14,9 @@ package org.eclipse.che.api.core.notification;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.inject.Inject;
+import jakarta.annotation.PreDestroy;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.Collections;
@@ -23,7 +26,15 @@ import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import javax.inject.Singleton;
+import org.eclipse.che.commons.lang.concurrent.LoggingUncaughtExceptionHandler;
+import org.eclipse.che.commons.observability.ExecutorServiceWrapper;
+import org.eclipse.che.commons.observability.NoopExecutorServiceWrapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -41,6 +52,13 @@ import org.slf4j.LoggerFactory;
  *     bus.publish(new MyEvent());
  * </pre>
  *
+ * <p>Subscribers are called by the publishing thread, unless they are subscribed with {@link
+ * #subscribeAsync(EventSubscriber, Class)}. Such subscribers receive events on a separate thread
+ * pool, from a bounded queue per subscriber, in the order of publishing for the events of the same
+ * type. Events which could not be delivered to them are published as {@link UndeliveredEvent}.
+ * The events rejected because a queue is full are logged at most once per minute, together with
+ * the number of the events rejected since the previous warning.
+ *
  * @author andrew00x
  */
 @Singleton
@@ -50,9 +68,21 @@ public class EventService {
   private static final int CACHE_NUM = 1 << 2;
   private static final int CACHE_MASK = CACHE_NUM - 1;
   private static final int SEG_SIZE = 32;
+  private static final int DEFAULT_ASYNC_QUEUE_CAPACITY = 10_000;
+  private static final long REJECTION_WARNING_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(1);
 
   private final LoadingCache<Class<?>, Set<Class<?>>>[] typeCache;
   private final ConcurrentMap<Class<?>, Set<EventSubscriber>> subscribersByEventType;
+  private final AsyncEventSubscriber.Statistics asyncStatistics =
+      new AsyncEventSubscriber.Statistics();
+  private final AtomicLong rejectedSinceWarning = new AtomicLong();
+  private final AtomicLong lastRejectionWarningNanos =
+      new AtomicLong(System.nanoTime() - REJECTION_WARNING_INTERVAL_NANOS);
+  private volatile ExecutorService asyncExecutor;
+  private volatile boolean shutdown;
+
+  @Inject(optional = true)
+  private ExecutorServiceWrapper executorServiceWrapper = new NoopExecutorServiceWrapper();
 
   @SuppressWarnings("unchecked")
   public EventService() {
@@ -137,6 +167,173 @@ public class EventService {
     doSubscribe(subscriber, eventType);
   }
 
+  /**
+   * Subscribe to an event, so that the subscriber is called on a separate thread rather than on the
+   * thread which publishes the event. Events of the same type are delivered in the order they were
+   * published. At most 10000 events may wait for the subscriber, the following ones are not
+   * delivered. The subscriber is called with the {@link
+   * org.eclipse.che.commons.env.EnvironmentContext} of the thread which published the event, so the
+   * subject of the publisher is available to it.
+   *
+   * @param subscriber The subscriber to call when an event is published.
+   * @param eventType The event to subscribe to.
+   * @see UndeliveredEvent
+   */
+  public <T> void subscribeAsync(EventSubscriber<? extends T> subscriber, Class<T> eventType) {
+    subscribeAsync(subscriber, eventType, DEFAULT_ASYNC_QUEUE_CAPACITY);
+  }
+
+  /**
+   * Subscribe to an event, so that the subscriber is called on a separate thread rather than on the
+   * thread which publishes the event.
+   *
+   * @param subscriber The subscriber to call when an event is published.
+   * @param eventType The event to subscribe to.
+   * @param queueCapacity maximum number of the events waiting for the subscriber
+   * @see #subscribeAsync(EventSubscriber, Class)
+   */
+  @SuppressWarnings("unchecked")
+  public <T> void subscribeAsync(
+      EventSubscriber<? extends T> subscriber, Class<T> eventType, int queueCapacity) {
+    if (queueCapacity <= 0) {
+      throw new IllegalArgumentException("Queue capacity must be positive");
+    }
+    EventSubscriber<Object> delegate = (EventSubscriber<Object>) subscriber;
+    doSubscribe(
+        new AsyncEventSubscriber<>(
+            delegate,
+            queueCapacity,
+            getAsyncExecutor(),
+            asyncStatistics,
+            (event, cause) -> onUndelivered(event, delegate, cause)),
+        eventType);
+  }
+
+  /** Returns the number of the events waiting for the asynchronous subscribers. */
+  public long getAsyncQueuedCount() {
+    long queued = 0;
+    for (Set<EventSubscriber> subscribers : subscribersByEventType.values()) {
+      for (EventSubscriber subscriber : subscribers) {
+        if (subscriber instanceof AsyncEventSubscriber) {
+          queued += ((AsyncEventSubscriber<?>) subscriber).getQueuedCount();
+        }
+      }
+    }
+    return queued;
+  }
+
+  /** Returns the number of the events delivered to the asynchronous subscribers. */
+  public long getAsyncDeliveredCount() {
+    return asyncStatistics.delivered.get();
+  }
+
+  /** Returns the number of the events the asynchronous subscribers failed to handle. */
+  public long getAsyncFailedCount() {
+    return asyncStatistics.failed.get();
+  }
+
+  /** Returns the number of the events rejected because the subscriber queue was full. */
+  public long getAsyncRejectedCount() {
+    return asyncStatistics.rejected.get();
+  }
+
+  /**
+   * Returns the total time the events delivered to the asynchronous subscribers waited in their
+   * queues, in nanoseconds.
+   */
+  public long getAsyncLagNanos() {
+    return asyncStatistics.lagNanos.get();
+  }
+
+  private void onUndelivered(Object event, EventSubscriber<?> subscriber, Throwable cause) {
+    if (cause != null) {
+      LOG.error(
+          "Subscriber {} failed to handle event {}. Cause: {}",
+          subscriber,
+          event,
+          cause.getMessage(),
+          cause);
+    } else {
+      warnRejected(event, subscriber);
+    }
+    if (!(event instanceof UndeliveredEvent)) {
+      publish(new UndeliveredEvent(event, subscriber, cause));
+    }
+  }
+
+  /**
+   * Logs the rejected event unless a rejection was logged less than a minute ago, so a slow
+   * subscriber does not flood the log with a warning per event.
+   */
+  private void warnRejected(Object event, EventSubscriber<?> subscriber) {
+    long rejected = rejectedSinceWarning.incrementAndGet();
+    long now = System.nanoTime();
+    long last = lastRejectionWarningNanos.get();
+    if (now - last >= REJECTION_WARNING_INTERVAL_NANOS
+        && lastRejectionWarningNanos.compareAndSet(last, now)) {
+      rejectedSinceWarning.addAndGet(-rejected);
+      LOG.warn(
+          "Event {} is not delivered to {}, its queue is full. {} event(s) were rejected by "
+              + "the queues of asynchronous subscribers since the previous warning",
+          event,
+          subscriber,
+          rejected);
+    } else {
+      LOG.debug("Event {} is not delivered to {}, its queue is full", event, subscriber);
+    }
+  }
+
+  /**
+   * Stops the threads which deliver the events to the asynchronous subscribers. The events which
+   * are still queued are not delivered, and asynchronous subscribers can't be added anymore.
+   */
+  @PreDestroy
+  public void shutdown() {
+    ExecutorService executor;
+    synchronized (this) {
+      shutdown = true;
+      executor = asyncExecutor;
+    }
+    if (executor != null) {
+      executor.shutdownNow();
+    }
+  }
+
+  private ExecutorService getAsyncExecutor() {
+    if (shutdown) {
+      throw new IllegalStateException("Event service is shut down");
+    }
+    ExecutorService executor = asyncExecutor;
+    if (executor == null) {
+      synchronized (this) {
+        if (shutdown) {
+          throw new IllegalStateException("Event service is shut down");
+        }
+        executor = asyncExecutor;
+        if (executor == null) {
+          int threads = Runtime.getRuntime().availableProcessors();
+          ThreadPoolExecutor threadPoolExecutor =
+              new ThreadPoolExecutor(
+                  threads,
+                  threads,
+                  60L,
+                  TimeUnit.SECONDS,
+                  new LinkedBlockingQueue<>(),
+                  new ThreadFactoryBuilder()
+                      .setUncaughtExceptionHandler(LoggingUncaughtExceptionHandler.getInstance())
+                      .setNameFormat(EventService.class.getSimpleName() + "-async-%d")
+                      .setDaemon(true)
+                      .build());
+          threadPoolExecutor.allowCoreThreadTimeOut(true);
+          asyncExecutor =
+              executor =
+                  executorServiceWrapper.wrap(threadPoolExecutor, EventService.class.getName());
+        }
+      }
+    }
+    return executor;
+  }
+
   private void doSubscribe(EventSubscriber<?> subscriber, Class<?> eventType) {
     Set<EventSubscriber> entries = subscribersByEventType.get(eventType);
     if (entries == null) {
@@ -166,7 +363,12 @@ public class EventService {
   private void doUnsubscribe(EventSubscriber<?> subscriber, Class<?> eventType) {
     final Set<EventSubscriber> entries = subscribersByEventType.get(eventType);
     if (entries != null && !entries.isEmpty()) {
-      boolean changed = entries.remove(subscriber);
+      boolean changed =
+          entries.removeIf(
+              entry ->
+                  entry.equals(subscriber)
+                      || (entry instanceof AsyncEventSubscriber
+                          && ((AsyncEventSubscriber<?>) entry).getDelegate().equals(subscriber)));
       if (changed) {
         if (entries.isEmpty()) {
           subscribersByEventType.remove(eventType);
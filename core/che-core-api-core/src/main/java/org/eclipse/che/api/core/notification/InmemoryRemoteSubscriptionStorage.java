@@ -12,6 +12,7 @@
 package org.eclipse.che.api.core.notification;
 
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
@@ -21,6 +22,9 @@ import javax.inject.Singleton;
 /**
  * Imnemory implementation of {@link RemoteSubscriptionStorage}
  *
+ * <p>Besides the method, subscriptions are indexed by each entry of their scope, so subscriptions
+ * bound to a scope are found without filtering all the subscriptions of the method.
+ *
  * @author Max Shaposhnik (mshaposh@redhat.com)
  */
 @Singleton
@@ -28,6 +32,8 @@ public class InmemoryRemoteSubscriptionStorage implements RemoteSubscriptionStor
 
   private final Map<String, Set<RemoteSubscriptionContext>> subscriptions =
       new ConcurrentHashMap<>();
+  private final Map<ScopeEntry, Set<RemoteSubscriptionContext>> subscriptionsByScope =
+      new ConcurrentHashMap<>();
 
   @Override
   public Set<RemoteSubscriptionContext> getByMethod(String method) {
@@ -35,18 +41,84 @@ public class InmemoryRemoteSubscriptionStorage implements RemoteSubscriptionStor
   }
 
   @Override
-  public void addSubscription(String method, RemoteSubscriptionContext remoteSubscriptionContext) {
+  public Set<RemoteSubscriptionContext> getByMethodAndScope(
+      String method, String scopeKey, String scopeValue) {
+    return subscriptionsByScope.getOrDefault(
+        new ScopeEntry(method, scopeKey, scopeValue), Collections.emptySet());
+  }
+
+  @Override
+  public synchronized void addSubscription(
+      String method, RemoteSubscriptionContext remoteSubscriptionContext) {
     subscriptions
         .computeIfAbsent(method, k -> ConcurrentHashMap.newKeySet(1))
         .add(remoteSubscriptionContext);
+    if (remoteSubscriptionContext.getScope() != null) {
+      for (Map.Entry<String, String> entry : remoteSubscriptionContext.getScope().entrySet()) {
+        subscriptionsByScope
+            .computeIfAbsent(
+                new ScopeEntry(method, entry.getKey(), entry.getValue()),
+                k -> ConcurrentHashMap.newKeySet(1))
+            .add(remoteSubscriptionContext);
+      }
+    }
   }
 
   @Override
-  public void removeSubscription(String method, String endpointId) {
+  public synchronized void removeSubscription(String method, String endpointId) {
+    Set<RemoteSubscriptionContext> removed = new HashSet<>();
     subscriptions
         .getOrDefault(method, Collections.emptySet())
         .removeIf(
             remoteSubscriptionContext ->
-                Objects.equals(remoteSubscriptionContext.getEndpointId(), endpointId));
+                Objects.equals(remoteSubscriptionContext.getEndpointId(), endpointId)
+                    && removed.add(remoteSubscriptionContext));
+    for (RemoteSubscriptionContext context : removed) {
+      if (context.getScope() == null) {
+        continue;
+      }
+      for (Map.Entry<String, String> entry : context.getScope().entrySet()) {
+        ScopeEntry scopeEntry = new ScopeEntry(method, entry.getKey(), entry.getValue());
+        Set<RemoteSubscriptionContext> scoped = subscriptionsByScope.get(scopeEntry);
+        if (scoped != null) {
+          scoped.remove(context);
+          if (scoped.isEmpty()) {
+            subscriptionsByScope.remove(scopeEntry);
+          }
+        }
+      }
+    }
+  }
+
+  /** Single entry of a subscription scope for the given method. */
+  private static final class ScopeEntry {
+    private final String method;
+    private final String key;
+    private final String value;
+
+    private ScopeEntry(String method, String key, String value) {
+      this.method = method;
+      this.key = key;
+      this.value = value;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (!(obj instanceof ScopeEntry)) {
+        return false;
+      }
+      ScopeEntry that = (ScopeEntry) obj;
+      return Objects.equals(method, that.method)
+          && Objects.equals(key, that.key)
+          && Objects.equals(value, that.value);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(method, key, value);
+    }
   }
 }
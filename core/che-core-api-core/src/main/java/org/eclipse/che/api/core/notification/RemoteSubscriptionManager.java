@@ -13,12 +13,23 @@ package org.eclipse.che.api.core.notification;
 
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
+import java.util.Collection;
 import java.util.Map;
 import java.util.function.BiPredicate;
+import java.util.function.Function;
+import org.eclipse.che.api.core.jsonrpc.commons.JsonRpcMarshaller;
+import org.eclipse.che.api.core.jsonrpc.commons.JsonRpcParams;
+import org.eclipse.che.api.core.jsonrpc.commons.JsonRpcRequest;
 import org.eclipse.che.api.core.jsonrpc.commons.RequestHandlerConfigurator;
-import org.eclipse.che.api.core.jsonrpc.commons.RequestTransmitter;
 import org.eclipse.che.api.core.notification.dto.EventSubscription;
+import org.eclipse.che.api.core.websocket.commons.WebSocketMessageTransmitter;
 
+/**
+ * Delivers events published with {@link EventService} to the remote clients subscribed to them.
+ *
+ * <p>An event is serialized to a JSON RPC notification at most once, however many clients receive
+ * it, and the same message is then transmitted to each of them.
+ */
 @Singleton
 public class RemoteSubscriptionManager {
 
@@ -26,16 +37,19 @@ public class RemoteSubscriptionManager {
   public static final String UNSUBSCRIBE_JSON_RPC_METHOD = "unSubscribe";
 
   private final EventService eventService;
-  private final RequestTransmitter requestTransmitter;
+  private final JsonRpcMarshaller marshaller;
+  private final WebSocketMessageTransmitter transmitter;
   private final RemoteSubscriptionStorage remoteSubscriptionStorage;
 
   @Inject
   public RemoteSubscriptionManager(
       EventService eventService,
-      RequestTransmitter requestTransmitter,
+      JsonRpcMarshaller marshaller,
+      WebSocketMessageTransmitter transmitter,
       RemoteSubscriptionStorage remoteSubscriptionStorage) {
     this.eventService = eventService;
-    this.requestTransmitter = requestTransmitter;
+    this.marshaller = marshaller;
+    this.transmitter = transmitter;
     this.remoteSubscriptionStorage = remoteSubscriptionStorage;
   }
 
@@ -56,13 +70,51 @@ public class RemoteSubscriptionManager {
         .withBiConsumer(this::consumeUnSubscriptionRequest);
   }
 
+  /**
+   * Delivers the events of the given type to the clients subscribed to the given method whose
+   * subscription scope matches the event.
+   *
+   * @param method method the clients subscribe to
+   * @param eventType type of the events
+   * @param biPredicate tests whether the event matches the scope of a subscription
+   */
   public <T> void register(
       String method, Class<T> eventType, BiPredicate<T, Map<String, String>> biPredicate) {
     eventService.subscribe(
         event ->
-            remoteSubscriptionStorage.getByMethod(method).stream()
-                .filter(context -> biPredicate.test(event, context.getScope()))
-                .forEach(context -> transmit(context.getEndpointId(), method, event)),
+            transmit(method, event, remoteSubscriptionStorage.getByMethod(method), biPredicate),
+        eventType);
+  }
+
+  /**
+   * Delivers the events of the given type to the clients subscribed to the given method with the
+   * scope entry {@code scopeKey} equal to the value computed from the event. Subscriptions are
+   * looked up by the scope entry rather than filtered one by one.
+   *
+   * @param method method the clients subscribe to
+   * @param eventType type of the events
+   * @param scopeKey key of the scope entry the subscriptions are bound with, e.g. {@code
+   *     workspaceId}
+   * @param scopeValueOf computes the value of the scope entry from the event
+   * @param biPredicate additionally tests whether the event matches the scope of a subscription
+   */
+  public <T> void register(
+      String method,
+      Class<T> eventType,
+      String scopeKey,
+      Function<T, String> scopeValueOf,
+      BiPredicate<T, Map<String, String>> biPredicate) {
+    eventService.subscribe(
+        event -> {
+          String scopeValue = scopeValueOf.apply(event);
+          if (scopeValue != null) {
+            transmit(
+                method,
+                event,
+                remoteSubscriptionStorage.getByMethodAndScope(method, scopeKey, scopeValue),
+                biPredicate);
+          }
+        },
         eventType);
   }
 
@@ -77,12 +129,19 @@ public class RemoteSubscriptionManager {
     remoteSubscriptionStorage.removeSubscription(eventSubscription.getMethod(), endpointId);
   }
 
-  private <T> void transmit(String endpointId, String method, T event) {
-    requestTransmitter
-        .newRequest()
-        .endpointId(endpointId)
-        .methodName(method)
-        .paramsAsDto(event)
-        .sendAndSkipResult();
+  private <T> void transmit(
+      String method,
+      T event,
+      Collection<RemoteSubscriptionContext> contexts,
+      BiPredicate<T, Map<String, String>> biPredicate) {
+    String message = null;
+    for (RemoteSubscriptionContext context : contexts) {
+      if (biPredicate.test(event, context.getScope())) {
+        if (message == null) {
+          message = marshaller.marshall(new JsonRpcRequest(null, method, new JsonRpcParams(event)));
+        }
+        transmitter.transmit(context.getEndpointId(), message);
+      }
+    }
   }
 }
@@ -11,6 +11,9 @@
  */
 package org.eclipse.che.api.core.notification;
 
+import static java.util.stream.Collectors.toSet;
+
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -29,6 +32,27 @@ public interface RemoteSubscriptionStorage {
    */
   Set<RemoteSubscriptionContext> getByMethod(String method);
 
+  /**
+   * Returns active subscriptions for the given method whose scope has the given value of the given
+   * key. Implementations are expected to index the subscriptions, so events bound to a single
+   * scope, e.g. a workspace, do not go through all the subscriptions of the method.
+   *
+   * @param method Method name
+   * @param scopeKey key of the scope entry
+   * @param scopeValue value of the scope entry
+   * @return matching active subscriptions to this method
+   */
+  default Set<RemoteSubscriptionContext> getByMethodAndScope(
+      String method, String scopeKey, String scopeValue) {
+    return getByMethod(method).stream()
+        .filter(
+            context -> {
+              Map<String, String> scope = context.getScope();
+              return scope != null && scopeValue.equals(scope.get(scopeKey));
+            })
+        .collect(toSet());
+  }
+
   /**
    * Adds new subscription to the given method subscriptions list
    *
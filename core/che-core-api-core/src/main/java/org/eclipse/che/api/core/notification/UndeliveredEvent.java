@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2012-2026 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.api.core.notification;
+
+/**
+ * Published by {@link EventService} when an event could not be delivered to a subscriber which
+ * receives events asynchronously, either because the queue of the subscriber was full or because
+ * the subscriber failed to handle the event. Subscribe to it to keep or report such events.
+ *
+ * @see EventService#subscribeAsync(EventSubscriber, Class)
+ */
+public class UndeliveredEvent {
+
+  private final Object event;
+  private final EventSubscriber<?> subscriber;
+  private final Throwable cause;
+
+  UndeliveredEvent(Object event, EventSubscriber<?> subscriber, Throwable cause) {
+    this.event = event;
+    this.subscriber = subscriber;
+    this.cause = cause;
+  }
+
+  /** Returns the event which was not delivered. */
+  public Object getEvent() {
+    return event;
+  }
+
+  /** Returns the subscriber the event was not delivered to. */
+  public EventSubscriber<?> getSubscriber() {
+    return subscriber;
+  }
+
+  /** Returns the failure of the subscriber, or null if the event was rejected by a full queue. */
+  public Throwable getCause() {
+    return cause;
+  }
+
+  @Override
+  public String toString() {
+    return "UndeliveredEvent{"
+        + "event="
+        + event
+        + ", subscriber="
+        + subscriber
+        + ", cause="
+        + cause
+        + '}';
+  }
+}
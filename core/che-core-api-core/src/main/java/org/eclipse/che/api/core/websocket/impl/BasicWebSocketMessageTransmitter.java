@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012-2021 Red Hat, Inc.
+ * Copyright (c) 2012-2026 Red Hat, Inc.
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
  * which is available at https://www.eclipse.org/legal/epl-2.0/
@@ -14,11 +14,16 @@ package org.eclipse.che.api.core.websocket.impl;
 import static org.slf4j.LoggerFactory.getLogger;
 
 import jakarta.websocket.Session;
-import java.io.IOException;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.inject.Inject;
+import javax.inject.Named;
 import javax.inject.Singleton;
 import org.eclipse.che.api.core.websocket.commons.WebSocketMessageTransmitter;
+import org.eclipse.che.api.core.websocket.impl.SessionSendQueue.OverflowPolicy;
+import org.eclipse.che.commons.schedule.ScheduleDelay;
 import org.slf4j.Logger;
 
 /**
@@ -26,6 +31,9 @@ import org.slf4j.Logger;
  * session is not opened adds messages to re-sender to try to send them when session will be opened
  * again.
  *
+ * <p>Each session has its own bounded queue of outgoing messages which are sent asynchronously, so
+ * a slow client does not delay the messages sent to other clients.
+ *
  * @author Dmitry Kuleshov
  */
 @Singleton
@@ -34,16 +42,29 @@ public class BasicWebSocketMessageTransmitter implements WebSocketMessageTransmi
 
   private final WebSocketSessionRegistry registry;
   private final MessagesReSender reSender;
+  private final int queueCapacity;
+  private final OverflowPolicy overflowPolicy;
+  private final long backpressureTimeoutMillis;
+  private final SessionSendQueue.Statistics statistics = new SessionSendQueue.Statistics();
+  private final Map<Session, SessionSendQueue> queues = new ConcurrentHashMap<>();
 
   @Inject
   public BasicWebSocketMessageTransmitter(
-      WebSocketSessionRegistry registry, MessagesReSender reSender) {
+      WebSocketSessionRegistry registry,
+      MessagesReSender reSender,
+      @Named("che.core.websocket.send_queue_capacity") int queueCapacity,
+      @Named("che.core.websocket.send_queue_overflow_policy") String overflowPolicy,
+      @Named("che.core.websocket.send_queue_backpressure_timeout_ms")
+          long backpressureTimeoutMillis) {
     this.registry = registry;
     this.reSender = reSender;
+    this.queueCapacity = queueCapacity;
+    this.overflowPolicy = OverflowPolicy.valueOf(overflowPolicy.toUpperCase(Locale.ROOT));
+    this.backpressureTimeoutMillis = backpressureTimeoutMillis;
   }
 
   @Override
-  public synchronized void transmit(String endpointId, String message) {
+  public void transmit(String endpointId, String message) {
     Optional<Session> sessionOptional = registry.get(endpointId);
 
     if (!sessionOptional.isPresent()) {
@@ -53,15 +74,62 @@ public class BasicWebSocketMessageTransmitter implements WebSocketMessageTransmi
     if (!sessionOptional.isPresent() || !sessionOptional.get().isOpen()) {
       LOG.trace("Session is not registered or closed, adding message to pending");
 
+      sessionOptional.ifPresent(queues::remove);
       reSender.add(endpointId, message);
     } else {
       LOG.trace("Session registered and open, sending message");
 
-      try {
-        sessionOptional.get().getBasicRemote().sendText(message);
-      } catch (IOException e) {
-        LOG.error("Error while trying to send a message to a basic websocket remote endpoint", e);
-      }
+      send(sessionOptional.get(), message);
     }
   }
+
+  /** Sends the message through the send queue of the given session, creating it if needed. */
+  void send(Session session, String message) {
+    queues
+        .computeIfAbsent(
+            session,
+            s ->
+                new SessionSendQueue(
+                    s, queueCapacity, overflowPolicy, backpressureTimeoutMillis, statistics))
+        .offer(message);
+  }
+
+  /** Returns the number of the messages waiting to be sent over all the sessions. */
+  public long getQueuedCount() {
+    long queued = 0;
+    for (SessionSendQueue queue : queues.values()) {
+      queued += queue.size();
+    }
+    return queued;
+  }
+
+  /** Returns the number of the messages sent successfully. */
+  public long getSentCount() {
+    return statistics.sent.get();
+  }
+
+  /** Returns the number of the messages which failed to be sent. */
+  public long getFailedCount() {
+    return statistics.failed.get();
+  }
+
+  /** Returns the number of the messages dropped because the queue of their session was full. */
+  public long getDroppedCount() {
+    return statistics.dropped.get();
+  }
+
+  /** Returns the number of the sessions closed because their queue was full. */
+  public long getDisconnectedCount() {
+    return statistics.disconnected.get();
+  }
+
+  /** Returns the total time of the completed sends, in nanoseconds. */
+  public long getSendNanos() {
+    return statistics.sendNanos.get();
+  }
+
+  @ScheduleDelay(initialDelay = 60, delay = 60)
+  void removeClosedSessionQueues() {
+    queues.values().removeIf(queue -> !queue.getSession().isOpen() && queue.size() == 0);
+  }
 }
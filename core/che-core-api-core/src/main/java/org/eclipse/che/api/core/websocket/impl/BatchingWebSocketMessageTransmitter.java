@@ -0,0 +1,235 @@
+/*
+ * Copyright (c) 2012-2026 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.api.core.websocket.impl;
+
+import static org.slf4j.LoggerFactory.getLogger;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Singleton;
+import org.eclipse.che.api.core.websocket.commons.WebSocketMessageTransmitter;
+import org.eclipse.che.commons.lang.concurrent.LoggingUncaughtExceptionHandler;
+import org.eclipse.che.commons.observability.ExecutorServiceWrapper;
+import org.slf4j.Logger;
+
+/**
+ * Combines the JSON RPC messages transmitted to the same endpoint within a short window into a
+ * single JSON RPC batch, so bursts of notifications, e.g. log lines, take one WEB SOCKET frame
+ * instead of one frame per message.
+ *
+ * <p>A batch is sent when the flush window passed since its first message or when it reaches the
+ * maximum size, whatever comes first. A batch of a single message is sent as is. Messages which are
+ * already batches are sent right after the pending messages of the endpoint. Batching is disabled
+ * when the flush window is not positive, then messages are passed to the underlying transmitter
+ * right away.
+ *
+ * <p>The batches of an endpoint are passed to the underlying transmitter one at a time and outside
+ * of the lock of the endpoint, so a transmitter which waits for a slow client neither blocks the
+ * threads adding messages for that client nor the flushes of the other endpoints.
+ *
+ * <p>The flushes are scheduled on a pool which is stopped together with the server, the messages
+ * transmitted after that are passed to the underlying transmitter right away.
+ */
+@Singleton
+public class BatchingWebSocketMessageTransmitter implements WebSocketMessageTransmitter {
+  private static final Logger LOG = getLogger(BatchingWebSocketMessageTransmitter.class);
+
+  private final WebSocketMessageTransmitter delegate;
+  private final long flushWindowMillis;
+  private final int maxBatchSize;
+  private final ScheduledExecutorService scheduler;
+  private final Map<String, Batch> batches = new ConcurrentHashMap<>();
+
+  @Inject
+  public BatchingWebSocketMessageTransmitter(
+      BasicWebSocketMessageTransmitter delegate,
+      @Named("che.core.jsonrpc.batch_flush_window_ms") long flushWindowMillis,
+      @Named("che.core.jsonrpc.batch_max_size") int maxBatchSize,
+      ExecutorServiceWrapper executorServiceWrapper) {
+    this(
+        (WebSocketMessageTransmitter) delegate,
+        flushWindowMillis,
+        maxBatchSize,
+        flushWindowMillis > 0
+            ? executorServiceWrapper.wrap(
+                Executors.newScheduledThreadPool(
+                    Runtime.getRuntime().availableProcessors(),
+                    new ThreadFactoryBuilder()
+                        .setNameFormat(
+                            BatchingWebSocketMessageTransmitter.class.getSimpleName() + "-%d")
+                        .setUncaughtExceptionHandler(LoggingUncaughtExceptionHandler.getInstance())
+                        .setDaemon(true)
+                        .build()),
+                BatchingWebSocketMessageTransmitter.class.getName())
+            : null);
+  }
+
+  @VisibleForTesting
+  BatchingWebSocketMessageTransmitter(
+      WebSocketMessageTransmitter delegate,
+      long flushWindowMillis,
+      int maxBatchSize,
+      ScheduledExecutorService scheduler) {
+    this.delegate = delegate;
+    this.flushWindowMillis = flushWindowMillis;
+    this.maxBatchSize = maxBatchSize;
+    this.scheduler = scheduler;
+  }
+
+  @Override
+  public void transmit(String endpointId, String message) {
+    if (flushWindowMillis <= 0 || maxBatchSize <= 1) {
+      delegate.transmit(endpointId, message);
+      return;
+    }
+    while (true) {
+      Batch batch = batches.computeIfAbsent(endpointId, Batch::new);
+      synchronized (batch) {
+        if (batch.closed) {
+          continue;
+        }
+        if (message.startsWith("[")) {
+          batch.flush();
+          batch.ready.addLast(message);
+        } else {
+          batch.messages.add(message);
+          if (batch.messages.size() >= maxBatchSize) {
+            batch.flush();
+          } else if (batch.messages.size() == 1) {
+            try {
+              batch.scheduledFlush =
+                  scheduler.schedule(
+                      batch::flushScheduled, flushWindowMillis, TimeUnit.MILLISECONDS);
+              return;
+            } catch (RejectedExecutionException e) {
+              // the flushes are stopped, the message is not delayed
+              batch.flush();
+            }
+          } else {
+            return;
+          }
+        }
+      }
+      batch.transmitReady();
+      return;
+    }
+  }
+
+  /** Stops the flushes. Pending messages are not sent. */
+  @PreDestroy
+  public void shutdown() {
+    if (scheduler != null) {
+      scheduler.shutdownNow();
+    }
+  }
+
+  /** Messages pending for a single endpoint. */
+  private class Batch {
+    private final String endpointId;
+
+    /** Messages to be combined into the next batch. Guarded by {@code this}. */
+    private final List<String> messages = new ArrayList<>();
+
+    /** Batches waiting to be passed to the underlying transmitter. Guarded by {@code this}. */
+    private final Deque<String> ready = new ArrayDeque<>();
+
+    /**
+     * Pending flush of the window started by the first of the messages. Guarded by {@code this}.
+     */
+    private ScheduledFuture<?> scheduledFlush;
+
+    /**
+     * Whether a thread is passing the ready batches to the transmitter. Guarded by {@code this}.
+     */
+    private boolean transmitting;
+
+    /** Whether the batch is removed from the pending ones. Guarded by {@code this}. */
+    private boolean closed;
+
+    private Batch(String endpointId) {
+      this.endpointId = endpointId;
+    }
+
+    private void flushScheduled() {
+      synchronized (this) {
+        scheduledFlush = null;
+        flush();
+      }
+      transmitReady();
+    }
+
+    /** Combines the pending messages into a ready batch, must be called holding the lock. */
+    private void flush() {
+      if (scheduledFlush != null) {
+        scheduledFlush.cancel(false);
+        scheduledFlush = null;
+      }
+      if (messages.isEmpty()) {
+        return;
+      }
+      if (messages.size() == 1) {
+        ready.addLast(messages.get(0));
+      } else {
+        ready.addLast("[" + String.join(",", messages) + "]");
+      }
+      messages.clear();
+    }
+
+    /**
+     * Passes the ready batches to the underlying transmitter in order, unless another thread is
+     * doing it already. Closes the batch once there is nothing left to send, must be called without
+     * holding the lock.
+     */
+    private void transmitReady() {
+      while (true) {
+        String next;
+        synchronized (this) {
+          if (transmitting) {
+            return;
+          }
+          next = ready.pollFirst();
+          if (next == null) {
+            if (messages.isEmpty()) {
+              closed = true;
+              batches.remove(endpointId, this);
+            }
+            return;
+          }
+          transmitting = true;
+        }
+        try {
+          delegate.transmit(endpointId, next);
+        } catch (RuntimeException e) {
+          LOG.error("Failed to transmit a message to endpoint {}", endpointId, e);
+        } finally {
+          synchronized (this) {
+            transmitting = false;
+          }
+        }
+      }
+    }
+  }
+}
@@ -18,13 +18,15 @@ import java.util.Optional;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
 import javax.inject.Inject;
+import javax.inject.Provider;
 import javax.inject.Singleton;
 import org.eclipse.che.commons.schedule.ScheduleDelay;
 
 /**
  * Instance is responsible for re-sending messages that were not sent during the period when WEB
  * SOCKET session was closed. If session is closed during re-send process it stops and left messages
- * will be re-sent as WEB SOCKET session becomes open again.
+ * will be re-sent as WEB SOCKET session becomes open again. Messages are re-sent through the send
+ * queue of the session, so they are not sent concurrently with the ones transmitted meanwhile.
  *
  * @author Dmitry Kuleshov
  */
@@ -34,13 +36,17 @@ public class MessagesReSender {
   private static final int MAX_MESSAGES = 100;
 
   private final WebSocketSessionRegistry registry;
+  private final Provider<BasicWebSocketMessageTransmitter> transmitterProvider;
 
   private final Map<String, Queue<DelayedMessage>> delayedMessageRegistry =
       new ConcurrentHashMap<>();
 
   @Inject
-  public MessagesReSender(WebSocketSessionRegistry registry) {
+  public MessagesReSender(
+      WebSocketSessionRegistry registry,
+      Provider<BasicWebSocketMessageTransmitter> transmitterProvider) {
     this.registry = registry;
+    this.transmitterProvider = transmitterProvider;
   }
 
   @ScheduleDelay(initialDelay = 60, delay = 60)
@@ -80,9 +86,10 @@ public class MessagesReSender {
     }
 
     Session session = sessionOptional.get();
+    BasicWebSocketMessageTransmitter transmitter = transmitterProvider.get();
     for (DelayedMessage delayedMessage : backingQueue) {
       if (session.isOpen()) {
-        session.getAsyncRemote().sendText(delayedMessage.message);
+        transmitter.send(session, delayedMessage.message);
       } else {
         delayedMessages.add(delayedMessage);
       }
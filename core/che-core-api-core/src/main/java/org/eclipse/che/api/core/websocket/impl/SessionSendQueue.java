@@ -0,0 +1,247 @@
+/*
+ * Copyright (c) 2012-2026 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.api.core.websocket.impl;
+
+import static org.slf4j.LoggerFactory.getLogger;
+
+import jakarta.websocket.CloseReason;
+import jakarta.websocket.SendResult;
+import jakarta.websocket.Session;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+
+/**
+ * Bounded queue of the messages to be sent over a single WEB SOCKET session. Messages are sent one
+ * by one with asynchronous sends, so a slow client only delays the messages of its own session.
+ * What happens when the queue is full is defined by the {@link OverflowPolicy}.
+ */
+class SessionSendQueue {
+  private static final Logger LOG = getLogger(SessionSendQueue.class);
+
+  /**
+   * Defines what happens to a message that is transmitted when the queue of the session is full.
+   */
+  enum OverflowPolicy {
+    /**
+     * The oldest queued message is dropped in favour of the new one. The client is not notified, so
+     * it may wait forever for a dropped response.
+     */
+    DROP_OLDEST,
+    /** The session is closed, so the client reconnects and gets the current state. */
+    DISCONNECT,
+    /** The transmitting thread waits for a free place, the new message is dropped on timeout. */
+    BLOCK
+  }
+
+  /** Send statistics shared by all the queues of a transmitter. */
+  static class Statistics {
+    final AtomicLong sent = new AtomicLong();
+    final AtomicLong failed = new AtomicLong();
+    final AtomicLong dropped = new AtomicLong();
+    final AtomicLong disconnected = new AtomicLong();
+    final AtomicLong sendNanos = new AtomicLong();
+  }
+
+  private static final int PENDING = 0;
+  private static final int RETURNED = 1;
+  private static final int COMPLETED = 2;
+
+  private final Session session;
+  private final int capacity;
+  private final OverflowPolicy overflowPolicy;
+  private final long backpressureTimeoutMillis;
+  private final Statistics statistics;
+  private final Deque<String> messages = new ArrayDeque<>();
+
+  /** Whether a message is being sent. Guarded by {@code this}. */
+  private boolean sending;
+
+  SessionSendQueue(
+      Session session,
+      int capacity,
+      OverflowPolicy overflowPolicy,
+      long backpressureTimeoutMillis,
+      Statistics statistics) {
+    this.session = session;
+    this.capacity = capacity;
+    this.overflowPolicy = overflowPolicy;
+    this.backpressureTimeoutMillis = backpressureTimeoutMillis;
+    this.statistics = statistics;
+  }
+
+  /** What {@link #enqueue(String)} asks the caller to do once the lock is released. */
+  private enum Outcome {
+    /** The message is queued or dropped, nothing else to do. */
+    NONE,
+    /** The queue became idle, the message is to be sent right away. */
+    SEND,
+    /** The queue overflowed, the session is to be closed. */
+    DISCONNECT
+  }
+
+  /**
+   * Sends the message right away if nothing is being sent, queues it otherwise. Sending and closing
+   * the session happen outside the lock, so that the completion callbacks of the session are never
+   * blocked by it.
+   */
+  void offer(String message) {
+    Outcome outcome;
+    synchronized (this) {
+      outcome = sending ? enqueue(message) : Outcome.SEND;
+      if (outcome == Outcome.SEND) {
+        sending = true;
+      }
+    }
+    if (outcome == Outcome.SEND) {
+      send(message);
+    } else if (outcome == Outcome.DISCONNECT) {
+      disconnect();
+    }
+  }
+
+  /** Returns the number of the messages waiting to be sent. */
+  synchronized int size() {
+    return messages.size();
+  }
+
+  Session getSession() {
+    return session;
+  }
+
+  /**
+   * Queues the message or applies the overflow policy when the queue is full. Must be called
+   * holding the lock.
+   *
+   * @return what is left to do with the message or the session after the lock is released
+   */
+  private Outcome enqueue(String message) {
+    if (overflowPolicy == OverflowPolicy.BLOCK) {
+      awaitCapacity();
+      if (!sending) {
+        return Outcome.SEND;
+      }
+    }
+    if (messages.size() < capacity) {
+      messages.addLast(message);
+      return Outcome.NONE;
+    }
+    switch (overflowPolicy) {
+      case DROP_OLDEST:
+        messages.pollFirst();
+        messages.addLast(message);
+        statistics.dropped.incrementAndGet();
+        LOG.warn(
+            "Dropping the oldest websocket message, the send queue of session {} is full",
+            session.getId());
+        break;
+      case DISCONNECT:
+        statistics.dropped.addAndGet(messages.size() + 1L);
+        messages.clear();
+        return Outcome.DISCONNECT;
+      default:
+        statistics.dropped.incrementAndGet();
+        LOG.warn(
+            "Dropping websocket message, the send queue of session {} is full", session.getId());
+    }
+    return Outcome.NONE;
+  }
+
+  private void awaitCapacity() {
+    long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(backpressureTimeoutMillis);
+    try {
+      while (sending && messages.size() >= capacity) {
+        long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+        if (remainingMillis <= 0) {
+          return;
+        }
+        wait(remainingMillis);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void disconnect() {
+    statistics.disconnected.incrementAndGet();
+    LOG.warn(
+        "Closing websocket session {}, the client does not read the messages fast enough",
+        session.getId());
+    try {
+      session.close(
+          new CloseReason(
+              CloseReason.CloseCodes.TRY_AGAIN_LATER, "Client does not read messages fast enough"));
+    } catch (IOException e) {
+      LOG.debug("Failed to close websocket session {}", session.getId(), e);
+    }
+  }
+
+  /**
+   * Sends the given message and the queued ones after it, until the queue is empty. Sends which
+   * complete while the container is still in {@code sendText} are followed up by the loop rather
+   * than by the completion callback, so the stack does not grow with the number of messages.
+   */
+  private void send(String message) {
+    String next = message;
+    while (next != null) {
+      final AtomicInteger state = new AtomicInteger(PENDING);
+      final long start = System.nanoTime();
+      try {
+        session
+            .getAsyncRemote()
+            .sendText(
+                next,
+                result -> {
+                  onSent(result, start);
+                  if (!state.compareAndSet(PENDING, COMPLETED)) {
+                    send(poll());
+                  }
+                });
+      } catch (RuntimeException e) {
+        statistics.failed.incrementAndGet();
+        LOG.debug("Failed to send a websocket message to session {}", session.getId(), e);
+        state.set(COMPLETED);
+      }
+      if (state.compareAndSet(PENDING, RETURNED)) {
+        return;
+      }
+      next = poll();
+    }
+  }
+
+  private void onSent(SendResult result, long start) {
+    statistics.sendNanos.addAndGet(System.nanoTime() - start);
+    if (result.isOK()) {
+      statistics.sent.incrementAndGet();
+    } else {
+      statistics.failed.incrementAndGet();
+      LOG.debug(
+          "Error while trying to send a message to websocket session {}",
+          session.getId(),
+          result.getException());
+    }
+  }
+
+  /** Takes the next message to send, or marks the queue idle if there is none. */
+  private synchronized String poll() {
+    String next = messages.pollFirst();
+    if (next == null) {
+      sending = false;
+    }
+    notifyAll();
+    return next;
+  }
+}
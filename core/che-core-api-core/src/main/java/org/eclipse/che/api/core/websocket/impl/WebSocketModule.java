@@ -22,6 +22,6 @@ public class WebSocketModule extends AbstractModule {
     requestStaticInjection(GuiceInjectorEndpointConfigurator.class);
 
     bind(WebSocketMessageReceiver.class).to(JsonRpcMessageReceiver.class);
-    bind(WebSocketMessageTransmitter.class).to(BasicWebSocketMessageTransmitter.class);
+    bind(WebSocketMessageTransmitter.class).to(BatchingWebSocketMessageTransmitter.class);
   }
 }
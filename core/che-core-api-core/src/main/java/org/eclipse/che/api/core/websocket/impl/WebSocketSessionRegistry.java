@@ -11,21 +11,28 @@
  */
 package org.eclipse.che.api.core.websocket.impl;
 
-import static java.util.stream.Collectors.toSet;
+import static org.eclipse.che.api.core.websocket.impl.WebsocketIdService.SEPARATOR;
 import static org.slf4j.LoggerFactory.getLogger;
 
 import jakarta.websocket.Session;
 import java.util.HashSet;
 import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 import javax.inject.Singleton;
 import org.slf4j.Logger;
 
 /**
  * Binds WEB SOCKET session to a specific endpoint form which it was opened.
  *
+ * <p>Sessions are indexed by endpoint and endpoints by session, so both lookups take constant time.
+ * Endpoint identifiers are also kept sorted, so the sessions of a client are found without going
+ * through all the sessions. Lookups do not lock, registrations are serialized to keep the indexes
+ * consistent.
+ *
  * @author Dmitry Kuleshov
  */
 @Singleton
@@ -33,39 +40,69 @@ public class WebSocketSessionRegistry {
   private static final Logger LOG = getLogger(WebSocketSessionRegistry.class);
 
   private final Map<String, Session> sessionsMap = new ConcurrentHashMap<>();
+  private final Map<Session, String> endpointsMap = new ConcurrentHashMap<>();
+  private final NavigableMap<String, Session> sortedSessionsMap = new ConcurrentSkipListMap<>();
 
-  public void add(String endpointId, Session session) {
+  public synchronized void add(String endpointId, Session session) {
     LOG.debug("Registering session with endpoint {}", session.getId(), endpointId);
 
-    sessionsMap.put(endpointId, session);
+    String previousEndpointId = endpointsMap.put(session, endpointId);
+    if (previousEndpointId != null && !previousEndpointId.equals(endpointId)) {
+      sessionsMap.remove(previousEndpointId);
+      sortedSessionsMap.remove(previousEndpointId);
+    }
+    Session previousSession = sessionsMap.put(endpointId, session);
+    if (previousSession != null && !previousSession.equals(session)) {
+      endpointsMap.remove(previousSession, endpointId);
+    }
+    sortedSessionsMap.put(endpointId, session);
   }
 
-  public Optional<Session> remove(String endpointId) {
+  public synchronized Optional<Session> remove(String endpointId) {
     LOG.debug("Cancelling registration for session with endpoint {}", endpointId);
 
-    return Optional.ofNullable(sessionsMap.remove(endpointId));
+    Session session = sessionsMap.remove(endpointId);
+    if (session != null) {
+      sortedSessionsMap.remove(endpointId);
+      endpointsMap.remove(session, endpointId);
+    }
+    return Optional.ofNullable(session);
   }
 
-  public Optional<Session> remove(Session session) {
-    return get(session).flatMap(id -> Optional.ofNullable(sessionsMap.remove(id)));
+  public synchronized Optional<Session> remove(Session session) {
+    return get(session).flatMap(this::remove);
   }
 
   public Optional<Session> get(String endpointId) {
     return Optional.ofNullable(sessionsMap.get(endpointId));
   }
 
+  /**
+   * Returns the sessions of the client with the given identifier, i.e. the session registered with
+   * exactly this identifier and the sessions of the combined endpoint identifiers which start with
+   * it followed by the {@link WebsocketIdService#SEPARATOR separator}. The identifier may already
+   * end with the separator. The sessions of the clients whose identifiers merely start with the
+   * given one are not returned.
+   */
   public Set<Session> getByPartialMatch(String partialEndpointId) {
-    return sessionsMap.entrySet().stream()
-        .filter(it -> it.getKey().contains(partialEndpointId))
-        .map(Map.Entry::getValue)
-        .collect(toSet());
+    Set<Session> sessions = new HashSet<>();
+    Session exact = sessionsMap.get(partialEndpointId);
+    if (exact != null) {
+      sessions.add(exact);
+    }
+    String prefix =
+        partialEndpointId.endsWith(SEPARATOR) ? partialEndpointId : partialEndpointId + SEPARATOR;
+    for (Map.Entry<String, Session> entry : sortedSessionsMap.tailMap(prefix, true).entrySet()) {
+      if (!entry.getKey().startsWith(prefix)) {
+        break;
+      }
+      sessions.add(entry.getValue());
+    }
+    return sessions;
   }
 
   public Optional<String> get(Session session) {
-    return sessionsMap.entrySet().stream()
-        .filter(entry -> entry.getValue().equals(session))
-        .map(Map.Entry::getKey)
-        .findAny();
+    return Optional.ofNullable(endpointsMap.get(session));
   }
 
   public Set<Session> getSessions() {
@@ -11,9 +11,11 @@
  */
 package org.eclipse.che.api.core.jsonrpc.commons;
 
+import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -36,30 +38,38 @@ public class JsonRpcMessageReceiverTest {
   @Mock RequestDispatcher requestDispatcher;
   @Mock ResponseDispatcher responseDispatcher;
   @Mock JsonRpcErrorTransmitter errorTransmitter;
-  @Mock JsonRpcQualifier jsonRpcQualifier;
   @Mock JsonRpcUnmarshaller jsonRpcUnmarshaller;
   @Mock RequestProcessor requestProcessor;
   @InjectMocks JsonRpcMessageReceiver jsonRpcMessageReceiver;
 
   @Test
-  public void shouldValidateMessage() throws Exception {
+  public void shouldUnmarshalMessage() throws Exception {
+    when(jsonRpcUnmarshaller.unmarshal(MESSAGE))
+        .thenReturn(new JsonRpcMessages(emptyList(), emptyList(), emptyList()));
+
     jsonRpcMessageReceiver.receive(ENDPOINT_ID, MESSAGE);
 
-    verify(jsonRpcQualifier).isValidJson(MESSAGE);
+    verify(jsonRpcUnmarshaller).unmarshal(MESSAGE);
   }
 
   @Test
-  public void shouldTransmitErrorWhenValidationFailed() throws Exception {
-    when(jsonRpcQualifier.isValidJson(MESSAGE)).thenReturn(false);
+  public void shouldTransmitErrorWhenParsingFailed() throws Exception {
+    JsonRpcException parseError = new JsonRpcException(-32700, "parse error");
+    when(jsonRpcUnmarshaller.unmarshal(MESSAGE)).thenThrow(parseError);
 
     jsonRpcMessageReceiver.receive(ENDPOINT_ID, MESSAGE);
 
-    verify(errorTransmitter).transmit(eq(ENDPOINT_ID), any(JsonRpcException.class));
+    verify(errorTransmitter).transmit(ENDPOINT_ID, parseError);
+    verify(requestProcessor, never()).process(any(), any());
+    verify(responseDispatcher, never()).dispatch(any(), any());
   }
 
   @Test
-  public void shouldNotTransmitErrorWhenValidationSucceeded() throws Exception {
-    when(jsonRpcQualifier.isValidJson(MESSAGE)).thenReturn(true);
+  public void shouldNotTransmitErrorWhenParsingSucceeded() throws Exception {
+    when(jsonRpcUnmarshaller.unmarshal(MESSAGE))
+        .thenReturn(
+            new JsonRpcMessages(
+                emptyList(), singletonList(Mockito.mock(JsonRpcResponse.class)), emptyList()));
 
     jsonRpcMessageReceiver.receive(ENDPOINT_ID, MESSAGE);
 
@@ -67,32 +77,46 @@ public class JsonRpcMessageReceiverTest {
   }
 
   @Test
-  public void shouldUnmarshalArray() throws Exception {
+  public void shouldDispatchResponseIfResponseReceived() throws Exception {
+    JsonRpcResponse jsonRpcResponse = Mockito.mock(JsonRpcResponse.class);
+    when(jsonRpcUnmarshaller.unmarshal(MESSAGE))
+        .thenReturn(new JsonRpcMessages(emptyList(), singletonList(jsonRpcResponse), emptyList()));
+
     jsonRpcMessageReceiver.receive(ENDPOINT_ID, MESSAGE);
 
-    verify(jsonRpcUnmarshaller).unmarshalArray(MESSAGE);
+    verify(responseDispatcher).dispatch(ENDPOINT_ID, jsonRpcResponse);
   }
 
   @Test
-  public void shouldDispatchResponseIfResponseReceived() throws Exception {
-    when(jsonRpcQualifier.isJsonRpcResponse(MESSAGE)).thenReturn(true);
-    when(jsonRpcQualifier.isJsonRpcRequest(MESSAGE)).thenReturn(false);
-    when(jsonRpcUnmarshaller.unmarshalArray(any())).thenReturn(singletonList(MESSAGE));
-    JsonRpcResponse jsonRpcResponse = Mockito.mock(JsonRpcResponse.class);
-    when(jsonRpcUnmarshaller.unmarshalResponse(any())).thenReturn(jsonRpcResponse);
+  public void shouldDispatchRequestIfRequestReceived() throws Exception {
+    JsonRpcRequest jsonRpcRequest = new JsonRpcRequest("1", "method", null);
+    when(jsonRpcUnmarshaller.unmarshal(MESSAGE))
+        .thenReturn(new JsonRpcMessages(singletonList(jsonRpcRequest), emptyList(), emptyList()));
+    doAnswer(
+            invocation -> {
+              ((Runnable) invocation.getArgument(1)).run();
+              return null;
+            })
+        .when(requestProcessor)
+        .process(eq("endpoint-id"), any());
 
     jsonRpcMessageReceiver.receive(ENDPOINT_ID, MESSAGE);
 
-    verify(responseDispatcher).dispatch(eq(ENDPOINT_ID), any(JsonRpcResponse.class));
+    verify(requestDispatcher).dispatch(ENDPOINT_ID, jsonRpcRequest);
   }
 
   @Test
-  public void shouldDispatchRequestIfRequestReceived() throws Exception {
-    when(jsonRpcQualifier.isJsonRpcRequest(MESSAGE)).thenReturn(true);
-    when(jsonRpcUnmarshaller.unmarshalArray(any())).thenReturn(singletonList(MESSAGE));
+  public void shouldTransmitErrorForInvalidStructure() throws Exception {
+    JsonRpcException invalid = new JsonRpcException(-32600, "invalid");
+    JsonRpcResponse jsonRpcResponse = Mockito.mock(JsonRpcResponse.class);
+    when(jsonRpcUnmarshaller.unmarshal(MESSAGE))
+        .thenReturn(
+            new JsonRpcMessages(
+                emptyList(), singletonList(jsonRpcResponse), singletonList(invalid)));
 
     jsonRpcMessageReceiver.receive(ENDPOINT_ID, MESSAGE);
 
-    verify(requestProcessor).process(any(), any());
+    verify(errorTransmitter).transmit(ENDPOINT_ID, invalid);
+    verify(responseDispatcher).dispatch(ENDPOINT_ID, jsonRpcResponse);
   }
 }
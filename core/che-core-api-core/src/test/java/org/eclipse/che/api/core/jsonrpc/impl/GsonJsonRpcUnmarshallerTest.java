@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2012-2026 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.api.core.jsonrpc.impl;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.expectThrows;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import java.util.List;
+import org.eclipse.che.api.core.jsonrpc.commons.JsonRpcException;
+import org.eclipse.che.api.core.jsonrpc.commons.JsonRpcMessages;
+import org.eclipse.che.api.core.jsonrpc.commons.JsonRpcRequest;
+import org.eclipse.che.api.core.jsonrpc.commons.JsonRpcResponse;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/** Tests for {@link GsonJsonRpcUnmarshaller} */
+public class GsonJsonRpcUnmarshallerTest {
+
+  private GsonJsonRpcUnmarshaller unmarshaller;
+
+  @BeforeMethod
+  public void setUp() {
+    unmarshaller = new GsonJsonRpcUnmarshaller(new JsonParser());
+  }
+
+  @Test
+  public void shouldUnmarshalRequest() {
+    JsonRpcMessages messages =
+        unmarshaller.unmarshal(
+            "{\"jsonrpc\":\"2.0\",\"id\":\"1\",\"method\":\"test\",\"params\":{\"a\":12345678901234567890}}");
+
+    assertEquals(messages.getRequests().size(), 1);
+    assertEquals(messages.getResponses().size(), 0);
+    assertEquals(messages.getErrors().size(), 0);
+    JsonRpcRequest request = messages.getRequests().get(0);
+    assertEquals(request.getId(), "1");
+    assertEquals(request.getMethod(), "test");
+    JsonObject params = (JsonObject) request.getParams().getOne();
+    assertEquals(params.get("a").getAsBigInteger().toString(), "12345678901234567890");
+  }
+
+  @Test
+  public void shouldUnmarshalNotification() {
+    JsonRpcMessages messages =
+        unmarshaller.unmarshal("{\"jsonrpc\":\"2.0\",\"method\":\"test\",\"params\":[1,\"a\"]}");
+
+    JsonRpcRequest request = messages.getRequests().get(0);
+    assertNull(request.getId());
+    assertEquals(request.getParams().getMany(), List.of(1.0, "a"));
+  }
+
+  @Test
+  public void shouldUnmarshalResponses() {
+    JsonRpcMessages messages =
+        unmarshaller.unmarshal(
+            "[{\"jsonrpc\":\"2.0\",\"id\":\"1\",\"result\":\"ok\"},"
+                + "{\"jsonrpc\":\"2.0\",\"id\":\"2\",\"error\":{\"code\":-32601,\"message\":\"no\"}}]");
+
+    assertEquals(messages.getResponses().size(), 2);
+    JsonRpcResponse result = messages.getResponses().get(0);
+    assertEquals(result.getId(), "1");
+    assertEquals(result.getResult().getOne(), "ok");
+    JsonRpcResponse error = messages.getResponses().get(1);
+    assertEquals(error.getId(), "2");
+    assertEquals(error.getError().getCode(), -32601);
+  }
+
+  @Test
+  public void shouldSeparateBatchEntities() {
+    JsonRpcMessages messages =
+        unmarshaller.unmarshal(
+            "[{\"jsonrpc\":\"2.0\",\"method\":\"a\"},"
+                + "{\"jsonrpc\":\"2.0\"},"
+                + "{\"jsonrpc\":\"2.0\",\"id\":\"1\",\"result\":null}]");
+
+    assertEquals(messages.getRequests().get(0).getMethod(), "a");
+    assertEquals(messages.getErrors().size(), 1);
+    assertEquals(messages.getErrors().get(0).getCode(), -32600);
+    assertEquals(messages.getResponses().get(0).getId(), "1");
+  }
+
+  @Test
+  public void shouldReturnErrorForInvalidStructure() {
+    JsonRpcMessages messages = unmarshaller.unmarshal("{\"jsonrpc\":\"2.0\",\"method\":{}}");
+
+    assertEquals(messages.getRequests().size(), 0);
+    assertEquals(messages.getErrors().get(0).getCode(), -32600);
+  }
+
+  @Test
+  public void shouldReturnErrorForResponseWithInvalidError() {
+    JsonRpcMessages messages =
+        unmarshaller.unmarshal(
+            "{\"jsonrpc\":\"2.0\",\"id\":\"1\",\"error\":{\"code\":\"x\",\"message\":\"no\"}}");
+
+    assertEquals(messages.getResponses().size(), 0);
+    assertEquals(messages.getErrors().get(0).getCode(), -32600);
+  }
+
+  @Test
+  public void shouldReturnErrorForRequestWithNestedArrayParams() {
+    JsonRpcMessages messages =
+        unmarshaller.unmarshal("{\"jsonrpc\":\"2.0\",\"method\":\"test\",\"params\":[[1]]}");
+
+    assertEquals(messages.getRequests().size(), 0);
+    assertEquals(messages.getErrors().get(0).getCode(), -32600);
+  }
+
+  @Test
+  @SuppressWarnings("deprecation")
+  public void shouldUnmarshalArray() {
+    List<String> array =
+        unmarshaller.unmarshalArray(
+            "[{\"jsonrpc\":\"2.0\",\"method\":\"a\"},{\"jsonrpc\":\"2.0\",\"method\":\"b\"}]");
+
+    assertEquals(
+        array,
+        List.of(
+            "{\"jsonrpc\":\"2.0\",\"method\":\"a\"}", "{\"jsonrpc\":\"2.0\",\"method\":\"b\"}"));
+  }
+
+  @Test
+  public void shouldThrowParseErrorForInvalidJson() {
+    JsonRpcException e =
+        expectThrows(JsonRpcException.class, () -> unmarshaller.unmarshal("{\"jsonrpc\":"));
+
+    assertEquals(e.getCode(), -32700);
+  }
+}
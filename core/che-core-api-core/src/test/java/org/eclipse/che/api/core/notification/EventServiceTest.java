@@ -14,7 +14,17 @@ package org.eclipse.che.api.core.notification;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.eclipse.che.commons.env.EnvironmentContext;
+import org.eclipse.che.commons.subject.Subject;
+import org.eclipse.che.commons.subject.SubjectImpl;
 import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
@@ -29,6 +39,11 @@ public class EventServiceTest {
     bus = new EventService();
   }
 
+  @AfterMethod
+  public void tearDown() {
+    bus.shutdown();
+  }
+
   @Test
   public void testSimpleEvent() {
     final List<Object> events = new ArrayList<>();
@@ -195,6 +210,218 @@ public class EventServiceTest {
     bus.unsubscribe(sb, CustomEventImpl.class);
   }
 
+  @Test(timeOut = 10_000)
+  public void shouldDeliverEventsToAsyncSubscriberInPublishingOrder() throws Exception {
+    List<Integer> received = new CopyOnWriteArrayList<>();
+    CountDownLatch delivered = new CountDownLatch(100);
+    bus.subscribeAsync(
+        (Integer event) -> {
+          received.add(event);
+          delivered.countDown();
+        },
+        Integer.class);
+
+    for (int i = 0; i < 100; i++) {
+      bus.publish(i);
+    }
+
+    Assert.assertTrue(delivered.await(5, TimeUnit.SECONDS));
+    for (int i = 0; i < 100; i++) {
+      Assert.assertEquals(received.get(i).intValue(), i);
+    }
+    awaitDelivered(100);
+  }
+
+  @Test(timeOut = 10_000)
+  public void shouldNotBlockPublisherOnAsyncSubscriber() throws Exception {
+    CountDownLatch release = new CountDownLatch(1);
+    CountDownLatch delivered = new CountDownLatch(1);
+    bus.subscribeAsync(
+        (String event) -> {
+          try {
+            release.await();
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+          delivered.countDown();
+        },
+        String.class);
+
+    bus.publish("event");
+    Assert.assertEquals(delivered.getCount(), 1);
+    release.countDown();
+
+    Assert.assertTrue(delivered.await(5, TimeUnit.SECONDS));
+  }
+
+  @Test(timeOut = 10_000)
+  public void shouldPublishUndeliveredEventWhenAsyncSubscriberFails() throws Exception {
+    List<UndeliveredEvent> undelivered = new CopyOnWriteArrayList<>();
+    CountDownLatch published = new CountDownLatch(1);
+    bus.subscribe(
+        event -> {
+          undelivered.add(event);
+          published.countDown();
+        },
+        UndeliveredEvent.class);
+    RuntimeException failure = new RuntimeException("failure");
+    bus.subscribeAsync(
+        (String event) -> {
+          throw failure;
+        },
+        String.class);
+
+    bus.publish("event");
+
+    Assert.assertTrue(published.await(5, TimeUnit.SECONDS));
+    Assert.assertEquals(undelivered.get(0).getEvent(), "event");
+    Assert.assertSame(undelivered.get(0).getCause(), failure);
+    Assert.assertEquals(bus.getAsyncFailedCount(), 1);
+    Assert.assertEquals(bus.getAsyncLagNanos(), 0);
+  }
+
+  @Test(timeOut = 10_000)
+  public void shouldNotSubscribeSameAsyncSubscriberTwice() throws Exception {
+    CountDownLatch release = new CountDownLatch(1);
+    EventSubscriber<String> subscriber =
+        event -> {
+          try {
+            release.await();
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+        };
+    bus.subscribeAsync(subscriber, String.class);
+    bus.subscribeAsync(subscriber, String.class);
+
+    bus.publish("first");
+    while (bus.getAsyncQueuedCount() != 0) {
+      Thread.sleep(5);
+    }
+    bus.publish("second");
+    long queued = bus.getAsyncQueuedCount();
+    release.countDown();
+
+    Assert.assertEquals(queued, 1);
+    awaitDelivered(2);
+  }
+
+  @Test(timeOut = 10_000)
+  public void shouldRejectEventsWhenAsyncSubscriberQueueIsFull() throws Exception {
+    CountDownLatch release = new CountDownLatch(1);
+    List<UndeliveredEvent> undelivered = new CopyOnWriteArrayList<>();
+    bus.subscribe(undelivered::add, UndeliveredEvent.class);
+    bus.subscribeAsync(
+        (String event) -> {
+          try {
+            release.await();
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+        },
+        String.class,
+        1);
+
+    bus.publish("first");
+    while (bus.getAsyncQueuedCount() != 0) {
+      Thread.sleep(5);
+    }
+    bus.publish("second");
+    bus.publish("third");
+    release.countDown();
+
+    Assert.assertEquals(bus.getAsyncRejectedCount(), 1);
+    Assert.assertEquals(undelivered.size(), 1);
+    Assert.assertEquals(undelivered.get(0).getEvent(), "third");
+    Assert.assertNull(undelivered.get(0).getCause());
+  }
+
+  @Test(timeOut = 10_000)
+  public void shouldUnsubscribeAsyncSubscriber() throws Exception {
+    List<String> received = new CopyOnWriteArrayList<>();
+    EventSubscriber<String> subscriber = received::add;
+    bus.subscribeAsync(subscriber, String.class);
+
+    bus.unsubscribe(subscriber, String.class);
+    bus.publish("event");
+
+    Assert.assertEquals(bus.getAsyncQueuedCount(), 0);
+    Assert.assertTrue(received.isEmpty());
+  }
+
+  @Test(timeOut = 10_000)
+  public void shouldNotHoldAsyncThreadForWholeBacklogOfOnePartition() throws Exception {
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      CountDownLatch release = new CountDownLatch(1);
+      CountDownLatch delivered = new CountDownLatch(AsyncEventSubscriber.MAX_BATCH_SIZE * 3 + 1);
+      List<Object> received = new CopyOnWriteArrayList<>();
+      AsyncEventSubscriber<Object> subscriber =
+          new AsyncEventSubscriber<>(
+              event -> {
+                try {
+                  release.await();
+                } catch (InterruptedException e) {
+                  Thread.currentThread().interrupt();
+                }
+                received.add(event);
+                delivered.countDown();
+              },
+              10_000,
+              executor,
+              new AsyncEventSubscriber.Statistics(),
+              (event, cause) -> {});
+
+      for (int i = 0; i < AsyncEventSubscriber.MAX_BATCH_SIZE * 3; i++) {
+        subscriber.onEvent("event" + i);
+      }
+      subscriber.onEvent(42);
+      release.countDown();
+
+      Assert.assertTrue(delivered.await(5, TimeUnit.SECONDS));
+      Assert.assertEquals(received.indexOf(42), AsyncEventSubscriber.MAX_BATCH_SIZE);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test(expectedExceptions = IllegalStateException.class)
+  public void shouldNotSubscribeAsyncSubscriberAfterShutdown() {
+    bus.subscribeAsync((String event) -> {}, String.class);
+    bus.shutdown();
+
+    bus.subscribeAsync((Integer event) -> {}, Integer.class);
+  }
+
+  @Test
+  public void shouldDeliverAsyncEventWithEnvironmentContextOfPublisher() throws Exception {
+    AtomicReference<Subject> received = new AtomicReference<>();
+    CountDownLatch delivered = new CountDownLatch(1);
+    bus.subscribeAsync(
+        (String event) -> {
+          received.set(EnvironmentContext.getCurrent().getSubject());
+          delivered.countDown();
+        },
+        String.class);
+    Subject subject = new SubjectImpl("user", List.of(), "user123", "token", false);
+
+    EnvironmentContext.getCurrent().setSubject(subject);
+    try {
+      bus.publish("event");
+    } finally {
+      EnvironmentContext.reset();
+    }
+
+    Assert.assertTrue(delivered.await(10, TimeUnit.SECONDS));
+    Assert.assertEquals(received.get(), subject);
+  }
+
+  private void awaitDelivered(long expected) throws InterruptedException {
+    while (bus.getAsyncDeliveredCount() < expected) {
+      Thread.sleep(5);
+    }
+  }
+
   static class CustomEventSubscriber<T extends CustomEvent> implements EventSubscriber<T> {
     final List<String> events = new ArrayList<>();
 
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2012-2026 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.api.core.notification;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.util.Map;
+import java.util.Set;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/** Tests for {@link InmemoryRemoteSubscriptionStorage} */
+public class InmemoryRemoteSubscriptionStorageTest {
+  private static final String METHOD = "event/changed";
+
+  private InmemoryRemoteSubscriptionStorage storage;
+
+  @BeforeMethod
+  public void setUp() {
+    storage = new InmemoryRemoteSubscriptionStorage();
+  }
+
+  @Test
+  public void shouldGetSubscriptionsByScopeEntry() {
+    RemoteSubscriptionContext first =
+        new RemoteSubscriptionContext("e1", Map.of("workspaceId", "ws1", "other", "x"));
+    RemoteSubscriptionContext second =
+        new RemoteSubscriptionContext("e2", Map.of("workspaceId", "ws2"));
+    storage.addSubscription(METHOD, first);
+    storage.addSubscription(METHOD, second);
+    storage.addSubscription("other/method", new RemoteSubscriptionContext("e3", Map.of()));
+
+    assertEquals(storage.getByMethod(METHOD).size(), 2);
+    assertEquals(storage.getByMethodAndScope(METHOD, "workspaceId", "ws1"), Set.of(first));
+    assertEquals(storage.getByMethodAndScope(METHOD, "other", "x"), Set.of(first));
+    assertTrue(storage.getByMethodAndScope("other/method", "workspaceId", "ws1").isEmpty());
+  }
+
+  @Test
+  public void shouldRemoveSubscriptionFromScopeIndex() {
+    storage.addSubscription(
+        METHOD, new RemoteSubscriptionContext("e1", Map.of("workspaceId", "ws1")));
+    storage.addSubscription(
+        METHOD, new RemoteSubscriptionContext("e2", Map.of("workspaceId", "ws1")));
+
+    storage.removeSubscription(METHOD, "e1");
+
+    Set<RemoteSubscriptionContext> remaining =
+        storage.getByMethodAndScope(METHOD, "workspaceId", "ws1");
+    assertEquals(remaining.size(), 1);
+    assertEquals(remaining.iterator().next().getEndpointId(), "e2");
+    assertEquals(storage.getByMethod(METHOD).size(), 1);
+  }
+
+  @Test
+  public void shouldKeepSubscriptionsWithoutScope() {
+    storage.addSubscription(METHOD, new RemoteSubscriptionContext("e1", null));
+
+    storage.removeSubscription(METHOD, "e1");
+
+    assertTrue(storage.getByMethod(METHOD).isEmpty());
+  }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2012-2026 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.api.core.notification;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Map;
+import org.eclipse.che.api.core.jsonrpc.commons.JsonRpcMarshaller;
+import org.eclipse.che.api.core.jsonrpc.commons.JsonRpcRequest;
+import org.eclipse.che.api.core.websocket.commons.WebSocketMessageTransmitter;
+import org.mockito.Mock;
+import org.mockito.testng.MockitoTestNGListener;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+/** Tests for {@link RemoteSubscriptionManager} */
+@Listeners(MockitoTestNGListener.class)
+public class RemoteSubscriptionManagerTest {
+  private static final String METHOD = "event/changed";
+
+  @Mock private JsonRpcMarshaller marshaller;
+  @Mock private WebSocketMessageTransmitter transmitter;
+
+  private EventService eventService;
+  private RemoteSubscriptionStorage storage;
+  private RemoteSubscriptionManager manager;
+
+  @BeforeMethod
+  public void setUp() {
+    eventService = new EventService();
+    storage = new InmemoryRemoteSubscriptionStorage();
+    manager = new RemoteSubscriptionManager(eventService, marshaller, transmitter, storage);
+  }
+
+  @Test
+  public void shouldSerializeEventOnceForAllSubscribers() {
+    when(marshaller.marshall(any(JsonRpcRequest.class))).thenReturn("message");
+    storage.addSubscription(METHOD, new RemoteSubscriptionContext("e1", Map.of("id", "1")));
+    storage.addSubscription(METHOD, new RemoteSubscriptionContext("e2", Map.of("id", "1")));
+    storage.addSubscription(METHOD, new RemoteSubscriptionContext("e3", Map.of("id", "2")));
+    manager.register(METHOD, String.class, (event, scope) -> event.equals(scope.get("id")));
+
+    eventService.publish("1");
+
+    verify(marshaller, times(1)).marshall(any(JsonRpcRequest.class));
+    verify(transmitter).transmit("e1", "message");
+    verify(transmitter).transmit("e2", "message");
+    verify(transmitter, never()).transmit("e3", "message");
+  }
+
+  @Test
+  public void shouldDeliverEventToSubscribersWithMatchingScopeEntry() {
+    when(marshaller.marshall(any(JsonRpcRequest.class))).thenReturn("message");
+    storage.addSubscription(METHOD, new RemoteSubscriptionContext("e1", Map.of("id", "1")));
+    storage.addSubscription(METHOD, new RemoteSubscriptionContext("e2", Map.of("id", "2")));
+    manager.register(METHOD, String.class, "id", event -> event, (event, scope) -> true);
+
+    eventService.publish("2");
+
+    verify(marshaller, times(1)).marshall(any(JsonRpcRequest.class));
+    verify(transmitter).transmit("e2", "message");
+    verify(transmitter, never()).transmit("e1", "message");
+  }
+
+  @Test
+  public void shouldNotSerializeEventWithoutSubscribers() {
+    storage.addSubscription(METHOD, new RemoteSubscriptionContext("e1", Map.of("id", "1")));
+    manager.register(METHOD, String.class, "id", event -> event, (event, scope) -> true);
+
+    eventService.publish("2");
+
+    verify(marshaller, never()).marshall(any(JsonRpcRequest.class));
+    verify(transmitter, never()).transmit(anyString(), anyString());
+  }
+}
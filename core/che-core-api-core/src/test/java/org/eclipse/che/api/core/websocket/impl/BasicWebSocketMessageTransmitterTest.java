@@ -12,18 +12,21 @@
 package org.eclipse.che.api.core.websocket.impl;
 
 import static java.util.Collections.emptySet;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
 
 import jakarta.websocket.RemoteEndpoint;
+import jakarta.websocket.SendHandler;
+import jakarta.websocket.SendResult;
 import jakarta.websocket.Session;
-import java.io.IOException;
 import java.util.Optional;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.testng.MockitoTestNGListener;
 import org.testng.annotations.BeforeMethod;
@@ -42,37 +45,78 @@ public class BasicWebSocketMessageTransmitterTest {
 
   @Mock private WebSocketSessionRegistry registry;
   @Mock private MessagesReSender reSender;
-  @InjectMocks private BasicWebSocketMessageTransmitter transmitter;
+  private BasicWebSocketMessageTransmitter transmitter;
 
   @Mock private Session session;
-  @Mock private RemoteEndpoint.Basic remote;
+  @Mock private RemoteEndpoint.Async remote;
 
   @BeforeMethod
   public void setUp() throws Exception {
-    lenient().when(session.getBasicRemote()).thenReturn(remote);
+    lenient().when(session.getAsyncRemote()).thenReturn(remote);
     when(session.isOpen()).thenReturn(true);
 
     when(registry.get(ENDPOINT_ID)).thenReturn(Optional.of(session));
     lenient().when(registry.getSessions()).thenReturn(emptySet());
+
+    transmitter = new BasicWebSocketMessageTransmitter(registry, reSender, 10, "drop_oldest", 100);
   }
 
   @Test
-  public void shouldSendDirectMessageIfSessionIsOpenAndEndpointIsSet() throws IOException {
+  public void shouldSendDirectMessageIfSessionIsOpenAndEndpointIsSet() {
+    completeSends();
+
     transmitter.transmit(ENDPOINT_ID, MESSAGE);
 
-    verify(session).getBasicRemote();
-    verify(remote).sendText(MESSAGE);
+    verify(remote).sendText(eq(MESSAGE), any(SendHandler.class));
     verify(reSender, never()).add(eq(ENDPOINT_ID), anyString());
+    assertEquals(transmitter.getSentCount(), 1);
+    assertEquals(transmitter.getQueuedCount(), 0);
   }
 
   @Test
-  public void shouldAddMessageToPendingIfSessionIsNotOpenedAndEndpointIsSet() throws IOException {
+  public void shouldAddMessageToPendingIfSessionIsNotOpenedAndEndpointIsSet() {
     when(session.isOpen()).thenReturn(false);
 
     transmitter.transmit(ENDPOINT_ID, MESSAGE);
 
-    verify(session, never()).getBasicRemote();
-    verify(remote, never()).sendText(MESSAGE);
+    verify(session, never()).getAsyncRemote();
     verify(reSender).add(ENDPOINT_ID, MESSAGE);
   }
+
+  @Test
+  public void shouldQueueMessagesWhileSessionIsBusy() {
+    transmitter.transmit(ENDPOINT_ID, "first");
+    transmitter.transmit(ENDPOINT_ID, "second");
+
+    verify(remote).sendText(eq("first"), any(SendHandler.class));
+    verify(remote, never()).sendText(eq("second"), any(SendHandler.class));
+    assertEquals(transmitter.getQueuedCount(), 1);
+  }
+
+  @Test
+  public void shouldCountFailedSends() {
+    doAnswer(
+            inv -> {
+              inv.getArgument(1, SendHandler.class)
+                  .onResult(new SendResult(new RuntimeException("closed")));
+              return null;
+            })
+        .when(remote)
+        .sendText(anyString(), any(SendHandler.class));
+
+    transmitter.transmit(ENDPOINT_ID, MESSAGE);
+
+    assertEquals(transmitter.getFailedCount(), 1);
+    assertEquals(transmitter.getSentCount(), 0);
+  }
+
+  private void completeSends() {
+    doAnswer(
+            inv -> {
+              inv.getArgument(1, SendHandler.class).onResult(new SendResult());
+              return null;
+            })
+        .when(remote)
+        .sendText(anyString(), any(SendHandler.class));
+  }
 }
@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2012-2026 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.api.core.websocket.impl;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.che.api.core.websocket.commons.WebSocketMessageTransmitter;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.testng.MockitoTestNGListener;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+/** Tests for {@link BatchingWebSocketMessageTransmitter} */
+@Listeners(MockitoTestNGListener.class)
+public class BatchingWebSocketMessageTransmitterTest {
+  private static final String ENDPOINT_ID = "id";
+
+  @Mock private WebSocketMessageTransmitter delegate;
+  @Mock private ScheduledExecutorService scheduler;
+
+  @Test
+  public void shouldTransmitRightAwayWhenBatchingIsDisabled() {
+    BatchingWebSocketMessageTransmitter transmitter =
+        new BatchingWebSocketMessageTransmitter(delegate, 0, 100, scheduler);
+
+    transmitter.transmit(ENDPOINT_ID, "{\"a\":1}");
+
+    verify(delegate).transmit(ENDPOINT_ID, "{\"a\":1}");
+    verifyNoInteractions(scheduler);
+  }
+
+  @Test
+  public void shouldTransmitRightAwayAfterShutdown() {
+    BatchingWebSocketMessageTransmitter transmitter =
+        new BatchingWebSocketMessageTransmitter(delegate, 10, 100, scheduler);
+    doThrow(new RejectedExecutionException())
+        .when(scheduler)
+        .schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+
+    transmitter.shutdown();
+    transmitter.transmit(ENDPOINT_ID, "{\"a\":1}");
+
+    verify(scheduler).shutdownNow();
+    verify(delegate).transmit(ENDPOINT_ID, "{\"a\":1}");
+  }
+
+  @Test
+  public void shouldCombineMessagesTransmittedWithinFlushWindow() {
+    BatchingWebSocketMessageTransmitter transmitter =
+        new BatchingWebSocketMessageTransmitter(delegate, 10, 100, scheduler);
+
+    transmitter.transmit(ENDPOINT_ID, "{\"a\":1}");
+    transmitter.transmit(ENDPOINT_ID, "{\"a\":2}");
+    transmitter.transmit("other", "{\"b\":1}");
+    verify(delegate, never()).transmit(any(), any());
+    runScheduledFlushes(2);
+
+    verify(delegate).transmit(ENDPOINT_ID, "[{\"a\":1},{\"a\":2}]");
+    verify(delegate).transmit("other", "{\"b\":1}");
+  }
+
+  @Test
+  public void shouldFlushBatchWhenItReachesMaximumSize() {
+    BatchingWebSocketMessageTransmitter transmitter =
+        new BatchingWebSocketMessageTransmitter(delegate, 10, 2, scheduler);
+
+    transmitter.transmit(ENDPOINT_ID, "{\"a\":1}");
+    transmitter.transmit(ENDPOINT_ID, "{\"a\":2}");
+    transmitter.transmit(ENDPOINT_ID, "{\"a\":3}");
+
+    verify(delegate).transmit(ENDPOINT_ID, "[{\"a\":1},{\"a\":2}]");
+    verify(delegate, never()).transmit(ENDPOINT_ID, "{\"a\":3}");
+  }
+
+  @Test
+  public void shouldSendBatchMessagesAfterPendingOnes() {
+    BatchingWebSocketMessageTransmitter transmitter =
+        new BatchingWebSocketMessageTransmitter(delegate, 10, 100, scheduler);
+
+    transmitter.transmit(ENDPOINT_ID, "{\"a\":1}");
+    transmitter.transmit(ENDPOINT_ID, "[{\"a\":2}]");
+
+    InOrder inOrder = inOrder(delegate);
+    inOrder.verify(delegate).transmit(ENDPOINT_ID, "{\"a\":1}");
+    inOrder.verify(delegate).transmit(ENDPOINT_ID, "[{\"a\":2}]");
+  }
+
+  @Test
+  public void shouldStartNewBatchAfterFlush() {
+    BatchingWebSocketMessageTransmitter transmitter =
+        new BatchingWebSocketMessageTransmitter(delegate, 10, 100, scheduler);
+
+    transmitter.transmit(ENDPOINT_ID, "{\"a\":1}");
+    runScheduledFlushes(1);
+    transmitter.transmit(ENDPOINT_ID, "{\"a\":2}");
+    runScheduledFlushes(2);
+
+    InOrder inOrder = inOrder(delegate);
+    inOrder.verify(delegate).transmit(ENDPOINT_ID, "{\"a\":1}");
+    inOrder.verify(delegate).transmit(ENDPOINT_ID, "{\"a\":2}");
+  }
+
+  @Test
+  public void shouldCancelScheduledFlushWhenBatchReachesMaximumSize() {
+    ScheduledFuture<?> scheduledFlush = mock(ScheduledFuture.class);
+    doReturn(scheduledFlush)
+        .when(scheduler)
+        .schedule(any(Runnable.class), anyLong(), eq(TimeUnit.MILLISECONDS));
+    BatchingWebSocketMessageTransmitter transmitter =
+        new BatchingWebSocketMessageTransmitter(delegate, 10, 2, scheduler);
+
+    transmitter.transmit(ENDPOINT_ID, "{\"a\":1}");
+    transmitter.transmit(ENDPOINT_ID, "{\"a\":2}");
+
+    verify(scheduledFlush).cancel(false);
+  }
+
+  @Test
+  public void shouldKeepBatchingAfterTransmissionFailure() {
+    doThrow(new IllegalStateException("closed"))
+        .doNothing()
+        .when(delegate)
+        .transmit(eq(ENDPOINT_ID), any());
+    BatchingWebSocketMessageTransmitter transmitter =
+        new BatchingWebSocketMessageTransmitter(delegate, 10, 100, scheduler);
+
+    transmitter.transmit(ENDPOINT_ID, "{\"a\":1}");
+    runScheduledFlushes(1);
+    transmitter.transmit(ENDPOINT_ID, "{\"a\":2}");
+    runScheduledFlushes(2);
+
+    verify(delegate).transmit(ENDPOINT_ID, "{\"a\":2}");
+  }
+
+  @Test(timeOut = 10_000)
+  public void shouldNotBlockTransmittingThreadsWhileBatchIsBeingSent() throws Exception {
+    CountDownLatch sending = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    doAnswer(
+            inv -> {
+              sending.countDown();
+              release.await();
+              return null;
+            })
+        .doNothing()
+        .when(delegate)
+        .transmit(eq(ENDPOINT_ID), any());
+    BatchingWebSocketMessageTransmitter transmitter =
+        new BatchingWebSocketMessageTransmitter(delegate, 10, 2, scheduler);
+    Thread slowSender =
+        new Thread(
+            () -> {
+              transmitter.transmit(ENDPOINT_ID, "{\"a\":1}");
+              transmitter.transmit(ENDPOINT_ID, "{\"a\":2}");
+            });
+    slowSender.start();
+    sending.await();
+
+    transmitter.transmit(ENDPOINT_ID, "{\"a\":3}");
+    transmitter.transmit(ENDPOINT_ID, "{\"a\":4}");
+    release.countDown();
+    slowSender.join();
+
+    InOrder inOrder = inOrder(delegate);
+    inOrder.verify(delegate).transmit(ENDPOINT_ID, "[{\"a\":1},{\"a\":2}]");
+    inOrder.verify(delegate).transmit(ENDPOINT_ID, "[{\"a\":3},{\"a\":4}]");
+  }
+
+  private void runScheduledFlushes(int expected) {
+    ArgumentCaptor<Runnable> flushes = ArgumentCaptor.forClass(Runnable.class);
+    verify(scheduler, times(expected))
+        .schedule(flushes.capture(), anyLong(), eq(TimeUnit.MILLISECONDS));
+    flushes.getAllValues().forEach(Runnable::run);
+  }
+}
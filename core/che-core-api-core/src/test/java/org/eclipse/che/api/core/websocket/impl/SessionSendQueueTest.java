@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2012-2026 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.api.core.websocket.impl;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+
+import jakarta.websocket.CloseReason;
+import jakarta.websocket.RemoteEndpoint;
+import jakarta.websocket.SendHandler;
+import jakarta.websocket.SendResult;
+import jakarta.websocket.Session;
+import java.util.ArrayList;
+import java.util.List;
+import org.eclipse.che.api.core.websocket.impl.SessionSendQueue.OverflowPolicy;
+import org.eclipse.che.api.core.websocket.impl.SessionSendQueue.Statistics;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.testng.MockitoTestNGListener;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+/** Test for {@link SessionSendQueue} */
+@Listeners(MockitoTestNGListener.class)
+public class SessionSendQueueTest {
+
+  @Mock private Session session;
+  @Mock private RemoteEndpoint.Async remote;
+
+  private Statistics statistics;
+  private List<SendHandler> pendingSends;
+
+  @BeforeMethod
+  public void setUp() {
+    statistics = new Statistics();
+    pendingSends = new ArrayList<>();
+    when(session.getAsyncRemote()).thenReturn(remote);
+    lenient().when(session.getId()).thenReturn("session");
+    lenient()
+        .doAnswer(
+            inv -> {
+              pendingSends.add(inv.getArgument(1, SendHandler.class));
+              return null;
+            })
+        .when(remote)
+        .sendText(anyString(), any(SendHandler.class));
+  }
+
+  @Test
+  public void shouldSendQueuedMessagesInOrderWhenPreviousSendCompletes() {
+    SessionSendQueue queue =
+        new SessionSendQueue(session, 10, OverflowPolicy.DROP_OLDEST, 0, statistics);
+
+    queue.offer("1");
+    queue.offer("2");
+    queue.offer("3");
+    completePendingSend();
+    completePendingSend();
+    completePendingSend();
+
+    InOrder inOrder = inOrder(remote);
+    inOrder.verify(remote).sendText(eq("1"), any(SendHandler.class));
+    inOrder.verify(remote).sendText(eq("2"), any(SendHandler.class));
+    inOrder.verify(remote).sendText(eq("3"), any(SendHandler.class));
+    assertEquals(queue.size(), 0);
+    assertEquals(statistics.sent.get(), 3);
+  }
+
+  @Test
+  public void shouldSendMessagesCompletedInlineWithoutRecursion() {
+    doAnswer(
+            inv -> {
+              inv.getArgument(1, SendHandler.class).onResult(new SendResult());
+              return null;
+            })
+        .when(remote)
+        .sendText(anyString(), any(SendHandler.class));
+    SessionSendQueue queue =
+        new SessionSendQueue(session, 10, OverflowPolicy.DROP_OLDEST, 0, statistics);
+
+    for (int i = 0; i < 10_000; i++) {
+      queue.offer("message");
+    }
+
+    verify(remote, times(10_000)).sendText(eq("message"), any(SendHandler.class));
+    assertEquals(statistics.sent.get(), 10_000);
+  }
+
+  @Test
+  public void shouldDropOldestMessageWhenQueueIsFull() {
+    SessionSendQueue queue =
+        new SessionSendQueue(session, 2, OverflowPolicy.DROP_OLDEST, 0, statistics);
+
+    queue.offer("1");
+    queue.offer("2");
+    queue.offer("3");
+    queue.offer("4");
+    completePendingSend();
+    completePendingSend();
+
+    verify(remote, never()).sendText(eq("2"), any(SendHandler.class));
+    verify(remote).sendText(eq("3"), any(SendHandler.class));
+    assertEquals(statistics.dropped.get(), 1);
+  }
+
+  @Test
+  public void shouldCloseSessionWhenQueueIsFullAndPolicyIsDisconnect() throws Exception {
+    SessionSendQueue queue =
+        new SessionSendQueue(session, 1, OverflowPolicy.DISCONNECT, 0, statistics);
+
+    queue.offer("1");
+    queue.offer("2");
+    queue.offer("3");
+
+    verify(session).close(any(CloseReason.class));
+    assertEquals(queue.size(), 0);
+    assertEquals(statistics.disconnected.get(), 1);
+    assertEquals(statistics.dropped.get(), 2);
+  }
+
+  @Test
+  public void shouldCloseSessionOutsideOfQueueLock() throws Exception {
+    SessionSendQueue queue =
+        new SessionSendQueue(session, 1, OverflowPolicy.DISCONNECT, 0, statistics);
+    List<Boolean> lockHeld = new ArrayList<>();
+    doAnswer(
+            inv -> {
+              lockHeld.add(Thread.holdsLock(queue));
+              return null;
+            })
+        .when(session)
+        .close(any(CloseReason.class));
+
+    queue.offer("1");
+    queue.offer("2");
+    queue.offer("3");
+
+    assertEquals(lockHeld, List.of(false));
+  }
+
+  @Test
+  public void shouldDropNewMessageWhenBackpressureTimesOut() {
+    SessionSendQueue queue = new SessionSendQueue(session, 1, OverflowPolicy.BLOCK, 10, statistics);
+
+    queue.offer("1");
+    queue.offer("2");
+    queue.offer("3");
+    completePendingSend();
+
+    verify(remote).sendText(eq("2"), any(SendHandler.class));
+    verify(remote, never()).sendText(eq("3"), any(SendHandler.class));
+    assertEquals(statistics.dropped.get(), 1);
+  }
+
+  @Test(timeOut = 10_000)
+  public void shouldWaitForFreePlaceWhenPolicyIsBlock() throws Exception {
+    SessionSendQueue queue =
+        new SessionSendQueue(session, 1, OverflowPolicy.BLOCK, 10_000, statistics);
+    queue.offer("1");
+    queue.offer("2");
+
+    Thread blocked = new Thread(() -> queue.offer("3"));
+    blocked.start();
+    while (blocked.getState() != Thread.State.TIMED_WAITING) {
+      Thread.sleep(5);
+    }
+    completePendingSend();
+    blocked.join();
+    completePendingSend();
+    completePendingSend();
+
+    verify(remote).sendText(eq("3"), any(SendHandler.class));
+    assertEquals(statistics.dropped.get(), 0);
+    assertEquals(statistics.sent.get(), 3);
+  }
+
+  private void completePendingSend() {
+    pendingSends.remove(0).onResult(new SendResult());
+  }
+}
@@ -16,6 +16,7 @@ import static org.testng.Assert.*;
 
 import jakarta.websocket.Session;
 import java.util.Optional;
+import java.util.Set;
 import org.mockito.Mock;
 import org.mockito.testng.MockitoTestNGListener;
 import org.testng.annotations.BeforeMethod;
@@ -83,4 +84,57 @@ public class WebSocketSessionRegistryTest {
     assertFalse(registry.getSessions().isEmpty());
     assertEquals(2, registry.getSessions().size());
   }
+
+  @Test
+  public void shouldGetEndpointBySession() {
+    registry.add("0", session);
+    registry.add("1", mock(Session.class));
+
+    assertEquals(registry.get(session), Optional.of("0"));
+  }
+
+  @Test
+  public void shouldNotGetEndpointOfRemovedSession() {
+    registry.add("0", session);
+
+    registry.remove(session);
+
+    assertFalse(registry.get(session).isPresent());
+    assertFalse(registry.get("0").isPresent());
+  }
+
+  @Test
+  public void shouldReplaceEndpointOfReRegisteredSession() {
+    registry.add("0", session);
+
+    registry.add("1", session);
+
+    assertEquals(registry.get(session), Optional.of("1"));
+    assertFalse(registry.get("0").isPresent());
+    assertEquals(registry.getSessions().size(), 1);
+  }
+
+  @Test
+  public void shouldGetSessionsByEndpointPrefix() {
+    Session other = mock(Session.class);
+    registry.add("client1<-:->endpoint", session);
+    registry.add("client2<-:->endpoint", other);
+    registry.add("client10<-:->endpoint", other);
+
+    Set<Session> sessions = registry.getByPartialMatch("client1<-:->");
+
+    assertEquals(sessions, Set.of(session));
+    assertEquals(registry.getByPartialMatch("client1"), Set.of(session));
+    assertTrue(registry.getByPartialMatch("client").isEmpty());
+    assertTrue(registry.getByPartialMatch("unknown").isEmpty());
+  }
+
+  @Test
+  public void shouldGetSessionRegisteredWithClientIdByPartialMatch() {
+    Session other = mock(Session.class);
+    registry.add("client1", session);
+    registry.add("client10", other);
+
+    assertEquals(registry.getByPartialMatch("client1"), Set.of(session));
+  }
 }
@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2012-2026 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.commons.lang.concurrent;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Pool of objects which are expensive to create, e.g. key pairs, generated in advance by a
+ * background thread.
+ *
+ * <p>{@link #take()} returns an object from the pool if there is one, otherwise it generates the
+ * object on the calling thread. In both cases it starts refilling the pool in the background,
+ * unless the pool is full or being refilled already. The owner of the pool must {@link #shutdown()
+ * shut it down} when it is not needed anymore, to stop the background thread.
+ *
+ * @param <T> type of the pooled objects
+ * @param <E> type of the exception thrown when an object cannot be generated
+ */
+public class BackgroundGeneratedPool<T, E extends Exception> {
+
+  private static final Logger LOG = LoggerFactory.getLogger(BackgroundGeneratedPool.class);
+
+  /** Generates a new object for the pool. */
+  @FunctionalInterface
+  public interface Generator<T, E extends Exception> {
+    T generate() throws E;
+  }
+
+  private final String name;
+  private final Generator<T, E> generator;
+  private final BlockingQueue<T> pool;
+  private final AtomicBoolean refilling = new AtomicBoolean();
+  private final ExecutorService executor;
+
+  private final AtomicLong hits = new AtomicLong();
+  private final AtomicLong misses = new AtomicLong();
+  private final AtomicLong generated = new AtomicLong();
+  private final AtomicLong generationNanos = new AtomicLong();
+
+  /**
+   * @param name name of the pool, used for the name of the background thread and in the logs
+   * @param capacity maximum number of the objects generated in advance, 0 disables the generation
+   *     in advance
+   * @param generator generates the objects
+   */
+  public BackgroundGeneratedPool(String name, int capacity, Generator<T, E> generator) {
+    this.name = name;
+    this.generator = generator;
+    this.pool = capacity > 0 ? new ArrayBlockingQueue<>(capacity) : null;
+    ThreadPoolExecutor threadPoolExecutor =
+        new ThreadPoolExecutor(
+            1,
+            1,
+            60L,
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(),
+            new ThreadFactoryBuilder()
+                .setUncaughtExceptionHandler(LoggingUncaughtExceptionHandler.getInstance())
+                .setNameFormat(name + "-%d")
+                .setDaemon(true)
+                .build());
+    threadPoolExecutor.allowCoreThreadTimeOut(true);
+    this.executor = threadPoolExecutor;
+  }
+
+  /**
+   * Returns an object generated in advance, or a newly generated one if there is none.
+   *
+   * @throws E when the object cannot be generated
+   */
+  public T take() throws E {
+    T object = pool != null ? pool.poll() : null;
+    refill();
+    if (object != null) {
+      hits.incrementAndGet();
+      return object;
+    }
+    misses.incrementAndGet();
+    return generate();
+  }
+
+  /** Fills the pool in the background unless it is full or being filled already. */
+  public void refill() {
+    if (pool == null
+        || pool.remainingCapacity() == 0
+        || executor.isShutdown()
+        || !refilling.compareAndSet(false, true)) {
+      return;
+    }
+    try {
+      executor.execute(
+          () -> {
+            try {
+              while (pool.remainingCapacity() > 0 && !Thread.currentThread().isInterrupted()) {
+                pool.offer(generate());
+              }
+            } catch (Exception e) {
+              LOG.error("Unable to fill the pool '{}' in advance. Cause: {}", name, e.getMessage());
+            } finally {
+              refilling.set(false);
+            }
+          });
+    } catch (RejectedExecutionException e) {
+      // shut down concurrently, the objects are generated by the callers from now on
+      refilling.set(false);
+    }
+  }
+
+  /**
+   * Stops the background thread. The objects generated in advance may still be taken, after that
+   * they are generated by the calling thread.
+   */
+  public void shutdown() {
+    executor.shutdownNow();
+  }
+
+  /** Returns the number of objects generated in advance and not taken yet. */
+  public int size() {
+    return pool != null ? pool.size() : 0;
+  }
+
+  /** Returns the number of objects taken from the pool. */
+  public long getHitCount() {
+    return hits.get();
+  }
+
+  /** Returns the number of objects generated by the caller because the pool was empty. */
+  public long getMissCount() {
+    return misses.get();
+  }
+
+  /** Returns the number of generated objects. */
+  public long getGeneratedCount() {
+    return generated.get();
+  }
+
+  /** Returns the total time spent generating objects, in nanoseconds. */
+  public long getGenerationNanos() {
+    return generationNanos.get();
+  }
+
+  private T generate() throws E {
+    long start = System.nanoTime();
+    T object = generator.generate();
+    generationNanos.addAndGet(System.nanoTime() - start);
+    generated.incrementAndGet();
+    return object;
+  }
+}
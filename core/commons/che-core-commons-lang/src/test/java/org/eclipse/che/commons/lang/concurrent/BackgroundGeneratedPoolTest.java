@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2012-2026 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.commons.lang.concurrent;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotEquals;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.testng.annotations.Test;
+
+/** Tests {@link BackgroundGeneratedPool}. */
+public class BackgroundGeneratedPoolTest {
+
+  @Test
+  public void shouldGenerateOnCallingThreadWhenPoolIsDisabled() throws Exception {
+    BackgroundGeneratedPool<String, RuntimeException> pool =
+        new BackgroundGeneratedPool<>("test", 0, () -> Thread.currentThread().getName());
+
+    String generatedBy = pool.take();
+
+    assertEquals(generatedBy, Thread.currentThread().getName());
+    assertEquals(pool.size(), 0);
+    assertEquals(pool.getMissCount(), 1);
+    assertEquals(pool.getGeneratedCount(), 1);
+  }
+
+  @Test
+  public void shouldTakeObjectsGeneratedInBackground() throws Exception {
+    AtomicInteger counter = new AtomicInteger();
+    BackgroundGeneratedPool<Integer, RuntimeException> pool =
+        new BackgroundGeneratedPool<>("test", 3, counter::incrementAndGet);
+    pool.refill();
+    awaitSize(pool, 3);
+
+    Integer taken = pool.take();
+
+    assertEquals(taken.intValue(), 1);
+    assertEquals(pool.getHitCount(), 1);
+    assertEquals(pool.getMissCount(), 0);
+    awaitSize(pool, 3);
+    assertEquals(pool.getGeneratedCount(), 4);
+  }
+
+  @Test
+  public void shouldRefillPoolAfterTakingFromEmptyPool() throws Exception {
+    BackgroundGeneratedPool<String, RuntimeException> pool =
+        new BackgroundGeneratedPool<>("test", 2, () -> Thread.currentThread().getName());
+
+    String generatedBy = pool.take();
+
+    assertEquals(generatedBy, Thread.currentThread().getName());
+    awaitSize(pool, 2);
+    assertNotEquals(pool.take(), Thread.currentThread().getName());
+  }
+
+  @Test(expectedExceptions = IOException.class)
+  public void shouldRethrowGenerationFailureToCaller() throws Exception {
+    new BackgroundGeneratedPool<Object, IOException>(
+            "test",
+            1,
+            () -> {
+              throw new IOException("failure");
+            })
+        .take();
+  }
+
+  @Test
+  public void shouldGenerateOnCallingThreadAfterShutdown() throws Exception {
+    BackgroundGeneratedPool<String, RuntimeException> pool =
+        new BackgroundGeneratedPool<>("test", 2, () -> Thread.currentThread().getName());
+    pool.shutdown();
+
+    String generatedBy = pool.take();
+    pool.refill();
+
+    assertEquals(generatedBy, Thread.currentThread().getName());
+    assertEquals(pool.size(), 0);
+    assertEquals(pool.getGeneratedCount(), 1);
+  }
+
+  private static void awaitSize(BackgroundGeneratedPool<?, ?> pool, int expected)
+      throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+    while (pool.size() < expected && System.nanoTime() < deadline) {
+      Thread.sleep(10);
+    }
+    assertEquals(pool.size(), expected);
+  }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2012-2026 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.multiuser.api.distributed;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import org.eclipse.che.api.core.model.workspace.WorkspaceStatus;
+import org.eclipse.che.multiuser.api.distributed.cache.JGroupsWorkspaceStatusCache;
+import org.eclipse.che.multiuser.api.distributed.cache.StatusChangeListener;
+import org.eclipse.che.multiuser.machine.authentication.server.MachineLoginFilter;
+
+/**
+ * Forgets the verified machine tokens of a workspace when the workspace is stopped by any Che
+ * Server instance, so that the tokens are verified again with the new key pair of the workspace.
+ *
+ * @see MachineLoginFilter
+ */
+@Singleton
+public class MachineTokenInvalidator implements StatusChangeListener {
+
+  private final MachineLoginFilter machineLoginFilter;
+
+  @Inject
+  public MachineTokenInvalidator(
+      MachineLoginFilter machineLoginFilter, JGroupsWorkspaceStatusCache statusCache) {
+    this.machineLoginFilter = machineLoginFilter;
+    statusCache.subscribe(this);
+  }
+
+  @Override
+  public void statusChanged(String workspaceId, WorkspaceStatus status) {
+    if (status == WorkspaceStatus.STOPPED) {
+      machineLoginFilter.invalidateTokens(workspaceId);
+    }
+  }
+}
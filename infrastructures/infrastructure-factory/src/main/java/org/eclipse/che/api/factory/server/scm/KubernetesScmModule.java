@@ -22,5 +22,6 @@ public class KubernetesScmModule extends AbstractModule {
     bind(GitCredentialManager.class).to(KubernetesGitCredentialManager.class);
     bind(PersonalAccessTokenManager.class).to(KubernetesPersonalAccessTokenManager.class);
     bind(AuthorisationRequestManager.class).to(KubernetesAuthorisationRequestManager.class);
+    bind(ScmResponseCache.class).to(InMemoryScmResponseCache.class);
   }
 }
@@ -14,7 +14,11 @@ package org.eclipse.che.api.factory.server.scm.kubernetes;
 import static com.google.common.base.Strings.isNullOrEmpty;
 import static org.eclipse.che.commons.lang.StringUtils.trimEnd;
 
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import io.fabric8.kubernetes.api.model.LabelSelector;
 import io.fabric8.kubernetes.api.model.LabelSelectorBuilder;
 import io.fabric8.kubernetes.api.model.ObjectMeta;
@@ -22,16 +26,26 @@ import io.fabric8.kubernetes.api.model.ObjectMetaBuilder;
 import io.fabric8.kubernetes.api.model.Secret;
 import io.fabric8.kubernetes.api.model.SecretBuilder;
 import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.WatcherException;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Base64;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import javax.inject.Inject;
+import javax.inject.Named;
 import javax.inject.Singleton;
 import org.eclipse.che.api.factory.server.scm.GitCredentialManager;
 import org.eclipse.che.api.factory.server.scm.PersonalAccessToken;
@@ -54,7 +68,15 @@ import org.eclipse.che.workspace.infrastructure.kubernetes.namespace.KubernetesN
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-/** Manages personal access token secrets used for private repositories authentication. */
+/**
+ * Manages personal access token secrets used for private repositories authentication.
+ *
+ * <p>Tokens validated against the SCM provider are cached per user and SCM server for
+ * `che.integration.personal_access_token.cache_ttl_sec` seconds. Concurrent lookups of the same
+ * tokens wait for a single validation. The cached tokens of a user are invalidated when their
+ * personal access token secrets are stored or removed through this manager, or when a change of
+ * such secret is observed by the secrets watch.
+ */
 @Singleton
 public class KubernetesPersonalAccessTokenManager implements PersonalAccessTokenManager {
   public static final Map<String, String> SECRET_LABELS =
@@ -81,6 +103,12 @@ public class KubernetesPersonalAccessTokenManager implements PersonalAccessToken
   private final ScmPersonalAccessTokenFetcher scmPersonalAccessTokenFetcher;
   private final GitCredentialManager gitCredentialManager;
 
+  /** Validated tokens, {@code null} if caching is disabled. */
+  @Nullable private final Cache<TokensKey, List<PersonalAccessToken>> tokensCache;
+
+  private volatile Watch secretsWatch;
+  private volatile boolean secretsWatchFailed;
+
   private static final Logger LOG =
       LoggerFactory.getLogger(KubernetesPersonalAccessTokenManager.class);
 
@@ -89,11 +117,19 @@ public class KubernetesPersonalAccessTokenManager implements PersonalAccessToken
       KubernetesNamespaceFactory namespaceFactory,
       CheServerKubernetesClientFactory cheServerKubernetesClientFactory,
       ScmPersonalAccessTokenFetcher scmPersonalAccessTokenFetcher,
-      GitCredentialManager gitCredentialManager) {
+      GitCredentialManager gitCredentialManager,
+      @Named("che.integration.personal_access_token.cache_ttl_sec") long cacheTtlSec) {
     this.namespaceFactory = namespaceFactory;
     this.cheServerKubernetesClientFactory = cheServerKubernetesClientFactory;
     this.scmPersonalAccessTokenFetcher = scmPersonalAccessTokenFetcher;
     this.gitCredentialManager = gitCredentialManager;
+    this.tokensCache =
+        cacheTtlSec > 0
+            ? CacheBuilder.newBuilder()
+                .maximumSize(10000)
+                .expireAfterWrite(cacheTtlSec, TimeUnit.SECONDS)
+                .build()
+            : null;
   }
 
   @Override
@@ -137,6 +173,8 @@ public class KubernetesPersonalAccessTokenManager implements PersonalAccessToken
           .createOrReplace(secret);
     } catch (KubernetesClientException | InfrastructureException e) {
       throw new ScmConfigurationPersistenceException(e.getMessage(), e);
+    } finally {
+      invalidateCachedTokens(personalAccessToken.getCheUserId());
     }
   }
 
@@ -170,6 +208,8 @@ public class KubernetesPersonalAccessTokenManager implements PersonalAccessToken
       }
     } catch (InfrastructureException | ScmConfigurationPersistenceException e) {
       LOG.debug("Failed to remove personal access token", e);
+    } finally {
+      invalidateCachedTokens(EnvironmentContext.getCurrent().getSubject().getUserId());
     }
   }
 
@@ -222,6 +262,89 @@ public class KubernetesPersonalAccessTokenManager implements PersonalAccessToken
       @Nullable String scmServerUrl,
       @Nullable String namespaceName)
       throws ScmConfigurationPersistenceException, ScmCommunicationException {
+    return doGetPersonalAccessTokens(
+        cheUser,
+        oAuthProviderName,
+        scmServerUrl,
+        namespaceName,
+        new PersonalAccessTokenSecrets(namespaceName));
+  }
+
+  private List<PersonalAccessToken> doGetPersonalAccessTokens(
+      Subject cheUser,
+      @Nullable String oAuthProviderName,
+      @Nullable String scmServerUrl,
+      @Nullable String namespaceName,
+      PersonalAccessTokenSecrets secrets)
+      throws ScmConfigurationPersistenceException, ScmCommunicationException {
+    if (tokensCache == null) {
+      return fetchPersonalAccessTokens(cheUser, oAuthProviderName, scmServerUrl, secrets.get());
+    }
+    watchSecrets();
+    TokensKey key = tokensKey(cheUser, oAuthProviderName, scmServerUrl, namespaceName);
+    try {
+      List<PersonalAccessToken> tokens =
+          tokensCache.get(
+              key,
+              () ->
+                  fetchPersonalAccessTokens(
+                      cheUser, oAuthProviderName, scmServerUrl, secrets.get()));
+      if (tokens.isEmpty()) {
+        // the token may be added any time soon, so absence of it is not cached
+        tokensCache.invalidate(key);
+      }
+      return tokens;
+    } catch (ExecutionException | UncheckedExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof ScmConfigurationPersistenceException) {
+        throw (ScmConfigurationPersistenceException) cause;
+      } else if (cause instanceof ScmCommunicationException) {
+        throw (ScmCommunicationException) cause;
+      }
+      throw new ScmCommunicationException(cause.getMessage(), cause);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The personal access token secrets are read at most once for all the endpoints. The tokens of
+   * each endpoint are looked up like {@link #get(Subject, String, String, String)} does, so that a
+   * failure to validate the tokens of one endpoint is logged and that endpoint is left out of the
+   * result, while the tokens of the other endpoints are still returned.
+   */
+  @Override
+  public Map<String, Optional<PersonalAccessToken>> getAll(
+      Subject cheUser, Collection<String> scmServerUrls, @Nullable String namespaceName) {
+    PersonalAccessTokenSecrets secrets = new PersonalAccessTokenSecrets(namespaceName);
+    Map<String, Optional<PersonalAccessToken>> result = new LinkedHashMap<>();
+    for (String scmServerUrl : new LinkedHashSet<>(scmServerUrls)) {
+      try {
+        result.put(
+            scmServerUrl,
+            doGetPersonalAccessTokens(cheUser, null, scmServerUrl, namespaceName, secrets).stream()
+                .findFirst());
+      } catch (ScmConfigurationPersistenceException | ScmCommunicationException e) {
+        LOG.error(
+            "Failed to get personal access token of {}: {}", scmServerUrl, e.getMessage(), e);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Returns the valid tokens of the given Git provider endpoint found in the given personal access
+   * token secrets, a {@code null} endpoint matches the tokens of any endpoint. The secrets of the
+   * tokens which are no longer valid are removed.
+   *
+   * @param secrets personal access token secrets by the name of their namespace
+   */
+  private List<PersonalAccessToken> fetchPersonalAccessTokens(
+      Subject cheUser,
+      @Nullable String oAuthProviderName,
+      @Nullable String scmServerUrl,
+      Map<String, List<Secret>> secrets)
+      throws ScmConfigurationPersistenceException, ScmCommunicationException {
     List<PersonalAccessToken> result = new ArrayList<>();
     try {
       LOG.debug(
@@ -229,16 +352,8 @@ public class KubernetesPersonalAccessTokenManager implements PersonalAccessToken
           cheUser.getUserId(),
           oAuthProviderName);
 
-      for (KubernetesNamespaceMeta namespaceMeta : getKubernetesNamespaceMetas(namespaceName)) {
-        List<Secret> secrets = doGetPersonalAccessTokenSecrets(namespaceMeta);
-
-        for (Secret secret : secrets) {
-          LOG.debug("Checking secret {}", secret.getMetadata().getName());
-          if (deleteSecretIfMisconfigured(secret)) {
-            LOG.debug("Secret {} is misconfigured and was deleted", secret.getMetadata().getName());
-            continue;
-          }
-
+      for (Map.Entry<String, List<Secret>> namespaceSecrets : secrets.entrySet()) {
+        for (Secret secret : namespaceSecrets.getValue()) {
           if (isSecretMatchesSearchCriteria(cheUser, oAuthProviderName, scmServerUrl, secret)) {
             LOG.debug("Iterating over secret {}", secret.getMetadata().getName());
             PersonalAccessTokenParams personalAccessTokenParams =
@@ -253,7 +368,7 @@ public class KubernetesPersonalAccessTokenManager implements PersonalAccessToken
                   oAuthProviderName);
               Map<String, String> secretAnnotations = secret.getMetadata().getAnnotations();
 
-              PersonalAccessToken personalAccessToken =
+              result.add(
                   new PersonalAccessToken(
                       personalAccessTokenParams.getScmProviderUrl(),
                       getScmProviderName(personalAccessTokenParams),
@@ -262,8 +377,7 @@ public class KubernetesPersonalAccessTokenManager implements PersonalAccessToken
                       scmUsername.get(),
                       personalAccessTokenParams.getScmTokenName(),
                       personalAccessTokenParams.getScmTokenId(),
-                      personalAccessTokenParams.getToken());
-              result.add(personalAccessToken);
+                      personalAccessTokenParams.getToken()));
               continue;
             }
 
@@ -274,7 +388,7 @@ public class KubernetesPersonalAccessTokenManager implements PersonalAccessToken
             cheServerKubernetesClientFactory
                 .create()
                 .secrets()
-                .inNamespace(namespaceMeta.getName())
+                .inNamespace(namespaceSecrets.getKey())
                 .delete(secret);
             LOG.debug("Secret {} is misconfigured and was deleted", secret.getMetadata().getName());
           }
@@ -287,6 +401,36 @@ public class KubernetesPersonalAccessTokenManager implements PersonalAccessToken
     return result;
   }
 
+  /**
+   * Reads the personal access token secrets of the user namespaces, the misconfigured secrets are
+   * removed instead of being returned.
+   *
+   * @param namespaceName the user's namespace name, {@code null} to read all the user namespaces
+   * @return personal access token secrets by the name of their namespace
+   */
+  private Map<String, List<Secret>> readPersonalAccessTokenSecrets(@Nullable String namespaceName)
+      throws ScmConfigurationPersistenceException {
+    Map<String, List<Secret>> result = new LinkedHashMap<>();
+    try {
+      for (KubernetesNamespaceMeta namespaceMeta : getKubernetesNamespaceMetas(namespaceName)) {
+        List<Secret> secrets = new ArrayList<>();
+        for (Secret secret : doGetPersonalAccessTokenSecrets(namespaceMeta)) {
+          LOG.debug("Checking secret {}", secret.getMetadata().getName());
+          if (deleteSecretIfMisconfigured(secret)) {
+            LOG.debug("Secret {} is misconfigured and was deleted", secret.getMetadata().getName());
+            continue;
+          }
+          secrets.add(secret);
+        }
+        result.put(namespaceMeta.getName(), secrets);
+      }
+    } catch (InfrastructureException e) {
+      LOG.debug("Failed to get personal access token", e);
+      throw new ScmConfigurationPersistenceException(e.getMessage(), e);
+    }
+    return result;
+  }
+
   /**
    * Returns the list of namespaces to search for the personal access token secrets.
    *
@@ -430,6 +574,7 @@ public class KubernetesPersonalAccessTokenManager implements PersonalAccessToken
     gitCredentialManager.createOrReplace(personalAccessToken);
     store(personalAccessToken);
     removePreviousTokenSecretsIfPresent(scmServerUrl);
+    invalidateCachedTokens(subject.getUserId());
   }
 
   private void removePreviousTokenSecretsIfPresent(String scmServerUrl)
@@ -482,4 +627,137 @@ public class KubernetesPersonalAccessTokenManager implements PersonalAccessToken
       throw new ScmConfigurationPersistenceException(e.getMessage(), e);
     }
   }
+
+  private static TokensKey tokensKey(
+      Subject cheUser,
+      @Nullable String oAuthProviderName,
+      @Nullable String scmServerUrl,
+      @Nullable String namespaceName) {
+    return new TokensKey(
+        cheUser.getUserId(),
+        oAuthProviderName,
+        scmServerUrl == null ? null : trimEnd(scmServerUrl, '/'),
+        namespaceName);
+  }
+
+  /** Drops the cached tokens of the given user. */
+  @VisibleForTesting
+  void invalidateCachedTokens(@Nullable String cheUserId) {
+    if (tokensCache == null || cheUserId == null) {
+      return;
+    }
+    tokensCache.asMap().keySet().removeIf(key -> cheUserId.equals(key.cheUserId));
+  }
+
+  /**
+   * Starts watching personal access token secrets in all namespaces, if not watching yet, to drop
+   * the cached tokens of a user when their secrets are changed outside of this manager. If Che
+   * ServiceAccount is not permitted to watch the secrets, cached tokens are dropped only when they
+   * expire.
+   */
+  private void watchSecrets() {
+    if (secretsWatch != null || secretsWatchFailed) {
+      return;
+    }
+    synchronized (this) {
+      if (secretsWatch != null || secretsWatchFailed) {
+        return;
+      }
+      try {
+        secretsWatch =
+            cheServerKubernetesClientFactory
+                .create()
+                .secrets()
+                .inAnyNamespace()
+                .withLabels(SECRET_LABELS)
+                .watch(
+                    new Watcher<>() {
+                      @Override
+                      public void eventReceived(Action action, Secret secret) {
+                        Map<String, String> annotations = secret.getMetadata().getAnnotations();
+                        if (annotations != null) {
+                          invalidateCachedTokens(annotations.get(ANNOTATION_CHE_USERID));
+                        }
+                      }
+
+                      @Override
+                      public void onClose(WatcherException cause) {
+                        LOG.debug("Personal access token secrets watch is closed", cause);
+                        tokensCache.invalidateAll();
+                        secretsWatch = null;
+                      }
+                    });
+      } catch (InfrastructureException | KubernetesClientException e) {
+        LOG.warn(
+            "Failed to watch personal access token secrets. Validated tokens are cached without"
+                + " watching their changes. Cause: '{}'",
+            e.getMessage());
+        secretsWatchFailed = true;
+      }
+    }
+  }
+
+  /**
+   * Personal access token secrets of the user namespaces, read on the first use and then reused by
+   * the lookups of a single request. Not thread-safe.
+   */
+  private final class PersonalAccessTokenSecrets {
+    @Nullable private final String namespaceName;
+    private Map<String, List<Secret>> secrets;
+    private ScmConfigurationPersistenceException failure;
+
+    private PersonalAccessTokenSecrets(@Nullable String namespaceName) {
+      this.namespaceName = namespaceName;
+    }
+
+    private Map<String, List<Secret>> get() throws ScmConfigurationPersistenceException {
+      if (failure != null) {
+        throw failure;
+      }
+      if (secrets == null) {
+        try {
+          secrets = readPersonalAccessTokenSecrets(namespaceName);
+        } catch (ScmConfigurationPersistenceException e) {
+          failure = e;
+          throw e;
+        }
+      }
+      return secrets;
+    }
+  }
+
+  private static final class TokensKey {
+    private final String cheUserId;
+    private final String oAuthProviderName;
+    private final String scmServerUrl;
+    private final String namespaceName;
+
+    private TokensKey(
+        String cheUserId, String oAuthProviderName, String scmServerUrl, String namespaceName) {
+      this.cheUserId = cheUserId;
+      this.oAuthProviderName = oAuthProviderName;
+      this.scmServerUrl = scmServerUrl;
+      this.namespaceName = namespaceName;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (!(obj instanceof TokensKey)) {
+        return false;
+      }
+      final TokensKey other = (TokensKey) obj;
+      return Objects.equals(cheUserId, other.cheUserId)
+          && Objects.equals(oAuthProviderName, other.oAuthProviderName)
+          && Objects.equals(scmServerUrl, other.scmServerUrl)
+          && Objects.equals(namespaceName, other.namespaceName);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(cheUserId, oAuthProviderName, scmServerUrl, namespaceName);
+    }
+  }
 }
@@ -17,6 +17,7 @@ import static org.eclipse.che.api.factory.server.scm.kubernetes.KubernetesPerson
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
@@ -34,6 +35,11 @@ import io.fabric8.kubernetes.api.model.Secret;
 import io.fabric8.kubernetes.api.model.SecretBuilder;
 import io.fabric8.kubernetes.api.model.SecretList;
 import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.Watcher.Action;
+import io.fabric8.kubernetes.client.dsl.AnyNamespaceOperation;
+import io.fabric8.kubernetes.client.dsl.FilterWatchListDeletable;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.dsl.NonNamespaceOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
@@ -43,10 +49,12 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import org.eclipse.che.api.factory.server.scm.GitCredentialManager;
 import org.eclipse.che.api.factory.server.scm.PersonalAccessToken;
 import org.eclipse.che.api.factory.server.scm.PersonalAccessTokenParams;
 import org.eclipse.che.api.factory.server.scm.ScmPersonalAccessTokenFetcher;
+import org.eclipse.che.api.factory.server.scm.exception.ScmCommunicationException;
 import org.eclipse.che.commons.env.EnvironmentContext;
 import org.eclipse.che.commons.subject.Subject;
 import org.eclipse.che.commons.subject.SubjectImpl;
@@ -79,6 +87,12 @@ public class KubernetesPersonalAccessTokenManagerTest {
 
   @Mock NonNamespaceOperation<Secret, SecretList, Resource<Secret>> nonNamespaceOperation;
 
+  @Mock AnyNamespaceOperation<Secret, SecretList, Resource<Secret>> anyNamespaceOperation;
+
+  @Mock FilterWatchListDeletable<Secret, SecretList, Resource<Secret>> filterWatchListDeletable;
+
+  @Mock Watch secretsWatch;
+
   KubernetesPersonalAccessTokenManager personalAccessTokenManager;
 
   @BeforeMethod
@@ -88,7 +102,8 @@ public class KubernetesPersonalAccessTokenManagerTest {
             namespaceFactory,
             cheServerKubernetesClientFactory,
             scmPersonalAccessTokenFetcher,
-            gitCredentialManager);
+            gitCredentialManager,
+            0);
     assertNotNull(this.personalAccessTokenManager);
   }
 
@@ -692,4 +707,184 @@ public class KubernetesPersonalAccessTokenManagerTest {
     // then
     verify(nonNamespaceOperation, times(1)).delete(eq(secret1));
   }
+
+  @Test
+  public void shouldValidateCachedTokenOnlyOnce() throws Exception {
+    // given
+    KubernetesPersonalAccessTokenManager cachingTokenManager =
+        new KubernetesPersonalAccessTokenManager(
+            namespaceFactory,
+            cheServerKubernetesClientFactory,
+            scmPersonalAccessTokenFetcher,
+            gitCredentialManager,
+            60);
+    mockSecretsWatch();
+    mockTokenSecret("user1", "http://host1");
+    Subject subject = new SubjectImpl("user", Collections.emptyList(), "user1", "t1", false);
+
+    // when
+    Optional<PersonalAccessToken> first =
+        cachingTokenManager.get(subject, null, "http://host1", null);
+    Optional<PersonalAccessToken> second =
+        cachingTokenManager.get(subject, null, "http://host1/", null);
+
+    // then
+    assertTrue(first.isPresent());
+    assertTrue(second.isPresent());
+    assertEquals(second.get().getToken(), "token1");
+    verify(scmPersonalAccessTokenFetcher, times(1))
+        .getScmUsername(any(PersonalAccessTokenParams.class));
+  }
+
+  @Test
+  public void shouldValidateTokenAgainWhenSecretIsChanged() throws Exception {
+    // given
+    KubernetesPersonalAccessTokenManager cachingTokenManager =
+        new KubernetesPersonalAccessTokenManager(
+            namespaceFactory,
+            cheServerKubernetesClientFactory,
+            scmPersonalAccessTokenFetcher,
+            gitCredentialManager,
+            60);
+    ArgumentCaptor<Watcher<Secret>> watcherCaptor = mockSecretsWatch();
+    Secret secret = mockTokenSecret("user1", "http://host1");
+    Subject subject = new SubjectImpl("user", Collections.emptyList(), "user1", "t1", false);
+    cachingTokenManager.get(subject, null, "http://host1", null);
+
+    // when
+    watcherCaptor.getValue().eventReceived(Action.MODIFIED, secret);
+    cachingTokenManager.get(subject, null, "http://host1", null);
+
+    // then
+    verify(scmPersonalAccessTokenFetcher, times(2))
+        .getScmUsername(any(PersonalAccessTokenParams.class));
+  }
+
+  @Test
+  public void shouldNotCacheAbsentToken() throws Exception {
+    // given
+    KubernetesPersonalAccessTokenManager cachingTokenManager =
+        new KubernetesPersonalAccessTokenManager(
+            namespaceFactory,
+            cheServerKubernetesClientFactory,
+            scmPersonalAccessTokenFetcher,
+            gitCredentialManager,
+            60);
+    mockSecretsWatch();
+    mockTokenSecret("user1", "http://host1");
+    Subject subject = new SubjectImpl("user", Collections.emptyList(), "user1", "t1", false);
+
+    // when
+    cachingTokenManager.get(subject, null, "http://host2", null);
+    cachingTokenManager.get(subject, null, "http://host2", null);
+
+    // then
+    verify(namespaceFactory, times(2)).list();
+  }
+
+  @Test
+  public void shouldGetTokensOfSeveralServersAtOnce() throws Exception {
+    // given
+    mockTokenSecret("user1", "http://host1");
+    Subject subject = new SubjectImpl("user", Collections.emptyList(), "user1", "t1", false);
+
+    // when
+    Map<String, Optional<PersonalAccessToken>> tokens =
+        personalAccessTokenManager.getAll(
+            subject, List.of("http://host1/", "http://host2", "http://host1/"), null);
+
+    // then
+    assertEquals(tokens.keySet(), Set.of("http://host1/", "http://host2"));
+    assertEquals(tokens.get("http://host1/").get().getToken(), "token1");
+    assertFalse(tokens.get("http://host2").isPresent());
+    verify(namespaceFactory, times(1)).list();
+    verify(scmPersonalAccessTokenFetcher, times(1))
+        .getScmUsername(any(PersonalAccessTokenParams.class));
+  }
+
+  @Test
+  public void shouldGetTokensOfOtherServersWhenTokenValidationFails() throws Exception {
+    // given
+    mockTokenSecret("user1", "http://host1");
+    when(scmPersonalAccessTokenFetcher.getScmUsername(any(PersonalAccessTokenParams.class)))
+        .thenThrow(new ScmCommunicationException("unavailable"));
+    Subject subject = new SubjectImpl("user", Collections.emptyList(), "user1", "t1", false);
+
+    // when
+    Map<String, Optional<PersonalAccessToken>> tokens =
+        personalAccessTokenManager.getAll(subject, List.of("http://host1", "http://host2"), null);
+
+    // then
+    assertEquals(tokens.keySet(), Set.of("http://host2"));
+    assertFalse(tokens.get("http://host2").isPresent());
+    verify(namespaceFactory, times(1)).list();
+  }
+
+  @Test
+  public void shouldGetOnlyNotCachedTokensOfSeveralServers() throws Exception {
+    // given
+    KubernetesPersonalAccessTokenManager cachingTokenManager =
+        new KubernetesPersonalAccessTokenManager(
+            namespaceFactory,
+            cheServerKubernetesClientFactory,
+            scmPersonalAccessTokenFetcher,
+            gitCredentialManager,
+            60);
+    mockSecretsWatch();
+    mockTokenSecret("user1", "http://host1");
+    Subject subject = new SubjectImpl("user", Collections.emptyList(), "user1", "t1", false);
+    cachingTokenManager.get(subject, null, "http://host1", null);
+
+    // when
+    Map<String, Optional<PersonalAccessToken>> tokens =
+        cachingTokenManager.getAll(subject, List.of("http://host1", "http://host2"), null);
+
+    // then
+    assertTrue(tokens.get("http://host1").isPresent());
+    assertFalse(tokens.get("http://host2").isPresent());
+    verify(namespaceFactory, times(2)).list();
+    verify(scmPersonalAccessTokenFetcher, times(1))
+        .getScmUsername(any(PersonalAccessTokenParams.class));
+  }
+
+  @SuppressWarnings("unchecked")
+  private ArgumentCaptor<Watcher<Secret>> mockSecretsWatch() throws Exception {
+    ArgumentCaptor<Watcher<Secret>> watcherCaptor = ArgumentCaptor.forClass(Watcher.class);
+    when(cheServerKubernetesClientFactory.create()).thenReturn(kubeClient);
+    when(kubeClient.secrets()).thenReturn(secretsMixedOperation);
+    when(secretsMixedOperation.inAnyNamespace()).thenReturn(anyNamespaceOperation);
+    when(anyNamespaceOperation.withLabels(SECRET_LABELS)).thenReturn(filterWatchListDeletable);
+    when(filterWatchListDeletable.watch(watcherCaptor.capture())).thenReturn(secretsWatch);
+    return watcherCaptor;
+  }
+
+  private Secret mockTokenSecret(String cheUserId, String scmUrl) throws Exception {
+    KubernetesNamespaceMeta meta = new KubernetesNamespaceMetaImpl("test");
+    when(namespaceFactory.list()).thenReturn(singletonList(meta));
+    KubernetesNamespace kubernetesnamespace = Mockito.mock(KubernetesNamespace.class);
+    KubernetesSecrets secrets = Mockito.mock(KubernetesSecrets.class);
+    when(namespaceFactory.access(eq(null), eq(meta.getName()))).thenReturn(kubernetesnamespace);
+    when(kubernetesnamespace.secrets()).thenReturn(secrets);
+    lenient()
+        .when(scmPersonalAccessTokenFetcher.getScmUsername(any(PersonalAccessTokenParams.class)))
+        .thenReturn(Optional.of("user"));
+
+    Map<String, String> data =
+        Map.of("token", Base64.getEncoder().encodeToString("token1".getBytes(UTF_8)));
+    ObjectMeta metaData =
+        new ObjectMetaBuilder()
+            .withCreationTimestamp("2021-07-01T12:00:00Z")
+            .withAnnotations(
+                Map.of(
+                    ANNOTATION_SCM_PERSONAL_ACCESS_TOKEN_NAME,
+                    "github",
+                    ANNOTATION_CHE_USERID,
+                    cheUserId,
+                    ANNOTATION_SCM_URL,
+                    scmUrl))
+            .build();
+    Secret secret = new SecretBuilder().withMetadata(metaData).withData(data).build();
+    when(secrets.get(any(LabelSelector.class))).thenReturn(singletonList(secret));
+    return secret;
+  }
 }
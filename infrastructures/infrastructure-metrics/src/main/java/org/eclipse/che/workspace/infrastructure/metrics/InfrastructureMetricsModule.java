@@ -27,5 +27,6 @@ public class InfrastructureMetricsModule extends AbstractModule {
         Multibinder.newSetBinder(binder(), MeterBinder.class);
 
     meterMultibinder.addBinding().to(CurrentLogwatchersMeterBinder.class);
+    meterMultibinder.addBinding().to(NamespaceConfiguratorMeterBinder.class);
   }
 }
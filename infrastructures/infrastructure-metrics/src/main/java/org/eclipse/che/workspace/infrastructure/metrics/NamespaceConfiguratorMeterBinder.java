@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2012-2026 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.workspace.infrastructure.metrics;
+
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import org.eclipse.che.workspace.infrastructure.kubernetes.namespace.configurator.NamespaceConfiguratorPipeline;
+import org.eclipse.che.workspace.infrastructure.kubernetes.namespace.configurator.NamespaceConfiguratorPipeline.Timing;
+
+/** Exposes the number of runs and the time spent in each namespace configurator. */
+@Singleton
+public class NamespaceConfiguratorMeterBinder implements MeterBinder {
+
+  private final NamespaceConfiguratorPipeline pipeline;
+
+  @Inject
+  NamespaceConfiguratorMeterBinder(NamespaceConfiguratorPipeline pipeline) {
+    this.pipeline = pipeline;
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    for (Map.Entry<String, Timing> entry : pipeline.getTimings().entrySet()) {
+      FunctionTimer.builder(
+              "che.infra.namespace.configurator",
+              entry.getValue(),
+              Timing::getCount,
+              timing -> timing.getTotalTime(TimeUnit.NANOSECONDS),
+              TimeUnit.NANOSECONDS)
+          .tag("configurator", entry.getKey())
+          .description("Time spent in the namespace configurator")
+          .register(registry);
+    }
+  }
+}
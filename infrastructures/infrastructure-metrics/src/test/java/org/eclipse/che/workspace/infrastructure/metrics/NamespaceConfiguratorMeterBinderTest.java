@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2012-2026 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.workspace.infrastructure.metrics;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.che.api.workspace.server.spi.NamespaceResolutionContext;
+import org.eclipse.che.workspace.infrastructure.kubernetes.namespace.configurator.NamespaceConfigurator;
+import org.eclipse.che.workspace.infrastructure.kubernetes.namespace.configurator.NamespaceConfiguratorPipeline;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+public class NamespaceConfiguratorMeterBinderTest {
+
+  private MeterRegistry registry;
+  private NamespaceConfiguratorPipeline pipeline;
+
+  @BeforeMethod
+  public void setUp() {
+    registry = new SimpleMeterRegistry();
+    pipeline = new NamespaceConfiguratorPipeline(Set.of(new TestConfigurator()));
+    new NamespaceConfiguratorMeterBinder(pipeline).bindTo(registry);
+  }
+
+  @Test
+  public void shouldExposeRunsOfEachConfigurator() throws Exception {
+    FunctionTimer timer =
+        registry
+            .get("che.infra.namespace.configurator")
+            .tag("configurator", "TestConfigurator")
+            .functionTimer();
+    assertEquals(timer.count(), 0.0);
+
+    pipeline.configure(new NamespaceResolutionContext(null, "user123", "username"), "ns");
+    pipeline.configure(new NamespaceResolutionContext(null, "user123", "username"), "ns");
+
+    assertEquals(timer.count(), 2.0);
+    assertTrue(timer.totalTime(TimeUnit.NANOSECONDS) >= 0);
+  }
+
+  private static class TestConfigurator implements NamespaceConfigurator {
+
+    @Override
+    public void configure(
+        NamespaceResolutionContext namespaceResolutionContext, String namespaceName) {}
+  }
+}
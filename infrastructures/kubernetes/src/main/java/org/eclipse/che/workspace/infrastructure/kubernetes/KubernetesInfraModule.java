@@ -94,9 +94,8 @@ public class KubernetesInfraModule extends AbstractModule {
         Multibinder.newSetBinder(binder(), WorkspaceAttributeValidator.class);
     workspaceAttributeValidators.addBinding().to(K8sInfraNamespaceWsAttributeValidator.class);
 
-    // order matters here!
-    // We first need to grant permissions to user, only then we can run other configurators with
-    // user's client.
+    // configurators run concurrently, the ones which must run after other configurators declare it
+    // with NamespaceConfigurator#getDependencies
     Multibinder<NamespaceConfigurator> namespaceConfigurators =
         Multibinder.newSetBinder(binder(), NamespaceConfigurator.class);
     namespaceConfigurators.addBinding().to(UserPermissionConfigurator.class);
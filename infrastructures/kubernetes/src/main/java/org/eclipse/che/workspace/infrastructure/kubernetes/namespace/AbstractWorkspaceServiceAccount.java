@@ -13,6 +13,7 @@ package org.eclipse.che.workspace.infrastructure.kubernetes.namespace;
 
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
+import static org.eclipse.che.workspace.infrastructure.kubernetes.util.KubernetesObjects.createOrReplaceIfChanged;
 
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.KubernetesResourceList;
@@ -181,11 +182,9 @@ public abstract class AbstractWorkspaceServiceAccount<
 
   private void ensureRoleWithBinding(Client k8sClient, R role, String bindingName) {
     ensureRole(k8sClient, role);
-    //noinspection unchecked
-    roleBindings
-        .apply(k8sClient)
-        .inNamespace(namespace)
-        .createOrReplace(createRoleBinding(role.getMetadata().getName(), bindingName, false));
+    createOrReplaceIfChanged(
+        roleBindings.apply(k8sClient).inNamespace(namespace),
+        createRoleBinding(role.getMetadata().getName(), bindingName, false));
   }
 
   /**
@@ -202,12 +201,9 @@ public abstract class AbstractWorkspaceServiceAccount<
     int idx = 0;
     for (String clusterRoleName : this.clusterRoleNames) {
       if (k8sClient.rbac().clusterRoles().withName(clusterRoleName).get() != null) {
-        //noinspection unchecked
-        roleBindings
-            .apply(k8sClient)
-            .inNamespace(namespace)
-            .createOrReplace(
-                createRoleBinding(clusterRoleName, serviceAccountName + "-cluster" + idx++, true));
+        createOrReplaceIfChanged(
+            roleBindings.apply(k8sClient).inNamespace(namespace),
+            createRoleBinding(clusterRoleName, serviceAccountName + "-cluster" + idx++, true));
       } else {
         LOG.warn(
             "Unable to find the cluster role {}. Skip creating custom role binding.",
@@ -256,8 +252,7 @@ public abstract class AbstractWorkspaceServiceAccount<
   }
 
   private void ensureRole(Client k8sClient, R role) {
-    //noinspection unchecked
-    roles.apply(k8sClient).inNamespace(namespace).createOrReplace(role);
+    createOrReplaceIfChanged(roles.apply(k8sClient).inNamespace(namespace), role);
   }
 
   public interface ClientFactory<C extends KubernetesClient> {
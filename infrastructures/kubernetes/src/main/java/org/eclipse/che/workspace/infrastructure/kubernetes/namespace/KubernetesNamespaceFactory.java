@@ -25,7 +25,6 @@ import static org.eclipse.che.workspace.infrastructure.kubernetes.namespace.Name
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Joiner;
 import com.google.common.base.Splitter;
-import com.google.common.collect.ImmutableSet;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import io.fabric8.kubernetes.api.model.HasMetadata;
@@ -60,7 +59,7 @@ import org.eclipse.che.workspace.infrastructure.kubernetes.api.shared.Kubernetes
 import org.eclipse.che.workspace.infrastructure.kubernetes.authorization.AuthorizationChecker;
 import org.eclipse.che.workspace.infrastructure.kubernetes.authorization.AuthorizationException;
 import org.eclipse.che.workspace.infrastructure.kubernetes.authorization.PermissionsCleaner;
-import org.eclipse.che.workspace.infrastructure.kubernetes.namespace.configurator.NamespaceConfigurator;
+import org.eclipse.che.workspace.infrastructure.kubernetes.namespace.configurator.NamespaceConfiguratorPipeline;
 import org.eclipse.che.workspace.infrastructure.kubernetes.util.KubernetesSharedPool;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -99,10 +98,11 @@ public class KubernetesNamespaceFactory {
   private final CheServerKubernetesClientFactory cheServerKubernetesClientFactory;
   private final boolean namespaceCreationAllowed;
   private final PreferenceManager preferenceManager;
-  protected final Set<NamespaceConfigurator> namespaceConfigurators;
+  protected final NamespaceConfiguratorPipeline namespaceConfiguratorPipeline;
   protected final KubernetesSharedPool sharedPool;
   protected final AuthorizationChecker authorizationChecker;
   protected final PermissionsCleaner permissionsCleaner;
+  private final KubernetesNamespaceIndex namespaceIndex;
 
   @Inject
   public KubernetesNamespaceFactory(
@@ -112,12 +112,13 @@ public class KubernetesNamespaceFactory {
       @Named("che.infra.kubernetes.namespace.annotate") boolean annotateNamespaces,
       @Named("che.infra.kubernetes.namespace.labels") String namespaceLabels,
       @Named("che.infra.kubernetes.namespace.annotations") String namespaceAnnotations,
-      Set<NamespaceConfigurator> namespaceConfigurators,
+      NamespaceConfiguratorPipeline namespaceConfiguratorPipeline,
       CheServerKubernetesClientFactory cheServerKubernetesClientFactory,
       PreferenceManager preferenceManager,
       KubernetesSharedPool sharedPool,
       AuthorizationChecker authorizationChecker,
-      PermissionsCleaner permissionsCleaner)
+      PermissionsCleaner permissionsCleaner,
+      KubernetesNamespaceIndex namespaceIndex)
       throws ConfigurationException {
     this.namespaceCreationAllowed = namespaceCreationAllowed;
     this.cheServerKubernetesClientFactory = cheServerKubernetesClientFactory;
@@ -126,9 +127,10 @@ public class KubernetesNamespaceFactory {
     this.sharedPool = sharedPool;
     this.labelNamespaces = labelNamespaces;
     this.annotateNamespaces = annotateNamespaces;
-    this.namespaceConfigurators = ImmutableSet.copyOf(namespaceConfigurators);
+    this.namespaceConfiguratorPipeline = namespaceConfiguratorPipeline;
     this.authorizationChecker = authorizationChecker;
     this.permissionsCleaner = permissionsCleaner;
+    this.namespaceIndex = namespaceIndex;
 
     //noinspection UnstableApiUsage
     Splitter.MapSplitter csvMapSplitter = Splitter.on(",").withKeyValueSeparator("=");
@@ -496,6 +498,9 @@ public class KubernetesNamespaceFactory {
    * `che.infra.kubernetes.namespace.annotations` properties. Makes sure that placeholder in the
    * annotations property are correctly evaluated.
    *
+   * <p>The namespaces are taken from {@link KubernetesNamespaceIndex} when it is synced, otherwise
+   * they are listed from the cluster.
+   *
    * <p>If used ServiceAccount does not have permissions to list the namespaces, returns the empty
    * list.
    *
@@ -504,6 +509,13 @@ public class KubernetesNamespaceFactory {
    */
   protected List<KubernetesNamespaceMeta> findPreparedNamespaces(
       NamespaceResolutionContext namespaceCtx) throws InfrastructureException {
+    Optional<List<Namespace>> indexedNamespaces =
+        namespaceIndex.find(evaluateAnnotationPlaceholders(namespaceCtx));
+    if (indexedNamespaces.isPresent()) {
+      return indexedNamespaces.get().stream()
+          .map(this::asNamespaceMeta)
+          .collect(Collectors.toList());
+    }
     try {
       List<Namespace> workspaceNamespaces =
           cheServerKubernetesClientFactory
@@ -540,9 +552,7 @@ public class KubernetesNamespaceFactory {
   protected void configureNamespace(
       NamespaceResolutionContext namespaceResolutionContext, String namespaceName)
       throws InfrastructureException {
-    for (NamespaceConfigurator configurator : namespaceConfigurators) {
-      configurator.configure(namespaceResolutionContext, namespaceName);
-    }
+    namespaceConfiguratorPipeline.configure(namespaceResolutionContext, namespaceName);
   }
 
   /**
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2012-2026 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.workspace.infrastructure.kubernetes.namespace;
+
+import static com.google.common.base.Strings.isNullOrEmpty;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonList;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Splitter;
+import io.fabric8.kubernetes.api.model.Namespace;
+import jakarta.annotation.PreDestroy;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletionStage;
+import java.util.stream.Collectors;
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Singleton;
+import org.eclipse.che.workspace.infrastructure.kubernetes.CheServerKubernetesClientFactory;
+import org.eclipse.che.workspace.infrastructure.kubernetes.util.LazyIndexInformer;
+
+/**
+ * Keeps a local, watch-driven index of the namespaces labeled with
+ * `che.infra.kubernetes.namespace.labels`, keyed by the values of the annotations configured in
+ * `che.infra.kubernetes.namespace.annotations`.
+ *
+ * <p>The underlying shared informer is started lazily on the first lookup. Until it has synced, or
+ * when it could not be started at all (e.g. Che ServiceAccount is not permitted to watch
+ * namespaces), lookups return {@link Optional#empty()} and callers are expected to fall back to a
+ * live read from the cluster.
+ */
+@Singleton
+public class KubernetesNamespaceIndex {
+
+  @VisibleForTesting static final String ANNOTATIONS_INDEX = "che-namespace-annotations";
+
+  private final boolean enabled;
+  private final Map<String, String> namespaceLabels;
+  private final Set<String> annotationNames;
+  private final LazyIndexInformer<Namespace> informer;
+
+  @Inject
+  public KubernetesNamespaceIndex(
+      @Named("che.infra.kubernetes.namespace.index.enabled") boolean enabled,
+      @Named("che.infra.kubernetes.namespace.labels") String namespaceLabels,
+      @Named("che.infra.kubernetes.namespace.annotations") String namespaceAnnotations,
+      CheServerKubernetesClientFactory cheServerKubernetesClientFactory) {
+    this.enabled = enabled;
+
+    //noinspection UnstableApiUsage
+    Splitter.MapSplitter csvMapSplitter = Splitter.on(",").withKeyValueSeparator("=");
+    //noinspection UnstableApiUsage
+    this.namespaceLabels =
+        isNullOrEmpty(namespaceLabels) ? emptyMap() : csvMapSplitter.split(namespaceLabels);
+    //noinspection UnstableApiUsage
+    this.annotationNames =
+        isNullOrEmpty(namespaceAnnotations)
+            ? new TreeSet<>()
+            : new TreeSet<>(csvMapSplitter.split(namespaceAnnotations).keySet());
+    this.informer =
+        new LazyIndexInformer<>(
+            "namespaces with labels '" + this.namespaceLabels + "'",
+            () ->
+                cheServerKubernetesClientFactory
+                    .create()
+                    .namespaces()
+                    .withLabels(this.namespaceLabels)
+                    .runnableInformer(0),
+            Map.of(ANNOTATIONS_INDEX, this::indexKeys));
+  }
+
+  /**
+   * Finds the labeled namespaces that carry exactly the given values of the configured annotations.
+   *
+   * @param evaluatedAnnotations configured annotations with all the placeholders evaluated
+   * @return namespaces sorted by name, or empty optional if the index is not able to answer yet
+   */
+  public Optional<List<Namespace>> find(Map<String, String> evaluatedAnnotations) {
+    if (!enabled) {
+      return Optional.empty();
+    }
+    return informer
+        .getIndexer()
+        .map(
+            indexer ->
+                indexer.byIndex(ANNOTATIONS_INDEX, indexKey(evaluatedAnnotations)).stream()
+                    .sorted(Comparator.comparing(n -> n.getMetadata().getName()))
+                    .collect(Collectors.toList()));
+  }
+
+  /**
+   * Starts the informer if it is not started yet.
+   *
+   * @return stage completed when the informer has synced its store for the first time
+   */
+  @VisibleForTesting
+  CompletionStage<Void> start() {
+    return informer.start();
+  }
+
+  @PreDestroy
+  public void stop() {
+    informer.stop();
+  }
+
+  private List<String> indexKeys(Namespace namespace) {
+    Map<String, String> annotations = namespace.getMetadata().getAnnotations();
+    if (annotationNames.isEmpty()) {
+      return singletonList("");
+    }
+    if (annotations == null || !annotations.keySet().containsAll(annotationNames)) {
+      return emptyList();
+    }
+    return singletonList(indexKey(annotations));
+  }
+
+  private String indexKey(Map<String, String> annotations) {
+    return annotationNames.stream()
+        .map(name -> name + '=' + annotations.get(name))
+        .collect(Collectors.joining(","));
+  }
+}
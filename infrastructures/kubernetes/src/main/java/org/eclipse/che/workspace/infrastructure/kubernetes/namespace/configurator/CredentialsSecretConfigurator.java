@@ -15,6 +15,7 @@ import com.google.common.collect.ImmutableMap;
 import io.fabric8.kubernetes.api.model.Secret;
 import java.util.Base64;
 import java.util.Map;
+import java.util.Set;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import org.eclipse.che.api.factory.server.scm.PersonalAccessTokenManager;
@@ -58,9 +59,23 @@ public class CredentialsSecretConfigurator implements NamespaceConfigurator {
     this.personalAccessTokenManager = personalAccessTokenManager;
   }
 
+  /** OAuth tokens are refreshed by {@link OAuthTokenSecretsConfigurator} before they are used. */
+  @Override
+  public Set<Class<? extends NamespaceConfigurator>> getDependencies() {
+    return Set.of(OAuthTokenSecretsConfigurator.class);
+  }
+
   @Override
   public void configure(NamespaceResolutionContext namespaceResolutionContext, String namespaceName)
       throws InfrastructureException {
+    configure(namespaceResolutionContext, new NamespaceSnapshot(namespaceName));
+  }
+
+  @Override
+  public void configure(
+      NamespaceResolutionContext namespaceResolutionContext, NamespaceSnapshot snapshot)
+      throws InfrastructureException {
+    String namespaceName = snapshot.getNamespaceName();
     var client = cheServerKubernetesClientFactory.create();
     Secret mergedCredentialsSecret =
         client
@@ -69,8 +84,7 @@ public class CredentialsSecretConfigurator implements NamespaceConfigurator {
             .withName(MERGED_GIT_CREDENTIALS_SECRET_NAME)
             .get();
 
-    for (Secret s :
-        client.secrets().inNamespace(namespaceName).withLabels(SEARCH_LABELS).list().getItems()) {
+    for (Secret s : snapshot.getSecrets(client, SEARCH_LABELS)) {
       if (mergedCredentialsSecret == null
           || !getSecretData(mergedCredentialsSecret, "credentials")
               .contains(getSecretData(s, "token"))) {
@@ -70,6 +70,12 @@ public class GitconfigConfigurator implements NamespaceConfigurator {
     this.gitUserDataFetchers = gitUserDataFetchers;
   }
 
+  /** OAuth tokens are refreshed by {@link OAuthTokenSecretsConfigurator} before they are used. */
+  @Override
+  public Set<Class<? extends NamespaceConfigurator>> getDependencies() {
+    return Set.of(OAuthTokenSecretsConfigurator.class);
+  }
+
   @Override
   public void configure(NamespaceResolutionContext namespaceResolutionContext, String namespaceName)
       throws InfrastructureException {
@@ -12,6 +12,8 @@
 package org.eclipse.che.workspace.infrastructure.kubernetes.namespace.configurator;
 
 import io.fabric8.kubernetes.api.model.Secret;
+import java.util.Collections;
+import java.util.Set;
 import org.eclipse.che.api.workspace.server.spi.InfrastructureException;
 import org.eclipse.che.api.workspace.server.spi.NamespaceResolutionContext;
 import org.eclipse.che.workspace.infrastructure.kubernetes.provision.NamespaceProvisioner;
@@ -32,4 +34,30 @@ public interface NamespaceConfigurator {
    */
   void configure(NamespaceResolutionContext namespaceResolutionContext, String namespaceName)
       throws InfrastructureException;
+
+  /**
+   * Configures user's namespace after provisioning, reading the objects other configurators read as
+   * well from the given snapshot. Configurators which look for such objects should override this
+   * method, by default it is the same as {@link #configure(NamespaceResolutionContext, String)}.
+   *
+   * @param namespaceResolutionContext users namespace context
+   * @param snapshot objects of the namespace shared by all the configurators of this configuration
+   * @throws InfrastructureException when any error occurs
+   */
+  default void configure(
+      NamespaceResolutionContext namespaceResolutionContext, NamespaceSnapshot snapshot)
+      throws InfrastructureException {
+    configure(namespaceResolutionContext, snapshot.getNamespaceName());
+  }
+
+  /**
+   * Returns the types of the configurators which must complete before this one starts, e.g. because
+   * this configurator uses the objects they create. Configurators which do not depend on each other
+   * may run concurrently.
+   *
+   * @see NamespaceConfiguratorPipeline
+   */
+  default Set<Class<? extends NamespaceConfigurator>> getDependencies() {
+    return Collections.emptySet();
+  }
 }
@@ -0,0 +1,367 @@
+/*
+ * Copyright (c) 2012-2026 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.workspace.infrastructure.kubernetes.namespace.configurator;
+
+import static java.lang.String.format;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Singleton;
+import org.eclipse.che.api.workspace.server.spi.InfrastructureException;
+import org.eclipse.che.api.workspace.server.spi.NamespaceResolutionContext;
+import org.eclipse.che.commons.lang.concurrent.LoggingUncaughtExceptionHandler;
+import org.eclipse.che.commons.lang.concurrent.ThreadLocalPropagateContext;
+import org.eclipse.che.commons.observability.ExecutorServiceWrapper;
+import org.eclipse.che.commons.observability.NoopExecutorServiceWrapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs the {@link NamespaceConfigurator}s of a user namespace.
+ *
+ * <p>A configurator starts as soon as all the configurators it {@link
+ * NamespaceConfigurator#getDependencies() depends on} completed successfully, configurators which
+ * do not depend on each other run concurrently on an executor shared by all the configurations. The
+ * executor is bounded, when it is saturated the configurators run on the thread which would have
+ * submitted them, so concurrent configurations slow down instead of queueing without limit. Each
+ * configurator has its own timeout, counted from the moment it starts running. A failure of a
+ * configurator does not stop the configurators which do not depend on it, all the failures are
+ * reported once every configurator completed or was skipped.
+ *
+ * <p>All the configurators of one configuration share a {@link NamespaceSnapshot} of the namespace.
+ *
+ * <p>The number of runs and the time spent in each configurator is available through {@link
+ * #getTimings()}.
+ */
+@Singleton
+public class NamespaceConfiguratorPipeline {
+
+  private static final Logger LOG = LoggerFactory.getLogger(NamespaceConfiguratorPipeline.class);
+
+  private static final int MAX_THREADS = 16;
+  private static final int MAX_QUEUED_CONFIGURATORS = 64;
+  private static final long DEFAULT_TIMEOUT_SEC = 60;
+
+  private final List<NamespaceConfigurator> configurators;
+  private final Map<NamespaceConfigurator, List<NamespaceConfigurator>> dependencies;
+  private final Map<String, Timing> timings;
+  private final long timeoutSec;
+  private final ExecutorService executor;
+
+  @Inject
+  public NamespaceConfiguratorPipeline(
+      Set<NamespaceConfigurator> configurators,
+      @Named("che.infra.kubernetes.namespace.configurator_timeout_sec") long timeoutSec,
+      ExecutorServiceWrapper executorServiceWrapper) {
+    this.dependencies = resolveDependencies(configurators);
+    this.configurators = sortTopologically(configurators, dependencies);
+    this.timeoutSec = timeoutSec;
+    Map<String, Timing> timings = new LinkedHashMap<>();
+    for (NamespaceConfigurator configurator : this.configurators) {
+      timings.put(nameOf(configurator), new Timing());
+    }
+    this.timings = Collections.unmodifiableMap(timings);
+    ThreadPoolExecutor threadPoolExecutor =
+        new ThreadPoolExecutor(
+            MAX_THREADS,
+            MAX_THREADS,
+            60L,
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(MAX_QUEUED_CONFIGURATORS),
+            new ThreadFactoryBuilder()
+                .setUncaughtExceptionHandler(LoggingUncaughtExceptionHandler.getInstance())
+                .setNameFormat(NamespaceConfiguratorPipeline.class.getSimpleName() + "-%d")
+                .setDaemon(true)
+                .build());
+    threadPoolExecutor.allowCoreThreadTimeOut(true);
+    this.executor =
+        executorServiceWrapper.wrap(
+            threadPoolExecutor, NamespaceConfiguratorPipeline.class.getName());
+  }
+
+  /** Creates the pipeline with the given timeout of configurators and an unmetered executor. */
+  public NamespaceConfiguratorPipeline(Set<NamespaceConfigurator> configurators, long timeoutSec) {
+    this(configurators, timeoutSec, new NoopExecutorServiceWrapper());
+  }
+
+  /** Creates the pipeline with the default timeout of configurators and an unmetered executor. */
+  public NamespaceConfiguratorPipeline(Set<NamespaceConfigurator> configurators) {
+    this(configurators, DEFAULT_TIMEOUT_SEC);
+  }
+
+  /**
+   * Configures the given namespace with all the configurators.
+   *
+   * @param namespaceResolutionContext users namespace context
+   * @param namespaceName name of the namespace to configure
+   * @throws InfrastructureException when any of the configurators failed or timed out, the first
+   *     failure (in dependency order) is thrown and the other ones are suppressed by it
+   */
+  public void configure(NamespaceResolutionContext namespaceResolutionContext, String namespaceName)
+      throws InfrastructureException {
+    NamespaceSnapshot snapshot = new NamespaceSnapshot(namespaceName);
+    if (configurators.size() == 1) {
+      configure(configurators.get(0), namespaceResolutionContext, snapshot);
+      return;
+    }
+
+    Map<NamespaceConfigurator, CompletableFuture<Void>> futures = new HashMap<>();
+    for (NamespaceConfigurator configurator : configurators) {
+      CompletableFuture<?>[] prerequisites =
+          dependencies.get(configurator).stream()
+              .map(futures::get)
+              .toArray(CompletableFuture[]::new);
+      Runnable task =
+          ThreadLocalPropagateContext.wrap(
+              () -> {
+                try {
+                  configure(configurator, namespaceResolutionContext, snapshot);
+                } catch (InfrastructureException e) {
+                  throw new CompletionException(e);
+                }
+              });
+      futures.put(
+          configurator,
+          CompletableFuture.allOf(prerequisites)
+              .thenCompose(ignored -> runAsync(configurator, task, namespaceName)));
+    }
+
+    try {
+      CompletableFuture.allOf(futures.values().toArray(new CompletableFuture[0]))
+          .exceptionally(e -> null)
+          .get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InfrastructureException(
+          format("Interrupted while configuring namespace '%s'", namespaceName), e);
+    } catch (ExecutionException e) {
+      // failures are collected below
+    }
+
+    Set<Throwable> failures = new LinkedHashSet<>();
+    for (NamespaceConfigurator configurator : configurators) {
+      try {
+        futures.get(configurator).join();
+      } catch (CompletionException e) {
+        failures.add(e.getCause() != null ? e.getCause() : e);
+      }
+    }
+    if (!failures.isEmpty()) {
+      rethrow(failures);
+    }
+  }
+
+  /** Returns the number of runs and the time spent in each configurator, by configurator name. */
+  public Map<String, Timing> getTimings() {
+    return timings;
+  }
+
+  /** Waits for the running configurators to complete and stops the executor. */
+  @PreDestroy
+  public void shutdown() {
+    executor.shutdown();
+    try {
+      if (!executor.awaitTermination(timeoutSec, TimeUnit.SECONDS)) {
+        executor.shutdownNow();
+        LOG.warn("Namespace configurators did not complete in {} seconds", timeoutSec);
+      }
+    } catch (InterruptedException e) {
+      executor.shutdownNow();
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Runs the given task of the configurator on the executor, or on the current thread if the
+   * executor is saturated. The returned future fails with the exception thrown by the configurator,
+   * or with an {@link InfrastructureException} if the configurator did not complete in time after
+   * it started, in which case the configurator is interrupted.
+   */
+  private CompletableFuture<Void> runAsync(
+      NamespaceConfigurator configurator, Runnable task, String namespaceName) {
+    CompletableFuture<Void> completion = new CompletableFuture<>();
+    FutureTask<Void> running =
+        new FutureTask<>(
+            () -> {
+              // the timeout starts when the configurator does, not when it is submitted
+              completion.orTimeout(timeoutSec, TimeUnit.SECONDS);
+              try {
+                task.run();
+                completion.complete(null);
+              } catch (Throwable e) {
+                completion.completeExceptionally(e);
+              }
+            },
+            null);
+    CompletableFuture<Void> result =
+        completion.handle(
+            (ignored, e) -> {
+              if (e == null) {
+                return null;
+              }
+              Throwable cause =
+                  e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+              if (cause instanceof TimeoutException) {
+                running.cancel(true);
+                cause =
+                    new InfrastructureException(
+                        format(
+                            "Configuration of namespace '%s' by %s did not complete in %d seconds",
+                            namespaceName, nameOf(configurator), timeoutSec));
+              }
+              throw new CompletionException(cause);
+            });
+    try {
+      executor.execute(running);
+    } catch (RejectedExecutionException e) {
+      running.run();
+      if (running.isCancelled()) {
+        // the configurator was interrupted on this thread, which keeps running
+        Thread.interrupted();
+      }
+    }
+    return result;
+  }
+
+  private void configure(
+      NamespaceConfigurator configurator,
+      NamespaceResolutionContext namespaceResolutionContext,
+      NamespaceSnapshot snapshot)
+      throws InfrastructureException {
+    long start = System.nanoTime();
+    try {
+      configurator.configure(namespaceResolutionContext, snapshot);
+    } finally {
+      timings.get(nameOf(configurator)).record(System.nanoTime() - start);
+    }
+  }
+
+  /**
+   * Throws the first of the given failures with the other ones suppressed by it. Unchecked
+   * exceptions are rethrown as they are, as if the configurator was called directly.
+   */
+  private static void rethrow(Set<Throwable> failures) throws InfrastructureException {
+    Throwable first = failures.iterator().next();
+    failures.stream().filter(f -> f != first).forEach(first::addSuppressed);
+    if (first instanceof InfrastructureException) {
+      throw (InfrastructureException) first;
+    }
+    if (first instanceof RuntimeException) {
+      throw (RuntimeException) first;
+    }
+    if (first instanceof Error) {
+      throw (Error) first;
+    }
+    throw new InfrastructureException(first.getMessage(), first);
+  }
+
+  @VisibleForTesting
+  static String nameOf(NamespaceConfigurator configurator) {
+    return configurator.getClass().getSimpleName();
+  }
+
+  /** Maps each configurator to the registered configurators it depends on. */
+  private static Map<NamespaceConfigurator, List<NamespaceConfigurator>> resolveDependencies(
+      Set<NamespaceConfigurator> configurators) {
+    Map<NamespaceConfigurator, List<NamespaceConfigurator>> dependencies = new HashMap<>();
+    for (NamespaceConfigurator configurator : configurators) {
+      List<NamespaceConfigurator> resolved = new ArrayList<>();
+      for (Class<? extends NamespaceConfigurator> type : configurator.getDependencies()) {
+        configurators.stream()
+            .filter(type::isInstance)
+            .filter(c -> c != configurator)
+            .forEach(resolved::add);
+      }
+      dependencies.put(configurator, resolved);
+    }
+    return dependencies;
+  }
+
+  /**
+   * Orders the configurators so that every configurator follows its dependencies, otherwise the
+   * registration order is kept.
+   *
+   * @throws IllegalArgumentException if the configurators depend on each other cyclically
+   */
+  private static List<NamespaceConfigurator> sortTopologically(
+      Set<NamespaceConfigurator> configurators,
+      Map<NamespaceConfigurator, List<NamespaceConfigurator>> dependencies) {
+    Set<NamespaceConfigurator> sorted = new LinkedHashSet<>();
+    Set<NamespaceConfigurator> visiting = new LinkedHashSet<>();
+    for (NamespaceConfigurator configurator : configurators) {
+      visit(configurator, dependencies, visiting, sorted);
+    }
+    return ImmutableList.copyOf(sorted);
+  }
+
+  private static void visit(
+      NamespaceConfigurator configurator,
+      Map<NamespaceConfigurator, List<NamespaceConfigurator>> dependencies,
+      Set<NamespaceConfigurator> visiting,
+      Set<NamespaceConfigurator> sorted) {
+    if (sorted.contains(configurator)) {
+      return;
+    }
+    if (!visiting.add(configurator)) {
+      throw new IllegalArgumentException(
+          format("Namespace configurator %s depends on itself", nameOf(configurator)));
+    }
+    for (NamespaceConfigurator dependency : dependencies.get(configurator)) {
+      visit(dependency, dependencies, visiting, sorted);
+    }
+    visiting.remove(configurator);
+    sorted.add(configurator);
+  }
+
+  /** Number of runs and total time spent in a configurator. */
+  public static final class Timing {
+
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+
+    private void record(long nanos) {
+      count.increment();
+      totalNanos.add(nanos);
+    }
+
+    public long getCount() {
+      return count.sum();
+    }
+
+    public double getTotalTime(TimeUnit unit) {
+      return (double) totalNanos.sum() / unit.toNanos(1);
+    }
+  }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2012-2026 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.workspace.infrastructure.kubernetes.namespace.configurator;
+
+import io.fabric8.kubernetes.api.model.Secret;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Objects of a user namespace shared by the {@link NamespaceConfigurator}s during one configuration
+ * of the namespace, so that the objects several configurators look for are read from the cluster
+ * once.
+ *
+ * <p>Objects are read on first request. A configurator which changes the objects in the cluster in
+ * a way the following configurators must see should invalidate them.
+ */
+public class NamespaceSnapshot {
+
+  private final String namespaceName;
+  private final ConcurrentMap<Map<String, String>, List<Secret>> secretsByLabels =
+      new ConcurrentHashMap<>();
+
+  public NamespaceSnapshot(String namespaceName) {
+    this.namespaceName = namespaceName;
+  }
+
+  public String getNamespaceName() {
+    return namespaceName;
+  }
+
+  /**
+   * Returns the secrets of the namespace with the given labels.
+   *
+   * @param client client to read the secrets with, if they were not read yet
+   * @param labels labels the secrets must have
+   */
+  public List<Secret> getSecrets(KubernetesClient client, Map<String, String> labels) {
+    return secretsByLabels.computeIfAbsent(
+        Map.copyOf(labels),
+        l ->
+            List.copyOf(
+                client.secrets().inNamespace(namespaceName).withLabels(l).list().getItems()));
+  }
+
+  /** Drops the secrets read so far, they are read again on next request. */
+  public void invalidateSecrets() {
+    secretsByLabels.clear();
+  }
+}
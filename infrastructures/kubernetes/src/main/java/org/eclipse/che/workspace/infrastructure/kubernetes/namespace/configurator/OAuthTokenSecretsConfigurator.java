@@ -12,20 +12,21 @@
 package org.eclipse.che.workspace.infrastructure.kubernetes.namespace.configurator;
 
 import com.google.common.collect.ImmutableMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 import javax.inject.Inject;
 import javax.inject.Singleton;
+import org.eclipse.che.api.factory.server.scm.PersonalAccessToken;
 import org.eclipse.che.api.factory.server.scm.PersonalAccessTokenFetcher;
 import org.eclipse.che.api.factory.server.scm.PersonalAccessTokenManager;
-import org.eclipse.che.api.factory.server.scm.exception.ScmCommunicationException;
-import org.eclipse.che.api.factory.server.scm.exception.ScmConfigurationPersistenceException;
 import org.eclipse.che.api.workspace.server.spi.InfrastructureException;
 import org.eclipse.che.api.workspace.server.spi.NamespaceResolutionContext;
 import org.eclipse.che.commons.env.EnvironmentContext;
 import org.eclipse.che.commons.subject.Subject;
 import org.eclipse.che.workspace.infrastructure.kubernetes.CheServerKubernetesClientFactory;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 /**
  * Ensures that OAuth token that are represented by Kubernetes Secrets are valid.
@@ -47,8 +48,6 @@ public class OAuthTokenSecretsConfigurator implements NamespaceConfigurator {
           "app.kubernetes.io/part-of", "che.eclipse.org",
           "app.kubernetes.io/component", "scm-personal-access-token");
 
-  private static final Logger LOG = LoggerFactory.getLogger(OAuthTokenSecretsConfigurator.class);
-
   @Inject
   public OAuthTokenSecretsConfigurator(
       CheServerKubernetesClientFactory cheServerKubernetesClientFactory,
@@ -60,31 +59,40 @@ public class OAuthTokenSecretsConfigurator implements NamespaceConfigurator {
   @Override
   public void configure(NamespaceResolutionContext namespaceResolutionContext, String namespaceName)
       throws InfrastructureException {
+    configure(namespaceResolutionContext, new NamespaceSnapshot(namespaceName));
+  }
+
+  @Override
+  public void configure(
+      NamespaceResolutionContext namespaceResolutionContext, NamespaceSnapshot snapshot)
+      throws InfrastructureException {
     var client = cheServerKubernetesClientFactory.create();
-    client.secrets().inNamespace(namespaceName).withLabels(SEARCH_LABELS).list().getItems().stream()
-        .filter(
-            s ->
-                s.getMetadata().getAnnotations() != null
-                    && s.getMetadata().getAnnotations().containsKey(ANNOTATION_SCM_URL)
-                    && s.getMetadata()
-                        .getAnnotations()
-                        .containsKey(ANNOTATION_SCM_PERSONAL_ACCESS_TOKEN_NAME)
-                    && s.getMetadata()
-                        .getAnnotations()
-                        .get(ANNOTATION_SCM_PERSONAL_ACCESS_TOKEN_NAME)
-                        .startsWith(PersonalAccessTokenFetcher.OAUTH_2_PREFIX))
-        .forEach(
-            s -> {
-              try {
-                Subject cheSubject = EnvironmentContext.getCurrent().getSubject();
-                personalAccessTokenManager.get(
-                    cheSubject,
-                    null,
-                    s.getMetadata().getAnnotations().get(ANNOTATION_SCM_URL),
-                    namespaceName);
-              } catch (ScmConfigurationPersistenceException | ScmCommunicationException e) {
-                LOG.error(e.getMessage(), e);
-              }
-            });
+    Set<String> scmServerUrls =
+        snapshot.getSecrets(client, SEARCH_LABELS).stream()
+            .filter(
+                s ->
+                    s.getMetadata().getAnnotations() != null
+                        && s.getMetadata().getAnnotations().containsKey(ANNOTATION_SCM_URL)
+                        && s.getMetadata()
+                            .getAnnotations()
+                            .containsKey(ANNOTATION_SCM_PERSONAL_ACCESS_TOKEN_NAME)
+                        && s.getMetadata()
+                            .getAnnotations()
+                            .get(ANNOTATION_SCM_PERSONAL_ACCESS_TOKEN_NAME)
+                            .startsWith(PersonalAccessTokenFetcher.OAUTH_2_PREFIX))
+            .map(s -> s.getMetadata().getAnnotations().get(ANNOTATION_SCM_URL))
+            .collect(Collectors.toCollection(LinkedHashSet::new));
+    if (scmServerUrls.isEmpty()) {
+      return;
+    }
+    // the tokens are validated one server at a time, the failures are logged by the manager
+    Subject cheSubject = EnvironmentContext.getCurrent().getSubject();
+    Map<String, Optional<PersonalAccessToken>> tokens =
+        personalAccessTokenManager.getAll(cheSubject, scmServerUrls, snapshot.getNamespaceName());
+    if (tokens.size() < scmServerUrls.size()
+        || tokens.values().stream().anyMatch(Optional::isEmpty)) {
+      // secrets of invalid tokens may have been removed, hide them from the next configurators
+      snapshot.invalidateSecrets();
+    }
   }
 }
@@ -18,6 +18,7 @@ import static org.eclipse.che.workspace.infrastructure.kubernetes.Constants.DEV_
 import static org.eclipse.che.workspace.infrastructure.kubernetes.Constants.DEV_WORKSPACE_MOUNT_PATH_ANNOTATION;
 import static org.eclipse.che.workspace.infrastructure.kubernetes.Constants.DEV_WORKSPACE_WATCH_SECRET_LABEL;
 import static org.eclipse.che.workspace.infrastructure.kubernetes.namespace.KubernetesObjectUtil.isValidConfigMapKeyName;
+import static org.eclipse.che.workspace.infrastructure.kubernetes.util.KubernetesObjects.createOrReplaceIfChanged;
 
 import com.google.common.annotations.VisibleForTesting;
 import io.fabric8.kubernetes.api.model.ObjectMeta;
@@ -149,7 +150,7 @@ public class SshKeysConfigurator implements NamespaceConfigurator {
             .withMetadata(buildMetadata())
             .build();
 
-    client.secrets().inNamespace(namespaceName).createOrReplace(secret);
+    createOrReplaceIfChanged(client.secrets().inNamespace(namespaceName), secret);
   }
 
   private ObjectMeta buildMetadata() {
@@ -12,6 +12,7 @@
 package org.eclipse.che.workspace.infrastructure.kubernetes.namespace.configurator;
 
 import static com.google.common.base.Strings.isNullOrEmpty;
+import static org.eclipse.che.workspace.infrastructure.kubernetes.util.KubernetesObjects.createOrReplaceIfChanged;
 
 import com.google.common.base.Splitter;
 import com.google.common.collect.Sets;
@@ -67,24 +68,21 @@ public class UserPermissionConfigurator implements NamespaceConfigurator {
   private void bindRoles(
       KubernetesClient client, String namespaceName, String username, Set<String> clusterRoles) {
     for (String clusterRole : clusterRoles) {
-      client
-          .rbac()
-          .roleBindings()
-          .inNamespace(namespaceName)
-          .createOrReplace(
-              new RoleBindingBuilder()
-                  .withNewMetadata()
-                  .withName(clusterRole)
-                  .endMetadata()
-                  .addToSubjects(
-                      new io.fabric8.kubernetes.api.model.rbac.Subject(
-                          "rbac.authorization.k8s.io", "User", username, namespaceName))
-                  .withNewRoleRef()
-                  .withApiGroup("rbac.authorization.k8s.io")
-                  .withKind("ClusterRole")
-                  .withName(clusterRole)
-                  .endRoleRef()
-                  .build());
+      createOrReplaceIfChanged(
+          client.rbac().roleBindings().inNamespace(namespaceName),
+          new RoleBindingBuilder()
+              .withNewMetadata()
+              .withName(clusterRole)
+              .endMetadata()
+              .addToSubjects(
+                  new io.fabric8.kubernetes.api.model.rbac.Subject(
+                      "rbac.authorization.k8s.io", "User", username, namespaceName))
+              .withNewRoleRef()
+              .withApiGroup("rbac.authorization.k8s.io")
+              .withKind("ClusterRole")
+              .withName(clusterRole)
+              .endRoleRef()
+              .build());
     }
   }
 }
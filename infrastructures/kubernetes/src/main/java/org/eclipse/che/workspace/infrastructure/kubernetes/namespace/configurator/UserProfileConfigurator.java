@@ -15,6 +15,7 @@ import static org.eclipse.che.workspace.infrastructure.kubernetes.Constants.DEV_
 import static org.eclipse.che.workspace.infrastructure.kubernetes.Constants.DEV_WORKSPACE_MOUNT_LABEL;
 import static org.eclipse.che.workspace.infrastructure.kubernetes.Constants.DEV_WORKSPACE_MOUNT_PATH_ANNOTATION;
 import static org.eclipse.che.workspace.infrastructure.kubernetes.Constants.DEV_WORKSPACE_WATCH_SECRET_LABEL;
+import static org.eclipse.che.workspace.infrastructure.kubernetes.util.KubernetesObjects.createOrReplaceIfChanged;
 
 import io.fabric8.kubernetes.api.model.Secret;
 import io.fabric8.kubernetes.api.model.SecretBuilder;
@@ -52,11 +53,9 @@ public class UserProfileConfigurator implements NamespaceConfigurator {
       throws InfrastructureException {
     Secret userProfileSecret = prepareProfileSecret(namespaceResolutionContext);
     try {
-      cheServerKubernetesClientFactory
-          .create()
-          .secrets()
-          .inNamespace(namespaceName)
-          .createOrReplace(userProfileSecret);
+      createOrReplaceIfChanged(
+          cheServerKubernetesClientFactory.create().secrets().inNamespace(namespaceName),
+          userProfileSecret);
     } catch (KubernetesClientException e) {
       throw new InfrastructureException(
           "Error occurred while trying to create user profile secret.", e);
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2012-2026 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.workspace.infrastructure.kubernetes.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.client.dsl.NonNamespaceOperation;
+import io.fabric8.kubernetes.client.dsl.Resource;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.Map.Entry;
+
+/**
+ * Utility class to avoid rewriting Kubernetes objects which are already in the desired state.
+ *
+ * <p>The object is read from the cluster and the fields set in the desired object are compared
+ * with the same fields of the live one, so the write is skipped only when the live object really
+ * has the desired content. Objects changed manually or by another controller are written again.
+ * Fields the desired object does not set, e.g. the ones defaulted by the API server or the metadata
+ * maintained by the cluster, are not taken into account, so they do not cause repeated writes. Note
+ * that this saves writes, not reads: every call still gets the object from the cluster.
+ */
+public class KubernetesObjects {
+
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+  /**
+   * Creates or replaces the given object unless the object with the same name already has the
+   * content of the given one.
+   *
+   * @param operation operation on the objects of the namespace the object belongs to
+   * @param desired desired state of the object
+   * @return {@code true} if the object was written, {@code false} if it was up to date
+   */
+  public static <T extends HasMetadata> boolean createOrReplaceIfChanged(
+      NonNamespaceOperation<T, ?, ? extends Resource<T>> operation, T desired) {
+    T existing = operation.withName(desired.getMetadata().getName()).get();
+    if (existing != null) {
+      JsonNode desiredContent = withoutEmptyValues(normalized(MAPPER.valueToTree(desired)));
+      JsonNode liveContent = projection(normalized(MAPPER.valueToTree(existing)), desiredContent);
+      if (desiredContent.equals(liveContent)) {
+        return false;
+      }
+    }
+    operation.createOrReplace(desired);
+    return true;
+  }
+
+  /**
+   * Merges {@code stringData} into {@code data} the way the API server does for secrets, so the
+   * desired object which uses {@code stringData} matches the stored one.
+   */
+  private static JsonNode normalized(JsonNode node) {
+    JsonNode stringData = node.get("stringData");
+    if (!node.isObject() || stringData == null || !stringData.isObject()) {
+      return node;
+    }
+    ObjectNode result = ((ObjectNode) node).deepCopy();
+    ObjectNode data =
+        result.get("data") instanceof ObjectNode
+            ? (ObjectNode) result.get("data")
+            : result.putObject("data");
+    for (Iterator<Entry<String, JsonNode>> it = stringData.fields(); it.hasNext(); ) {
+      Entry<String, JsonNode> field = it.next();
+      if (!field.getValue().isNull()) {
+        data.put(
+            field.getKey(),
+            Base64.getEncoder()
+                .encodeToString(field.getValue().asText().getBytes(StandardCharsets.UTF_8)));
+      }
+    }
+    result.remove("stringData");
+    return result;
+  }
+
+  /** Removes nulls, empty objects and empty arrays which the API server does not store. */
+  private static JsonNode withoutEmptyValues(JsonNode node) {
+    if (node.isObject()) {
+      ObjectNode result = MAPPER.createObjectNode();
+      for (Iterator<Entry<String, JsonNode>> it = node.fields(); it.hasNext(); ) {
+        Entry<String, JsonNode> field = it.next();
+        JsonNode value = withoutEmptyValues(field.getValue());
+        if (!value.isNull() && !(value.isContainerNode() && value.isEmpty())) {
+          result.set(field.getKey(), value);
+        }
+      }
+      return result;
+    }
+    if (node.isArray()) {
+      ArrayNode result = MAPPER.createArrayNode();
+      node.forEach(element -> result.add(withoutEmptyValues(element)));
+      return result;
+    }
+    return node;
+  }
+
+  /** Returns the fields of the live object which are set in the desired one, in the same order. */
+  private static JsonNode projection(JsonNode live, JsonNode desired) {
+    if (live.isObject() && desired.isObject()) {
+      ObjectNode result = MAPPER.createObjectNode();
+      for (Iterator<Entry<String, JsonNode>> it = desired.fields(); it.hasNext(); ) {
+        Entry<String, JsonNode> field = it.next();
+        JsonNode value = live.get(field.getKey());
+        if (value != null) {
+          result.set(field.getKey(), projection(value, field.getValue()));
+        }
+      }
+      return result;
+    }
+    if (live.isArray() && desired.isArray() && live.size() == desired.size()) {
+      ArrayNode result = MAPPER.createArrayNode();
+      for (int i = 0; i < live.size(); i++) {
+        result.add(projection(live.get(i), desired.get(i)));
+      }
+      return result;
+    }
+    return live;
+  }
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2012-2026 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.workspace.infrastructure.kubernetes.util;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Ticker;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.informers.cache.Indexer;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.eclipse.che.api.workspace.server.spi.InfrastructureException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Shared index informer which is started on the first lookup and answers only while it is in sync
+ * with the cluster.
+ *
+ * <p>Until the informer has synced, while its watch is down, or when it could not be started at all
+ * (e.g. Che ServiceAccount is not permitted to watch the resources), {@link #getIndexer()} returns
+ * {@link Optional#empty()} and callers are expected to fall back to a live read from the cluster.
+ *
+ * @param <T> type of the watched resources
+ */
+public class LazyIndexInformer<T extends HasMetadata> {
+
+  private static final Logger LOG = LoggerFactory.getLogger(LazyIndexInformer.class);
+
+  /** Creates the informer, which is not started yet. */
+  @FunctionalInterface
+  public interface InformerFactory<T> {
+    SharedIndexInformer<T> create() throws InfrastructureException;
+  }
+
+  private final String resources;
+  private final InformerFactory<T> informerFactory;
+  private final Map<String, Function<T, List<String>>> indexers;
+  private final Ticker ticker;
+
+  private volatile SharedIndexInformer<T> informer;
+  private volatile boolean failed;
+  private volatile long lastInSyncNanos;
+
+  /**
+   * @param resources description of the watched resources used in the logs, e.g. {@code groups}
+   * @param informerFactory creates the informer of the watched resources
+   * @param indexers indexers added to the informer
+   */
+  public LazyIndexInformer(
+      String resources,
+      InformerFactory<T> informerFactory,
+      Map<String, Function<T, List<String>>> indexers) {
+    this(resources, informerFactory, indexers, Ticker.systemTicker());
+  }
+
+  @VisibleForTesting
+  LazyIndexInformer(
+      String resources,
+      InformerFactory<T> informerFactory,
+      Map<String, Function<T, List<String>>> indexers,
+      Ticker ticker) {
+    this.resources = resources;
+    this.informerFactory = informerFactory;
+    this.indexers = indexers;
+    this.ticker = ticker;
+  }
+
+  /**
+   * Returns the indexer of the informer, starting the informer if it is not started yet.
+   *
+   * @return indexer, or empty optional if the informer is not in sync with the cluster
+   */
+  public Optional<Indexer<T>> getIndexer() {
+    if (failed) {
+      return Optional.empty();
+    }
+    SharedIndexInformer<T> current = informer;
+    if (current == null) {
+      start();
+      return Optional.empty();
+    }
+    return isInSync(current) ? Optional.of(current.getIndexer()) : Optional.empty();
+  }
+
+  /** Returns the number of indexed resources, or 0 if the informer has not synced. */
+  public long getSize() {
+    SharedIndexInformer<T> current = informer;
+    return current != null && current.hasSynced() ? current.getIndexer().list().size() : 0;
+  }
+
+  /** Returns whether the index is kept current by a watch. */
+  public boolean isWatching() {
+    SharedIndexInformer<T> current = informer;
+    return current != null && isInSync(current);
+  }
+
+  /**
+   * Returns whether the informer could not be started, so the resources are read from the cluster
+   * on each lookup.
+   */
+  public boolean isFailed() {
+    return failed;
+  }
+
+  /**
+   * Returns the number of seconds since the index was last seen in sync with the cluster through a
+   * watch, counted from the start of the informer if it has never synced. It is 0 while the index
+   * is watching and before the informer is started. Unlike the time since the last change of the
+   * resources, it does not grow on a quiet cluster.
+   */
+  public long getSecondsSinceSync() {
+    SharedIndexInformer<T> current = informer;
+    if (current == null && !failed) {
+      return 0;
+    }
+    if (current != null && isInSync(current)) {
+      return 0;
+    }
+    return TimeUnit.NANOSECONDS.toSeconds(ticker.read() - lastInSyncNanos);
+  }
+
+  /**
+   * Starts the informer if it is not started yet.
+   *
+   * @return stage completed when the informer has synced its store for the first time
+   */
+  public synchronized CompletionStage<Void> start() {
+    if (informer != null) {
+      return CompletableFuture.completedFuture(null);
+    }
+    lastInSyncNanos = ticker.read();
+    try {
+      SharedIndexInformer<T> newInformer = informerFactory.create();
+      newInformer.addIndexers(indexers);
+      newInformer.exceptionHandler(
+          (isStarted, t) -> {
+            if (t instanceof KubernetesClientException
+                && ((KubernetesClientException) t).getCode() == 403) {
+              LOG.warn(
+                  "Che ServiceAccount is not permitted to watch {}."
+                      + " Falling back to reading them on each request. Cause: '{}'",
+                  resources,
+                  t.getMessage());
+              failed = true;
+              return false;
+            }
+            return true;
+          });
+      informer = newInformer;
+      return newInformer
+          .start()
+          .whenComplete(
+              (v, e) -> {
+                if (e != null) {
+                  LOG.warn(
+                      "Failed to start the informer of {}. Cause: '{}'",
+                      resources,
+                      e.getMessage(),
+                      e);
+                  failed = true;
+                }
+              });
+    } catch (InfrastructureException | KubernetesClientException e) {
+      LOG.warn("Failed to create the informer of {}. Cause: '{}'", resources, e.getMessage(), e);
+      failed = true;
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  /** Stops the informer if it is started. */
+  public synchronized void stop() {
+    if (informer != null) {
+      informer.close();
+      informer = null;
+    }
+  }
+
+  private boolean isInSync(SharedIndexInformer<T> current) {
+    if (current.hasSynced() && current.isWatching()) {
+      lastInSyncNanos = ticker.read();
+      return true;
+    }
+    return false;
+  }
+}
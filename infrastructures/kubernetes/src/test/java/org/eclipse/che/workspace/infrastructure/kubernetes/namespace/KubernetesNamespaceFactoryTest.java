@@ -25,6 +25,7 @@ import static org.eclipse.che.workspace.infrastructure.kubernetes.namespace.Kube
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
@@ -97,6 +98,8 @@ import org.eclipse.che.workspace.infrastructure.kubernetes.api.shared.Kubernetes
 import org.eclipse.che.workspace.infrastructure.kubernetes.authorization.AuthorizationChecker;
 import org.eclipse.che.workspace.infrastructure.kubernetes.authorization.PermissionsCleaner;
 import org.eclipse.che.workspace.infrastructure.kubernetes.namespace.configurator.NamespaceConfigurator;
+import org.eclipse.che.workspace.infrastructure.kubernetes.namespace.configurator.NamespaceConfiguratorPipeline;
+import org.eclipse.che.workspace.infrastructure.kubernetes.namespace.configurator.NamespaceSnapshot;
 import org.eclipse.che.workspace.infrastructure.kubernetes.namespace.configurator.PreferencesConfigMapConfigurator;
 import org.eclipse.che.workspace.infrastructure.kubernetes.namespace.configurator.WorkspaceServiceAccountConfigurator;
 import org.eclipse.che.workspace.infrastructure.kubernetes.provision.NamespaceProvisioner;
@@ -137,6 +140,7 @@ public class KubernetesNamespaceFactoryTest {
   @Mock Appender mockedAppender;
   @Mock AuthorizationChecker authorizationChecker;
   @Mock PermissionsCleaner permissionsCleaner;
+  @Mock KubernetesNamespaceIndex namespaceIndex;
 
   @Mock private NonNamespaceOperation namespaceOperation;
 
@@ -196,12 +200,13 @@ public class KubernetesNamespaceFactoryTest {
             true,
             NAMESPACE_LABELS,
             NAMESPACE_ANNOTATIONS,
-            emptySet(),
+            new NamespaceConfiguratorPipeline(emptySet()),
             cheServerKubernetesClientFactory,
             preferenceManager,
             pool,
             authorizationChecker,
-            permissionsCleaner);
+            permissionsCleaner,
+            namespaceIndex);
 
     namespaceFactory.checkIfNamespaceIsAllowed("jondoe-che");
   }
@@ -223,12 +228,13 @@ public class KubernetesNamespaceFactoryTest {
             true,
             NAMESPACE_LABELS,
             NAMESPACE_ANNOTATIONS,
-            emptySet(),
+            new NamespaceConfiguratorPipeline(emptySet()),
             cheServerKubernetesClientFactory,
             preferenceManager,
             pool,
             authorizationChecker,
-            permissionsCleaner);
+            permissionsCleaner,
+            namespaceIndex);
 
     namespaceFactory.checkIfNamespaceIsAllowed("any-namespace");
   }
@@ -243,12 +249,13 @@ public class KubernetesNamespaceFactoryTest {
             true,
             NAMESPACE_LABELS,
             NAMESPACE_ANNOTATIONS,
-            emptySet(),
+            new NamespaceConfiguratorPipeline(emptySet()),
             cheServerKubernetesClientFactory,
             preferenceManager,
             pool,
             authorizationChecker,
-            permissionsCleaner);
+            permissionsCleaner,
+            namespaceIndex);
 
     assertEquals("che-kube-admin", namespaceFactory.normalizeNamespaceName("kube:admin"));
   }
@@ -268,12 +275,13 @@ public class KubernetesNamespaceFactoryTest {
             true,
             NAMESPACE_LABELS,
             NAMESPACE_ANNOTATIONS,
-            emptySet(),
+            new NamespaceConfiguratorPipeline(emptySet()),
             cheServerKubernetesClientFactory,
             preferenceManager,
             pool,
             authorizationChecker,
-            permissionsCleaner);
+            permissionsCleaner,
+            namespaceIndex);
 
     namespaceFactory.checkIfNamespaceIsAllowed("any-namespace");
   }
@@ -290,12 +298,13 @@ public class KubernetesNamespaceFactoryTest {
             true,
             NAMESPACE_LABELS,
             NAMESPACE_ANNOTATIONS,
-            emptySet(),
+            new NamespaceConfiguratorPipeline(emptySet()),
             cheServerKubernetesClientFactory,
             preferenceManager,
             pool,
             authorizationChecker,
-            permissionsCleaner);
+            permissionsCleaner,
+            namespaceIndex);
   }
 
   @Test
@@ -340,12 +349,13 @@ public class KubernetesNamespaceFactoryTest {
             true,
             NAMESPACE_LABELS,
             NAMESPACE_ANNOTATIONS,
-            emptySet(),
+            new NamespaceConfiguratorPipeline(emptySet()),
             cheServerKubernetesClientFactory,
             preferenceManager,
             pool,
             authorizationChecker,
-            permissionsCleaner);
+            permissionsCleaner,
+            namespaceIndex);
     EnvironmentContext.getCurrent()
         .setSubject(new SubjectImpl("jondoe", Collections.emptyList(), "123", null, false));
 
@@ -359,6 +369,40 @@ public class KubernetesNamespaceFactoryTest {
     assertEquals(availableNamespaces.get(1).getName(), "ns2");
   }
 
+  @Test
+  public void shouldReturnPreparedNamespacesFromIndexWhenSynced() throws InfrastructureException {
+    // given
+    when(namespaceIndex.find(Map.of(NAMESPACE_ANNOTATION_NAME, "jondoe")))
+        .thenReturn(Optional.of(singletonList(createNamespace("ns1", "Active"))));
+
+    namespaceFactory =
+        new KubernetesNamespaceFactory(
+            "<username>-che",
+            true,
+            true,
+            true,
+            NAMESPACE_LABELS,
+            NAMESPACE_ANNOTATIONS,
+            new NamespaceConfiguratorPipeline(emptySet()),
+            cheServerKubernetesClientFactory,
+            preferenceManager,
+            pool,
+            authorizationChecker,
+            permissionsCleaner,
+            namespaceIndex);
+    EnvironmentContext.getCurrent()
+        .setSubject(new SubjectImpl("jondoe", Collections.emptyList(), "123", null, false));
+
+    // when
+    List<KubernetesNamespaceMeta> availableNamespaces = namespaceFactory.list();
+
+    // then
+    assertEquals(availableNamespaces.size(), 1);
+    assertEquals(availableNamespaces.get(0).getName(), "ns1");
+    assertEquals(availableNamespaces.get(0).getAttributes().get(PHASE_ATTRIBUTE), "Active");
+    verify(namespaceOperation, never()).withLabels(anyMap());
+  }
+
   @Test
   public void shouldNotThrowAnExceptionWhenNotAllowedToListNamespaces() throws Exception {
     // given
@@ -384,12 +428,13 @@ public class KubernetesNamespaceFactoryTest {
             true,
             NAMESPACE_LABELS,
             NAMESPACE_ANNOTATIONS,
-            emptySet(),
+            new NamespaceConfiguratorPipeline(emptySet()),
             cheServerKubernetesClientFactory,
             preferenceManager,
             pool,
             authorizationChecker,
-            permissionsCleaner);
+            permissionsCleaner,
+            namespaceIndex);
     EnvironmentContext.getCurrent()
         .setSubject(new SubjectImpl("jondoe", Collections.emptyList(), "123", null, false));
 
@@ -415,12 +460,13 @@ public class KubernetesNamespaceFactoryTest {
             true,
             NAMESPACE_LABELS,
             NAMESPACE_ANNOTATIONS,
-            emptySet(),
+            new NamespaceConfiguratorPipeline(emptySet()),
             cheServerKubernetesClientFactory,
             preferenceManager,
             pool,
             authorizationChecker,
-            permissionsCleaner);
+            permissionsCleaner,
+            namespaceIndex);
 
     // when
     namespaceFactory.list();
@@ -448,12 +494,13 @@ public class KubernetesNamespaceFactoryTest {
             true,
             NAMESPACE_LABELS,
             NAMESPACE_ANNOTATIONS,
-            emptySet(),
+            new NamespaceConfiguratorPipeline(emptySet()),
             cheServerKubernetesClientFactory,
             preferenceManager,
             pool,
             authorizationChecker,
-            permissionsCleaner);
+            permissionsCleaner,
+            namespaceIndex);
 
     List<KubernetesNamespaceMeta> availableNamespaces = namespaceFactory.list();
     assertEquals(availableNamespaces.size(), 1);
@@ -476,12 +523,13 @@ public class KubernetesNamespaceFactoryTest {
             true,
             NAMESPACE_LABELS,
             NAMESPACE_ANNOTATIONS,
-            emptySet(),
+            new NamespaceConfiguratorPipeline(emptySet()),
             cheServerKubernetesClientFactory,
             preferenceManager,
             pool,
             authorizationChecker,
-            permissionsCleaner);
+            permissionsCleaner,
+            namespaceIndex);
 
     List<KubernetesNamespaceMeta> availableNamespaces = namespaceFactory.list();
     assertEquals(availableNamespaces.size(), 1);
@@ -506,12 +554,14 @@ public class KubernetesNamespaceFactoryTest {
                 true,
                 NAMESPACE_LABELS,
                 NAMESPACE_ANNOTATIONS,
-                Set.of(new PreferencesConfigMapConfigurator(cheServerKubernetesClientFactory)),
+                new NamespaceConfiguratorPipeline(
+                    Set.of(new PreferencesConfigMapConfigurator(cheServerKubernetesClientFactory))),
                 cheServerKubernetesClientFactory,
                 preferenceManager,
                 pool,
                 authorizationChecker,
-                permissionsCleaner));
+                permissionsCleaner,
+                namespaceIndex));
     KubernetesNamespace toReturnNamespace = mock(KubernetesNamespace.class);
     when(toReturnNamespace.getName()).thenReturn("namespaceName");
     doReturn(toReturnNamespace).when(namespaceFactory).doCreateNamespaceAccess(any(), any());
@@ -549,12 +599,13 @@ public class KubernetesNamespaceFactoryTest {
                 true,
                 NAMESPACE_LABELS,
                 NAMESPACE_ANNOTATIONS,
-                namespaceConfigurators,
+                new NamespaceConfiguratorPipeline(namespaceConfigurators),
                 cheServerKubernetesClientFactory,
                 preferenceManager,
                 pool,
                 authorizationChecker,
-                permissionsCleaner));
+                permissionsCleaner,
+                namespaceIndex));
     EnvironmentContext.getCurrent()
         .setSubject(new SubjectImpl("jondoe", Collections.emptyList(), "123", null, false));
 
@@ -570,8 +621,16 @@ public class KubernetesNamespaceFactoryTest {
     // then
     NamespaceResolutionContext resolutionCtx =
         new NamespaceResolutionContext("workspace123", "123", "jondoe");
-    verify(configurator1).configure(resolutionCtx, namespaceName);
-    verify(configurator2).configure(resolutionCtx, namespaceName);
+    verify(configurator1)
+        .configure(
+            eq(resolutionCtx),
+            argThat(
+                (NamespaceSnapshot snapshot) -> namespaceName.equals(snapshot.getNamespaceName())));
+    verify(configurator2)
+        .configure(
+            eq(resolutionCtx),
+            argThat(
+                (NamespaceSnapshot snapshot) -> namespaceName.equals(snapshot.getNamespaceName())));
     assertEquals(namespace, toReturnNamespace);
   }
 
@@ -587,12 +646,13 @@ public class KubernetesNamespaceFactoryTest {
                 true,
                 NAMESPACE_LABELS,
                 NAMESPACE_ANNOTATIONS,
-                emptySet(),
+                new NamespaceConfiguratorPipeline(emptySet()),
                 cheServerKubernetesClientFactory,
                 preferenceManager,
                 pool,
                 authorizationChecker,
-                permissionsCleaner));
+                permissionsCleaner,
+                namespaceIndex));
     KubernetesNamespace toReturnNamespace = mock(KubernetesNamespace.class);
     prepareNamespace(toReturnNamespace);
     doReturn(toReturnNamespace).when(namespaceFactory).doCreateNamespaceAccess(any(), any());
@@ -621,12 +681,13 @@ public class KubernetesNamespaceFactoryTest {
                 true,
                 NAMESPACE_LABELS,
                 NAMESPACE_ANNOTATIONS,
-                emptySet(),
+                new NamespaceConfiguratorPipeline(emptySet()),
                 cheServerKubernetesClientFactory,
                 preferenceManager,
                 pool,
                 authorizationChecker,
-                permissionsCleaner));
+                permissionsCleaner,
+                namespaceIndex));
     KubernetesNamespace toReturnNamespace = mock(KubernetesNamespace.class);
     prepareNamespace(toReturnNamespace);
     doReturn(toReturnNamespace).when(namespaceFactory).doCreateNamespaceAccess(any(), any());
@@ -656,12 +717,13 @@ public class KubernetesNamespaceFactoryTest {
             true,
             NAMESPACE_LABELS,
             NAMESPACE_ANNOTATIONS,
-            emptySet(),
+            new NamespaceConfiguratorPipeline(emptySet()),
             cheServerKubernetesClientFactory,
             preferenceManager,
             pool,
             authorizationChecker,
-            permissionsCleaner);
+            permissionsCleaner,
+            namespaceIndex);
     throwOnTryToGetNamespaceByName(
         "jondoe-che", new KubernetesClientException("connection refused"));
 
@@ -681,12 +743,13 @@ public class KubernetesNamespaceFactoryTest {
             true,
             NAMESPACE_LABELS,
             NAMESPACE_ANNOTATIONS,
-            emptySet(),
+            new NamespaceConfiguratorPipeline(emptySet()),
             cheServerKubernetesClientFactory,
             preferenceManager,
             pool,
             authorizationChecker,
-            permissionsCleaner);
+            permissionsCleaner,
+            namespaceIndex);
     throwOnTryToGetNamespacesList(new KubernetesClientException("connection refused"));
 
     namespaceFactory.list();
@@ -711,12 +774,13 @@ public class KubernetesNamespaceFactoryTest {
                 true,
                 NAMESPACE_LABELS,
                 NAMESPACE_ANNOTATIONS,
-                emptySet(),
+                new NamespaceConfiguratorPipeline(emptySet()),
                 cheServerKubernetesClientFactory,
                 preferenceManager,
                 pool,
                 authorizationChecker,
-                permissionsCleaner));
+                permissionsCleaner,
+                namespaceIndex));
     KubernetesNamespace toReturnNamespace = mock(KubernetesNamespace.class);
     prepareNamespace(toReturnNamespace);
     doReturn(toReturnNamespace).when(namespaceFactory).doCreateNamespaceAccess(any(), any());
@@ -742,12 +806,13 @@ public class KubernetesNamespaceFactoryTest {
                 true,
                 NAMESPACE_LABELS,
                 NAMESPACE_ANNOTATIONS,
-                emptySet(),
+                new NamespaceConfiguratorPipeline(emptySet()),
                 cheServerKubernetesClientFactory,
                 preferenceManager,
                 pool,
                 authorizationChecker,
-                permissionsCleaner));
+                permissionsCleaner,
+                namespaceIndex));
     KubernetesNamespace toReturnNamespace = mock(KubernetesNamespace.class);
     prepareNamespace(toReturnNamespace);
     doReturn(toReturnNamespace).when(namespaceFactory).doCreateNamespaceAccess(any(), any());
@@ -779,12 +844,13 @@ public class KubernetesNamespaceFactoryTest {
                 true,
                 NAMESPACE_LABELS,
                 NAMESPACE_ANNOTATIONS,
-                Set.of(serviceAccountCfg),
+                new NamespaceConfiguratorPipeline(Set.of(serviceAccountCfg)),
                 cheServerKubernetesClientFactory,
                 preferenceManager,
                 pool,
                 authorizationChecker,
-                permissionsCleaner));
+                permissionsCleaner,
+                namespaceIndex));
     KubernetesNamespace toReturnNamespace = mock(KubernetesNamespace.class);
     prepareNamespace(toReturnNamespace);
     when(toReturnNamespace.getName()).thenReturn("workspace123");
@@ -819,12 +885,13 @@ public class KubernetesNamespaceFactoryTest {
                 true,
                 NAMESPACE_LABELS,
                 NAMESPACE_ANNOTATIONS,
-                Set.of(serviceAccountConfigurator),
+                new NamespaceConfiguratorPipeline(Set.of(serviceAccountConfigurator)),
                 cheServerKubernetesClientFactory,
                 preferenceManager,
                 pool,
                 authorizationChecker,
-                permissionsCleaner));
+                permissionsCleaner,
+                namespaceIndex));
     KubernetesNamespace toReturnNamespace = mock(KubernetesNamespace.class);
     prepareNamespace(toReturnNamespace);
     when(toReturnNamespace.getName()).thenReturn("workspace123");
@@ -896,12 +963,13 @@ public class KubernetesNamespaceFactoryTest {
                 true,
                 NAMESPACE_LABELS,
                 NAMESPACE_ANNOTATIONS,
-                Set.of(serviceAccountConfigurator),
+                new NamespaceConfiguratorPipeline(Set.of(serviceAccountConfigurator)),
                 cheServerKubernetesClientFactory,
                 preferenceManager,
                 pool,
                 authorizationChecker,
-                permissionsCleaner));
+                permissionsCleaner,
+                namespaceIndex));
     KubernetesNamespace toReturnNamespace = mock(KubernetesNamespace.class);
     prepareNamespace(toReturnNamespace);
     when(toReturnNamespace.getName()).thenReturn("workspace123");
@@ -941,14 +1009,16 @@ public class KubernetesNamespaceFactoryTest {
                 true,
                 NAMESPACE_LABELS,
                 NAMESPACE_ANNOTATIONS,
-                Set.of(
-                    new WorkspaceServiceAccountConfigurator(
-                        "serviceAccount", "", cheServerKubernetesClientFactory)),
+                new NamespaceConfiguratorPipeline(
+                    Set.of(
+                        new WorkspaceServiceAccountConfigurator(
+                            "serviceAccount", "", cheServerKubernetesClientFactory))),
                 cheServerKubernetesClientFactory,
                 preferenceManager,
                 pool,
                 authorizationChecker,
-                permissionsCleaner));
+                permissionsCleaner,
+                namespaceIndex));
     KubernetesNamespace toReturnNamespace = mock(KubernetesNamespace.class);
     prepareNamespace(toReturnNamespace);
     when(toReturnNamespace.getName()).thenReturn("workspace123");
@@ -1009,12 +1079,13 @@ public class KubernetesNamespaceFactoryTest {
             true,
             NAMESPACE_LABELS,
             NAMESPACE_ANNOTATIONS,
-            emptySet(),
+            new NamespaceConfiguratorPipeline(emptySet()),
             cheServerKubernetesClientFactory,
             preferenceManager,
             pool,
             authorizationChecker,
-            permissionsCleaner);
+            permissionsCleaner,
+            namespaceIndex);
 
     WorkspaceImpl workspace =
         new WorkspaceImplBuilder().setId("workspace123").setAttributes(emptyMap()).build();
@@ -1035,12 +1106,13 @@ public class KubernetesNamespaceFactoryTest {
             true,
             NAMESPACE_LABELS,
             NAMESPACE_ANNOTATIONS,
-            emptySet(),
+            new NamespaceConfiguratorPipeline(emptySet()),
             cheServerKubernetesClientFactory,
             preferenceManager,
             pool,
             authorizationChecker,
-            permissionsCleaner);
+            permissionsCleaner,
+            namespaceIndex);
 
     Map<String, String> prefs = new HashMap<>();
     prefs.put(WORKSPACE_INFRASTRUCTURE_NAMESPACE_ATTRIBUTE, "che-123");
@@ -1065,12 +1137,13 @@ public class KubernetesNamespaceFactoryTest {
             true,
             NAMESPACE_LABELS,
             NAMESPACE_ANNOTATIONS,
-            emptySet(),
+            new NamespaceConfiguratorPipeline(emptySet()),
             cheServerKubernetesClientFactory,
             preferenceManager,
             pool,
             authorizationChecker,
-            permissionsCleaner);
+            permissionsCleaner,
+            namespaceIndex);
 
     Map<String, String> prefs = new HashMap<>();
     // returned but ignored
@@ -1096,12 +1169,13 @@ public class KubernetesNamespaceFactoryTest {
             true,
             NAMESPACE_LABELS,
             NAMESPACE_ANNOTATIONS,
-            emptySet(),
+            new NamespaceConfiguratorPipeline(emptySet()),
             cheServerKubernetesClientFactory,
             preferenceManager,
             pool,
             authorizationChecker,
-            permissionsCleaner);
+            permissionsCleaner,
+            namespaceIndex);
 
     Map<String, String> prefs = new HashMap<>();
     // returned but ignored
@@ -1127,12 +1201,13 @@ public class KubernetesNamespaceFactoryTest {
                 true,
                 NAMESPACE_LABELS,
                 NAMESPACE_ANNOTATIONS,
-                emptySet(),
+                new NamespaceConfiguratorPipeline(emptySet()),
                 cheServerKubernetesClientFactory,
                 preferenceManager,
                 pool,
                 authorizationChecker,
-                permissionsCleaner));
+                permissionsCleaner,
+                namespaceIndex));
     doReturn(empty()).when(namespaceFactory).fetchNamespace(anyString());
 
     String namespace =
@@ -1154,12 +1229,13 @@ public class KubernetesNamespaceFactoryTest {
             true,
             NAMESPACE_LABELS,
             NAMESPACE_ANNOTATIONS,
-            emptySet(),
+            new NamespaceConfiguratorPipeline(emptySet()),
             cheServerKubernetesClientFactory,
             preferenceManager,
             pool,
             authorizationChecker,
-            permissionsCleaner);
+            permissionsCleaner,
+            namespaceIndex);
 
     WorkspaceImpl workspace =
         new WorkspaceImplBuilder()
@@ -1183,12 +1259,13 @@ public class KubernetesNamespaceFactoryTest {
             true,
             NAMESPACE_LABELS,
             NAMESPACE_ANNOTATIONS,
-            emptySet(),
+            new NamespaceConfiguratorPipeline(emptySet()),
             cheServerKubernetesClientFactory,
             preferenceManager,
             pool,
             authorizationChecker,
-            permissionsCleaner);
+            permissionsCleaner,
+            namespaceIndex);
 
     WorkspaceImpl workspace =
         new WorkspaceImplBuilder()
@@ -1233,12 +1310,13 @@ public class KubernetesNamespaceFactoryTest {
             true,
             NAMESPACE_LABELS,
             NAMESPACE_ANNOTATIONS,
-            emptySet(),
+            new NamespaceConfiguratorPipeline(emptySet()),
             cheServerKubernetesClientFactory,
             preferenceManager,
             pool,
             authorizationChecker,
-            permissionsCleaner);
+            permissionsCleaner,
+            namespaceIndex);
 
     String namespace =
         namespaceFactory.evaluateNamespaceName(
@@ -1259,12 +1337,13 @@ public class KubernetesNamespaceFactoryTest {
                 true,
                 NAMESPACE_LABELS,
                 NAMESPACE_ANNOTATIONS,
-                emptySet(),
+                new NamespaceConfiguratorPipeline(emptySet()),
                 cheServerKubernetesClientFactory,
                 preferenceManager,
                 pool,
                 authorizationChecker,
-                permissionsCleaner));
+                permissionsCleaner,
+                namespaceIndex));
     KubernetesNamespace toReturnNamespace = mock(KubernetesNamespace.class);
     prepareNamespace(toReturnNamespace);
     when(toReturnNamespace.getName()).thenReturn("jondoe-che");
@@ -1298,12 +1377,13 @@ public class KubernetesNamespaceFactoryTest {
                 true,
                 NAMESPACE_LABELS,
                 NAMESPACE_ANNOTATIONS,
-                emptySet(),
+                new NamespaceConfiguratorPipeline(emptySet()),
                 cheServerKubernetesClientFactory,
                 preferenceManager,
                 pool,
                 authorizationChecker,
-                permissionsCleaner));
+                permissionsCleaner,
+                namespaceIndex));
     KubernetesNamespace toReturnNamespace = mock(KubernetesNamespace.class);
     prepareNamespace(toReturnNamespace);
     when(toReturnNamespace.getName()).thenReturn("jondoe-cha-cha-cha");
@@ -1336,12 +1416,13 @@ public class KubernetesNamespaceFactoryTest {
                 true,
                 NAMESPACE_LABELS,
                 NAMESPACE_ANNOTATIONS,
-                emptySet(),
+                new NamespaceConfiguratorPipeline(emptySet()),
                 cheServerKubernetesClientFactory,
                 preferenceManager,
                 pool,
                 authorizationChecker,
-                permissionsCleaner));
+                permissionsCleaner,
+                namespaceIndex));
     KubernetesNamespace toReturnNamespace = mock(KubernetesNamespace.class);
     prepareNamespace(toReturnNamespace);
     when(toReturnNamespace.getName()).thenReturn("jondoe-cha-cha-cha");
@@ -1386,12 +1467,13 @@ public class KubernetesNamespaceFactoryTest {
             true,
             "try_placeholder_here=<username>",
             NAMESPACE_ANNOTATIONS,
-            emptySet(),
+            new NamespaceConfiguratorPipeline(emptySet()),
             cheServerKubernetesClientFactory,
             preferenceManager,
             pool,
             authorizationChecker,
-            permissionsCleaner);
+            permissionsCleaner,
+            namespaceIndex);
     EnvironmentContext.getCurrent()
         .setSubject(new SubjectImpl("jondoe", Collections.emptyList(), "123", null, false));
     namespaceFactory.list();
@@ -1412,12 +1494,13 @@ public class KubernetesNamespaceFactoryTest {
                 true,
                 NAMESPACE_LABELS,
                 "try_placeholder_here=<username>",
-                emptySet(),
+                new NamespaceConfiguratorPipeline(emptySet()),
                 cheServerKubernetesClientFactory,
                 preferenceManager,
                 pool,
                 authorizationChecker,
-                permissionsCleaner));
+                permissionsCleaner,
+                namespaceIndex));
     EnvironmentContext.getCurrent()
         .setSubject(new SubjectImpl("jondoe", Collections.emptyList(), "123", null, false));
     KubernetesNamespace toReturnNamespace = mock(KubernetesNamespace.class);
@@ -1444,12 +1527,13 @@ public class KubernetesNamespaceFactoryTest {
             true,
             NAMESPACE_LABELS,
             NAMESPACE_ANNOTATIONS,
-            emptySet(),
+            new NamespaceConfiguratorPipeline(emptySet()),
             cheServerKubernetesClientFactory,
             preferenceManager,
             pool,
             authorizationChecker,
-            permissionsCleaner);
+            permissionsCleaner,
+            namespaceIndex);
     assertEquals(expected, namespaceFactory.normalizeNamespaceName(raw));
   }
 
@@ -1463,12 +1547,13 @@ public class KubernetesNamespaceFactoryTest {
             true,
             NAMESPACE_LABELS,
             NAMESPACE_ANNOTATIONS,
-            emptySet(),
+            new NamespaceConfiguratorPipeline(emptySet()),
             cheServerKubernetesClientFactory,
             preferenceManager,
             pool,
             authorizationChecker,
-            permissionsCleaner);
+            permissionsCleaner,
+            namespaceIndex);
 
     assertEquals(
         63,
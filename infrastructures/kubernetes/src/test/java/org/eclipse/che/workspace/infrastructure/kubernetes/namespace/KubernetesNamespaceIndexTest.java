@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2012-2026 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.workspace.infrastructure.kubernetes.namespace;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.mockito.Mockito.lenient;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import io.fabric8.kubernetes.api.model.Namespace;
+import io.fabric8.kubernetes.api.model.NamespaceBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.KubernetesCrudDispatcher;
+import io.fabric8.kubernetes.client.server.mock.KubernetesMockServer;
+import io.fabric8.mockwebserver.Context;
+import io.fabric8.mockwebserver.MockWebServer;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import org.eclipse.che.workspace.infrastructure.kubernetes.CheServerKubernetesClientFactory;
+import org.mockito.Mock;
+import org.mockito.testng.MockitoTestNGListener;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+/** Tests {@link KubernetesNamespaceIndex}. */
+@Listeners(MockitoTestNGListener.class)
+public class KubernetesNamespaceIndexTest {
+
+  private static final String NAMESPACE_LABELS = "component=workspace";
+  private static final String NAMESPACE_ANNOTATIONS = "owner=<username>";
+
+  @Mock private CheServerKubernetesClientFactory cheServerKubernetesClientFactory;
+
+  private KubernetesMockServer kubernetesMockServer;
+  private KubernetesClient k8sClient;
+  private KubernetesNamespaceIndex namespaceIndex;
+
+  @BeforeMethod
+  public void setUp() throws Exception {
+    kubernetesMockServer =
+        new KubernetesMockServer(
+            new Context(),
+            new MockWebServer(),
+            new HashMap<>(),
+            new KubernetesCrudDispatcher(),
+            false);
+    kubernetesMockServer.init();
+    k8sClient = kubernetesMockServer.createClient();
+    lenient().when(cheServerKubernetesClientFactory.create()).thenReturn(k8sClient);
+
+    k8sClient.namespaces().resource(namespace("ns1", "workspace", "jondoe")).create();
+    k8sClient.namespaces().resource(namespace("ns2", "workspace", "jondoe")).create();
+    k8sClient.namespaces().resource(namespace("ns3", "workspace", "janedoe")).create();
+    k8sClient.namespaces().resource(namespace("ns4", "other", "jondoe")).create();
+    k8sClient.namespaces().resource(namespace("ns5", "workspace", null)).create();
+  }
+
+  @AfterMethod
+  public void tearDown() {
+    if (namespaceIndex != null) {
+      namespaceIndex.stop();
+    }
+    kubernetesMockServer.destroy();
+  }
+
+  @Test
+  public void shouldFindNamespacesByAnnotationsWhenSynced() throws Exception {
+    // given
+    namespaceIndex =
+        new KubernetesNamespaceIndex(
+            true, NAMESPACE_LABELS, NAMESPACE_ANNOTATIONS, cheServerKubernetesClientFactory);
+    namespaceIndex.start().toCompletableFuture().get(10, SECONDS);
+
+    // when
+    Optional<List<Namespace>> found = namespaceIndex.find(Map.of("owner", "jondoe"));
+
+    // then
+    assertTrue(found.isPresent());
+    assertEquals(names(found.get()), List.of("ns1", "ns2"));
+  }
+
+  @Test
+  public void shouldReturnAllLabeledNamespacesWhenNoAnnotationsConfigured() throws Exception {
+    // given
+    namespaceIndex =
+        new KubernetesNamespaceIndex(true, NAMESPACE_LABELS, "", cheServerKubernetesClientFactory);
+    namespaceIndex.start().toCompletableFuture().get(10, SECONDS);
+
+    // when
+    Optional<List<Namespace>> found = namespaceIndex.find(Map.of());
+
+    // then
+    assertTrue(found.isPresent());
+    assertEquals(names(found.get()), List.of("ns1", "ns2", "ns3", "ns5"));
+  }
+
+  @Test
+  public void shouldNotAnswerBeforeInformerIsStarted() {
+    // given
+    namespaceIndex =
+        new KubernetesNamespaceIndex(
+            true, NAMESPACE_LABELS, NAMESPACE_ANNOTATIONS, cheServerKubernetesClientFactory);
+
+    // when
+    Optional<List<Namespace>> found = namespaceIndex.find(Map.of("owner", "jondoe"));
+
+    // then
+    assertFalse(found.isPresent());
+  }
+
+  @Test
+  public void shouldNotAnswerWhenDisabled() throws Exception {
+    // given
+    namespaceIndex =
+        new KubernetesNamespaceIndex(
+            false, NAMESPACE_LABELS, NAMESPACE_ANNOTATIONS, cheServerKubernetesClientFactory);
+
+    // when
+    Optional<List<Namespace>> found = namespaceIndex.find(Map.of("owner", "jondoe"));
+
+    // then
+    assertFalse(found.isPresent());
+  }
+
+  private static Namespace namespace(String name, String component, String owner) {
+    NamespaceBuilder builder =
+        new NamespaceBuilder()
+            .withNewMetadata()
+            .withName(name)
+            .withLabels(Map.of("component", component))
+            .endMetadata();
+    if (owner != null) {
+      builder.editMetadata().withAnnotations(Map.of("owner", owner)).endMetadata();
+    }
+    return builder.build();
+  }
+
+  private static List<String> names(List<Namespace> namespaces) {
+    return namespaces.stream().map(n -> n.getMetadata().getName()).collect(Collectors.toList());
+  }
+}
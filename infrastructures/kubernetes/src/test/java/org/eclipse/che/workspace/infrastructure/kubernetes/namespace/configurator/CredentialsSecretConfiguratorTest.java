@@ -116,6 +116,31 @@ public class CredentialsSecretConfiguratorTest {
     verify(personalAccessTokenManager).storeGitCredentials(eq("test-url"));
   }
 
+  @Test
+  public void shouldReadTokenSecretsFromSnapshot() throws Exception {
+    // given
+    kubernetesClient
+        .secrets()
+        .inNamespace(TEST_NAMESPACE_NAME)
+        .create(
+            new SecretBuilder()
+                .withNewMetadata()
+                .withName(PAT_SECRET_NAME)
+                .withLabels(SEARCH_LABELS)
+                .withAnnotations(Map.of("che.eclipse.org/scm-url", "test-url"))
+                .endMetadata()
+                .build());
+    NamespaceSnapshot snapshot = new NamespaceSnapshot(TEST_NAMESPACE_NAME);
+    snapshot.getSecrets(kubernetesClient, SEARCH_LABELS);
+    kubernetesClient.secrets().inNamespace(TEST_NAMESPACE_NAME).withName(PAT_SECRET_NAME).delete();
+
+    // when
+    configurator.configure(namespaceResolutionContext, snapshot);
+
+    // then
+    verify(personalAccessTokenManager).storeGitCredentials(eq("test-url"));
+  }
+
   @Test
   public void shouldRemovePersonalAccessToken() throws Exception {
     // given
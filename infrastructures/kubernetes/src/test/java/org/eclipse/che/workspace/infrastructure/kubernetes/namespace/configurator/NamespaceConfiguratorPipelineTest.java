@@ -0,0 +1,395 @@
+/*
+ * Copyright (c) 2012-2026 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.workspace.infrastructure.kubernetes.namespace.configurator;
+
+import static java.util.Collections.emptySet;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.che.api.workspace.server.spi.InfrastructureException;
+import org.eclipse.che.api.workspace.server.spi.NamespaceResolutionContext;
+import org.eclipse.che.commons.env.EnvironmentContext;
+import org.eclipse.che.commons.subject.Subject;
+import org.eclipse.che.commons.subject.SubjectImpl;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+public class NamespaceConfiguratorPipelineTest {
+
+  private static final String NAMESPACE = "namespace123";
+
+  private NamespaceResolutionContext context;
+  private List<String> runs;
+
+  @BeforeMethod
+  public void setUp() {
+    context = new NamespaceResolutionContext("workspace123", "user123", "jondoe");
+    runs = new CopyOnWriteArrayList<>();
+  }
+
+  @AfterMethod
+  public void tearDown() {
+    EnvironmentContext.reset();
+  }
+
+  @Test
+  public void shouldRunConfiguratorAfterItsDependencies() throws Exception {
+    // given
+    NamespaceConfiguratorPipeline pipeline =
+        new NamespaceConfiguratorPipeline(
+            orderedSet(
+                new Second(name -> runs.add(name), First.class),
+                new First(
+                    name -> {
+                      sleep(100);
+                      runs.add(name);
+                    })));
+
+    // when
+    pipeline.configure(context, NAMESPACE);
+
+    // then
+    assertEquals(runs, List.of("First", "Second"));
+  }
+
+  @Test
+  public void shouldRunIndependentConfiguratorsConcurrently() throws Exception {
+    // given
+    CyclicBarrier barrier = new CyclicBarrier(2);
+    ConfiguratorTask awaitOther =
+        name -> {
+          try {
+            barrier.await(10, TimeUnit.SECONDS);
+          } catch (Exception e) {
+            throw new InfrastructureException(e.getMessage(), e);
+          }
+          runs.add(name);
+        };
+    NamespaceConfiguratorPipeline pipeline =
+        new NamespaceConfiguratorPipeline(
+            orderedSet(new First(awaitOther), new Second(awaitOther)));
+
+    // when
+    pipeline.configure(context, NAMESPACE);
+
+    // then
+    assertEquals(new LinkedHashSet<>(runs), Set.of("First", "Second"));
+  }
+
+  @Test
+  public void shouldPropagateEnvironmentContextToConfigurators() throws Exception {
+    // given
+    Subject subject = new SubjectImpl("jondoe", List.of(), "user123", "token", false);
+    EnvironmentContext.getCurrent().setSubject(subject);
+    List<Subject> subjects = new CopyOnWriteArrayList<>();
+    ConfiguratorTask recordSubject =
+        name -> subjects.add(EnvironmentContext.getCurrent().getSubject());
+    NamespaceConfiguratorPipeline pipeline =
+        new NamespaceConfiguratorPipeline(
+            orderedSet(new First(recordSubject), new Second(recordSubject)));
+
+    // when
+    pipeline.configure(context, NAMESPACE);
+
+    // then
+    assertEquals(subjects, List.of(subject, subject));
+  }
+
+  @Test
+  public void shouldReportAllFailuresAndSkipDependentConfigurators() {
+    // given
+    InfrastructureException firstFailure = new InfrastructureException("first failed");
+    InfrastructureException thirdFailure = new InfrastructureException("third failed");
+    NamespaceConfiguratorPipeline pipeline =
+        new NamespaceConfiguratorPipeline(
+            orderedSet(
+                new First(
+                    name -> {
+                      throw firstFailure;
+                    }),
+                new Second(name -> runs.add(name), First.class),
+                new Third(
+                    name -> {
+                      throw thirdFailure;
+                    })));
+
+    // when
+    InfrastructureException thrown =
+        expectThrows(InfrastructureException.class, () -> pipeline.configure(context, NAMESPACE));
+
+    // then
+    assertSame(thrown, firstFailure);
+    assertEquals(Arrays.asList(thrown.getSuppressed()), List.of(thirdFailure));
+    assertTrue(runs.isEmpty());
+  }
+
+  @Test
+  public void shouldRethrowUncheckedExceptionOfSingleConfigurator() {
+    // given
+    IllegalStateException failure = new IllegalStateException("failed");
+    NamespaceConfiguratorPipeline pipeline =
+        new NamespaceConfiguratorPipeline(
+            Set.of(
+                new First(
+                    name -> {
+                      throw failure;
+                    })));
+
+    // when
+    IllegalStateException thrown =
+        expectThrows(IllegalStateException.class, () -> pipeline.configure(context, NAMESPACE));
+
+    // then
+    assertSame(thrown, failure);
+  }
+
+  @Test
+  public void shouldFailConfiguratorWhichDoesNotCompleteInTime() throws Exception {
+    // given
+    CountDownLatch release = new CountDownLatch(1);
+    NamespaceConfiguratorPipeline pipeline =
+        new NamespaceConfiguratorPipeline(
+            orderedSet(
+                new First(name -> await(release)),
+                new Second(name -> runs.add(name), First.class),
+                new Third(name -> runs.add(name))),
+            1);
+
+    try {
+      // when
+      InfrastructureException thrown =
+          expectThrows(InfrastructureException.class, () -> pipeline.configure(context, NAMESPACE));
+
+      // then
+      assertEquals(
+          thrown.getMessage(),
+          "Configuration of namespace 'namespace123' by First did not complete in 1 seconds");
+      assertEquals(runs, List.of("Third"));
+    } finally {
+      release.countDown();
+    }
+  }
+
+  @Test
+  public void shouldInterruptConfiguratorWhichDoesNotCompleteInTime() throws Exception {
+    // given
+    CountDownLatch interrupted = new CountDownLatch(1);
+    NamespaceConfiguratorPipeline pipeline =
+        new NamespaceConfiguratorPipeline(
+            orderedSet(
+                new First(
+                    name -> {
+                      try {
+                        new CountDownLatch(1).await(10, TimeUnit.SECONDS);
+                      } catch (InterruptedException e) {
+                        interrupted.countDown();
+                      }
+                    }),
+                new Second(name -> runs.add(name))),
+            1);
+
+    // when
+    expectThrows(InfrastructureException.class, () -> pipeline.configure(context, NAMESPACE));
+
+    // then
+    assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+  }
+
+  @Test
+  public void shouldRunConfiguratorsOnCallingThreadWhenExecutorRejectsThem() throws Exception {
+    // given
+    List<Thread> threads = new CopyOnWriteArrayList<>();
+    ConfiguratorTask recordThread =
+        name -> {
+          threads.add(Thread.currentThread());
+          runs.add(name);
+        };
+    NamespaceConfiguratorPipeline pipeline =
+        new NamespaceConfiguratorPipeline(
+            orderedSet(new First(recordThread), new Second(recordThread, First.class)));
+    pipeline.shutdown();
+
+    // when
+    pipeline.configure(context, NAMESPACE);
+
+    // then
+    assertEquals(runs, List.of("First", "Second"));
+    assertEquals(threads, List.of(Thread.currentThread(), Thread.currentThread()));
+  }
+
+  @Test
+  public void shouldNotLeaveCallingThreadInterruptedWhenConfiguratorRunningOnItTimesOut() {
+    // given
+    NamespaceConfiguratorPipeline pipeline =
+        new NamespaceConfiguratorPipeline(
+            orderedSet(
+                new First(
+                    name -> {
+                      try {
+                        new CountDownLatch(1).await(10, TimeUnit.SECONDS);
+                      } catch (InterruptedException e) {
+                        runs.add(name);
+                      }
+                    }),
+                new Second(name -> {})),
+            1);
+    pipeline.shutdown();
+
+    // when
+    expectThrows(InfrastructureException.class, () -> pipeline.configure(context, NAMESPACE));
+
+    // then
+    assertEquals(runs, List.of("First"));
+    assertFalse(Thread.currentThread().isInterrupted());
+  }
+
+  @Test(
+      expectedExceptions = IllegalArgumentException.class,
+      expectedExceptionsMessageRegExp = "Namespace configurator .* depends on itself")
+  public void shouldRejectCyclicDependencies() {
+    new NamespaceConfiguratorPipeline(
+        orderedSet(
+            new First(name -> {}, Second.class),
+            new Second(name -> {}, Third.class),
+            new Third(name -> {}, First.class)));
+  }
+
+  @Test
+  public void shouldIgnoreDependenciesWhichAreNotRegistered() throws Exception {
+    // given
+    NamespaceConfiguratorPipeline pipeline =
+        new NamespaceConfiguratorPipeline(
+            orderedSet(new First(name -> runs.add(name), Third.class), new Second(runs::add)));
+
+    // when
+    pipeline.configure(context, NAMESPACE);
+
+    // then
+    assertEquals(new LinkedHashSet<>(runs), Set.of("First", "Second"));
+  }
+
+  @Test
+  public void shouldRecordTimingsOfConfigurators() throws Exception {
+    // given
+    NamespaceConfiguratorPipeline pipeline =
+        new NamespaceConfiguratorPipeline(
+            orderedSet(
+                new First(name -> sleep(10)),
+                new Second(
+                    name -> {
+                      throw new InfrastructureException("failed");
+                    })));
+
+    // when
+    expectThrows(InfrastructureException.class, () -> pipeline.configure(context, NAMESPACE));
+    expectThrows(InfrastructureException.class, () -> pipeline.configure(context, NAMESPACE));
+
+    // then
+    assertEquals(pipeline.getTimings().keySet(), Set.of("First", "Second"));
+    assertEquals(pipeline.getTimings().get("First").getCount(), 2);
+    assertTrue(pipeline.getTimings().get("First").getTotalTime(TimeUnit.MILLISECONDS) >= 20);
+    assertEquals(pipeline.getTimings().get("Second").getCount(), 2);
+  }
+
+  @Test
+  public void shouldDoNothingWithoutConfigurators() throws Exception {
+    NamespaceConfiguratorPipeline pipeline = new NamespaceConfiguratorPipeline(emptySet());
+
+    pipeline.configure(context, NAMESPACE);
+
+    assertFalse(pipeline.getTimings().containsKey("First"));
+  }
+
+  private static Set<NamespaceConfigurator> orderedSet(NamespaceConfigurator... configurators) {
+    return new LinkedHashSet<>(Arrays.asList(configurators));
+  }
+
+  private static void sleep(long millis) throws InfrastructureException {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InfrastructureException(e.getMessage(), e);
+    }
+  }
+
+  private static void await(CountDownLatch latch) throws InfrastructureException {
+    try {
+      latch.await(10, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InfrastructureException(e.getMessage(), e);
+    }
+  }
+
+  private interface ConfiguratorTask {
+    void run(String configuratorName) throws InfrastructureException;
+  }
+
+  private abstract static class TestConfigurator implements NamespaceConfigurator {
+
+    private final ConfiguratorTask task;
+    private final Set<Class<? extends NamespaceConfigurator>> dependencies;
+
+    @SafeVarargs
+    TestConfigurator(
+        ConfiguratorTask task, Class<? extends NamespaceConfigurator>... dependencies) {
+      this.task = task;
+      this.dependencies = Set.of(dependencies);
+    }
+
+    @Override
+    public void configure(
+        NamespaceResolutionContext namespaceResolutionContext, String namespaceName)
+        throws InfrastructureException {
+      task.run(getClass().getSimpleName());
+    }
+
+    @Override
+    public Set<Class<? extends NamespaceConfigurator>> getDependencies() {
+      return dependencies;
+    }
+  }
+
+  private static class First extends TestConfigurator {
+    @SafeVarargs
+    First(ConfiguratorTask task, Class<? extends NamespaceConfigurator>... dependencies) {
+      super(task, dependencies);
+    }
+  }
+
+  private static class Second extends TestConfigurator {
+    @SafeVarargs
+    Second(ConfiguratorTask task, Class<? extends NamespaceConfigurator>... dependencies) {
+      super(task, dependencies);
+    }
+  }
+
+  private static class Third extends TestConfigurator {
+    @SafeVarargs
+    Third(ConfiguratorTask task, Class<? extends NamespaceConfigurator>... dependencies) {
+      super(task, dependencies);
+    }
+  }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2012-2026 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.workspace.infrastructure.kubernetes.namespace.configurator;
+
+import static org.testng.Assert.assertEquals;
+
+import io.fabric8.kubernetes.api.model.Secret;
+import io.fabric8.kubernetes.api.model.SecretBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.KubernetesMixedDispatcher;
+import io.fabric8.kubernetes.client.server.mock.KubernetesMockServer;
+import io.fabric8.mockwebserver.Context;
+import io.fabric8.mockwebserver.MockWebServer;
+import io.fabric8.mockwebserver.ServerRequest;
+import io.fabric8.mockwebserver.ServerResponse;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.stream.Collectors;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+public class NamespaceSnapshotTest {
+
+  private static final String NAMESPACE = "namespace123";
+  private static final Map<String, String> LABELS = Map.of("app.kubernetes.io/part-of", "che");
+
+  private KubernetesMockServer kubernetesMockServer;
+  private KubernetesClient client;
+  private NamespaceSnapshot snapshot;
+
+  @BeforeMethod
+  public void setUp() {
+    final Map<ServerRequest, Queue<ServerResponse>> responses = new HashMap<>();
+    kubernetesMockServer =
+        new KubernetesMockServer(
+            new Context(),
+            new MockWebServer(),
+            responses,
+            new KubernetesMixedDispatcher(responses),
+            true);
+    kubernetesMockServer.init();
+    client = kubernetesMockServer.createClient();
+    snapshot = new NamespaceSnapshot(NAMESPACE);
+  }
+
+  @AfterMethod
+  public void tearDown() {
+    kubernetesMockServer.destroy();
+  }
+
+  @Test
+  public void shouldReadSecretsOnce() {
+    // given
+    createSecret("secret1", LABELS);
+    createSecret("other", Map.of("app.kubernetes.io/part-of", "other"));
+    assertEquals(names(snapshot.getSecrets(client, LABELS)), List.of("secret1"));
+
+    // when
+    createSecret("secret2", LABELS);
+
+    // then
+    assertEquals(names(snapshot.getSecrets(client, LABELS)), List.of("secret1"));
+  }
+
+  @Test
+  public void shouldReadSecretsAgainWhenInvalidated() {
+    // given
+    createSecret("secret1", LABELS);
+    snapshot.getSecrets(client, LABELS);
+    createSecret("secret2", LABELS);
+
+    // when
+    snapshot.invalidateSecrets();
+
+    // then
+    assertEquals(names(snapshot.getSecrets(client, LABELS)), List.of("secret1", "secret2"));
+  }
+
+  private void createSecret(String name, Map<String, String> labels) {
+    client
+        .secrets()
+        .inNamespace(NAMESPACE)
+        .create(
+            new SecretBuilder()
+                .withNewMetadata()
+                .withName(name)
+                .withLabels(labels)
+                .endMetadata()
+                .build());
+  }
+
+  private static List<String> names(List<Secret> secrets) {
+    return secrets.stream()
+        .map(s -> s.getMetadata().getName())
+        .sorted()
+        .collect(Collectors.toList());
+  }
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2012-2026 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.workspace.infrastructure.kubernetes.namespace.configurator;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import io.fabric8.kubernetes.api.model.SecretBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.KubernetesMixedDispatcher;
+import io.fabric8.kubernetes.client.server.mock.KubernetesMockServer;
+import io.fabric8.mockwebserver.Context;
+import io.fabric8.mockwebserver.MockWebServer;
+import io.fabric8.mockwebserver.ServerRequest;
+import io.fabric8.mockwebserver.ServerResponse;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import org.eclipse.che.api.factory.server.scm.PersonalAccessToken;
+import org.eclipse.che.api.factory.server.scm.PersonalAccessTokenManager;
+import org.eclipse.che.api.workspace.server.spi.NamespaceResolutionContext;
+import org.eclipse.che.commons.env.EnvironmentContext;
+import org.eclipse.che.commons.subject.Subject;
+import org.eclipse.che.commons.subject.SubjectImpl;
+import org.eclipse.che.workspace.infrastructure.kubernetes.CheServerKubernetesClientFactory;
+import org.mockito.Mock;
+import org.mockito.testng.MockitoTestNGListener;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+@Listeners(MockitoTestNGListener.class)
+public class OAuthTokenSecretsConfiguratorTest {
+
+  private static final String TEST_NAMESPACE_NAME = "namespace123";
+  private static final Map<String, String> SEARCH_LABELS =
+      Map.of(
+          "app.kubernetes.io/part-of", "che.eclipse.org",
+          "app.kubernetes.io/component", "scm-personal-access-token");
+
+  @Mock private CheServerKubernetesClientFactory cheServerKubernetesClientFactory;
+  @Mock private PersonalAccessTokenManager personalAccessTokenManager;
+  private KubernetesMockServer kubernetesMockServer;
+  private KubernetesClient kubernetesClient;
+
+  private OAuthTokenSecretsConfigurator configurator;
+  private NamespaceResolutionContext namespaceResolutionContext;
+  private Subject subject;
+
+  @BeforeMethod
+  public void setUp() throws Exception {
+    configurator =
+        new OAuthTokenSecretsConfigurator(
+            cheServerKubernetesClientFactory, personalAccessTokenManager);
+    final Map<ServerRequest, Queue<ServerResponse>> responses = new HashMap<>();
+    kubernetesMockServer =
+        new KubernetesMockServer(
+            new Context(),
+            new MockWebServer(),
+            responses,
+            new KubernetesMixedDispatcher(responses),
+            true);
+    kubernetesMockServer.init();
+    kubernetesClient = kubernetesMockServer.createClient();
+    when(cheServerKubernetesClientFactory.create()).thenReturn(kubernetesClient);
+
+    namespaceResolutionContext =
+        new NamespaceResolutionContext("workspace123", "user123", "jondoe");
+    subject = new SubjectImpl("jondoe", Collections.emptyList(), "user123", "t1", false);
+    EnvironmentContext.getCurrent().setSubject(subject);
+  }
+
+  @AfterMethod
+  public void cleanUp() {
+    kubernetesMockServer.destroy();
+    EnvironmentContext.reset();
+  }
+
+  @Test
+  public void shouldValidateOAuthTokensOfAllServersAtOnce() throws Exception {
+    // given
+    createTokenSecret("token-1", "oauth2-github", "https://github.com");
+    createTokenSecret("token-2", "oauth2-gitlab", "https://gitlab.com");
+    createTokenSecret("token-3", "bitbucket", "https://bitbucket.org");
+    when(personalAccessTokenManager.getAll(
+            eq(subject),
+            eq(Set.of("https://github.com", "https://gitlab.com")),
+            eq(TEST_NAMESPACE_NAME)))
+        .thenReturn(
+            Map.of(
+                "https://github.com", Optional.of(token("https://github.com")),
+                "https://gitlab.com", Optional.of(token("https://gitlab.com"))));
+    NamespaceSnapshot snapshot = new NamespaceSnapshot(TEST_NAMESPACE_NAME);
+
+    // when
+    configurator.configure(namespaceResolutionContext, snapshot);
+
+    // then
+    kubernetesClient.secrets().inNamespace(TEST_NAMESPACE_NAME).withName("token-1").delete();
+    assertEquals(snapshot.getSecrets(kubernetesClient, SEARCH_LABELS).size(), 3);
+  }
+
+  @Test
+  public void shouldInvalidateSecretsOfSnapshotWhenTokenIsRemoved() throws Exception {
+    // given
+    createTokenSecret("token-1", "oauth2-github", "https://github.com");
+    when(personalAccessTokenManager.getAll(
+            eq(subject), eq(Set.of("https://github.com")), eq(TEST_NAMESPACE_NAME)))
+        .thenAnswer(
+            invocation -> {
+              kubernetesClient
+                  .secrets()
+                  .inNamespace(TEST_NAMESPACE_NAME)
+                  .withName("token-1")
+                  .delete();
+              return Map.of("https://github.com", Optional.empty());
+            });
+    NamespaceSnapshot snapshot = new NamespaceSnapshot(TEST_NAMESPACE_NAME);
+
+    // when
+    configurator.configure(namespaceResolutionContext, snapshot);
+
+    // then
+    assertTrue(snapshot.getSecrets(kubernetesClient, SEARCH_LABELS).isEmpty());
+  }
+
+  @Test
+  public void shouldInvalidateSecretsOfSnapshotWhenTokenIsNotGot() throws Exception {
+    // given
+    createTokenSecret("token-1", "oauth2-github", "https://github.com");
+    createTokenSecret("token-2", "oauth2-gitlab", "https://gitlab.com");
+    when(personalAccessTokenManager.getAll(
+            eq(subject),
+            eq(Set.of("https://github.com", "https://gitlab.com")),
+            eq(TEST_NAMESPACE_NAME)))
+        .thenReturn(Map.of("https://gitlab.com", Optional.of(token("https://gitlab.com"))));
+    NamespaceSnapshot snapshot = new NamespaceSnapshot(TEST_NAMESPACE_NAME);
+    snapshot.getSecrets(kubernetesClient, SEARCH_LABELS);
+
+    // when
+    configurator.configure(namespaceResolutionContext, snapshot);
+
+    // then
+    kubernetesClient.secrets().inNamespace(TEST_NAMESPACE_NAME).withName("token-1").delete();
+    assertEquals(snapshot.getSecrets(kubernetesClient, SEARCH_LABELS).size(), 1);
+  }
+
+  @Test
+  public void shouldNotValidateTokensWithoutOAuthSecrets() throws Exception {
+    // given
+    createTokenSecret("token-3", "bitbucket", "https://bitbucket.org");
+
+    // when
+    configurator.configure(namespaceResolutionContext, TEST_NAMESPACE_NAME);
+
+    // then
+    verify(personalAccessTokenManager, never()).getAll(any(), any(), any());
+  }
+
+  private void createTokenSecret(String name, String tokenName, String scmUrl) {
+    kubernetesClient
+        .secrets()
+        .inNamespace(TEST_NAMESPACE_NAME)
+        .create(
+            new SecretBuilder()
+                .withNewMetadata()
+                .withName(name)
+                .withLabels(SEARCH_LABELS)
+                .withAnnotations(
+                    Map.of(
+                        "che.eclipse.org/scm-url",
+                        scmUrl,
+                        "che.eclipse.org/scm-personal-access-token-name",
+                        tokenName))
+                .endMetadata()
+                .build());
+  }
+
+  private static PersonalAccessToken token(String scmUrl) {
+    return new PersonalAccessToken(
+        scmUrl, "provider", "user123", null, "jondoe", "oauth2-provider", "id", "token");
+  }
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright (c) 2012-2026 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.workspace.infrastructure.kubernetes.util;
+
+import static org.eclipse.che.workspace.infrastructure.kubernetes.util.KubernetesObjects.createOrReplaceIfChanged;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertTrue;
+
+import io.fabric8.kubernetes.api.model.Secret;
+import io.fabric8.kubernetes.api.model.SecretBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.KubernetesMixedDispatcher;
+import io.fabric8.kubernetes.client.server.mock.KubernetesMockServer;
+import io.fabric8.mockwebserver.Context;
+import io.fabric8.mockwebserver.MockWebServer;
+import io.fabric8.mockwebserver.ServerRequest;
+import io.fabric8.mockwebserver.ServerResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+public class KubernetesObjectsTest {
+
+  private static final String NAMESPACE = "namespace123";
+  private static final String SECRET_NAME = "user-profile";
+
+  private KubernetesMockServer kubernetesMockServer;
+  private KubernetesClient client;
+
+  @BeforeMethod
+  public void setUp() {
+    final Map<ServerRequest, Queue<ServerResponse>> responses = new HashMap<>();
+    kubernetesMockServer =
+        new KubernetesMockServer(
+            new Context(),
+            new MockWebServer(),
+            responses,
+            new KubernetesMixedDispatcher(responses),
+            true);
+    kubernetesMockServer.init();
+    client = kubernetesMockServer.createClient();
+  }
+
+  @AfterMethod
+  public void tearDown() {
+    kubernetesMockServer.destroy();
+  }
+
+  @Test
+  public void shouldCreateObject() {
+    // when
+    boolean written =
+        createOrReplaceIfChanged(client.secrets().inNamespace(NAMESPACE), secret("a"));
+
+    // then
+    assertTrue(written);
+    Secret created = client.secrets().inNamespace(NAMESPACE).withName(SECRET_NAME).get();
+    assertNotNull(created);
+    assertEquals(
+        created.getMetadata().getAnnotations().get("controller.devfile.io/mount-as"), "file");
+  }
+
+  @Test
+  public void shouldSkipWriteWhenContentIsUnchanged() {
+    // given
+    createOrReplaceIfChanged(client.secrets().inNamespace(NAMESPACE), secret("a"));
+    String resourceVersion =
+        client
+            .secrets()
+            .inNamespace(NAMESPACE)
+            .withName(SECRET_NAME)
+            .get()
+            .getMetadata()
+            .getResourceVersion();
+
+    // when
+    boolean written =
+        createOrReplaceIfChanged(client.secrets().inNamespace(NAMESPACE), secret("a"));
+
+    // then
+    assertFalse(written);
+    assertEquals(
+        client
+            .secrets()
+            .inNamespace(NAMESPACE)
+            .withName(SECRET_NAME)
+            .get()
+            .getMetadata()
+            .getResourceVersion(),
+        resourceVersion);
+  }
+
+  @Test
+  public void shouldReplaceObjectWhenContentChanged() {
+    // given
+    createOrReplaceIfChanged(client.secrets().inNamespace(NAMESPACE), secret("a"));
+
+    // when
+    boolean written =
+        createOrReplaceIfChanged(client.secrets().inNamespace(NAMESPACE), secret("b"));
+
+    // then
+    assertTrue(written);
+    assertEquals(
+        client.secrets().inNamespace(NAMESPACE).withName(SECRET_NAME).get().getData().get("id"),
+        "b");
+  }
+
+  @Test
+  public void shouldRestoreObjectChangedOutsideOfChe() {
+    // given
+    createOrReplaceIfChanged(client.secrets().inNamespace(NAMESPACE), secret("a"));
+    client.secrets().inNamespace(NAMESPACE).createOrReplace(secret("changed"));
+
+    // when
+    boolean written =
+        createOrReplaceIfChanged(client.secrets().inNamespace(NAMESPACE), secret("a"));
+
+    // then
+    assertTrue(written);
+    assertEquals(
+        client.secrets().inNamespace(NAMESPACE).withName(SECRET_NAME).get().getData().get("id"),
+        "a");
+  }
+
+  @Test
+  public void shouldReplaceObjectWhenDesiredAnnotationIsRemoved() {
+    // given
+    createOrReplaceIfChanged(client.secrets().inNamespace(NAMESPACE), secret("a"));
+    Secret edited = secret("a");
+    edited.getMetadata().setAnnotations(Map.of());
+    client.secrets().inNamespace(NAMESPACE).createOrReplace(edited);
+
+    // when
+    boolean written =
+        createOrReplaceIfChanged(client.secrets().inNamespace(NAMESPACE), secret("a"));
+
+    // then
+    assertTrue(written);
+  }
+
+  @Test
+  public void shouldSkipWriteWhenOnlyFieldsNotSetByCheDiffer() {
+    // given
+    Secret live = secret("a");
+    live.setType("Opaque");
+    live.getMetadata().setLabels(Map.of("app.kubernetes.io/managed-by", "someone"));
+    live.getMetadata()
+        .setAnnotations(Map.of("controller.devfile.io/mount-as", "file", "extra", "value"));
+    client.secrets().inNamespace(NAMESPACE).create(live);
+
+    // when
+    boolean written =
+        createOrReplaceIfChanged(client.secrets().inNamespace(NAMESPACE), secret("a"));
+
+    // then
+    assertFalse(written);
+  }
+
+  @Test
+  public void shouldSkipWriteWhenStringDataMatchesStoredData() {
+    // given
+    client
+        .secrets()
+        .inNamespace(NAMESPACE)
+        .create(secret(Base64.getEncoder().encodeToString("a".getBytes(StandardCharsets.UTF_8))));
+    Secret desired = secret("ignored");
+    desired.setData(null);
+    desired.setStringData(Map.of("id", "a"));
+
+    // when
+    boolean written = createOrReplaceIfChanged(client.secrets().inNamespace(NAMESPACE), desired);
+
+    // then
+    assertFalse(written);
+  }
+
+  @Test
+  public void shouldReplaceObjectWhenStringDataDiffersFromStoredData() {
+    // given
+    client
+        .secrets()
+        .inNamespace(NAMESPACE)
+        .create(secret(Base64.getEncoder().encodeToString("a".getBytes(StandardCharsets.UTF_8))));
+    Secret desired = secret("ignored");
+    desired.setData(null);
+    desired.setStringData(Map.of("id", "b"));
+
+    // when
+    boolean written = createOrReplaceIfChanged(client.secrets().inNamespace(NAMESPACE), desired);
+
+    // then
+    assertTrue(written);
+  }
+
+  private static Secret secret(String id) {
+    return new SecretBuilder()
+        .withNewMetadata()
+        .withName(SECRET_NAME)
+        .withAnnotations(Map.of("controller.devfile.io/mount-as", "file"))
+        .endMetadata()
+        .addToData("id", id)
+        .build();
+  }
+}
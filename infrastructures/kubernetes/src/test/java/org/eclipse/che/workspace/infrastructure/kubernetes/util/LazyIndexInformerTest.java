@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2012-2026 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.workspace.infrastructure.kubernetes.util;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import com.google.common.base.Ticker;
+import io.fabric8.kubernetes.api.model.Namespace;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.informers.ExceptionHandler;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.informers.cache.Indexer;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import org.eclipse.che.api.workspace.server.spi.InfrastructureException;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.testng.MockitoTestNGListener;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+/** Tests {@link LazyIndexInformer}. */
+@Listeners(MockitoTestNGListener.class)
+public class LazyIndexInformerTest {
+
+  @Mock private SharedIndexInformer<Namespace> sharedInformer;
+  @Mock private Indexer<Namespace> indexer;
+
+  private AtomicLong nanos;
+  private LazyIndexInformer<Namespace> informer;
+
+  @BeforeMethod
+  public void setUp() {
+    nanos = new AtomicLong();
+    lenient().when(sharedInformer.start()).thenReturn(CompletableFuture.completedFuture(null));
+    lenient().when(sharedInformer.getIndexer()).thenReturn(indexer);
+    informer = informer(() -> sharedInformer);
+  }
+
+  @Test
+  public void shouldStartInformerOnFirstLookup() {
+    // when
+    boolean answered = informer.getIndexer().isPresent();
+
+    // then
+    assertFalse(answered);
+    verify(sharedInformer).start();
+  }
+
+  @Test
+  public void shouldAnswerWhenInformerIsInSync() {
+    // given
+    informer.start();
+    when(sharedInformer.hasSynced()).thenReturn(true);
+    when(sharedInformer.isWatching()).thenReturn(true);
+
+    // when
+    boolean answered = informer.getIndexer().isPresent();
+
+    // then
+    assertTrue(answered);
+    assertTrue(informer.isWatching());
+    assertEquals(informer.getSecondsSinceSync(), 0);
+  }
+
+  @Test
+  public void shouldReportTimeSinceLastSyncWhileWatchIsDown() {
+    // given
+    informer.start();
+    when(sharedInformer.hasSynced()).thenReturn(true);
+    when(sharedInformer.isWatching()).thenReturn(true, false);
+    informer.getIndexer();
+
+    // when
+    nanos.addAndGet(SECONDS.toNanos(30));
+
+    // then
+    assertFalse(informer.getIndexer().isPresent());
+    assertEquals(informer.getSecondsSinceSync(), 30);
+  }
+
+  @Test
+  public void shouldReportTimeSinceStartWhenInformerNeverSynced() {
+    // given
+    informer.start();
+
+    // when
+    nanos.addAndGet(SECONDS.toNanos(5));
+
+    // then
+    assertEquals(informer.getSecondsSinceSync(), 5);
+  }
+
+  @Test
+  public void shouldNotReportTimeSinceSyncBeforeStart() {
+    // when
+    nanos.addAndGet(SECONDS.toNanos(5));
+
+    // then
+    assertEquals(informer.getSecondsSinceSync(), 0);
+  }
+
+  @Test
+  public void shouldFailWhenInformerCannotBeCreated() {
+    // given
+    informer =
+        informer(
+            () -> {
+              throw new InfrastructureException("no client");
+            });
+
+    // when
+    informer.getIndexer();
+    nanos.addAndGet(SECONDS.toNanos(5));
+
+    // then
+    assertTrue(informer.isFailed());
+    assertFalse(informer.isWatching());
+    assertFalse(informer.getIndexer().isPresent());
+    assertEquals(informer.getSecondsSinceSync(), 5);
+  }
+
+  @Test
+  public void shouldFailWhenWatchIsForbidden() {
+    // given
+    informer.start();
+    ArgumentCaptor<ExceptionHandler> handler = ArgumentCaptor.forClass(ExceptionHandler.class);
+    verify(sharedInformer).exceptionHandler(handler.capture());
+
+    // when
+    boolean retry =
+        handler.getValue().retryAfterException(true, new KubernetesClientException("", 403, null));
+
+    // then
+    assertFalse(retry);
+    assertTrue(informer.isFailed());
+    assertFalse(informer.getIndexer().isPresent());
+  }
+
+  @Test
+  public void shouldCloseInformerOnStop() {
+    // given
+    informer.start();
+
+    // when
+    informer.stop();
+
+    // then
+    verify(sharedInformer).close();
+    assertFalse(informer.isWatching());
+  }
+
+  private LazyIndexInformer<Namespace> informer(
+      LazyIndexInformer.InformerFactory<Namespace> informerFactory) {
+    return new LazyIndexInformer<>(
+        "namespaces",
+        informerFactory,
+        Map.of("index", namespace -> List.of()),
+        new Ticker() {
+          @Override
+          public long read() {
+            return nanos.get();
+          }
+        });
+  }
+}
@@ -15,7 +15,9 @@ import static org.eclipse.che.commons.lang.StringUtils.strToSet;
 
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.openshift.api.model.Group;
+import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import javax.inject.Inject;
 import javax.inject.Named;
@@ -31,6 +33,7 @@ import org.eclipse.che.workspace.infrastructure.kubernetes.authorization.Authori
 public class OpenShiftAuthorizationCheckerImpl implements AuthorizationChecker {
 
   private final CheServerKubernetesClientFactory cheServerKubernetesClientFactory;
+  private final OpenShiftGroupIndex groupIndex;
 
   private final Set<String> allowUsers;
   private final Set<String> allowGroups;
@@ -45,21 +48,22 @@ public class OpenShiftAuthorizationCheckerImpl implements AuthorizationChecker {
       @Nullable @Named("che.infra.kubernetes.advanced_authorization.deny_users") String denyUsers,
       @Nullable @Named("che.infra.kubernetes.advanced_authorization.deny_groups") String denyGroups,
       @Named("che.infra.kubernetes.advanced_authorization.delimiter") String delimiter,
-      CheServerKubernetesClientFactory cheServerKubernetesClientFactory) {
+      CheServerKubernetesClientFactory cheServerKubernetesClientFactory,
+      OpenShiftGroupIndex groupIndex) {
     this.allowUsers = strToSet(allowUsers, delimiter);
     this.allowGroups = strToSet(allowGroups, delimiter);
     this.denyUsers = strToSet(denyUsers, delimiter);
     this.denyGroups = strToSet(denyGroups, delimiter);
     this.cheServerKubernetesClientFactory = cheServerKubernetesClientFactory;
+    this.groupIndex = groupIndex;
   }
 
   public boolean isAuthorized(Subject subject) throws InfrastructureException {
     String username = subject.getUserName();
-    return isAllowedUser(cheServerKubernetesClientFactory.create(), username)
-        && !isDeniedUser(cheServerKubernetesClientFactory.create(), username);
+    return isAllowedUser(username) && !isDeniedUser(username);
   }
 
-  private boolean isAllowedUser(KubernetesClient client, String username) {
+  private boolean isAllowedUser(String username) throws InfrastructureException {
     // All users from all groups are allowed by default
     if (allowUsers.isEmpty() && allowGroups.isEmpty()) {
       return true;
@@ -69,20 +73,10 @@ public class OpenShiftAuthorizationCheckerImpl implements AuthorizationChecker {
       return true;
     }
 
-    for (String groupName : allowGroups) {
-      Group group = client.resources(Group.class).withName(groupName).get();
-      if (group != null) {
-        List<String> users = group.getUsers();
-        if (users != null && users.contains(username)) {
-          return true;
-        }
-      }
-    }
-
-    return false;
+    return isMemberOfAny(username, allowGroups);
   }
 
-  private boolean isDeniedUser(KubernetesClient client, String username) {
+  private boolean isDeniedUser(String username) throws InfrastructureException {
     // All users from all groups are allowed by default
     if (denyUsers.isEmpty() && denyGroups.isEmpty()) {
       return false;
@@ -92,7 +86,26 @@ public class OpenShiftAuthorizationCheckerImpl implements AuthorizationChecker {
       return true;
     }
 
-    for (String groupName : denyGroups) {
+    return isMemberOfAny(username, denyGroups);
+  }
+
+  /**
+   * Checks the membership in the index of groups, if the index is not able to answer the groups are
+   * read from the cluster.
+   */
+  private boolean isMemberOfAny(String username, Set<String> groupNames)
+      throws InfrastructureException {
+    if (groupNames.isEmpty()) {
+      return false;
+    }
+
+    Optional<Set<String>> userGroups = groupIndex.findGroups(username);
+    if (userGroups.isPresent()) {
+      return !Collections.disjoint(userGroups.get(), groupNames);
+    }
+
+    KubernetesClient client = cheServerKubernetesClientFactory.create();
+    for (String groupName : groupNames) {
       Group group = client.resources(Group.class).withName(groupName).get();
       if (group != null) {
         List<String> users = group.getUsers();
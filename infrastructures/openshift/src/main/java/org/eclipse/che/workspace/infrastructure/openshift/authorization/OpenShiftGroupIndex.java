@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2012-2026 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.workspace.infrastructure.openshift.authorization;
+
+import static java.util.Collections.emptyList;
+
+import com.google.common.annotations.VisibleForTesting;
+import io.fabric8.openshift.api.model.Group;
+import jakarta.annotation.PreDestroy;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+import java.util.stream.Collectors;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import org.eclipse.che.workspace.infrastructure.kubernetes.CheServerKubernetesClientFactory;
+import org.eclipse.che.workspace.infrastructure.kubernetes.util.LazyIndexInformer;
+
+/**
+ * Keeps a local, watch-driven index of the OpenShift groups by the users who are their members.
+ *
+ * <p>The underlying shared informer is started lazily on the first lookup. Until it has synced, or
+ * when it could not be started at all (e.g. Che ServiceAccount is not permitted to watch groups),
+ * lookups return {@link Optional#empty()} and callers are expected to fall back to a live read from
+ * the cluster.
+ */
+@Singleton
+public class OpenShiftGroupIndex {
+
+  @VisibleForTesting static final String USERS_INDEX = "che-group-users";
+
+  private final LazyIndexInformer<Group> informer;
+
+  @Inject
+  public OpenShiftGroupIndex(CheServerKubernetesClientFactory cheServerKubernetesClientFactory) {
+    this.informer =
+        new LazyIndexInformer<>(
+            "groups",
+            () ->
+                cheServerKubernetesClientFactory
+                    .create()
+                    .resources(Group.class)
+                    .runnableInformer(0),
+            Map.of(USERS_INDEX, OpenShiftGroupIndex::indexKeys));
+  }
+
+  /**
+   * Finds the names of the groups the given user is a member of.
+   *
+   * @param username name of the user
+   * @return names of the groups, or empty optional if the index is not able to answer yet
+   */
+  public Optional<Set<String>> findGroups(String username) {
+    return informer
+        .getIndexer()
+        .map(
+            indexer ->
+                indexer.byIndex(USERS_INDEX, username).stream()
+                    .map(group -> group.getMetadata().getName())
+                    .collect(Collectors.toSet()));
+  }
+
+  /** Returns the number of indexed groups, or 0 if the index is not able to answer. */
+  public long getSize() {
+    return informer.getSize();
+  }
+
+  /** Returns whether the index is kept current by a watch. */
+  public boolean isWatching() {
+    return informer.isWatching();
+  }
+
+  /**
+   * Returns whether the informer could not be started, so the groups are read from the cluster on
+   * each lookup.
+   */
+  public boolean isFailed() {
+    return informer.isFailed();
+  }
+
+  /**
+   * Returns the number of seconds since the index was last in sync with the cluster, 0 while it is
+   * watching.
+   */
+  public long getSecondsSinceSync() {
+    return informer.getSecondsSinceSync();
+  }
+
+  /**
+   * Starts the informer if it is not started yet.
+   *
+   * @return stage completed when the informer has synced its store for the first time
+   */
+  @VisibleForTesting
+  CompletionStage<Void> start() {
+    return informer.start();
+  }
+
+  @PreDestroy
+  public void stop() {
+    informer.stop();
+  }
+
+  private static List<String> indexKeys(Group group) {
+    List<String> users = group.getUsers();
+    return users != null ? users : emptyList();
+  }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2012-2026 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.workspace.infrastructure.openshift.metrics;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import org.eclipse.che.workspace.infrastructure.openshift.authorization.OpenShiftGroupIndex;
+
+/** Provides metrics of the index of OpenShift groups used for authorization of users. */
+@Singleton
+public class OpenShiftGroupIndexMeterBinder implements MeterBinder {
+
+  private final OpenShiftGroupIndex groupIndex;
+
+  @Inject
+  public OpenShiftGroupIndexMeterBinder(OpenShiftGroupIndex groupIndex) {
+    this.groupIndex = groupIndex;
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    Gauge.builder("che.infra.openshift.group.index.size", groupIndex, OpenShiftGroupIndex::getSize)
+        .description("Number of the indexed groups")
+        .register(registry);
+    Gauge.builder(
+            "che.infra.openshift.group.index.watching",
+            groupIndex,
+            index -> index.isWatching() ? 1 : 0)
+        .description("Whether the index of groups is kept current by a watch")
+        .register(registry);
+    Gauge.builder(
+            "che.infra.openshift.group.index.failed", groupIndex, index -> index.isFailed() ? 1 : 0)
+        .description("Whether the index could not be started, so groups are read on each request")
+        .register(registry);
+    Gauge.builder(
+            "che.infra.openshift.group.index.since.sync",
+            groupIndex,
+            OpenShiftGroupIndex::getSecondsSinceSync)
+        .description("Time since the index of groups was last in sync with the cluster")
+        .baseUnit("seconds")
+        .register(registry);
+  }
+}
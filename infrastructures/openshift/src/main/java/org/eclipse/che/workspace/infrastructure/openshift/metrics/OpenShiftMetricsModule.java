@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2012-2026 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.workspace.infrastructure.openshift.metrics;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.multibindings.Multibinder;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * A Guice module to bind the metric binders of the OpenShift infrastructure. It is to be installed
+ * along with the OpenShift infrastructure when the metrics are enabled.
+ */
+public class OpenShiftMetricsModule extends AbstractModule {
+
+  @Override
+  protected void configure() {
+    Multibinder<MeterBinder> meterMultibinder =
+        Multibinder.newSetBinder(binder(), MeterBinder.class);
+
+    meterMultibinder.addBinding().to(OpenShiftUserCacheMeterBinder.class);
+    meterMultibinder.addBinding().to(OpenShiftGroupIndexMeterBinder.class);
+  }
+}
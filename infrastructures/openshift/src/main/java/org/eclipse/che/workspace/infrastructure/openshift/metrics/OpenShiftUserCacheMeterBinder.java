@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2012-2026 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.workspace.infrastructure.openshift.metrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import org.eclipse.che.workspace.infrastructure.openshift.multiuser.oauth.OpenShiftUserCache;
+
+/** Provides metrics of the cache of users identified by OpenShift tokens. */
+@Singleton
+public class OpenShiftUserCacheMeterBinder implements MeterBinder {
+
+  private final OpenShiftUserCache userCache;
+
+  @Inject
+  public OpenShiftUserCacheMeterBinder(OpenShiftUserCache userCache) {
+    this.userCache = userCache;
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    FunctionCounter.builder(
+            "che.infra.openshift.user.cache.requests", userCache, OpenShiftUserCache::getHitCount)
+        .tag("result", "hit")
+        .description("Number of users identified without a request to OpenShift")
+        .register(registry);
+    FunctionCounter.builder(
+            "che.infra.openshift.user.cache.requests", userCache, OpenShiftUserCache::getMissCount)
+        .tag("result", "miss")
+        .description("Number of users identified by a request to OpenShift")
+        .register(registry);
+    FunctionCounter.builder(
+            "che.infra.openshift.user.cache.evictions",
+            userCache,
+            OpenShiftUserCache::getEvictionCount)
+        .description("Number of users evicted from the cache")
+        .register(registry);
+    Gauge.builder("che.infra.openshift.user.cache.size", userCache, OpenShiftUserCache::getSize)
+        .description("Number of the cached users")
+        .register(registry);
+  }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2012-2026 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.workspace.infrastructure.openshift.multiuser.oauth;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Ticker;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.ExecutionError;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import io.fabric8.openshift.api.model.User;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+/**
+ * Short-lived cache of the OpenShift users identified by OpenShift tokens.
+ *
+ * <p>Concurrent requests with the same token wait for a single lookup of the user. Tokens which
+ * were rejected by OpenShift are cached as well, so requests with an invalid token do not reach the
+ * OpenShift API either. Tokens are kept under their hash, never as they are.
+ */
+@Singleton
+public class OpenShiftUserCache {
+
+  private static final long MAXIMUM_SIZE = 10_000;
+  private static final long TTL_SEC = 30;
+
+  private final Cache<String, Optional<User>> cache;
+
+  @Inject
+  public OpenShiftUserCache() {
+    this(Ticker.systemTicker());
+  }
+
+  @VisibleForTesting
+  OpenShiftUserCache(Ticker ticker) {
+    this.cache =
+        CacheBuilder.newBuilder()
+            .maximumSize(MAXIMUM_SIZE)
+            .expireAfterWrite(TTL_SEC, TimeUnit.SECONDS)
+            .ticker(ticker)
+            .recordStats()
+            .build();
+  }
+
+  /**
+   * Returns the user identified by the given token, looking it up with the given loader if it is
+   * not cached yet. Failures of the loader are not cached and are rethrown as they are.
+   *
+   * @param token OpenShift token
+   * @param loader looks up the user of the token, returns an empty optional if the token was
+   *     rejected
+   */
+  public Optional<User> get(String token, Callable<Optional<User>> loader) {
+    try {
+      return cache.get(keyOf(token), loader);
+    } catch (ExecutionException | UncheckedExecutionException | ExecutionError e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw new IllegalStateException(cause);
+    }
+  }
+
+  /** Returns the number of lookups answered from the cache. */
+  public long getHitCount() {
+    return cache.stats().hitCount();
+  }
+
+  /** Returns the number of lookups which asked OpenShift for the user. */
+  public long getMissCount() {
+    return cache.stats().missCount();
+  }
+
+  /** Returns the number of users evicted because of the size limit or expiration. */
+  public long getEvictionCount() {
+    return cache.stats().evictionCount();
+  }
+
+  /** Returns the number of the cached users. */
+  public long getSize() {
+    return cache.size();
+  }
+
+  private static String keyOf(String token) {
+    return Hashing.sha256().hashString(token, StandardCharsets.UTF_8).toString();
+  }
+}
@@ -50,6 +50,7 @@ public class OpenshiftTokenInitializationFilter
   private final OpenShiftClientFactory clientFactory;
 
   private final UserManager userManager;
+  private final OpenShiftUserCache userCache;
 
   @Inject
   public OpenshiftTokenInitializationFilter(
@@ -57,18 +58,21 @@ public class OpenshiftTokenInitializationFilter
       RequestTokenExtractor tokenExtractor,
       OpenShiftClientFactory clientFactory,
       UserManager userManager,
-      PermissionChecker permissionChecker) {
+      PermissionChecker permissionChecker,
+      OpenShiftUserCache userCache) {
     super(sessionStore, tokenExtractor);
     this.clientFactory = clientFactory;
     this.userManager = userManager;
     this.permissionChecker = permissionChecker;
+    this.userCache = userCache;
   }
 
   @Override
   protected Optional<io.fabric8.openshift.api.model.User> processToken(String token) {
-    // We're effectively creating new client for each request. It might be a good idea to somehow
-    // cache the client or user object. However, it may require non-trivial refactoring which may
-    // be unnecessary. Keeping it as is for now to avoid premature optimization.
+    return userCache.get(token, () -> getCurrentUser(token));
+  }
+
+  private Optional<io.fabric8.openshift.api.model.User> getCurrentUser(String token) {
     try {
       OpenShiftClient client = clientFactory.createAuthenticatedClient(token);
       return Optional.ofNullable(client.currentUser());
@@ -26,7 +26,6 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
 import java.util.stream.Collectors;
 import javax.inject.Named;
 import org.eclipse.che.api.core.model.workspace.Workspace;
@@ -42,7 +41,8 @@ import org.eclipse.che.workspace.infrastructure.kubernetes.api.shared.Kubernetes
 import org.eclipse.che.workspace.infrastructure.kubernetes.authorization.AuthorizationChecker;
 import org.eclipse.che.workspace.infrastructure.kubernetes.authorization.PermissionsCleaner;
 import org.eclipse.che.workspace.infrastructure.kubernetes.namespace.KubernetesNamespaceFactory;
-import org.eclipse.che.workspace.infrastructure.kubernetes.namespace.configurator.NamespaceConfigurator;
+import org.eclipse.che.workspace.infrastructure.kubernetes.namespace.KubernetesNamespaceIndex;
+import org.eclipse.che.workspace.infrastructure.kubernetes.namespace.configurator.NamespaceConfiguratorPipeline;
 import org.eclipse.che.workspace.infrastructure.kubernetes.util.KubernetesSharedPool;
 import org.eclipse.che.workspace.infrastructure.openshift.CheServerOpenshiftClientFactory;
 import org.eclipse.che.workspace.infrastructure.openshift.Constants;
@@ -74,14 +74,15 @@ public class OpenShiftProjectFactory extends KubernetesNamespaceFactory {
       @Named("che.infra.kubernetes.namespace.labels") String projectLabels,
       @Named("che.infra.kubernetes.namespace.annotations") String projectAnnotations,
       @Named("che.infra.openshift.project.init_with_server_sa") boolean initWithCheServerSa,
-      Set<NamespaceConfigurator> namespaceConfigurators,
+      NamespaceConfiguratorPipeline namespaceConfiguratorPipeline,
       OpenShiftClientFactory openShiftClientFactory,
       CheServerKubernetesClientFactory cheServerKubernetesClientFactory,
       CheServerOpenshiftClientFactory cheServerOpenshiftClientFactory,
       PreferenceManager preferenceManager,
       KubernetesSharedPool sharedPool,
       AuthorizationChecker authorizationChecker,
-      PermissionsCleaner permissionsCleaner) {
+      PermissionsCleaner permissionsCleaner,
+      KubernetesNamespaceIndex namespaceIndex) {
     super(
         defaultNamespaceName,
         namespaceCreationAllowed,
@@ -89,12 +90,13 @@ public class OpenShiftProjectFactory extends KubernetesNamespaceFactory {
         annotateProjects,
         projectLabels,
         projectAnnotations,
-        namespaceConfigurators,
+        namespaceConfiguratorPipeline,
         cheServerKubernetesClientFactory,
         preferenceManager,
         sharedPool,
         authorizationChecker,
-        permissionsCleaner);
+        permissionsCleaner,
+        namespaceIndex);
     this.initWithCheServerSa = initWithCheServerSa;
     this.cheServerKubernetesClientFactory = cheServerKubernetesClientFactory;
     this.cheServerOpenshiftClientFactory = cheServerOpenshiftClientFactory;
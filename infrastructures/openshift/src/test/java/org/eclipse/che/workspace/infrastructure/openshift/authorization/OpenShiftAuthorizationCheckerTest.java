@@ -27,6 +27,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Queue;
+import java.util.concurrent.TimeUnit;
 import org.eclipse.che.api.workspace.server.spi.InfrastructureException;
 import org.eclipse.che.commons.subject.Subject;
 import org.eclipse.che.commons.subject.SubjectImpl;
@@ -46,6 +47,7 @@ public class OpenShiftAuthorizationCheckerTest {
   @Mock private CheServerKubernetesClientFactory clientFactory;
   private KubernetesClient client;
   private KubernetesMockServer kubernetesMockServer;
+  private OpenShiftGroupIndex groupIndex;
   private static Subject user1 =
       new SubjectImpl("user1", Collections.emptyList(), "id", "token", false);
   private static Subject user2 =
@@ -64,10 +66,12 @@ public class OpenShiftAuthorizationCheckerTest {
     kubernetesMockServer.init();
     client = spy(kubernetesMockServer.createClient());
     lenient().when(clientFactory.create()).thenReturn(client);
+    groupIndex = new OpenShiftGroupIndex(clientFactory);
   }
 
   @AfterMethod
   public void tearDown() {
+    groupIndex.stop();
     kubernetesMockServer.destroy();
   }
 
@@ -84,7 +88,7 @@ public class OpenShiftAuthorizationCheckerTest {
     // give
     OpenShiftAuthorizationCheckerImpl authorizationChecker =
         new OpenShiftAuthorizationCheckerImpl(
-            allowedUsers, allowedGroups, deniedUsers, deniedGroups, ",", clientFactory);
+            allowedUsers, allowedGroups, deniedUsers, deniedGroups, ",", clientFactory, groupIndex);
     groups.forEach(group -> client.resources(Group.class).create(group));
 
     // when
@@ -94,6 +98,32 @@ public class OpenShiftAuthorizationCheckerTest {
     Assert.assertEquals(isAuthorized, expectedIsAuthorized);
   }
 
+  @Test(dataProvider = "advancedAuthorizationData")
+  public void advancedAuthorizationWithSyncedGroupIndex(
+      Subject subject,
+      List<Group> groups,
+      String allowedUsers,
+      String allowedGroups,
+      String deniedUsers,
+      String deniedGroups,
+      boolean expectedIsAuthorized)
+      throws Exception {
+    // give
+    OpenShiftAuthorizationCheckerImpl authorizationChecker =
+        new OpenShiftAuthorizationCheckerImpl(
+            allowedUsers, allowedGroups, deniedUsers, deniedGroups, ",", clientFactory, groupIndex);
+    groups.forEach(group -> client.resources(Group.class).create(group));
+    groupIndex.start().toCompletableFuture().get(10, TimeUnit.SECONDS);
+    clearInvocations(clientFactory);
+
+    // when
+    boolean isAuthorized = authorizationChecker.isAuthorized(subject);
+
+    // then
+    Assert.assertEquals(isAuthorized, expectedIsAuthorized);
+    verify(clientFactory, never()).create();
+  }
+
   @DataProvider
   public static Object[][] advancedAuthorizationData() {
     Group groupWithUser1 =
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2012-2026 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.workspace.infrastructure.openshift.authorization;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import io.fabric8.kubernetes.api.model.ObjectMetaBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.KubernetesCrudDispatcher;
+import io.fabric8.kubernetes.client.server.mock.KubernetesMockServer;
+import io.fabric8.mockwebserver.Context;
+import io.fabric8.mockwebserver.MockWebServer;
+import io.fabric8.openshift.api.model.Group;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.eclipse.che.api.workspace.server.spi.InfrastructureException;
+import org.eclipse.che.workspace.infrastructure.kubernetes.CheServerKubernetesClientFactory;
+import org.mockito.Mock;
+import org.mockito.testng.MockitoTestNGListener;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+/** Tests {@link OpenShiftGroupIndex}. */
+@Listeners(MockitoTestNGListener.class)
+public class OpenShiftGroupIndexTest {
+
+  @Mock private CheServerKubernetesClientFactory cheServerKubernetesClientFactory;
+
+  private KubernetesMockServer kubernetesMockServer;
+  private KubernetesClient client;
+  private OpenShiftGroupIndex groupIndex;
+
+  @BeforeMethod
+  public void setUp() throws Exception {
+    kubernetesMockServer =
+        new KubernetesMockServer(
+            new Context(),
+            new MockWebServer(),
+            new HashMap<>(),
+            new KubernetesCrudDispatcher(),
+            false);
+    kubernetesMockServer.init();
+    client = kubernetesMockServer.createClient();
+    lenient().when(cheServerKubernetesClientFactory.create()).thenReturn(client);
+
+    client.resources(Group.class).resource(group("devs", "user1", "user2")).create();
+    client.resources(Group.class).resource(group("admins", "user1")).create();
+    groupIndex = new OpenShiftGroupIndex(cheServerKubernetesClientFactory);
+  }
+
+  @AfterMethod
+  public void tearDown() {
+    groupIndex.stop();
+    kubernetesMockServer.destroy();
+  }
+
+  @Test
+  public void shouldFindGroupsOfUserWhenSynced() throws Exception {
+    // given
+    groupIndex.start().toCompletableFuture().get(10, SECONDS);
+
+    // when
+    Optional<Set<String>> user1Groups = groupIndex.findGroups("user1");
+    Optional<Set<String>> user3Groups = groupIndex.findGroups("user3");
+
+    // then
+    assertEquals(user1Groups, Optional.of(Set.of("devs", "admins")));
+    assertEquals(user3Groups, Optional.of(Set.of()));
+    assertEquals(groupIndex.getSize(), 2);
+    assertTrue(groupIndex.isWatching());
+    assertFalse(groupIndex.isFailed());
+    assertEquals(groupIndex.getSecondsSinceSync(), 0);
+  }
+
+  @Test
+  public void shouldFollowChangesOfGroups() throws Exception {
+    // given
+    groupIndex.start().toCompletableFuture().get(10, SECONDS);
+
+    // when
+    client.resources(Group.class).resource(group("admins", "user2")).update();
+
+    // then
+    long deadline = System.nanoTime() + SECONDS.toNanos(10);
+    while (!groupIndex.findGroups("user2").orElseThrow().contains("admins")
+        && System.nanoTime() < deadline) {
+      Thread.sleep(10);
+    }
+    assertEquals(groupIndex.findGroups("user2"), Optional.of(Set.of("devs", "admins")));
+    assertEquals(groupIndex.findGroups("user1"), Optional.of(Set.of("devs")));
+  }
+
+  @Test
+  public void shouldNotAnswerBeforeInformerIsStarted() {
+    // when
+    Optional<Set<String>> found = groupIndex.findGroups("user1");
+
+    // then
+    assertFalse(found.isPresent());
+    assertEquals(groupIndex.getSize(), 0);
+  }
+
+  @Test
+  public void shouldReportFailureWhenInformerCannotBeCreated() throws Exception {
+    // given
+    when(cheServerKubernetesClientFactory.create())
+        .thenThrow(new InfrastructureException("no client"));
+
+    // when
+    groupIndex.findGroups("user1");
+
+    // then
+    assertTrue(groupIndex.isFailed());
+    assertFalse(groupIndex.isWatching());
+    assertFalse(groupIndex.findGroups("user1").isPresent());
+  }
+
+  private static Group group(String name, String... users) {
+    return new Group(
+        "user.openshift.io/v1",
+        "Group",
+        new ObjectMetaBuilder().withName(name).build(),
+        List.of(users));
+  }
+}
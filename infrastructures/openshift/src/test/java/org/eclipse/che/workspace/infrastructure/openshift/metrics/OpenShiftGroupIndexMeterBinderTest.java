@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2012-2026 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.workspace.infrastructure.openshift.metrics;
+
+import static org.testng.Assert.assertEquals;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.eclipse.che.workspace.infrastructure.openshift.authorization.OpenShiftGroupIndex;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+public class OpenShiftGroupIndexMeterBinderTest {
+
+  private MeterRegistry registry;
+
+  @BeforeMethod
+  public void setUp() {
+    registry = new SimpleMeterRegistry();
+    new OpenShiftGroupIndexMeterBinder(new OpenShiftGroupIndex(null)).bindTo(registry);
+  }
+
+  @Test
+  public void shouldExposeStateOfNotStartedIndex() {
+    assertEquals(registry.get("che.infra.openshift.group.index.size").gauge().value(), 0.0);
+    assertEquals(registry.get("che.infra.openshift.group.index.watching").gauge().value(), 0.0);
+    assertEquals(registry.get("che.infra.openshift.group.index.failed").gauge().value(), 0.0);
+    assertEquals(registry.get("che.infra.openshift.group.index.since.sync").gauge().value(), 0.0);
+  }
+}
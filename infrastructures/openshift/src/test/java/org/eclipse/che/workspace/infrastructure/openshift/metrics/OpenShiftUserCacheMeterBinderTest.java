@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2012-2026 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.workspace.infrastructure.openshift.metrics;
+
+import static org.testng.Assert.assertEquals;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Optional;
+import org.eclipse.che.workspace.infrastructure.openshift.multiuser.oauth.OpenShiftUserCache;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+public class OpenShiftUserCacheMeterBinderTest {
+
+  private MeterRegistry registry;
+  private OpenShiftUserCache userCache;
+
+  @BeforeMethod
+  public void setUp() {
+    registry = new SimpleMeterRegistry();
+    userCache = new OpenShiftUserCache();
+    new OpenShiftUserCacheMeterBinder(userCache).bindTo(registry);
+  }
+
+  @Test
+  public void shouldExposeHitsAndMisses() {
+    userCache.get("token", Optional::empty);
+    userCache.get("token", Optional::empty);
+    userCache.get("token", Optional::empty);
+
+    assertEquals(
+        registry
+            .get("che.infra.openshift.user.cache.requests")
+            .tag("result", "hit")
+            .functionCounter()
+            .count(),
+        2.0);
+    assertEquals(
+        registry
+            .get("che.infra.openshift.user.cache.requests")
+            .tag("result", "miss")
+            .functionCounter()
+            .count(),
+        1.0);
+    assertEquals(registry.get("che.infra.openshift.user.cache.size").gauge().value(), 1.0);
+    assertEquals(
+        registry.get("che.infra.openshift.user.cache.evictions").functionCounter().count(), 0.0);
+  }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2012-2026 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.workspace.infrastructure.openshift.multiuser.oauth;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import com.google.common.base.Ticker;
+import io.fabric8.openshift.api.model.User;
+import io.fabric8.openshift.api.model.UserBuilder;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+public class OpenShiftUserCacheTest {
+
+  private final User user =
+      new UserBuilder().withNewMetadata().withName("user").endMetadata().build();
+
+  private AtomicLong nanos;
+  private OpenShiftUserCache cache;
+
+  @BeforeMethod
+  public void setUp() {
+    nanos = new AtomicLong();
+    cache =
+        new OpenShiftUserCache(
+            new Ticker() {
+              @Override
+              public long read() {
+                return nanos.get();
+              }
+            });
+  }
+
+  @Test
+  public void shouldLookUpUserOnceUntilItExpires() {
+    // given
+    AtomicInteger lookups = new AtomicInteger();
+
+    // when
+    cache.get("token", () -> lookup(lookups, Optional.of(user)));
+    cache.get("token", () -> lookup(lookups, Optional.of(user)));
+    nanos.addAndGet(TimeUnit.SECONDS.toNanos(30));
+    Optional<User> result = cache.get("token", () -> lookup(lookups, Optional.of(user)));
+
+    // then
+    assertEquals(result, Optional.of(user));
+    assertEquals(lookups.get(), 2);
+    assertEquals(cache.getHitCount(), 1);
+    assertEquals(cache.getMissCount(), 2);
+  }
+
+  @Test
+  public void shouldCacheRejectedToken() {
+    // given
+    AtomicInteger lookups = new AtomicInteger();
+
+    // when
+    cache.get("token", () -> lookup(lookups, Optional.empty()));
+    Optional<User> result = cache.get("token", () -> lookup(lookups, Optional.of(user)));
+
+    // then
+    assertTrue(result.isEmpty());
+    assertEquals(lookups.get(), 1);
+  }
+
+  @Test
+  public void shouldLookUpUserOnceForConcurrentRequests() throws Exception {
+    // given
+    AtomicInteger lookups = new AtomicInteger();
+    CountDownLatch lookupStarted = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      Future<Optional<User>> first =
+          executor.submit(
+              () ->
+                  cache.get(
+                      "token",
+                      () -> {
+                        lookupStarted.countDown();
+                        release.await();
+                        return lookup(lookups, Optional.of(user));
+                      }));
+      lookupStarted.await();
+      Future<Optional<User>> second =
+          executor.submit(() -> cache.get("token", () -> lookup(lookups, Optional.empty())));
+
+      // when
+      release.countDown();
+
+      // then
+      assertEquals(first.get(10, TimeUnit.SECONDS), Optional.of(user));
+      assertEquals(second.get(10, TimeUnit.SECONDS), Optional.of(user));
+      assertEquals(lookups.get(), 1);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void shouldRethrowLookupFailure() {
+    cache.get(
+        "token",
+        () -> {
+          throw new IllegalArgumentException();
+        });
+  }
+
+  private static Optional<User> lookup(AtomicInteger lookups, Optional<User> user) {
+    lookups.incrementAndGet();
+    return user;
+  }
+}
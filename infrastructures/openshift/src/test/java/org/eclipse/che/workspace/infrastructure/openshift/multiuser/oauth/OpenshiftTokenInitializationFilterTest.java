@@ -11,6 +11,7 @@
  */
 package org.eclipse.che.workspace.infrastructure.openshift.multiuser.oauth;
 
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.*;
@@ -58,7 +59,12 @@ public class OpenshiftTokenInitializationFilterTest {
   public void setUp() throws InfrastructureException {
     openshiftTokenInitializationFilter =
         new OpenshiftTokenInitializationFilter(
-            sessionStore, tokenExtractor, openShiftClientFactory, userManager, permissionChecker);
+            sessionStore,
+            tokenExtractor,
+            openShiftClientFactory,
+            userManager,
+            permissionChecker,
+            new OpenShiftUserCache());
   }
 
   @Test
@@ -125,4 +131,46 @@ public class OpenshiftTokenInitializationFilterTest {
     Optional<User> u = openshiftTokenInitializationFilter.processToken(TOKEN);
     assertTrue(u.isEmpty());
   }
+
+  @Test
+  public void shouldGetCurrentUserOnceForSameToken() {
+    when(openShiftClientFactory.createAuthenticatedClient(TOKEN)).thenReturn(openShiftClient);
+    when(openShiftClient.currentUser()).thenReturn(openshiftUser);
+
+    openshiftTokenInitializationFilter.processToken(TOKEN);
+    User u = openshiftTokenInitializationFilter.processToken(TOKEN).get();
+
+    assertEquals(u, openshiftUser);
+    verify(openShiftClientFactory).createAuthenticatedClient(TOKEN);
+    verify(openShiftClient).currentUser();
+  }
+
+  @Test
+  public void shouldRememberInvalidToken() {
+    when(openShiftClientFactory.createAuthenticatedClient(TOKEN)).thenReturn(openShiftClient);
+    when(openShiftClient.currentUser())
+        .thenThrow(new KubernetesClientException("failah", 401, null));
+
+    openshiftTokenInitializationFilter.processToken(TOKEN);
+    Optional<User> u = openshiftTokenInitializationFilter.processToken(TOKEN);
+
+    assertTrue(u.isEmpty());
+    verify(openShiftClient).currentUser();
+  }
+
+  @Test
+  public void shouldNotRememberFailedUserLookup() {
+    when(openShiftClientFactory.createAuthenticatedClient(TOKEN)).thenReturn(openShiftClient);
+    when(openShiftClient.currentUser())
+        .thenThrow(new KubernetesClientException("unavailable", 503, null));
+
+    expectThrows(
+        KubernetesClientException.class,
+        () -> openshiftTokenInitializationFilter.processToken(TOKEN));
+    expectThrows(
+        KubernetesClientException.class,
+        () -> openshiftTokenInitializationFilter.processToken(TOKEN));
+
+    verify(openShiftClient, times(2)).currentUser();
+  }
 }
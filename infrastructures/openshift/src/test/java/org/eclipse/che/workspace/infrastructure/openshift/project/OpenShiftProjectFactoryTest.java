@@ -25,6 +25,7 @@ import static org.eclipse.che.workspace.infrastructure.openshift.Constants.PROJE
 import static org.eclipse.che.workspace.infrastructure.openshift.Constants.PROJECT_DISPLAY_NAME_ATTRIBUTE;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
@@ -73,8 +74,11 @@ import org.eclipse.che.workspace.infrastructure.kubernetes.api.shared.Kubernetes
 import org.eclipse.che.workspace.infrastructure.kubernetes.authorization.AuthorizationChecker;
 import org.eclipse.che.workspace.infrastructure.kubernetes.authorization.PermissionsCleaner;
 import org.eclipse.che.workspace.infrastructure.kubernetes.namespace.KubernetesConfigsMaps;
+import org.eclipse.che.workspace.infrastructure.kubernetes.namespace.KubernetesNamespaceIndex;
 import org.eclipse.che.workspace.infrastructure.kubernetes.namespace.KubernetesSecrets;
 import org.eclipse.che.workspace.infrastructure.kubernetes.namespace.configurator.NamespaceConfigurator;
+import org.eclipse.che.workspace.infrastructure.kubernetes.namespace.configurator.NamespaceConfiguratorPipeline;
+import org.eclipse.che.workspace.infrastructure.kubernetes.namespace.configurator.NamespaceSnapshot;
 import org.eclipse.che.workspace.infrastructure.kubernetes.namespace.configurator.PreferencesConfigMapConfigurator;
 import org.eclipse.che.workspace.infrastructure.kubernetes.util.KubernetesSharedPool;
 import org.eclipse.che.workspace.infrastructure.openshift.CheServerOpenshiftClientFactory;
@@ -114,6 +118,7 @@ public class OpenShiftProjectFactoryTest {
   @Mock private KubernetesSharedPool pool;
   @Mock private AuthorizationChecker authorizationChecker;
   @Mock private PermissionsCleaner permissionsCleaner;
+  @Mock private KubernetesNamespaceIndex namespaceIndex;
 
   @Mock private ProjectOperation projectOperation;
 
@@ -168,14 +173,15 @@ public class OpenShiftProjectFactoryTest {
             NAMESPACE_LABELS,
             NAMESPACE_ANNOTATIONS,
             true,
-            emptySet(),
+            new NamespaceConfiguratorPipeline(emptySet()),
             openShiftClientFactory,
             cheServerKubernetesClientFactory,
             cheServerOpenshiftClientFactory,
             preferenceManager,
             pool,
             authorizationChecker,
-            permissionsCleaner);
+            permissionsCleaner,
+            namespaceIndex);
 
     projectFactory.checkIfNamespaceIsAllowed(USER_NAME + "-che");
   }
@@ -199,14 +205,15 @@ public class OpenShiftProjectFactoryTest {
             NAMESPACE_LABELS,
             NAMESPACE_ANNOTATIONS,
             true,
-            emptySet(),
+            new NamespaceConfiguratorPipeline(emptySet()),
             openShiftClientFactory,
             cheServerKubernetesClientFactory,
             cheServerOpenshiftClientFactory,
             preferenceManager,
             pool,
             authorizationChecker,
-            permissionsCleaner);
+            permissionsCleaner,
+            namespaceIndex);
     try {
       projectFactory.checkIfNamespaceIsAllowed("any-namespace");
     } catch (ValidationException e) {
@@ -230,14 +237,15 @@ public class OpenShiftProjectFactoryTest {
             NAMESPACE_LABELS,
             NAMESPACE_ANNOTATIONS,
             true,
-            emptySet(),
+            new NamespaceConfiguratorPipeline(emptySet()),
             openShiftClientFactory,
             cheServerKubernetesClientFactory,
             cheServerOpenshiftClientFactory,
             preferenceManager,
             pool,
             authorizationChecker,
-            permissionsCleaner);
+            permissionsCleaner,
+            namespaceIndex);
   }
 
   @Test
@@ -266,14 +274,15 @@ public class OpenShiftProjectFactoryTest {
             NAMESPACE_LABELS,
             NAMESPACE_ANNOTATIONS,
             true,
-            emptySet(),
+            new NamespaceConfiguratorPipeline(emptySet()),
             openShiftClientFactory,
             cheServerKubernetesClientFactory,
             cheServerOpenshiftClientFactory,
             preferenceManager,
             pool,
             authorizationChecker,
-            permissionsCleaner);
+            permissionsCleaner,
+            namespaceIndex);
     EnvironmentContext.getCurrent()
         .setSubject(new SubjectImpl("jondoe", Collections.emptyList(), "123", null, false));
 
@@ -304,14 +313,15 @@ public class OpenShiftProjectFactoryTest {
             NAMESPACE_LABELS,
             NAMESPACE_ANNOTATIONS,
             true,
-            emptySet(),
+            new NamespaceConfiguratorPipeline(emptySet()),
             openShiftClientFactory,
             cheServerKubernetesClientFactory,
             cheServerOpenshiftClientFactory,
             preferenceManager,
             pool,
             authorizationChecker,
-            permissionsCleaner);
+            permissionsCleaner,
+            namespaceIndex);
     EnvironmentContext.getCurrent()
         .setSubject(new SubjectImpl("jondoe", Collections.emptyList(), "u123", null, false));
 
@@ -338,14 +348,15 @@ public class OpenShiftProjectFactoryTest {
             NAMESPACE_LABELS,
             NAMESPACE_ANNOTATIONS,
             true,
-            emptySet(),
+            new NamespaceConfiguratorPipeline(emptySet()),
             openShiftClientFactory,
             cheServerKubernetesClientFactory,
             cheServerOpenshiftClientFactory,
             preferenceManager,
             pool,
             authorizationChecker,
-            permissionsCleaner);
+            permissionsCleaner,
+            namespaceIndex);
 
     // when
     projectFactory.list();
@@ -381,14 +392,15 @@ public class OpenShiftProjectFactoryTest {
             NAMESPACE_LABELS,
             NAMESPACE_ANNOTATIONS,
             true,
-            emptySet(),
+            new NamespaceConfiguratorPipeline(emptySet()),
             openShiftClientFactory,
             cheServerKubernetesClientFactory,
             cheServerOpenshiftClientFactory,
             preferenceManager,
             pool,
             authorizationChecker,
-            permissionsCleaner);
+            permissionsCleaner,
+            namespaceIndex);
 
     List<KubernetesNamespaceMeta> availableNamespaces = projectFactory.list();
     assertEquals(availableNamespaces.size(), 1);
@@ -418,14 +430,15 @@ public class OpenShiftProjectFactoryTest {
             NAMESPACE_LABELS,
             NAMESPACE_ANNOTATIONS,
             true,
-            emptySet(),
+            new NamespaceConfiguratorPipeline(emptySet()),
             openShiftClientFactory,
             cheServerKubernetesClientFactory,
             cheServerOpenshiftClientFactory,
             preferenceManager,
             pool,
             authorizationChecker,
-            permissionsCleaner);
+            permissionsCleaner,
+            namespaceIndex);
 
     List<KubernetesNamespaceMeta> availableNamespaces = projectFactory.list();
     assertEquals(availableNamespaces.size(), 1);
@@ -455,14 +468,15 @@ public class OpenShiftProjectFactoryTest {
             NAMESPACE_LABELS,
             NAMESPACE_ANNOTATIONS,
             true,
-            emptySet(),
+            new NamespaceConfiguratorPipeline(emptySet()),
             openShiftClientFactory,
             cheServerKubernetesClientFactory,
             cheServerOpenshiftClientFactory,
             preferenceManager,
             pool,
             authorizationChecker,
-            permissionsCleaner);
+            permissionsCleaner,
+            namespaceIndex);
 
     projectFactory.list();
   }
@@ -482,14 +496,15 @@ public class OpenShiftProjectFactoryTest {
             NAMESPACE_LABELS,
             NAMESPACE_ANNOTATIONS,
             true,
-            emptySet(),
+            new NamespaceConfiguratorPipeline(emptySet()),
             openShiftClientFactory,
             cheServerKubernetesClientFactory,
             cheServerOpenshiftClientFactory,
             preferenceManager,
             pool,
             authorizationChecker,
-            permissionsCleaner);
+            permissionsCleaner,
+            namespaceIndex);
 
     projectFactory.list();
   }
@@ -514,14 +529,15 @@ public class OpenShiftProjectFactoryTest {
                 NAMESPACE_LABELS,
                 NAMESPACE_ANNOTATIONS,
                 true,
-                emptySet(),
+                new NamespaceConfiguratorPipeline(emptySet()),
                 openShiftClientFactory,
                 cheServerKubernetesClientFactory,
                 cheServerOpenshiftClientFactory,
                 preferenceManager,
                 pool,
                 authorizationChecker,
-                permissionsCleaner));
+                permissionsCleaner,
+                namespaceIndex));
     OpenShiftProject toReturnProject = mock(OpenShiftProject.class);
     prepareProject(toReturnProject);
     doReturn(toReturnProject).when(projectFactory).doCreateProjectAccess(any(), any());
@@ -549,14 +565,16 @@ public class OpenShiftProjectFactoryTest {
                 NAMESPACE_LABELS,
                 NAMESPACE_ANNOTATIONS,
                 true,
-                Set.of(new PreferencesConfigMapConfigurator(cheServerKubernetesClientFactory)),
+                new NamespaceConfiguratorPipeline(
+                    Set.of(new PreferencesConfigMapConfigurator(cheServerKubernetesClientFactory))),
                 openShiftClientFactory,
                 cheServerKubernetesClientFactory,
                 cheServerOpenshiftClientFactory,
                 preferenceManager,
                 pool,
                 authorizationChecker,
-                permissionsCleaner));
+                permissionsCleaner,
+                namespaceIndex));
     OpenShiftProject toReturnProject = mock(OpenShiftProject.class);
     doReturn(toReturnProject).when(projectFactory).doCreateProjectAccess(any(), any());
     when(toReturnProject.getName()).thenReturn("namespace123");
@@ -592,14 +610,16 @@ public class OpenShiftProjectFactoryTest {
                 NAMESPACE_LABELS,
                 NAMESPACE_ANNOTATIONS,
                 true,
-                Set.of(new PreferencesConfigMapConfigurator(cheServerKubernetesClientFactory)),
+                new NamespaceConfiguratorPipeline(
+                    Set.of(new PreferencesConfigMapConfigurator(cheServerKubernetesClientFactory))),
                 openShiftClientFactory,
                 cheServerKubernetesClientFactory,
                 cheServerOpenshiftClientFactory,
                 preferenceManager,
                 pool,
                 authorizationChecker,
-                permissionsCleaner));
+                permissionsCleaner,
+                namespaceIndex));
     OpenShiftProject toReturnProject = mock(OpenShiftProject.class);
     prepareProject(toReturnProject);
     doReturn(toReturnProject).when(projectFactory).doCreateProjectAccess(any(), any());
@@ -637,14 +657,15 @@ public class OpenShiftProjectFactoryTest {
                 NAMESPACE_LABELS,
                 NAMESPACE_ANNOTATIONS,
                 true,
-                Set.of(saConf),
+                new NamespaceConfiguratorPipeline(Set.of(saConf)),
                 openShiftClientFactory,
                 cheServerKubernetesClientFactory,
                 cheServerOpenshiftClientFactory,
                 preferenceManager,
                 pool,
                 authorizationChecker,
-                permissionsCleaner));
+                permissionsCleaner,
+                namespaceIndex));
     OpenShiftProject toReturnProject = mock(OpenShiftProject.class);
     when(toReturnProject.getName()).thenReturn("workspace123");
     prepareProject(toReturnProject);
@@ -688,14 +709,15 @@ public class OpenShiftProjectFactoryTest {
             NAMESPACE_LABELS,
             NAMESPACE_ANNOTATIONS,
             true,
-            emptySet(),
+            new NamespaceConfiguratorPipeline(emptySet()),
             openShiftClientFactory,
             cheServerKubernetesClientFactory,
             cheServerOpenshiftClientFactory,
             preferenceManager,
             pool,
             authorizationChecker,
-            permissionsCleaner);
+            permissionsCleaner,
+            namespaceIndex);
 
     String namespace =
         projectFactory.evaluateNamespaceName(
@@ -721,14 +743,15 @@ public class OpenShiftProjectFactoryTest {
             "try_placeholder_here=<username>",
             NAMESPACE_ANNOTATIONS,
             true,
-            emptySet(),
+            new NamespaceConfiguratorPipeline(emptySet()),
             openShiftClientFactory,
             cheServerKubernetesClientFactory,
             cheServerOpenshiftClientFactory,
             preferenceManager,
             pool,
             authorizationChecker,
-            permissionsCleaner);
+            permissionsCleaner,
+            namespaceIndex);
     EnvironmentContext.getCurrent()
         .setSubject(new SubjectImpl("jondoe", Collections.emptyList(), "123", null, false));
     projectFactory.list();
@@ -749,14 +772,15 @@ public class OpenShiftProjectFactoryTest {
                 NAMESPACE_LABELS,
                 "try_placeholder_here=<username>",
                 true,
-                emptySet(),
+                new NamespaceConfiguratorPipeline(emptySet()),
                 openShiftClientFactory,
                 cheServerKubernetesClientFactory,
                 cheServerOpenshiftClientFactory,
                 preferenceManager,
                 pool,
                 authorizationChecker,
-                permissionsCleaner));
+                permissionsCleaner,
+                namespaceIndex));
     EnvironmentContext.getCurrent()
         .setSubject(new SubjectImpl("jondoe", Collections.emptyList(), "123", null, false));
     OpenShiftProject toReturnProject = mock(OpenShiftProject.class);
@@ -791,14 +815,15 @@ public class OpenShiftProjectFactoryTest {
                 NAMESPACE_LABELS,
                 "try_placeholder_here=<username>",
                 true,
-                namespaceConfigurators,
+                new NamespaceConfiguratorPipeline(namespaceConfigurators),
                 openShiftClientFactory,
                 cheServerKubernetesClientFactory,
                 cheServerOpenshiftClientFactory,
                 preferenceManager,
                 pool,
                 authorizationChecker,
-                permissionsCleaner));
+                permissionsCleaner,
+                namespaceIndex));
     EnvironmentContext.getCurrent()
         .setSubject(new SubjectImpl("jondoe", Collections.emptyList(), "123", null, false));
 
@@ -814,8 +839,16 @@ public class OpenShiftProjectFactoryTest {
     // then
     NamespaceResolutionContext resolutionCtx =
         new NamespaceResolutionContext("workspace123", "123", "jondoe");
-    verify(configurator1).configure(resolutionCtx, projectName);
-    verify(configurator2).configure(resolutionCtx, projectName);
+    verify(configurator1)
+        .configure(
+            eq(resolutionCtx),
+            argThat(
+                (NamespaceSnapshot snapshot) -> projectName.equals(snapshot.getNamespaceName())));
+    verify(configurator2)
+        .configure(
+            eq(resolutionCtx),
+            argThat(
+                (NamespaceSnapshot snapshot) -> projectName.equals(snapshot.getNamespaceName())));
     assertEquals(project, toReturnProject);
   }
 
@@ -24,13 +24,16 @@ import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.HttpSession;
 import java.io.IOException;
 import java.util.Collections;
+import java.util.Date;
 import java.util.List;
 import java.util.Optional;
+import org.eclipse.che.commons.annotation.Nullable;
 import org.eclipse.che.commons.env.EnvironmentContext;
 import org.eclipse.che.commons.subject.Subject;
 import org.eclipse.che.multiuser.api.authentication.commons.SessionStore;
 import org.eclipse.che.multiuser.api.authentication.commons.SubjectHttpRequestWrapper;
 import org.eclipse.che.multiuser.api.authentication.commons.token.RequestTokenExtractor;
+import org.eclipse.che.multiuser.api.authentication.commons.token.VerifiedTokenCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -61,11 +64,24 @@ public abstract class MultiUserEnvironmentInitializationFilter<T> implements Fil
 
   private final SessionStore sessionStore;
   private final RequestTokenExtractor tokenExtractor;
+  @Nullable private final VerifiedTokenCache<T> verifiedTokens;
 
   public MultiUserEnvironmentInitializationFilter(
       SessionStore sessionStore, RequestTokenExtractor tokenExtractor) {
+    this(sessionStore, tokenExtractor, null);
+  }
+
+  /**
+   * @param verifiedTokens cache of the tokens which were already processed, if {@code null} every
+   *     token is {@link #processToken(String) processed} on every request
+   */
+  public MultiUserEnvironmentInitializationFilter(
+      SessionStore sessionStore,
+      RequestTokenExtractor tokenExtractor,
+      @Nullable VerifiedTokenCache<T> verifiedTokens) {
     this.sessionStore = sessionStore;
     this.tokenExtractor = tokenExtractor;
+    this.verifiedTokens = verifiedTokens;
   }
 
   /**
@@ -124,10 +140,18 @@ public abstract class MultiUserEnvironmentInitializationFilter<T> implements Fil
       handleMissingToken(request, response, chain);
       return;
     }
-    Optional<T> maybeProcessedToken = processToken(token);
+    Optional<T> maybeProcessedToken =
+        verifiedTokens != null ? verifiedTokens.get(token) : Optional.empty();
     if (maybeProcessedToken.isEmpty()) {
-      handleMissingToken(request, response, chain);
-      return;
+      maybeProcessedToken = processToken(token);
+      if (maybeProcessedToken.isEmpty()) {
+        handleMissingToken(request, response, chain);
+        return;
+      }
+      if (verifiedTokens != null) {
+        verifiedTokens.put(
+            token, maybeProcessedToken.get(), getExpirationTime(maybeProcessedToken.get()));
+      }
     }
 
     T processedToken = maybeProcessedToken.get();
@@ -140,7 +164,7 @@ public abstract class MultiUserEnvironmentInitializationFilter<T> implements Fil
     // retrieve and check / create new subject
     sessionSubject = (Subject) session.getAttribute(CHE_SUBJECT_ATTRIBUTE);
     if (sessionSubject == null) {
-      sessionSubject = extractSubject(token, processedToken);
+      sessionSubject = resolveSubject(token, processedToken);
       session.setAttribute(CHE_SUBJECT_ATTRIBUTE, sessionSubject);
     } else if (!sessionSubject.getUserId().equals(userId)) {
       LOG.debug(
@@ -149,10 +173,10 @@ public abstract class MultiUserEnvironmentInitializationFilter<T> implements Fil
           userId);
       session.invalidate();
       HttpSession new_session = httpRequest.getSession(true);
-      sessionSubject = extractSubject(token, processedToken);
+      sessionSubject = resolveSubject(token, processedToken);
       new_session.setAttribute(CHE_SUBJECT_ATTRIBUTE, sessionSubject);
     } else if (!sessionSubject.getToken().equals(token)) {
-      sessionSubject = extractSubject(token, processedToken);
+      sessionSubject = resolveSubject(token, processedToken);
       session.setAttribute(CHE_SUBJECT_ATTRIBUTE, sessionSubject);
     }
     // set current subject
@@ -164,6 +188,41 @@ public abstract class MultiUserEnvironmentInitializationFilter<T> implements Fil
     }
   }
 
+  /** Returns the subject of the given token, resolving it only if it was not resolved yet. */
+  private Subject resolveSubject(String token, T processedToken) throws ServletException {
+    if (verifiedTokens == null || !isSubjectCacheable()) {
+      return extractSubject(token, processedToken);
+    }
+    Optional<Subject> resolved = verifiedTokens.getSubject(token);
+    if (resolved.isPresent()) {
+      return resolved.get();
+    }
+    Subject subject = extractSubject(token, processedToken);
+    verifiedTokens.putSubject(token, subject);
+    return subject;
+  }
+
+  /**
+   * Returns whether the subject resolved for a verified token may be reused for the following
+   * requests with the same token. Filters which must check the subject on every request, e.g. that
+   * its user still exists, return {@code false}, so only the token verification is cached.
+   */
+  protected boolean isSubjectCacheable() {
+    return true;
+  }
+
+  /**
+   * Returns the time the processed token expires at. Processed tokens are not trusted after this
+   * time even if they are cached.
+   *
+   * @param processedToken the processed authentication string
+   * @return expiration time of the token, or {@code null} if the token does not expire
+   */
+  @Nullable
+  protected Date getExpirationTime(T processedToken) {
+    return null;
+  }
+
   /**
    * Processes the token and creates implementation-specific intermediary type using which the
    * subclasses can extract different kinds of information like user ID or subject.
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2012-2026 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.multiuser.api.authentication.commons.token;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.util.Date;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import org.eclipse.che.commons.annotation.Nullable;
+import org.eclipse.che.commons.subject.Subject;
+
+/**
+ * Bounded cache of authentication tokens which were already verified, so that repeated requests
+ * with the same token skip signature verification and claims parsing, and reuse the {@link Subject}
+ * resolved for the token.
+ *
+ * <p>Tokens are kept under the hash of the token, never as they are. A token is kept no longer than
+ * the configured time to live and never after its expiration time.
+ *
+ * @param <T> the type of the processed token
+ */
+public class VerifiedTokenCache<T> {
+
+  /** Default maximum number of cached tokens. */
+  public static final long DEFAULT_MAXIMUM_SIZE = 10_000;
+
+  /** Default time in seconds a verified token is trusted without verifying it again. */
+  public static final long DEFAULT_TTL_SEC = 60;
+
+  private final Cache<String, VerifiedToken<T>> cache;
+  private final long ttlMillis;
+  private final Clock clock;
+
+  /**
+   * Creates a cache with the {@link #DEFAULT_MAXIMUM_SIZE default size} and {@link
+   * #DEFAULT_TTL_SEC time to live}.
+   */
+  public VerifiedTokenCache() {
+    this(DEFAULT_MAXIMUM_SIZE, DEFAULT_TTL_SEC);
+  }
+
+  /**
+   * @param maximumSize maximum number of cached tokens
+   * @param ttlSec maximum time in seconds a verified token is trusted without verifying it again
+   */
+  public VerifiedTokenCache(long maximumSize, long ttlSec) {
+    this(maximumSize, ttlSec, Clock.systemUTC());
+  }
+
+  @VisibleForTesting
+  VerifiedTokenCache(long maximumSize, long ttlSec, Clock clock) {
+    this.cache =
+        CacheBuilder.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(ttlSec, TimeUnit.SECONDS)
+            .build();
+    this.ttlMillis = TimeUnit.SECONDS.toMillis(ttlSec);
+    this.clock = clock;
+  }
+
+  /** Returns the processed token if the given token was verified and did not expire since. */
+  public Optional<T> get(String token) {
+    return getVerified(token).map(verified -> verified.processedToken);
+  }
+
+  /**
+   * Remembers the given token as verified.
+   *
+   * @param token the original token
+   * @param processedToken result of the token verification
+   * @param expiration expiration time of the token, or {@code null} if the token does not expire
+   */
+  public void put(String token, T processedToken, @Nullable Date expiration) {
+    long now = clock.millis();
+    long expiresAt = now + ttlMillis;
+    if (expiration != null) {
+      expiresAt = Math.min(expiresAt, expiration.getTime());
+    }
+    if (expiresAt > now) {
+      cache.put(keyOf(token), new VerifiedToken<>(processedToken, expiresAt));
+    }
+  }
+
+  /** Returns the subject resolved for the given verified token, if any. */
+  public Optional<Subject> getSubject(String token) {
+    return getVerified(token).map(verified -> verified.subject);
+  }
+
+  /** Remembers the subject resolved for the given token, if the token is a verified one. */
+  public void putSubject(String token, Subject subject) {
+    getVerified(token).ifPresent(verified -> verified.subject = subject);
+  }
+
+  /** Forgets the verified tokens matching the given predicate, e.g. the revoked ones. */
+  public void invalidateIf(Predicate<? super T> predicate) {
+    cache.asMap().values().removeIf(verified -> predicate.test(verified.processedToken));
+  }
+
+  private Optional<VerifiedToken<T>> getVerified(String token) {
+    String key = keyOf(token);
+    VerifiedToken<T> verified = cache.getIfPresent(key);
+    if (verified == null) {
+      return Optional.empty();
+    }
+    if (verified.expiresAt <= clock.millis()) {
+      cache.invalidate(key);
+      return Optional.empty();
+    }
+    return Optional.of(verified);
+  }
+
+  private static String keyOf(String token) {
+    return Hashing.sha256().hashString(token, StandardCharsets.UTF_8).toString();
+  }
+
+  private static final class VerifiedToken<T> {
+    private final T processedToken;
+    private final long expiresAt;
+    private volatile Subject subject;
+
+    private VerifiedToken(T processedToken, long expiresAt) {
+      this.processedToken = processedToken;
+      this.expiresAt = expiresAt;
+    }
+  }
+}
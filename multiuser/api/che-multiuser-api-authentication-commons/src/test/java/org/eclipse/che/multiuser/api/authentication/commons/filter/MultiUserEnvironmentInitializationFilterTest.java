@@ -19,6 +19,7 @@ import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -37,6 +38,7 @@ import org.eclipse.che.commons.subject.Subject;
 import org.eclipse.che.commons.subject.SubjectImpl;
 import org.eclipse.che.multiuser.api.authentication.commons.SessionStore;
 import org.eclipse.che.multiuser.api.authentication.commons.token.RequestTokenExtractor;
+import org.eclipse.che.multiuser.api.authentication.commons.token.VerifiedTokenCache;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.testng.MockitoTestNGListener;
@@ -111,6 +113,32 @@ public class MultiUserEnvironmentInitializationFilterTest {
     verify(filter, never()).extractSubject(anyString(), any());
   }
 
+  @Test
+  @SuppressWarnings("unchecked")
+  public void shouldProcessTokenOnceIfVerifiedTokensAreCached() throws Exception {
+    // given
+    MultiUserEnvironmentInitializationFilter<Object> cachingFilter =
+        mock(
+            MultiUserEnvironmentInitializationFilter.class,
+            withSettings()
+                .defaultAnswer(Mockito.CALLS_REAL_METHODS)
+                .useConstructor(sessionStore, tokenExtractor, new VerifiedTokenCache<>(10, 60)));
+    when(cachingFilter.getUserId(any())).thenReturn(userId);
+    when(cachingFilter.extractSubject(anyString(), any())).thenReturn(subject);
+    when(cachingFilter.processToken(anyString())).thenReturn(Optional.of(new Object()));
+    when(tokenExtractor.getToken(any(HttpServletRequest.class))).thenReturn(token);
+    when(sessionStore.getSession(eq(userId), any())).thenReturn(session);
+
+    // when
+    cachingFilter.doFilter(request, response, chain);
+    cachingFilter.doFilter(request, response, chain);
+
+    // then
+    verify(cachingFilter).processToken(eq(token));
+    verify(cachingFilter).extractSubject(eq(token), any());
+    verify(cachingFilter, times(2)).getUserId(any());
+  }
+
   @Test
   public void shouldGetSessionFromStoreWithCorrectUserId() throws Exception {
     when(tokenExtractor.getToken(any(HttpServletRequest.class))).thenReturn(token);
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2012-2026 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.multiuser.api.authentication.commons.token;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+
+import java.time.Clock;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Optional;
+import org.eclipse.che.commons.subject.Subject;
+import org.eclipse.che.commons.subject.SubjectImpl;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+public class VerifiedTokenCacheTest {
+
+  private static final long NOW = 1_000_000L;
+
+  private Clock clock;
+  private VerifiedTokenCache<String> cache;
+
+  @BeforeMethod
+  public void setUp() {
+    clock = mock(Clock.class);
+    when(clock.millis()).thenReturn(NOW);
+    cache = new VerifiedTokenCache<>(10, 60, clock);
+  }
+
+  @Test
+  public void shouldReturnVerifiedToken() {
+    // when
+    cache.put("token", "claims", null);
+
+    // then
+    assertEquals(cache.get("token"), Optional.of("claims"));
+    assertFalse(cache.get("other").isPresent());
+  }
+
+  @Test
+  public void shouldForgetTokenAfterItExpires() {
+    // given
+    cache.put("token", "claims", new Date(NOW + 1_000));
+
+    // when
+    when(clock.millis()).thenReturn(NOW + 1_000);
+
+    // then
+    assertFalse(cache.get("token").isPresent());
+  }
+
+  @Test
+  public void shouldForgetTokenAfterTimeToLive() {
+    // given
+    cache.put("token", "claims", new Date(NOW + 3_600_000));
+
+    // when
+    when(clock.millis()).thenReturn(NOW + 60_000);
+
+    // then
+    assertFalse(cache.get("token").isPresent());
+  }
+
+  @Test
+  public void shouldNotRememberExpiredToken() {
+    // when
+    cache.put("token", "claims", new Date(NOW - 1));
+
+    // then
+    assertFalse(cache.get("token").isPresent());
+  }
+
+  @Test
+  public void shouldRememberSubjectOfVerifiedToken() {
+    // given
+    Subject subject = new SubjectImpl("user", Collections.emptyList(), "id", "token", false);
+    cache.put("token", "claims", null);
+
+    // when
+    cache.putSubject("token", subject);
+    cache.putSubject("other", subject);
+
+    // then
+    assertEquals(cache.getSubject("token"), Optional.of(subject));
+    assertFalse(cache.getSubject("other").isPresent());
+  }
+
+  @Test
+  public void shouldInvalidateMatchingTokens() {
+    // given
+    cache.put("token1", "claims1", null);
+    cache.put("token2", "claims2", null);
+
+    // when
+    cache.invalidateIf("claims1"::equals);
+
+    // then
+    assertFalse(cache.get("token1").isPresent());
+    assertEquals(cache.get("token2"), Optional.of("claims2"));
+  }
+}
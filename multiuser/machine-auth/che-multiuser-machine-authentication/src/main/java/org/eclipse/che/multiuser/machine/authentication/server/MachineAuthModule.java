@@ -77,5 +77,6 @@ public class MachineAuthModule extends AbstractModule {
 
     bindConstant().annotatedWith(Names.named("che.auth.signature_key_size")).to(2048);
     bindConstant().annotatedWith(Names.named("che.auth.signature_key_algorithm")).to("RSA");
+    bindConstant().annotatedWith(Names.named("che.auth.signature_key_pool_size")).to(4);
   }
 }
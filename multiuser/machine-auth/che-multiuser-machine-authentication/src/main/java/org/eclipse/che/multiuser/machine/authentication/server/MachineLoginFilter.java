@@ -27,22 +27,33 @@ import jakarta.servlet.ServletRequest;
 import jakarta.servlet.ServletResponse;
 import java.io.IOException;
 import java.util.Collections;
+import java.util.Date;
 import java.util.Optional;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import org.eclipse.che.api.core.NotFoundException;
 import org.eclipse.che.api.core.ServerException;
+import org.eclipse.che.api.core.model.workspace.WorkspaceStatus;
+import org.eclipse.che.api.core.notification.EventService;
 import org.eclipse.che.api.user.server.UserManager;
+import org.eclipse.che.api.user.server.event.UserRemovedEvent;
+import org.eclipse.che.api.workspace.shared.dto.event.WorkspaceStatusEvent;
 import org.eclipse.che.commons.subject.Subject;
 import org.eclipse.che.commons.subject.SubjectImpl;
 import org.eclipse.che.multiuser.api.authentication.commons.SessionStore;
 import org.eclipse.che.multiuser.api.authentication.commons.filter.MultiUserEnvironmentInitializationFilter;
 import org.eclipse.che.multiuser.api.authentication.commons.token.RequestTokenExtractor;
+import org.eclipse.che.multiuser.api.authentication.commons.token.VerifiedTokenCache;
 import org.eclipse.che.multiuser.api.permission.server.PermissionChecker;
 
 /**
  * Handles requests that comes from machines with specific machine token.
  *
+ * <p>Only the verification of a token is kept in a {@link VerifiedTokenCache}. The subject is
+ * resolved on every request, so that a token of a removed user is rejected right away. Verified
+ * tokens are forgotten when their workspace is {@link WorkspaceStatus#STOPPED stopped} or their
+ * user is removed.
+ *
  * @author Max Shaposhnik (mshaposhnik@codenvy.com)
  * @author Anton Korneta
  */
@@ -52,6 +63,7 @@ public class MachineLoginFilter extends MultiUserEnvironmentInitializationFilter
   private final UserManager userManager;
   private final JwtParser jwtParser;
   private final PermissionChecker permissionChecker;
+  private final VerifiedTokenCache<Claims> verifiedTokens;
 
   @Inject
   public MachineLoginFilter(
@@ -60,10 +72,59 @@ public class MachineLoginFilter extends MultiUserEnvironmentInitializationFilter
       UserManager userManager,
       MachineSigningKeyResolver machineKeyResolver,
       PermissionChecker permissionChecker) {
-    super(sessionStore, tokenExtractor);
+    this(
+        sessionStore,
+        tokenExtractor,
+        userManager,
+        machineKeyResolver,
+        permissionChecker,
+        new VerifiedTokenCache<>());
+  }
+
+  private MachineLoginFilter(
+      SessionStore sessionStore,
+      RequestTokenExtractor tokenExtractor,
+      UserManager userManager,
+      MachineSigningKeyResolver machineKeyResolver,
+      PermissionChecker permissionChecker,
+      VerifiedTokenCache<Claims> verifiedTokens) {
+    super(sessionStore, tokenExtractor, verifiedTokens);
     this.userManager = userManager;
     this.jwtParser = Jwts.parser().setSigningKeyResolver(machineKeyResolver).build();
     this.permissionChecker = permissionChecker;
+    this.verifiedTokens = verifiedTokens;
+  }
+
+  /**
+   * Machine tokens are signed with the key pair of their workspace, which is dropped when the
+   * workspace stops. Verified tokens of a stopped workspace are forgotten at the same time, and so
+   * are the tokens of a removed user.
+   */
+  @Inject
+  void subscribe(EventService eventService) {
+    eventService.subscribe(
+        event -> {
+          if (event.getStatus() == WorkspaceStatus.STOPPED) {
+            invalidateTokens(event.getWorkspaceId());
+          }
+        },
+        WorkspaceStatusEvent.class);
+    eventService.subscribe(
+        event -> invalidateUserTokens(event.getUserId()), UserRemovedEvent.class);
+  }
+
+  /**
+   * Forgets the verified tokens of the given workspace. Called for the workspaces stopped by any
+   * Che Server instance.
+   */
+  public void invalidateTokens(String workspaceId) {
+    verifiedTokens.invalidateIf(
+        claims -> workspaceId.equals(claims.get(WORKSPACE_ID_CLAIM, String.class)));
+  }
+
+  /** Forgets the verified tokens of the given user. */
+  void invalidateUserTokens(String userId) {
+    verifiedTokens.invalidateIf(claims -> userId.equals(claims.get(USER_ID_CLAIM, String.class)));
   }
 
   @Override
@@ -108,6 +169,16 @@ public class MachineLoginFilter extends MultiUserEnvironmentInitializationFilter
     }
   }
 
+  @Override
+  protected boolean isSubjectCacheable() {
+    return false;
+  }
+
+  @Override
+  protected Date getExpirationTime(Claims claims) {
+    return claims.getExpiration();
+  }
+
   @Override
   protected String getUserId(Claims claims) {
     return claims.get(USER_ID_CLAIM, String.class);
@@ -16,8 +16,6 @@ import static java.lang.String.format;
 import static java.time.temporal.ChronoUnit.DAYS;
 import static org.eclipse.che.multiuser.machine.authentication.shared.Constants.MACHINE_TOKEN_KIND;
 
-import com.google.common.collect.HashBasedTable;
-import com.google.common.collect.Table;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import java.security.PrivateKey;
@@ -25,8 +23,7 @@ import java.time.Instant;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import org.eclipse.che.api.core.NotFoundException;
@@ -39,26 +36,29 @@ import org.eclipse.che.multiuser.machine.authentication.server.signature.Signatu
 import org.eclipse.che.multiuser.machine.authentication.shared.Constants;
 
 /**
- * Table-based storage of machine security tokens. Table rows is workspace id's, columns - user
- * id's. Table is synchronized externally as required by its javadoc.
+ * Storage of machine security tokens by workspace id and user id.
+ *
+ * <p>Lookups of existing tokens do not take any lock. Tokens are signed outside of any lock and
+ * stored only if there is no token for the same user and workspace yet, so concurrent callers
+ * always get the same token. Tokens of a workspace are stored and removed atomically with respect
+ * to each other, without blocking the tokens of other workspaces. A token is stored only if the
+ * tokens of its workspace were not removed while it was signed, otherwise it is signed again, so a
+ * token signed with the key of a stopped workspace is never kept.
  *
  * @author Max Shaposhnik (mshaposhnik@codenvy.com)
- * @see HashBasedTable
  */
 @Singleton
 public class MachineTokenRegistry {
 
   private final SignatureKeyManager signatureKeyManager;
   private final UserManager userManager;
-  private final Table<String, String, String> tokens;
-  private final ReadWriteLock lock;
+  private final ConcurrentHashMap<String, Map<String, String>> tokens;
 
   @Inject
   public MachineTokenRegistry(SignatureKeyManager signatureKeyManager, UserManager userManager) {
     this.signatureKeyManager = signatureKeyManager;
     this.userManager = userManager;
-    this.tokens = HashBasedTable.create();
-    this.lock = new ReentrantReadWriteLock();
+    this.tokens = new ConcurrentHashMap<>();
   }
 
   /**
@@ -71,16 +71,40 @@ public class MachineTokenRegistry {
    * @throws MachineTokenException when user with given id not found or any errors occurs
    */
   public String getOrCreateToken(String userId, String workspaceId) throws MachineTokenException {
-    lock.writeLock().lock();
-    try {
-      final Map<String, String> wsRow = tokens.row(workspaceId);
-      String token = wsRow.get(userId);
-      if (token == null) {
-        token = createToken(userId, workspaceId);
+    final Map<String, String> wsTokens = tokens.get(workspaceId);
+    final String existing = wsTokens != null ? wsTokens.get(userId) : null;
+    if (existing != null) {
+      return existing;
+    }
+    while (true) {
+      // the row is removed together with the tokens of the workspace, so the token is stored only
+      // if the row mapped before signing is still mapped
+      final Map<String, String> row =
+          tokens.computeIfAbsent(workspaceId, id -> new ConcurrentHashMap<>());
+      final String current = row.get(userId);
+      if (current != null) {
+        return current;
+      }
+      final String created;
+      try {
+        created = createToken(userId, workspaceId);
+      } catch (MachineTokenException e) {
+        tokens.computeIfPresent(
+            workspaceId, (id, mapped) -> mapped == row && mapped.isEmpty() ? null : mapped);
+        throw e;
+      }
+      final Map<String, String> mapped =
+          tokens.computeIfPresent(
+              workspaceId,
+              (id, currentRow) -> {
+                if (currentRow == row) {
+                  row.putIfAbsent(userId, created);
+                }
+                return currentRow;
+              });
+      if (mapped == row) {
+        return row.get(userId);
       }
-      return token;
-    } finally {
-      lock.writeLock().unlock();
     }
   }
 
@@ -105,10 +129,11 @@ public class MachineTokenRegistry {
       claims.put(Claims.EXPIRATION, Instant.now().plus(365, DAYS).getEpochSecond());
       claims.put(Claims.NOT_BEFORE, -1); // always
       claims.put(Claims.ISSUED_AT, Instant.now().getEpochSecond());
-      final String token =
-          Jwts.builder().setClaims(claims).setHeader(header).signWith(RS256, privateKey).compact();
-      tokens.put(workspaceId, userId, token);
-      return token;
+      return Jwts.builder()
+          .setClaims(claims)
+          .setHeader(header)
+          .signWith(RS256, privateKey)
+          .compact();
     } catch (SignatureKeyManagerException | NotFoundException | ServerException ex) {
       throw new MachineTokenException(
           format(
@@ -125,13 +150,7 @@ public class MachineTokenRegistry {
    * @return the copy of the tokens row, where row is a map where key is user id and value is token
    */
   public Map<String, String> removeTokens(String workspaceId) {
-    lock.writeLock().lock();
-    try {
-      final Map<String, String> rowCopy = new HashMap<>(tokens.row(workspaceId));
-      tokens.row(workspaceId).clear();
-      return rowCopy;
-    } finally {
-      lock.writeLock().unlock();
-    }
+    final Map<String, String> removed = tokens.remove(workspaceId);
+    return removed != null ? new HashMap<>(removed) : new HashMap<>();
   }
 }
@@ -15,7 +15,11 @@ import static org.eclipse.che.api.core.model.workspace.WorkspaceStatus.STOPPED;
 
 import com.google.common.annotations.Beta;
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import java.security.KeyFactory;
 import java.security.KeyPair;
 import java.security.KeyPairGenerator;
@@ -26,15 +30,20 @@ import java.security.spec.EncodedKeySpec;
 import java.security.spec.InvalidKeySpecException;
 import java.security.spec.PKCS8EncodedKeySpec;
 import java.security.spec.X509EncodedKeySpec;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
 import javax.inject.Inject;
 import javax.inject.Named;
 import javax.inject.Singleton;
 import org.eclipse.che.api.core.ConflictException;
 import org.eclipse.che.api.core.NotFoundException;
 import org.eclipse.che.api.core.ServerException;
+import org.eclipse.che.api.core.model.workspace.WorkspaceStatus;
 import org.eclipse.che.api.core.notification.EventService;
 import org.eclipse.che.api.core.notification.EventSubscriber;
 import org.eclipse.che.api.workspace.shared.dto.event.WorkspaceStatusEvent;
+import org.eclipse.che.commons.lang.concurrent.BackgroundGeneratedPool;
 import org.eclipse.che.multiuser.machine.authentication.server.signature.model.impl.SignatureKeyPairImpl;
 import org.eclipse.che.multiuser.machine.authentication.server.signature.spi.SignatureKeyDao;
 import org.slf4j.Logger;
@@ -43,6 +52,15 @@ import org.slf4j.LoggerFactory;
 /**
  * Manages signature keys.
  *
+ * <p>Key pairs are kept decoded in memory once they are loaded or created, a key pair of a
+ * workspace is loaded or created by a single thread while the others wait for it. Key pairs of new
+ * workspaces are taken from a {@link BackgroundGeneratedPool pool} generated in the background.
+ *
+ * <p>The key pair kept in memory is forgotten when the workspace is {@link
+ * WorkspaceStatus#STOPPED stopped}, not when the key pair is removed from the database. A key pair
+ * forgotten while it was being loaded is loaded again, as the loaded one may have been removed
+ * meanwhile.
+ *
  * @author Anton Korneta
  */
 @Beta
@@ -54,10 +72,13 @@ public class SignatureKeyManager {
 
   private static final Logger LOG = LoggerFactory.getLogger(SignatureKeyManager.class);
 
-  private final int keySize;
+  private static final long MAX_CACHED_KEY_PAIRS = 10_000;
 
   private final String algorithm;
   private final SignatureKeyDao signatureKeyDao;
+  private final BackgroundGeneratedPool<KeyPair, NoSuchAlgorithmException> keyPairPool;
+  private final Cache<String, LoadedKeyPair> keyPairs;
+  private final ConcurrentMap<String, LoadedKeyPair> loading = new ConcurrentHashMap<>();
   private final EventService eventService;
   private final EventSubscriber<?> workspaceEventsSubscriber;
 
@@ -65,10 +86,20 @@ public class SignatureKeyManager {
   public SignatureKeyManager(
       @Named("che.auth.signature_key_size") int keySize,
       @Named("che.auth.signature_key_algorithm") String algorithm,
+      @Named("che.auth.signature_key_pool_size") int keyPoolSize,
       EventService eventService,
       SignatureKeyDao signatureKeyDao) {
-    this.keySize = keySize;
     this.algorithm = algorithm;
+    this.keyPairPool =
+        new BackgroundGeneratedPool<>(
+            "SignatureKeyPairPool",
+            keyPoolSize,
+            () -> {
+              KeyPairGenerator kpg = KeyPairGenerator.getInstance(algorithm);
+              kpg.initialize(keySize);
+              return kpg.generateKeyPair();
+            });
+    this.keyPairs = CacheBuilder.newBuilder().maximumSize(MAX_CACHED_KEY_PAIRS).build();
     this.eventService = eventService;
     this.signatureKeyDao = signatureKeyDao;
     this.workspaceEventsSubscriber =
@@ -89,14 +120,64 @@ public class SignatureKeyManager {
    *     or keyspec) or other error
    */
   public KeyPair getOrCreateKeyPair(String workspaceId) throws SignatureKeyManagerException {
+    while (true) {
+      LoadedKeyPair loaded;
+      try {
+        loaded = keyPairs.get(workspaceId, () -> load(workspaceId));
+      } catch (ExecutionException | UncheckedExecutionException e) {
+        if (e.getCause() instanceof SignatureKeyManagerException) {
+          throw (SignatureKeyManagerException) e.getCause();
+        }
+        throw new SignatureKeyManagerException(e.getCause().getMessage(), e.getCause());
+      }
+      // the key pair is cached now, so the following invalidations remove it from the cache
+      loading.remove(workspaceId, loaded);
+      if (!loaded.invalidated) {
+        return loaded.keyPair;
+      }
+      keyPairs.asMap().remove(workspaceId, loaded);
+    }
+  }
+
+  /**
+   * Forgets the key pair of the given workspace kept in memory, e.g. when the key pair was removed
+   * by another Che Server instance.
+   */
+  public void invalidateKeyPair(String workspaceId) {
+    // the cache keeps the key pairs which are being loaded when they are invalidated
+    LoadedKeyPair inFlight = loading.get(workspaceId);
+    if (inFlight != null) {
+      inFlight.invalidated = true;
+    }
+    keyPairs.invalidate(workspaceId);
+  }
+
+  private LoadedKeyPair load(String workspaceId) throws SignatureKeyManagerException {
+    LoadedKeyPair loaded = new LoadedKeyPair();
+    loading.put(workspaceId, loaded);
+    try {
+      loaded.keyPair = loadOrCreateKeyPair(workspaceId);
+      return loaded;
+    } catch (SignatureKeyManagerException | RuntimeException e) {
+      loading.remove(workspaceId, loaded);
+      throw e;
+    }
+  }
+
+  private KeyPair loadOrCreateKeyPair(String workspaceId) throws SignatureKeyManagerException {
     SignatureKeyPair keyPair;
     try {
       try {
         keyPair = signatureKeyDao.get(workspaceId);
       } catch (NotFoundException e) {
-        keyPair = generateKeyPair(workspaceId);
+        try {
+          keyPair = generateKeyPair(workspaceId);
+        } catch (ConflictException ex) {
+          // created concurrently by another Che Server instance
+          keyPair = signatureKeyDao.get(workspaceId);
+        }
       }
-    } catch (NoSuchAlgorithmException | ServerException | ConflictException ex) {
+    } catch (NoSuchAlgorithmException | ServerException | NotFoundException ex) {
       LOG.error(
           "Failed to load signature keys for ws  {}. Cause: {}", workspaceId, ex.getMessage());
       throw new SignatureKeyManagerException(ex.getMessage(), ex);
@@ -115,6 +196,8 @@ public class SignatureKeyManager {
           "Unable to cleanup machine token signature keypairs for ws {}. Cause: {}",
           workspaceId,
           e.getMessage());
+    } finally {
+      invalidateKeyPair(workspaceId);
     }
   }
 
@@ -122,9 +205,7 @@ public class SignatureKeyManager {
   SignatureKeyPair generateKeyPair(String workspaceId)
       throws NoSuchAlgorithmException, ServerException, ConflictException {
     try {
-      KeyPairGenerator kpg = KeyPairGenerator.getInstance(algorithm);
-      kpg.initialize(keySize);
-      final KeyPair pair = kpg.generateKeyPair();
+      final KeyPair pair = keyPairPool.take();
       final SignatureKeyPairImpl kp =
           new SignatureKeyPairImpl(workspaceId, pair.getPublic(), pair.getPrivate());
       LOG.debug(
@@ -173,5 +254,18 @@ public class SignatureKeyManager {
   @PostConstruct
   void subscribe() {
     eventService.subscribe(workspaceEventsSubscriber);
+    keyPairPool.refill();
+  }
+
+  @PreDestroy
+  void shutdown() {
+    eventService.unsubscribe(workspaceEventsSubscriber);
+    keyPairPool.shutdown();
+  }
+
+  /** Key pair loaded into the cache, marked when it is invalidated before it gets there. */
+  private static class LoadedKeyPair {
+    private KeyPair keyPair;
+    private volatile boolean invalidated;
   }
 }
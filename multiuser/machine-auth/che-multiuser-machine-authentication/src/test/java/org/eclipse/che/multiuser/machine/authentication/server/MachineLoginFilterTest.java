@@ -18,8 +18,11 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.clearInvocations;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -40,9 +43,14 @@ import java.util.Map;
 import org.eclipse.che.api.core.NotFoundException;
 import org.eclipse.che.api.core.ServerException;
 import org.eclipse.che.api.core.model.user.User;
+import org.eclipse.che.api.core.model.workspace.WorkspaceStatus;
+import org.eclipse.che.api.core.notification.EventService;
 import org.eclipse.che.api.user.server.UserManager;
+import org.eclipse.che.api.user.server.event.UserRemovedEvent;
+import org.eclipse.che.api.workspace.shared.dto.event.WorkspaceStatusEvent;
 import org.eclipse.che.commons.subject.Subject;
 import org.eclipse.che.commons.subject.SubjectImpl;
+import org.eclipse.che.dto.server.DtoFactory;
 import org.eclipse.che.multiuser.api.authentication.commons.SessionStore;
 import org.eclipse.che.multiuser.api.authentication.commons.token.RequestTokenExtractor;
 import org.eclipse.che.multiuser.api.permission.server.PermissionChecker;
@@ -128,6 +136,79 @@ public class MachineLoginFilterTest {
     verifyNoMoreInteractions(responseMock);
   }
 
+  @Test
+  public void testNotVerifyTokenAgainWhenItWasVerified() throws Exception {
+    machineLoginFilter.doFilter(getRequestMock(), responseMock, chainMock);
+    clearInvocations(keyManagerMock);
+
+    machineLoginFilter.doFilter(getRequestMock(), responseMock, chainMock);
+
+    verify(keyManagerMock, never()).getOrCreateKeyPair(anyString());
+    verify(userManagerMock, times(2)).getById(anyString());
+    verifyNoMoreInteractions(responseMock);
+  }
+
+  @Test
+  public void testVerifyTokenAgainWhenWorkspaceIsStopped() throws Exception {
+    final EventService eventService = new EventService();
+    machineLoginFilter.subscribe(eventService);
+    machineLoginFilter.doFilter(getRequestMock(), responseMock, chainMock);
+    clearInvocations(keyManagerMock);
+
+    eventService.publish(
+        DtoFactory.newDto(WorkspaceStatusEvent.class)
+            .withWorkspaceId(WORKSPACE_ID)
+            .withStatus(WorkspaceStatus.STOPPED));
+    machineLoginFilter.doFilter(getRequestMock(), responseMock, chainMock);
+
+    verify(keyManagerMock, atLeastOnce()).getOrCreateKeyPair(eq(WORKSPACE_ID));
+    verifyNoMoreInteractions(responseMock);
+  }
+
+  @Test
+  public void testRejectTokenWhenWorkspaceIsStoppedByAnotherInstance() throws Exception {
+    machineLoginFilter.doFilter(getRequestMock(), responseMock, chainMock);
+    final KeyPairGenerator kpg = KeyPairGenerator.getInstance(SIGNATURE_ALGORITHM);
+    kpg.initialize(KEY_SIZE);
+    when(keyManagerMock.getOrCreateKeyPair(eq(WORKSPACE_ID))).thenReturn(kpg.generateKeyPair());
+
+    machineLoginFilter.invalidateTokens(WORKSPACE_ID);
+    machineLoginFilter.doFilter(getRequestMock(), responseMock, chainMock);
+
+    verify(responseMock)
+        .sendError(
+            401,
+            "Machine token authentication failed: JWT signature does not match locally computed signature."
+                + " JWT validity cannot be asserted and should not be trusted.");
+  }
+
+  @Test
+  public void testRejectTokenWhenUserIsRemoved() throws Exception {
+    final EventService eventService = new EventService();
+    machineLoginFilter.subscribe(eventService);
+    machineLoginFilter.doFilter(getRequestMock(), responseMock, chainMock);
+    clearInvocations(keyManagerMock);
+    when(userManagerMock.getById(anyString())).thenThrow(new NotFoundException("User not found"));
+
+    eventService.publish(new UserRemovedEvent(SUBJECT.getUserId()));
+    machineLoginFilter.doFilter(getRequestMock(), responseMock, chainMock);
+
+    verify(keyManagerMock, atLeastOnce()).getOrCreateKeyPair(eq(WORKSPACE_ID));
+    verify(responseMock)
+        .sendError(401, "Machine token authentication failed: Corresponding user doesn't exist.");
+  }
+
+  @Test
+  public void testRejectTokenOfRemovedUserWhenItWasVerified() throws Exception {
+    machineLoginFilter.doFilter(getRequestMock(), responseMock, chainMock);
+    when(userManagerMock.getById(anyString())).thenThrow(new NotFoundException("User not found"));
+
+    machineLoginFilter.doFilter(getRequestMock(), responseMock, chainMock);
+
+    verify(responseMock)
+        .sendError(401, "Machine token authentication failed: Corresponding user doesn't exist.");
+  }
+
   @Test
   public void testNotProceedRequestWhenSignatureCheckIsFailed() throws Exception {
     final HttpServletRequest requestMock = getRequestMock();
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2012-2026 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.multiuser.machine.authentication.server;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertTrue;
+
+import io.jsonwebtoken.Jwts;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.che.api.core.model.user.User;
+import org.eclipse.che.api.user.server.UserManager;
+import org.eclipse.che.multiuser.machine.authentication.server.signature.SignatureKeyManager;
+import org.mockito.Mock;
+import org.mockito.testng.MockitoTestNGListener;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+/** Tests {@link MachineTokenRegistry}. */
+@Listeners(MockitoTestNGListener.class)
+public class MachineTokenRegistryTest {
+
+  private static final String WORKSPACE_ID = "workspace1";
+  private static final String USER_ID = "user1";
+
+  @Mock private SignatureKeyManager signatureKeyManager;
+  @Mock private UserManager userManager;
+  @Mock private User user;
+
+  private KeyPair keyPair;
+  private MachineTokenRegistry registry;
+
+  @BeforeClass
+  public void generateKeyPair() throws Exception {
+    keyPair = newKeyPair();
+  }
+
+  @BeforeMethod
+  public void setUp() throws Exception {
+    lenient().when(signatureKeyManager.getOrCreateKeyPair(anyString())).thenReturn(keyPair);
+    when(userManager.getById(anyString())).thenReturn(user);
+    when(user.getName()).thenReturn("name");
+    registry = new MachineTokenRegistry(signatureKeyManager, userManager);
+  }
+
+  @Test
+  public void shouldReturnExistingToken() throws Exception {
+    String created = registry.getOrCreateToken(USER_ID, WORKSPACE_ID);
+
+    String existing = registry.getOrCreateToken(USER_ID, WORKSPACE_ID);
+
+    assertEquals(existing, created);
+    verify(signatureKeyManager, times(1)).getOrCreateKeyPair(WORKSPACE_ID);
+  }
+
+  @Test
+  public void shouldCreateTokensPerUserAndWorkspace() throws Exception {
+    String token = registry.getOrCreateToken(USER_ID, WORKSPACE_ID);
+
+    assertNotEquals(registry.getOrCreateToken("user2", WORKSPACE_ID), token);
+    assertNotEquals(registry.getOrCreateToken(USER_ID, "workspace2"), token);
+  }
+
+  @Test
+  public void shouldRemoveTokensOfWorkspace() throws Exception {
+    String token = registry.getOrCreateToken(USER_ID, WORKSPACE_ID);
+    String otherWorkspaceToken = registry.getOrCreateToken(USER_ID, "workspace2");
+
+    Map<String, String> removed = registry.removeTokens(WORKSPACE_ID);
+
+    assertEquals(removed, Map.of(USER_ID, token));
+    assertTrue(registry.removeTokens(WORKSPACE_ID).isEmpty());
+    assertNotEquals(registry.getOrCreateToken(USER_ID, WORKSPACE_ID), token);
+    assertEquals(registry.getOrCreateToken(USER_ID, "workspace2"), otherWorkspaceToken);
+  }
+
+  @Test
+  public void shouldReturnSameTokenToConcurrentCallers() throws Exception {
+    int callers = 8;
+    ExecutorService executor = Executors.newFixedThreadPool(callers);
+    try {
+      List<Callable<String>> calls = new ArrayList<>();
+      for (int i = 0; i < callers; i++) {
+        calls.add(() -> registry.getOrCreateToken(USER_ID, WORKSPACE_ID));
+      }
+
+      Set<String> tokens = new HashSet<>();
+      for (Future<String> future : executor.invokeAll(calls)) {
+        tokens.add(future.get());
+      }
+
+      assertEquals(tokens.size(), 1);
+      assertEquals(registry.removeTokens(WORKSPACE_ID).get(USER_ID), tokens.iterator().next());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void shouldNotStoreTokenSignedBeforeTokensOfWorkspaceWereRemoved() throws Exception {
+    KeyPair newKeyPair = newKeyPair();
+    CountDownLatch signing = new CountDownLatch(1);
+    CountDownLatch removed = new CountDownLatch(1);
+    when(signatureKeyManager.getOrCreateKeyPair(WORKSPACE_ID))
+        .thenAnswer(
+            invocation -> {
+              signing.countDown();
+              removed.await(10, TimeUnit.SECONDS);
+              return keyPair;
+            })
+        .thenReturn(newKeyPair);
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      Future<String> token =
+          executor.submit(() -> registry.getOrCreateToken(USER_ID, WORKSPACE_ID));
+      assertTrue(signing.await(10, TimeUnit.SECONDS));
+
+      registry.removeTokens(WORKSPACE_ID);
+      removed.countDown();
+
+      String created = token.get(10, TimeUnit.SECONDS);
+      assertEquals(registry.removeTokens(WORKSPACE_ID), Map.of(USER_ID, created));
+      // signed with the key created after the removal
+      Jwts.parser().verifyWith(newKeyPair.getPublic()).build().parseSignedClaims(created);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private static KeyPair newKeyPair() throws Exception {
+    KeyPairGenerator kpg = KeyPairGenerator.getInstance("RSA");
+    kpg.initialize(2048);
+    return kpg.generateKeyPair();
+  }
+}
@@ -11,18 +11,24 @@
  */
 package org.eclipse.che.multiuser.machine.authentication.server.signature;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertSame;
 
 import java.security.Key;
 import java.security.KeyPair;
 import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import org.eclipse.che.api.core.ConflictException;
+import org.eclipse.che.api.core.NotFoundException;
 import org.eclipse.che.api.core.model.workspace.WorkspaceStatus;
 import org.eclipse.che.api.core.notification.EventService;
 import org.eclipse.che.api.core.notification.EventSubscriber;
@@ -63,7 +69,7 @@ public class SignatureKeyManagerTest {
     kpg = KeyPairGenerator.getInstance(ALGORITHM);
     kpg.initialize(KEY_SIZE);
     signatureKeyManager =
-        new SignatureKeyManager(KEY_SIZE, ALGORITHM, eventService, signatureKeyDao);
+        new SignatureKeyManager(KEY_SIZE, ALGORITHM, 0, eventService, signatureKeyDao);
   }
 
   @Test
@@ -81,6 +87,16 @@ public class SignatureKeyManagerTest {
     verify(signatureKeyDao, times(1)).remove(eq(wsId));
   }
 
+  @Test
+  public void shouldUnsubscribeOnShutdown() {
+    signatureKeyManager.subscribe();
+    verify(eventService).subscribe(captor.capture());
+
+    signatureKeyManager.shutdown();
+
+    verify(eventService).unsubscribe(captor.getValue());
+  }
+
   @Test(expectedExceptions = SignatureKeyManagerException.class)
   public void shouldThrowsExceptionWhenAlgorithmIsNotSupported() throws Exception {
     final SignatureKeyImpl publicKey = new SignatureKeyImpl(new byte[] {}, "ECDH", "PKCS#15");
@@ -106,6 +122,97 @@ public class SignatureKeyManagerTest {
     assertKeys(cachedPair.getPrivate(), kp.getPrivateKey());
   }
 
+  @Test
+  public void shouldDecodeKeyPairOnce() throws Exception {
+    String wsId = "WS_id_1";
+    when(signatureKeyDao.get(wsId)).thenReturn(newKeyPair(wsId));
+
+    final KeyPair first = signatureKeyManager.getOrCreateKeyPair(wsId);
+    final KeyPair second = signatureKeyManager.getOrCreateKeyPair(wsId);
+
+    assertSame(second, first);
+    verify(signatureKeyDao, times(1)).get(wsId);
+  }
+
+  @Test
+  public void shouldLoadKeyPairAgainWhenItWasInvalidated() throws Exception {
+    String wsId = "WS_id_1";
+    when(signatureKeyDao.get(wsId)).thenReturn(newKeyPair(wsId));
+    signatureKeyManager.getOrCreateKeyPair(wsId);
+
+    signatureKeyManager.invalidateKeyPair(wsId);
+    signatureKeyManager.getOrCreateKeyPair(wsId);
+
+    verify(signatureKeyDao, times(2)).get(wsId);
+  }
+
+  @Test
+  public void shouldLoadKeyPairAgainWhenItWasRemoved() throws Exception {
+    String wsId = "WS_id_1";
+    when(signatureKeyDao.get(wsId)).thenReturn(newKeyPair(wsId));
+    signatureKeyManager.getOrCreateKeyPair(wsId);
+
+    signatureKeyManager.removeKeyPair(wsId);
+    signatureKeyManager.getOrCreateKeyPair(wsId);
+
+    verify(signatureKeyDao).remove(wsId);
+    verify(signatureKeyDao, times(2)).get(wsId);
+  }
+
+  @Test
+  public void shouldNotKeepKeyPairRemovedWhileItWasLoaded() throws Exception {
+    String wsId = "WS_id_1";
+    final SignatureKeyPairImpl removed = newKeyPair(wsId);
+    final SignatureKeyPairImpl current = newKeyPair(wsId);
+    when(signatureKeyDao.get(wsId))
+        .thenAnswer(
+            invocation -> {
+              // the workspace stops after the key pair is read but before it is cached
+              signatureKeyManager.removeKeyPair(wsId);
+              return removed;
+            })
+        .thenReturn(current);
+
+    final KeyPair loaded = signatureKeyManager.getOrCreateKeyPair(wsId);
+    final KeyPair cached = signatureKeyManager.getOrCreateKeyPair(wsId);
+
+    assertKeys(loaded.getPublic(), current.getPublicKey());
+    assertSame(cached, loaded);
+    verify(signatureKeyDao, times(2)).get(wsId);
+  }
+
+  @Test
+  public void shouldCreateKeyPairWhenItDoesNotExist() throws Exception {
+    String wsId = "WS_id_1";
+    final SignatureKeyPairImpl kp = newKeyPair(wsId);
+    when(signatureKeyDao.get(wsId)).thenThrow(new NotFoundException("not found"));
+    when(signatureKeyDao.create(any())).thenReturn(kp);
+
+    final KeyPair created = signatureKeyManager.getOrCreateKeyPair(wsId);
+
+    assertKeys(created.getPublic(), kp.getPublicKey());
+    assertKeys(created.getPrivate(), kp.getPrivateKey());
+  }
+
+  @Test
+  public void shouldUseKeyPairCreatedConcurrently() throws Exception {
+    String wsId = "WS_id_1";
+    final SignatureKeyPairImpl kp = newKeyPair(wsId);
+    when(signatureKeyDao.get(wsId)).thenThrow(new NotFoundException("not found")).thenReturn(kp);
+    doThrow(new ConflictException("conflict")).when(signatureKeyDao).create(any());
+
+    final KeyPair loaded = signatureKeyManager.getOrCreateKeyPair(wsId);
+
+    assertKeys(loaded.getPublic(), kp.getPublicKey());
+    assertKeys(loaded.getPrivate(), kp.getPrivateKey());
+  }
+
+  @Test(expectedExceptions = NoSuchAlgorithmException.class)
+  public void shouldThrowExceptionWhenKeyPairAlgorithmIsNotSupported() throws Exception {
+    new SignatureKeyManager(KEY_SIZE, "unknown", 0, eventService, signatureKeyDao)
+        .generateKeyPair("ws1");
+  }
+
   private SignatureKeyPairImpl newKeyPair(String id) {
     final KeyPair pair = kpg.generateKeyPair();
     return new SignatureKeyPairImpl(id, pair.getPublic(), pair.getPrivate());
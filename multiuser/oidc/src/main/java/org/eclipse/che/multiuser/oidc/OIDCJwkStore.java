@@ -0,0 +1,244 @@
+/*
+ * Copyright (c) 2012-2026 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.multiuser.oidc;
+
+import static java.lang.String.format;
+
+import com.auth0.jwk.InvalidPublicKeyException;
+import com.auth0.jwk.Jwk;
+import com.auth0.jwk.JwkException;
+import com.auth0.jwk.SigningKeyNotFoundException;
+import com.auth0.jwk.UrlJwkProvider;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Strings;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.security.PublicKey;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import org.eclipse.che.commons.lang.concurrent.LoggingUncaughtExceptionHandler;
+import org.eclipse.che.inject.ConfigurationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps the public keys of the OIDC provider, fetched from its JWKS endpoint.
+ *
+ * <p>Keys are served from an immutable snapshot without any locking. The snapshot is refreshed in
+ * the background once per refresh interval, starting right after the store is created, while the
+ * current keys are still served. A snapshot older than the refresh interval, e.g. because the
+ * scheduled refresh failed, is also refreshed when its keys are requested. A key id which is not in
+ * the snapshot, e.g. after the provider rotated its keys, causes a fetch of the key set which is
+ * shared by all the concurrent callers; such fetches are started no more often than once per
+ * minimal fetch interval. If a fetch fails the previous keys are kept, so an outage of the provider
+ * does not break validation of tokens signed with known keys.
+ */
+@Singleton
+public class OIDCJwkStore {
+
+  private static final Logger LOG = LoggerFactory.getLogger(OIDCJwkStore.class);
+
+  private static final long REFRESH_INTERVAL_MILLIS = TimeUnit.MINUTES.toMillis(5);
+  private static final long MIN_FETCH_INTERVAL_MILLIS = TimeUnit.SECONDS.toMillis(10);
+  private static final long FETCH_TIMEOUT_SEC = 30;
+
+  private final UrlJwkProvider source;
+  private final long refreshIntervalMillis;
+  private final long minFetchIntervalMillis;
+  private final ScheduledExecutorService executor;
+  private final AtomicReference<CompletableFuture<KeySet>> fetch = new AtomicReference<>();
+
+  private volatile KeySet keys = KeySet.EMPTY;
+  private volatile long lastFetchStartedAt;
+
+  @Inject
+  public OIDCJwkStore(OIDCInfo oidcInfo) throws MalformedURLException {
+    this(
+        new UrlJwkProvider(new URL(jwksUrlOf(oidcInfo))),
+        REFRESH_INTERVAL_MILLIS,
+        MIN_FETCH_INTERVAL_MILLIS);
+  }
+
+  @VisibleForTesting
+  OIDCJwkStore(UrlJwkProvider source, long refreshIntervalMillis, long minFetchIntervalMillis) {
+    this.source = source;
+    this.refreshIntervalMillis = refreshIntervalMillis;
+    this.minFetchIntervalMillis = minFetchIntervalMillis;
+    this.executor =
+        new ScheduledThreadPoolExecutor(
+            1,
+            new ThreadFactoryBuilder()
+                .setUncaughtExceptionHandler(LoggingUncaughtExceptionHandler.getInstance())
+                .setNameFormat(OIDCJwkStore.class.getSimpleName() + "-%d")
+                .setDaemon(true)
+                .build());
+  }
+
+  /** Schedules the periodic refresh of the keys, the first one starts immediately. */
+  @PostConstruct
+  public void start() {
+    if (refreshIntervalMillis > 0) {
+      executor.scheduleWithFixedDelay(
+          this::startFetch, 0, refreshIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  /** Stops the periodic refresh and the running fetch. */
+  @PreDestroy
+  public void shutdown() {
+    executor.shutdownNow();
+  }
+
+  /**
+   * Returns the public key with the given id.
+   *
+   * @param kid id of the key
+   * @throws SigningKeyNotFoundException if the provider does not have the key with the given id, or
+   *     the key set could not be fetched
+   */
+  public PublicKey getPublicKey(String kid) throws JwkException {
+    KeySet current = keys;
+    PublicKey key = current.get(kid);
+    if (key != null) {
+      if (System.currentTimeMillis() - current.fetchedAt >= refreshIntervalMillis) {
+        startFetch();
+      }
+      return key;
+    }
+
+    try {
+      current = fetchAsync().get(FETCH_TIMEOUT_SEC, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new SigningKeyNotFoundException("Interrupted while fetching the OIDC provider keys", e);
+    } catch (ExecutionException e) {
+      throw new SigningKeyNotFoundException(
+          "Failed to fetch the OIDC provider keys", e.getCause() != null ? e.getCause() : e);
+    } catch (TimeoutException e) {
+      throw new SigningKeyNotFoundException("Timed out fetching the OIDC provider keys", e);
+    }
+    key = current.get(kid);
+    if (key == null) {
+      throw new SigningKeyNotFoundException(
+          format("No key with id '%s' is provided by the OIDC provider", kid), null);
+    }
+    return key;
+  }
+
+  /**
+   * Starts fetching the key set unless it is already being fetched or was fetched too recently,
+   * returns the future of the running fetch or the current keys.
+   */
+  private CompletableFuture<KeySet> fetchAsync() {
+    startFetch();
+    CompletableFuture<KeySet> running = fetch.get();
+    return running != null ? running : CompletableFuture.completedFuture(keys);
+  }
+
+  /**
+   * Starts fetching the key set in the background unless it is already being fetched or was fetched
+   * too recently. A failure of the fetch is logged and the current keys are kept.
+   */
+  private void startFetch() {
+    if (fetch.get() != null) {
+      return;
+    }
+    long now = System.currentTimeMillis();
+    if (now - lastFetchStartedAt < minFetchIntervalMillis) {
+      return;
+    }
+    CompletableFuture<KeySet> started = new CompletableFuture<>();
+    if (!fetch.compareAndSet(null, started)) {
+      return;
+    }
+    lastFetchStartedAt = now;
+    try {
+      executor.execute(
+          () -> {
+            try {
+              KeySet fetched = KeySet.of(source.getAll(), System.currentTimeMillis());
+              keys = fetched;
+              fetch.set(null);
+              started.complete(fetched);
+            } catch (Exception e) {
+              LOG.warn(
+                  "Failed to fetch the OIDC provider keys, the previous keys are kept. Cause: {}",
+                  e.getMessage());
+              fetch.set(null);
+              started.completeExceptionally(e);
+            }
+          });
+    } catch (RejectedExecutionException e) {
+      // the store is shut down
+      fetch.set(null);
+      started.completeExceptionally(e);
+    }
+  }
+
+  private static String jwksUrlOf(OIDCInfo oidcInfo) {
+    final String jwksUrl =
+        Strings.isNullOrEmpty(oidcInfo.getJwksInternalUri())
+            ? oidcInfo.getJwksPublicUri()
+            : oidcInfo.getJwksInternalUri();
+    if (jwksUrl == null) {
+      throw new ConfigurationException("Jwks endpoint url not found in keycloak settings");
+    }
+    return jwksUrl;
+  }
+
+  /** Immutable public keys of the provider by key id. */
+  private static final class KeySet {
+
+    private static final KeySet EMPTY = new KeySet(ImmutableMap.of(), 0);
+
+    private final Map<String, PublicKey> keys;
+    private final long fetchedAt;
+
+    private KeySet(Map<String, PublicKey> keys, long fetchedAt) {
+      this.keys = keys;
+      this.fetchedAt = fetchedAt;
+    }
+
+    private static KeySet of(List<Jwk> jwks, long fetchedAt) {
+      ImmutableMap.Builder<String, PublicKey> keys = ImmutableMap.builder();
+      for (Jwk jwk : jwks) {
+        if (jwk.getId() == null) {
+          continue;
+        }
+        try {
+          keys.put(jwk.getId(), jwk.getPublicKey());
+        } catch (InvalidPublicKeyException e) {
+          LOG.debug("Skipping unsupported OIDC provider key '{}': {}", jwk.getId(), e.getMessage());
+        }
+      }
+      return new KeySet(keys.buildKeepingLast(), fetchedAt);
+    }
+
+    private PublicKey get(String kid) {
+      return keys.get(kid);
+    }
+  }
+}
@@ -12,7 +12,6 @@
 package org.eclipse.che.multiuser.oidc;
 
 import com.auth0.jwk.JwkException;
-import com.auth0.jwk.JwkProvider;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwsHeader;
 import io.jsonwebtoken.JwtException;
@@ -28,13 +27,13 @@ import org.slf4j.LoggerFactory;
 @Singleton
 public class OIDCSigningKeyResolver extends SigningKeyResolverAdapter {
 
-  private final JwkProvider jwkProvider;
+  private final OIDCJwkStore jwkStore;
 
   private static final Logger LOG = LoggerFactory.getLogger(OIDCSigningKeyResolver.class);
 
   @Inject
-  protected OIDCSigningKeyResolver(JwkProvider jwkProvider) {
-    this.jwkProvider = jwkProvider;
+  protected OIDCSigningKeyResolver(OIDCJwkStore jwkStore) {
+    this.jwkStore = jwkStore;
   }
 
   @Override
@@ -47,7 +46,7 @@ public class OIDCSigningKeyResolver extends SigningKeyResolverAdapter {
     return getJwtPublicKey(header);
   }
 
-  protected synchronized PublicKey getJwtPublicKey(JwsHeader header) {
+  protected PublicKey getJwtPublicKey(JwsHeader header) {
     String kid = header.getKeyId();
     if (kid == null) {
       LOG.warn(
@@ -55,7 +54,7 @@ public class OIDCSigningKeyResolver extends SigningKeyResolverAdapter {
       throw new JwtException("'kid' is missing in the JWT token header.");
     }
     try {
-      return jwkProvider.get(kid).getPublicKey();
+      return jwkStore.getPublicKey(kid);
     } catch (JwkException e) {
       throw new JwtException(
           "Error during the retrieval of the public key during JWT token validation", e);
@@ -22,6 +22,7 @@ import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jws;
 import io.jsonwebtoken.JwtParser;
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.List;
 import java.util.Optional;
 import javax.inject.Inject;
@@ -33,6 +34,7 @@ import org.eclipse.che.commons.subject.SubjectImpl;
 import org.eclipse.che.multiuser.api.authentication.commons.SessionStore;
 import org.eclipse.che.multiuser.api.authentication.commons.filter.MultiUserEnvironmentInitializationFilter;
 import org.eclipse.che.multiuser.api.authentication.commons.token.RequestTokenExtractor;
+import org.eclipse.che.multiuser.api.authentication.commons.token.VerifiedTokenCache;
 import org.eclipse.che.multiuser.api.permission.server.AuthorizedSubject;
 import org.eclipse.che.multiuser.api.permission.server.PermissionChecker;
 import org.slf4j.Logger;
@@ -78,7 +80,7 @@ public class OidcTokenInitializationFilter
       @Nullable @Named(OIDC_GROUPS_CLAIM_SETTING) String groupsClaim,
       @Nullable @Named(OIDC_GROUP_PREFIX_SETTING) String groupPrefix,
       @Nullable @Named(OIDC_EMAIL_CLAIM_SETTING) String emailClaim) {
-    super(sessionStore, tokenExtractor);
+    super(sessionStore, tokenExtractor, new VerifiedTokenCache<>());
     this.permissionChecker = permissionChecker;
     this.jwtParser = jwtParser;
     this.emailClaim = isNullOrEmpty(emailClaim) ? DEFAULT_EMAIL_CLAIM : emailClaim;
@@ -93,6 +95,11 @@ public class OidcTokenInitializationFilter
     return Optional.ofNullable(jwtParser.parseClaimsJws(token));
   }
 
+  @Override
+  protected Date getExpirationTime(Jws<Claims> processedToken) {
+    return processedToken.getBody().getExpiration();
+  }
+
   @Override
   protected String getUserId(Jws<Claims> processedToken) {
     return processedToken.getBody().getSubject();
@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2012-2026 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.multiuser.oidc;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
+
+import com.auth0.jwk.SigningKeyNotFoundException;
+import com.auth0.jwk.UrlJwkProvider;
+import com.sun.net.httpserver.HttpServer;
+import java.math.BigInteger;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.RSAPublicKey;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+public class OIDCJwkStoreTest {
+
+  private RSAPublicKey key1;
+  private RSAPublicKey key2;
+
+  private HttpServer server;
+  private URL jwksUrl;
+  private final AtomicInteger requests = new AtomicInteger();
+  private volatile String jwks;
+  private volatile int status;
+
+  @BeforeClass
+  public void generateKeys() throws Exception {
+    KeyPairGenerator kpg = KeyPairGenerator.getInstance("RSA");
+    kpg.initialize(2048);
+    key1 = (RSAPublicKey) kpg.generateKeyPair().getPublic();
+    key2 = (RSAPublicKey) kpg.generateKeyPair().getPublic();
+  }
+
+  @BeforeMethod
+  public void setUp() throws Exception {
+    requests.set(0);
+    status = 200;
+    jwks = jwks(jwk("key1", key1));
+    server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+    server.createContext(
+        "/jwks",
+        exchange -> {
+          requests.incrementAndGet();
+          byte[] body = jwks.getBytes(UTF_8);
+          exchange.getResponseHeaders().add("Content-Type", "application/json");
+          exchange.sendResponseHeaders(status, body.length);
+          exchange.getResponseBody().write(body);
+          exchange.close();
+        });
+    server.start();
+    jwksUrl = new URL("http://127.0.0.1:" + server.getAddress().getPort() + "/jwks");
+  }
+
+  @AfterMethod
+  public void tearDown() {
+    server.stop(0);
+  }
+
+  @Test
+  public void shouldFetchKeysOnceAndServeThemFromSnapshot() throws Exception {
+    // given
+    OIDCJwkStore store = new OIDCJwkStore(new UrlJwkProvider(jwksUrl), 60_000, 60_000);
+
+    // when
+    store.getPublicKey("key1");
+    store.getPublicKey("key1");
+
+    // then
+    assertEquals(store.getPublicKey("key1"), key1);
+    assertEquals(requests.get(), 1);
+  }
+
+  @Test
+  public void shouldFetchKeysAgainForUnknownKeyId() throws Exception {
+    // given
+    OIDCJwkStore store = new OIDCJwkStore(new UrlJwkProvider(jwksUrl), 60_000, 0);
+    store.getPublicKey("key1");
+    jwks = jwks(jwk("key1", key1), jwk("key2", key2));
+
+    // when
+    RSAPublicKey rotated = (RSAPublicKey) store.getPublicKey("key2");
+
+    // then
+    assertEquals(rotated, key2);
+    assertEquals(requests.get(), 2);
+  }
+
+  @Test
+  public void shouldNotFetchKeysForUnknownKeyIdsTooOften() throws Exception {
+    // given
+    OIDCJwkStore store = new OIDCJwkStore(new UrlJwkProvider(jwksUrl), 60_000, 60_000);
+    store.getPublicKey("key1");
+
+    // when
+    expectThrows(SigningKeyNotFoundException.class, () -> store.getPublicKey("unknown1"));
+    expectThrows(SigningKeyNotFoundException.class, () -> store.getPublicKey("unknown2"));
+
+    // then
+    assertEquals(requests.get(), 1);
+  }
+
+  @Test
+  public void shouldRefreshKeysInBackground() throws Exception {
+    // given
+    OIDCJwkStore store = new OIDCJwkStore(new UrlJwkProvider(jwksUrl), 0, 0);
+    store.getPublicKey("key1");
+
+    // when
+    assertEquals(store.getPublicKey("key1"), key1);
+
+    // then
+    awaitRequests(2);
+  }
+
+  @Test
+  public void shouldRefreshKeysOnSchedule() throws Exception {
+    // given
+    OIDCJwkStore store = new OIDCJwkStore(new UrlJwkProvider(jwksUrl), 50, 0);
+
+    // when
+    store.start();
+
+    // then
+    try {
+      awaitRequests(2);
+    } finally {
+      store.shutdown();
+    }
+  }
+
+  @Test
+  public void shouldNotFetchKeysAfterShutdown() throws Exception {
+    // given
+    OIDCJwkStore store = new OIDCJwkStore(new UrlJwkProvider(jwksUrl), 60_000, 0);
+
+    // when
+    store.shutdown();
+
+    // then
+    expectThrows(SigningKeyNotFoundException.class, () -> store.getPublicKey("key1"));
+    assertEquals(requests.get(), 0);
+  }
+
+  @Test
+  public void shouldKeepKeysWhenProviderIsNotAvailable() throws Exception {
+    // given
+    OIDCJwkStore store = new OIDCJwkStore(new UrlJwkProvider(jwksUrl), 0, 0);
+    store.getPublicKey("key1");
+    status = 500;
+
+    // when
+    store.getPublicKey("key1");
+    awaitRequests(2);
+
+    // then
+    assertEquals(store.getPublicKey("key1"), key1);
+    expectThrows(SigningKeyNotFoundException.class, () -> store.getPublicKey("key2"));
+  }
+
+  private void awaitRequests(int expected) throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+    while (requests.get() < expected && System.nanoTime() < deadline) {
+      Thread.sleep(10);
+    }
+    assertTrue(requests.get() >= expected);
+  }
+
+  private static String jwks(String... keys) {
+    return "{\"keys\":[" + String.join(",", keys) + "]}";
+  }
+
+  private static String jwk(String kid, RSAPublicKey key) {
+    return String.format(
+        "{\"kid\":\"%s\",\"kty\":\"RSA\",\"alg\":\"RS256\",\"use\":\"sig\",\"n\":\"%s\",\"e\":\"%s\"}",
+        kid, base64Url(key.getModulus()), base64Url(key.getPublicExponent()));
+  }
+
+  private static String base64Url(BigInteger value) {
+    byte[] bytes = value.toByteArray();
+    if (bytes.length > 1 && bytes[0] == 0) {
+      byte[] unsigned = new byte[bytes.length - 1];
+      System.arraycopy(bytes, 1, unsigned, 0, unsigned.length);
+      bytes = unsigned;
+    }
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+  }
+}
@@ -25,6 +25,7 @@ import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jws;
 import io.jsonwebtoken.JwtParser;
 import java.util.Arrays;
+import java.util.Date;
 import java.util.List;
 import org.eclipse.che.api.core.ConflictException;
 import org.eclipse.che.api.core.ServerException;
@@ -99,6 +100,14 @@ public class OidcTokenInitializationFilterTest {
     assertTrue(returnedClaims.isEmpty());
   }
 
+  @Test
+  public void testGetExpirationTime() {
+    Date expiration = new Date();
+    when(claims.getExpiration()).thenReturn(expiration);
+
+    assertEquals(tokenInitializationFilter.getExpirationTime(jwsClaims), expiration);
+  }
+
   @Test
   public void testGetUserId() {
     var userId = tokenInitializationFilter.getUserId(jwsClaims);
@@ -23,7 +23,7 @@ import com.google.api.client.auth.oauth2.AuthorizationCodeRequestUrl;
 import com.google.api.client.auth.oauth2.AuthorizationCodeTokenRequest;
 import com.google.api.client.auth.oauth2.Credential;
 import com.google.api.client.auth.oauth2.TokenResponse;
-import com.google.api.client.util.store.MemoryDataStoreFactory;
+import com.google.api.client.util.store.DataStoreFactory;
 import com.google.common.io.CharStreams;
 import java.io.IOException;
 import java.io.InputStream;
@@ -69,8 +69,11 @@ public class AzureDevOpsOAuthAuthenticator extends OAuthAuthenticator {
       String authUri,
       String tokenUri,
       String[] redirectUris,
-      boolean isDevOpsOauth)
+      boolean isDevOpsOauth,
+      DataStoreFactory dataStoreFactory,
+      OAuthTokenRefreshPool refreshPool)
       throws IOException {
+    super(refreshPool);
     this.cheApiEndpoint = cheApiEndpoint;
     this.clientId = clientId;
     this.clientSecret = clientSecret;
@@ -82,8 +85,7 @@ public class AzureDevOpsOAuthAuthenticator extends OAuthAuthenticator {
     this.tokenUri = tokenUri;
     this.redirectUris = redirectUris;
     this.isDevOpsOauth = isDevOpsOauth;
-    configure(
-        clientId, clientSecret, redirectUris, authUri, tokenUri, new MemoryDataStoreFactory());
+    configure(clientId, clientSecret, redirectUris, authUri, tokenUri, dataStoreFactory);
   }
 
   /**
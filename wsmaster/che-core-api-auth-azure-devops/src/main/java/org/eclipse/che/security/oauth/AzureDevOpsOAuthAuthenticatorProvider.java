@@ -13,6 +13,7 @@ package org.eclipse.che.security.oauth;
 
 import static com.google.common.base.Strings.isNullOrEmpty;
 
+import com.google.api.client.util.store.DataStoreFactory;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -46,7 +47,9 @@ public class AzureDevOpsOAuthAuthenticatorProvider implements Provider<OAuthAuth
       @Named("che.integration.azure.devops.scm.api_endpoint") String azureDevOpsScmApiEndpoint,
       @Named("che.oauth.azure.devops.authuri.template") String authUri,
       @Named("che.oauth.azure.devops.tokenuri.template") String tokenUri,
-      @Named("che.oauth.azure.devops.redirecturis") String[] redirectUris)
+      @Named("che.oauth.azure.devops.redirecturis") String[] redirectUris,
+      DataStoreFactory dataStoreFactory,
+      OAuthTokenRefreshPool refreshPool)
       throws IOException {
     authenticator =
         getOAuthAuthenticator(
@@ -58,7 +61,9 @@ public class AzureDevOpsOAuthAuthenticatorProvider implements Provider<OAuthAuth
             azureDevOpsScmApiEndpoint,
             authUri,
             tokenUri,
-            redirectUris);
+            redirectUris,
+            dataStoreFactory,
+            refreshPool);
     LOG.debug("{} Azure DevOps OAuth Authenticator is used.", authenticator);
   }
 
@@ -76,7 +81,9 @@ public class AzureDevOpsOAuthAuthenticatorProvider implements Provider<OAuthAuth
       String azureDevOpsScmApiEndpoint,
       String authUriTemplate,
       String tokenUriTemplate,
-      String[] redirectUris)
+      String[] redirectUris,
+      DataStoreFactory dataStoreFactory,
+      OAuthTokenRefreshPool refreshPool)
       throws IOException {
 
     if (!isNullOrEmpty(clientIdPath)
@@ -109,7 +116,9 @@ public class AzureDevOpsOAuthAuthenticatorProvider implements Provider<OAuthAuth
                 ? "https://app.vssps.visualstudio.com/oauth2/authorize"
                 : String.format(tokenUriTemplate, tenantId),
             redirectUris,
-            isDevOpsOauth);
+            isDevOpsOauth,
+            dataStoreFactory,
+            refreshPool);
       }
     }
     return new NoopOAuthAuthenticator();
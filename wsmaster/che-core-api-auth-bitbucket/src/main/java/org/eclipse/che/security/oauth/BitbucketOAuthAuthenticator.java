@@ -16,7 +16,7 @@ import static java.net.URLEncoder.encode;
 import static java.nio.charset.StandardCharsets.UTF_8;
 
 import com.google.api.client.auth.oauth2.AuthorizationCodeRequestUrl;
-import com.google.api.client.util.store.MemoryDataStoreFactory;
+import com.google.api.client.util.store.DataStoreFactory;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.HttpURLConnection;
@@ -40,11 +40,13 @@ public class BitbucketOAuthAuthenticator extends OAuthAuthenticator {
       String clientSecret,
       String[] redirectUris,
       String authUri,
-      String tokenUri)
+      String tokenUri,
+      DataStoreFactory dataStoreFactory,
+      OAuthTokenRefreshPool refreshPool)
       throws IOException {
+    super(refreshPool);
     this.bitbucketEndpoint = bitbucketEndpoint;
-    configure(
-        clientId, clientSecret, redirectUris, authUri, tokenUri, new MemoryDataStoreFactory());
+    configure(clientId, clientSecret, redirectUris, authUri, tokenUri, dataStoreFactory);
   }
 
   @Override
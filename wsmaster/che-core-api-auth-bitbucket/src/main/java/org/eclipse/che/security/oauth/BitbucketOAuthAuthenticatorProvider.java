@@ -14,6 +14,7 @@ package org.eclipse.che.security.oauth;
 import static com.google.common.base.Strings.isNullOrEmpty;
 import static org.eclipse.che.commons.lang.StringUtils.trimEnd;
 
+import com.google.api.client.util.store.DataStoreFactory;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -43,7 +44,9 @@ public class BitbucketOAuthAuthenticatorProvider implements Provider<OAuthAuthen
           String bitbucketClientSecretPath,
       @Nullable @Named("che.oauth.bitbucket.redirecturis") String[] redirectUris,
       @Nullable @Named("che.oauth.bitbucket.authuri") String authUri,
-      @Nullable @Named("che.oauth.bitbucket.tokenuri") String tokenUri)
+      @Nullable @Named("che.oauth.bitbucket.tokenuri") String tokenUri,
+      DataStoreFactory dataStoreFactory,
+      OAuthTokenRefreshPool refreshPool)
       throws IOException {
     authenticator =
         getOAuthAuthenticator(
@@ -52,7 +55,9 @@ public class BitbucketOAuthAuthenticatorProvider implements Provider<OAuthAuthen
             bitbucketClientSecretPath,
             redirectUris,
             authUri,
-            tokenUri);
+            tokenUri,
+            dataStoreFactory,
+            refreshPool);
     LOG.debug("{} Bitbucket OAuth Authenticator is used.", authenticator);
   }
 
@@ -67,7 +72,9 @@ public class BitbucketOAuthAuthenticatorProvider implements Provider<OAuthAuthen
       @Nullable String clientSecretPath,
       @Nullable String[] redirectUris,
       @Nullable String authUri,
-      @Nullable String tokenUri)
+      @Nullable String tokenUri,
+      DataStoreFactory dataStoreFactory,
+      OAuthTokenRefreshPool refreshPool)
       throws IOException {
 
     if (!isNullOrEmpty(clientIdPath)
@@ -84,7 +91,14 @@ public class BitbucketOAuthAuthenticatorProvider implements Provider<OAuthAuthen
       final String clientSecret = Files.readString(Path.of(clientSecretPath)).trim();
       if (!isNullOrEmpty(clientId) && !isNullOrEmpty(clientSecret)) {
         return new BitbucketOAuthAuthenticator(
-            trimmedOauthEndpoint, clientId, clientSecret, redirectUris, authUri, tokenUri);
+            trimmedOauthEndpoint,
+            clientId,
+            clientSecret,
+            redirectUris,
+            authUri,
+            tokenUri,
+            dataStoreFactory,
+            refreshPool);
       }
     }
     return new NoopOAuthAuthenticator();
@@ -14,17 +14,24 @@ package org.eclipse.che.security;
 import static java.util.Collections.emptyList;
 import static org.testng.Assert.assertTrue;
 
+import com.google.api.client.util.store.DataStoreFactory;
+import com.google.api.client.util.store.MemoryDataStoreFactory;
 import com.google.common.io.Files;
 import java.io.File;
 import java.io.IOException;
 import java.net.URL;
 import java.nio.charset.Charset;
+import org.eclipse.che.commons.observability.NoopExecutorServiceWrapper;
 import org.eclipse.che.security.oauth.BitbucketOAuthAuthenticatorProvider;
 import org.eclipse.che.security.oauth.OAuthAuthenticator;
+import org.eclipse.che.security.oauth.OAuthTokenRefreshPool;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 
 public class BitbucketOAuthAuthenticatorProviderTest {
+  private final DataStoreFactory dataStoreFactory = new MemoryDataStoreFactory();
+  private final OAuthTokenRefreshPool refreshPool =
+      new OAuthTokenRefreshPool(new NoopExecutorServiceWrapper());
   private BitbucketOAuthAuthenticatorProvider provider;
   private File cfgFile;
 
@@ -40,7 +47,9 @@ public class BitbucketOAuthAuthenticatorProviderTest {
             cfgFile.getPath(),
             new String[] {"http://che.server.com"},
             "http://auth.uri",
-            "http://token.uri");
+            "http://token.uri",
+            dataStoreFactory,
+            refreshPool);
   }
 
   @Test
@@ -53,7 +62,9 @@ public class BitbucketOAuthAuthenticatorProviderTest {
             cfgFile.getPath(),
             new String[] {"http://che.server.com"},
             "http://auth.uri",
-            "http://token.uri");
+            "http://token.uri",
+            dataStoreFactory,
+            refreshPool);
     OAuthAuthenticator authenticator = provider.get();
     URL url = new URL("http://che.server.com?query=param");
     // when
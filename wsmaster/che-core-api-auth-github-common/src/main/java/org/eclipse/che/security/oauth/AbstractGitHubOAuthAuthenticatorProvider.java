@@ -14,6 +14,7 @@ package org.eclipse.che.security.oauth;
 import static com.google.common.base.Strings.isNullOrEmpty;
 import static org.eclipse.che.commons.lang.StringUtils.trimEnd;
 
+import com.google.api.client.util.store.DataStoreFactory;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -41,7 +42,9 @@ public abstract class AbstractGitHubOAuthAuthenticatorProvider
       String oauthEndpoint,
       String authUri,
       String tokenUri,
-      String providerName)
+      String providerName,
+      DataStoreFactory dataStoreFactory,
+      OAuthTokenRefreshPool refreshPool)
       throws IOException {
     this.providerName = providerName;
     authenticator =
@@ -51,7 +54,9 @@ public abstract class AbstractGitHubOAuthAuthenticatorProvider
             redirectUris,
             oauthEndpoint,
             authUri,
-            tokenUri);
+            tokenUri,
+            dataStoreFactory,
+            refreshPool);
     LOG.debug("{} GitHub OAuth Authenticator is used.", authenticator);
   }
 
@@ -66,7 +71,9 @@ public abstract class AbstractGitHubOAuthAuthenticatorProvider
       String[] redirectUris,
       String oauthEndpoint,
       String authUri,
-      String tokenUri)
+      String tokenUri,
+      DataStoreFactory dataStoreFactory,
+      OAuthTokenRefreshPool refreshPool)
       throws IOException {
 
     String trimmedOauthEndpoint = isNullOrEmpty(oauthEndpoint) ? null : trimEnd(oauthEndpoint, '/');
@@ -94,7 +101,9 @@ public abstract class AbstractGitHubOAuthAuthenticatorProvider
             trimmedOauthEndpoint,
             authUri,
             tokenUri,
-            providerName);
+            providerName,
+            dataStoreFactory,
+            refreshPool);
       }
     }
     return new NoopOAuthAuthenticator();
@@ -14,7 +14,7 @@ package org.eclipse.che.security.oauth;
 import static com.google.common.base.Strings.isNullOrEmpty;
 import static org.eclipse.che.commons.lang.StringUtils.trimEnd;
 
-import com.google.api.client.util.store.MemoryDataStoreFactory;
+import com.google.api.client.util.store.DataStoreFactory;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.net.HttpURLConnection;
@@ -37,8 +37,11 @@ public class GitHubOAuthAuthenticator extends OAuthAuthenticator {
       String authEndpoint,
       String authUri,
       String tokenUri,
-      String providerName)
+      String providerName,
+      DataStoreFactory dataStoreFactory,
+      OAuthTokenRefreshPool refreshPool)
       throws IOException {
+    super(refreshPool);
     this.clientId = clientId;
     this.clientSecret = clientSecret;
     this.providerName = providerName;
@@ -47,8 +50,7 @@ public class GitHubOAuthAuthenticator extends OAuthAuthenticator {
         providerUrl.equals("https://github.com")
             ? "https://api.github.com"
             : providerUrl + "/api/v3";
-    configure(
-        clientId, clientSecret, redirectUris, authUri, tokenUri, new MemoryDataStoreFactory());
+    configure(clientId, clientSecret, redirectUris, authUri, tokenUri, dataStoreFactory);
   }
 
   @Override
@@ -11,6 +11,7 @@
  */
 package org.eclipse.che.security.oauth;
 
+import com.google.api.client.util.store.DataStoreFactory;
 import java.io.IOException;
 import javax.inject.Inject;
 import javax.inject.Named;
@@ -33,7 +34,9 @@ public class GitHubOAuthAuthenticatorProvider extends AbstractGitHubOAuthAuthent
       @Nullable @Named("che.oauth.github.redirecturis") String[] redirectUris,
       @Nullable @Named("che.integration.github.oauth_endpoint") String oauthEndpoint,
       @Nullable @Named("che.oauth.github.authuri") String authUri,
-      @Nullable @Named("che.oauth.github.tokenuri") String tokenUri)
+      @Nullable @Named("che.oauth.github.tokenuri") String tokenUri,
+      DataStoreFactory dataStoreFactory,
+      OAuthTokenRefreshPool refreshPool)
       throws IOException {
     super(
         gitHubClientIdPath,
@@ -42,6 +45,8 @@ public class GitHubOAuthAuthenticatorProvider extends AbstractGitHubOAuthAuthent
         oauthEndpoint,
         authUri,
         tokenUri,
-        PROVIDER_NAME);
+        PROVIDER_NAME,
+        dataStoreFactory,
+        refreshPool);
   }
 }
@@ -11,6 +11,7 @@
  */
 package org.eclipse.che.security.oauth;
 
+import com.google.api.client.util.store.DataStoreFactory;
 import java.io.IOException;
 import javax.inject.Inject;
 import javax.inject.Named;
@@ -34,7 +35,9 @@ public class GitHubOAuthAuthenticatorProviderSecond
       @Nullable @Named("che.oauth.github.redirecturis") String[] redirectUris,
       @Nullable @Named("che.integration.github.oauth_endpoint_2") String oauthEndpoint,
       @Nullable @Named("che.oauth.github.authuri_2") String authUri,
-      @Nullable @Named("che.oauth.github.tokenuri_2") String tokenUri)
+      @Nullable @Named("che.oauth.github.tokenuri_2") String tokenUri,
+      DataStoreFactory dataStoreFactory,
+      OAuthTokenRefreshPool refreshPool)
       throws IOException {
     super(
         gitHubClientIdPath,
@@ -43,6 +46,8 @@ public class GitHubOAuthAuthenticatorProviderSecond
         oauthEndpoint,
         authUri,
         tokenUri,
-        PROVIDER_NAME);
+        PROVIDER_NAME,
+        dataStoreFactory,
+        refreshPool);
   }
 }
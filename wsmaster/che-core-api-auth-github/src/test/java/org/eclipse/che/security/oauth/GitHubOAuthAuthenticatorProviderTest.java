@@ -24,15 +24,21 @@ import static org.testng.Assert.assertTrue;
 import com.github.tomakehurst.wiremock.WireMockServer;
 import com.github.tomakehurst.wiremock.client.WireMock;
 import com.github.tomakehurst.wiremock.common.Slf4jNotifier;
+import com.google.api.client.util.store.DataStoreFactory;
+import com.google.api.client.util.store.MemoryDataStoreFactory;
 import com.google.common.io.Files;
 import java.io.File;
 import java.io.IOException;
 import java.nio.charset.Charset;
+import org.eclipse.che.commons.observability.NoopExecutorServiceWrapper;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
 public class GitHubOAuthAuthenticatorProviderTest {
+  private final DataStoreFactory dataStoreFactory = new MemoryDataStoreFactory();
+  private final OAuthTokenRefreshPool refreshPool =
+      new OAuthTokenRefreshPool(new NoopExecutorServiceWrapper());
   private static final String TEST_URI = "https://api.github.com";
   private File credentialFile;
   private File emptyFile;
@@ -70,7 +76,9 @@ public class GitHubOAuthAuthenticatorProviderTest {
             redirectUris,
             oauthEndpoint,
             authUri,
-            tokenUri);
+            tokenUri,
+            dataStoreFactory,
+            refreshPool);
     // when
     OAuthAuthenticator authenticator = provider.get();
     // then
@@ -90,7 +98,9 @@ public class GitHubOAuthAuthenticatorProviderTest {
             new String[] {TEST_URI},
             null,
             TEST_URI,
-            TEST_URI);
+            TEST_URI,
+            dataStoreFactory,
+            refreshPool);
     // when
     OAuthAuthenticator authenticator = provider.get();
     // then
@@ -110,7 +120,9 @@ public class GitHubOAuthAuthenticatorProviderTest {
             new String[] {TEST_URI},
             null,
             TEST_URI,
-            TEST_URI);
+            TEST_URI,
+            dataStoreFactory,
+            refreshPool);
     // when
     OAuthAuthenticator authenticator = provider.get();
 
@@ -130,7 +142,9 @@ public class GitHubOAuthAuthenticatorProviderTest {
             new String[] {TEST_URI},
             "https://custom.github.com/",
             TEST_URI,
-            TEST_URI);
+            TEST_URI,
+            dataStoreFactory,
+            refreshPool);
     // when
     OAuthAuthenticator authenticator = provider.get();
 
@@ -149,7 +163,9 @@ public class GitHubOAuthAuthenticatorProviderTest {
             new String[] {TEST_URI},
             null,
             TEST_URI,
-            TEST_URI);
+            TEST_URI,
+            dataStoreFactory,
+            refreshPool);
     OAuthAuthenticator authenticator = provider.get();
     // when
     String endpointUrl = authenticator.getEndpointUrl();
@@ -173,7 +189,9 @@ public class GitHubOAuthAuthenticatorProviderTest {
             new String[] {TEST_URI},
             wireMockServer.url("/"),
             TEST_URI,
-            TEST_URI);
+            TEST_URI,
+            dataStoreFactory,
+            refreshPool);
     OAuthAuthenticator authenticator = provider.get();
     // when
     boolean result = authenticator.invalidateToken("token");
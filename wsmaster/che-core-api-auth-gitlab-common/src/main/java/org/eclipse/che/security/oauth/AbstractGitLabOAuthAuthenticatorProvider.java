@@ -13,6 +13,7 @@ package org.eclipse.che.security.oauth;
 
 import static com.google.common.base.Strings.isNullOrEmpty;
 
+import com.google.api.client.util.store.DataStoreFactory;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -36,11 +37,19 @@ public class AbstractGitLabOAuthAuthenticatorProvider implements Provider<OAuthA
       String clientSecretPath,
       String gitlabEndpoint,
       String cheApiEndpoint,
-      String providerName)
+      String providerName,
+      DataStoreFactory dataStoreFactory,
+      OAuthTokenRefreshPool refreshPool)
       throws IOException {
     this.providerName = providerName;
     authenticator =
-        getOAuthAuthenticator(clientIdPath, clientSecretPath, gitlabEndpoint, cheApiEndpoint);
+        getOAuthAuthenticator(
+            clientIdPath,
+            clientSecretPath,
+            gitlabEndpoint,
+            cheApiEndpoint,
+            dataStoreFactory,
+            refreshPool);
     LOG.debug("{} GitLab OAuth Authenticator is used.", authenticator);
   }
 
@@ -50,7 +59,12 @@ public class AbstractGitLabOAuthAuthenticatorProvider implements Provider<OAuthA
   }
 
   private OAuthAuthenticator getOAuthAuthenticator(
-      String clientIdPath, String clientSecretPath, String gitlabEndpoint, String cheApiEndpoint)
+      String clientIdPath,
+      String clientSecretPath,
+      String gitlabEndpoint,
+      String cheApiEndpoint,
+      DataStoreFactory dataStoreFactory,
+      OAuthTokenRefreshPool refreshPool)
       throws IOException {
     if (!isNullOrEmpty(clientIdPath)
         && !isNullOrEmpty(clientSecretPath)
@@ -59,7 +73,13 @@ public class AbstractGitLabOAuthAuthenticatorProvider implements Provider<OAuthA
       String clientSecret = Files.readString(Path.of(clientSecretPath));
       if (!isNullOrEmpty(clientId) && !isNullOrEmpty(clientSecret)) {
         return new GitLabOAuthAuthenticator(
-            clientId, clientSecret, gitlabEndpoint, cheApiEndpoint, providerName);
+            clientId,
+            clientSecret,
+            gitlabEndpoint,
+            cheApiEndpoint,
+            providerName,
+            dataStoreFactory,
+            refreshPool);
       }
     }
     return new NoopOAuthAuthenticator();
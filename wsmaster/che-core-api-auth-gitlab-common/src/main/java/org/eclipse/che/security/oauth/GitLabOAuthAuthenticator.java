@@ -15,7 +15,7 @@ import static com.google.common.base.Strings.isNullOrEmpty;
 import static java.lang.String.format;
 import static org.eclipse.che.commons.lang.StringUtils.trimEnd;
 
-import com.google.api.client.util.store.MemoryDataStoreFactory;
+import com.google.api.client.util.store.DataStoreFactory;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
@@ -47,8 +47,11 @@ public class GitLabOAuthAuthenticator extends OAuthAuthenticator {
       String clientSecret,
       String gitlabEndpoint,
       String cheApiEndpoint,
-      String providerName)
+      String providerName,
+      DataStoreFactory dataStoreFactory,
+      OAuthTokenRefreshPool refreshPool)
       throws IOException {
+    super(refreshPool);
     this.clientId = clientId;
     this.clientSecret = clientSecret;
     this.gitlabEndpoint = trimEnd(gitlabEndpoint, '/');
@@ -62,7 +65,7 @@ public class GitLabOAuthAuthenticator extends OAuthAuthenticator {
         new String[] {},
         trimmedGitlabEndpoint + "/oauth/authorize",
         trimmedGitlabEndpoint + "/oauth/token",
-        new MemoryDataStoreFactory());
+        dataStoreFactory);
   }
 
   @Override
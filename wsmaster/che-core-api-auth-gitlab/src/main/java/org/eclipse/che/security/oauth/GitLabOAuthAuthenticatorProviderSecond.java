@@ -11,6 +11,7 @@
  */
 package org.eclipse.che.security.oauth;
 
+import com.google.api.client.util.store.DataStoreFactory;
 import java.io.IOException;
 import javax.inject.Inject;
 import javax.inject.Named;
@@ -32,8 +33,17 @@ public class GitLabOAuthAuthenticatorProviderSecond
       @Nullable @Named("che.oauth2.gitlab.clientid_filepath_2") String clientIdPath,
       @Nullable @Named("che.oauth2.gitlab.clientsecret_filepath_2") String clientSecretPath,
       @Nullable @Named("che.integration.gitlab.oauth_endpoint_2") String gitlabEndpoint,
-      @Named("che.api") String cheApiEndpoint)
+      @Named("che.api") String cheApiEndpoint,
+      DataStoreFactory dataStoreFactory,
+      OAuthTokenRefreshPool refreshPool)
       throws IOException {
-    super(clientIdPath, clientSecretPath, gitlabEndpoint, cheApiEndpoint, PROVIDER_NAME);
+    super(
+        clientIdPath,
+        clientSecretPath,
+        gitlabEndpoint,
+        cheApiEndpoint,
+        PROVIDER_NAME,
+        dataStoreFactory,
+        refreshPool);
   }
 }
@@ -24,14 +24,19 @@ import com.github.tomakehurst.wiremock.WireMockServer;
 import com.github.tomakehurst.wiremock.client.WireMock;
 import com.github.tomakehurst.wiremock.common.Slf4jNotifier;
 import com.google.api.client.auth.oauth2.StoredCredential;
+import com.google.api.client.util.store.DataStoreFactory;
 import com.google.api.client.util.store.MemoryDataStoreFactory;
 import com.google.common.net.HttpHeaders;
 import java.lang.reflect.Field;
 import org.eclipse.che.api.auth.shared.dto.OAuthToken;
+import org.eclipse.che.commons.observability.NoopExecutorServiceWrapper;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 
 public class GitLabAuthenticatorTest {
+  private final DataStoreFactory dataStoreFactory = new MemoryDataStoreFactory();
+  private final OAuthTokenRefreshPool refreshPool =
+      new OAuthTokenRefreshPool(new NoopExecutorServiceWrapper());
   WireMockServer wireMockServer;
   WireMock wireMock;
 
@@ -49,7 +54,13 @@ public class GitLabAuthenticatorTest {
     // given
     GitLabOAuthAuthenticator gitLabOAuthAuthenticator =
         new GitLabOAuthAuthenticator(
-            "id", "secret", wireMockServer.url("/"), "https://che.api.com", "gitlab");
+            "id",
+            "secret",
+            wireMockServer.url("/"),
+            "https://che.api.com",
+            "gitlab",
+            dataStoreFactory,
+            refreshPool);
     Field flowField = OAuthAuthenticator.class.getDeclaredField("flow");
     Field credentialDataStoreField =
         ((Class) flowField.getGenericType()).getDeclaredField("credentialDataStore");
@@ -74,7 +85,13 @@ public class GitLabAuthenticatorTest {
     // given
     GitLabOAuthAuthenticator gitLabOAuthAuthenticator =
         new GitLabOAuthAuthenticator(
-            "id", "secret", wireMockServer.url("/"), "https://che.api.com", "gitlab");
+            "id",
+            "secret",
+            wireMockServer.url("/"),
+            "https://che.api.com",
+            "gitlab",
+            dataStoreFactory,
+            refreshPool);
     Field flowField = OAuthAuthenticator.class.getDeclaredField("flow");
     Field credentialDataStoreField =
         ((Class) flowField.getGenericType()).getDeclaredField("credentialDataStore");
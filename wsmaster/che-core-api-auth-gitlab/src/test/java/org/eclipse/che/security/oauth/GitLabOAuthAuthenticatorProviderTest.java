@@ -14,15 +14,21 @@ package org.eclipse.che.security.oauth;
 import static org.testng.Assert.assertNotNull;
 import static org.testng.Assert.assertTrue;
 
+import com.google.api.client.util.store.DataStoreFactory;
+import com.google.api.client.util.store.MemoryDataStoreFactory;
 import com.google.common.io.Files;
 import java.io.File;
 import java.io.IOException;
 import java.nio.charset.Charset;
+import org.eclipse.che.commons.observability.NoopExecutorServiceWrapper;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
 public class GitLabOAuthAuthenticatorProviderTest {
+  private final DataStoreFactory dataStoreFactory = new MemoryDataStoreFactory();
+  private final OAuthTokenRefreshPool refreshPool =
+      new OAuthTokenRefreshPool(new NoopExecutorServiceWrapper());
   private static final String TEST_URI = "https://gitlab.com";
   private File credentialFile;
   private File emptyFile;
@@ -43,7 +49,12 @@ public class GitLabOAuthAuthenticatorProviderTest {
     // given
     GitLabOAuthAuthenticatorProvider provider =
         new GitLabOAuthAuthenticatorProvider(
-            gitHubClientIdPath, gitHubClientSecretPath, gitlabEndpoint, "che.api");
+            gitHubClientIdPath,
+            gitHubClientSecretPath,
+            gitlabEndpoint,
+            "che.api",
+            dataStoreFactory,
+            refreshPool);
     // when
     OAuthAuthenticator authenticator = provider.get();
     // then
@@ -58,7 +69,12 @@ public class GitLabOAuthAuthenticatorProviderTest {
     // given
     GitLabOAuthAuthenticatorProvider provider =
         new GitLabOAuthAuthenticatorProvider(
-            emptyFile.getPath(), emptyFile.getPath(), TEST_URI, "che.api");
+            emptyFile.getPath(),
+            emptyFile.getPath(),
+            TEST_URI,
+            "che.api",
+            dataStoreFactory,
+            refreshPool);
     // when
     OAuthAuthenticator authenticator = provider.get();
     // then
@@ -73,7 +89,12 @@ public class GitLabOAuthAuthenticatorProviderTest {
     // given
     GitLabOAuthAuthenticatorProvider provider =
         new GitLabOAuthAuthenticatorProvider(
-            credentialFile.getPath(), credentialFile.getPath(), TEST_URI, "che.api");
+            credentialFile.getPath(),
+            credentialFile.getPath(),
+            TEST_URI,
+            "che.api",
+            dataStoreFactory,
+            refreshPool);
     // when
     OAuthAuthenticator authenticator = provider.get();
 
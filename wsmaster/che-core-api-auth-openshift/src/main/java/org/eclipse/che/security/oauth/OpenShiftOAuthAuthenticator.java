@@ -14,7 +14,7 @@ package org.eclipse.che.security.oauth;
 import static com.google.common.base.Strings.isNullOrEmpty;
 import static org.eclipse.che.commons.lang.StringUtils.trimEnd;
 
-import com.google.api.client.util.store.MemoryDataStoreFactory;
+import com.google.api.client.util.store.DataStoreFactory;
 import java.io.IOException;
 import java.net.HttpURLConnection;
 import java.net.URL;
@@ -40,8 +40,11 @@ public class OpenShiftOAuthAuthenticator extends OAuthAuthenticator {
       @Nullable @Named("che.oauth.openshift.clientsecret") String clientSecret,
       @Nullable @Named("che.oauth.openshift.oauth_endpoint") String oauthEndpoint,
       @Nullable @Named("che.oauth.openshift.verify_token_url") String verifyTokenUrl,
-      @Named("che.api") String apiEndpoint)
+      @Named("che.api") String apiEndpoint,
+      DataStoreFactory dataStoreFactory,
+      OAuthTokenRefreshPool refreshPool)
       throws IOException {
+    super(refreshPool);
     this.oauthEndpoint = isNullOrEmpty(oauthEndpoint) ? "" : trimEnd(oauthEndpoint, '/');
     this.verifyTokenUrl = verifyTokenUrl;
     String[] redirectUrl = {apiEndpoint + "/oauth/callback"};
@@ -53,7 +56,7 @@ public class OpenShiftOAuthAuthenticator extends OAuthAuthenticator {
           redirectUrl,
           oauthEndpoint + "oauth/authorize",
           oauthEndpoint + "oauth/token",
-          new MemoryDataStoreFactory());
+          dataStoreFactory);
     }
   }
 
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012-2025 Red Hat, Inc.
+ * Copyright (c) 2012-2026 Red Hat, Inc.
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
  * which is available at https://www.eclipse.org/legal/epl-2.0/
@@ -17,7 +17,7 @@ import com.google.api.client.auth.oauth2.*;
 import com.google.api.client.http.GenericUrl;
 import com.google.api.client.http.javanet.NetHttpTransport;
 import com.google.api.client.json.jackson2.JacksonFactory;
-import com.google.api.client.util.store.MemoryDataStoreFactory;
+import com.google.api.client.util.store.DataStoreFactory;
 import jakarta.ws.rs.core.MediaType;
 import java.io.IOException;
 import java.io.InputStream;
@@ -32,10 +32,15 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.regex.Pattern;
 import javax.net.ssl.SSLHandshakeException;
 import org.eclipse.che.api.auth.shared.dto.OAuthToken;
 import org.eclipse.che.api.factory.server.scm.exception.ScmCommunicationException;
+import org.eclipse.che.commons.annotation.Nullable;
 import org.eclipse.che.commons.env.EnvironmentContext;
 import org.eclipse.che.commons.json.JsonHelper;
 import org.eclipse.che.commons.json.JsonParseException;
@@ -43,18 +48,47 @@ import org.eclipse.che.security.oauth.shared.OAuthTokenProvider;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-/** Authentication service which allow get access token from OAuth provider site. */
+/**
+ * Authentication service which allow get access token from OAuth provider site.
+ *
+ * <p>Credentials are kept in the {@link DataStoreFactory} given by the implementation, in the data
+ * store named after the OAuth provider, so the authenticators of all the providers may share one
+ * persistent store, e.g. {@link org.eclipse.che.security.oauth.jpa.JpaDataStoreFactory}. When the
+ * authenticator is created with an {@link OAuthTokenRefreshPool}, a token which is about to expire
+ * is refreshed on the pool while it is still returned to the callers. An expired token is
+ * refreshed by the caller. Concurrent refreshes of the credential of the same user are collapsed
+ * into a single request to the OAuth provider within one Che server.
+ */
 public abstract class OAuthAuthenticator {
   protected static final String AUTHENTICATOR_IS_NOT_CONFIGURED = "Authenticator is not configured";
   protected static final int SSL_ERROR_CODE = 495;
 
+  /** Tokens which expire in less than this number of seconds are refreshed in the background. */
+  protected static final long REFRESH_AHEAD_SEC = 60;
+
   private static final Logger LOG = LoggerFactory.getLogger(OAuthAuthenticator.class);
 
   protected AuthorizationCodeFlow flow;
   protected Map<Pattern, String> redirectUrisMap;
 
+  private final Map<String, CompletableFuture<Boolean>> refreshes = new ConcurrentHashMap<>();
+  private final Set<String> pendingBackgroundRefreshes = ConcurrentHashMap.newKeySet();
+  private final OAuthTokenRefreshPool refreshPool;
+
+  /** Creates the authenticator which refreshes tokens only once they expire. */
+  protected OAuthAuthenticator() {
+    this(null);
+  }
+
   /**
-   * @see {@link #configure(String, String, String[], String, String, MemoryDataStoreFactory, List)}
+   * Creates the authenticator which refreshes tokens which are about to expire on the given pool.
+   */
+  protected OAuthAuthenticator(@Nullable OAuthTokenRefreshPool refreshPool) {
+    this.refreshPool = refreshPool;
+  }
+
+  /**
+   * @see {@link #configure(String, String, String[], String, String, DataStoreFactory, List)}
    */
   protected void configure(
       String clientId,
@@ -62,7 +96,7 @@ public abstract class OAuthAuthenticator {
       String[] redirectUris,
       String authUri,
       String tokenUri,
-      MemoryDataStoreFactory dataStoreFactory)
+      DataStoreFactory dataStoreFactory)
       throws IOException {
     configure(
         clientId,
@@ -76,7 +110,9 @@ public abstract class OAuthAuthenticator {
 
   /**
    * This method should be invoked by child class for initialization default instance of {@link
-   * AuthorizationCodeFlow} that will be used for authorization
+   * AuthorizationCodeFlow} that will be used for authorization. Credentials are kept in the data
+   * store named after {@link #getOAuthProvider()}, so it must be known by the time this method is
+   * called.
    */
   protected void configure(
       String clientId,
@@ -84,7 +120,7 @@ public abstract class OAuthAuthenticator {
       String[] redirectUris,
       String authUri,
       String tokenUri,
-      MemoryDataStoreFactory dataStoreFactory,
+      DataStoreFactory dataStoreFactory,
       List<String> scopes)
       throws IOException {
     final AuthorizationCodeFlow authorizationFlow =
@@ -96,7 +132,9 @@ public abstract class OAuthAuthenticator {
                 new ClientParametersAuthentication(clientId, clientSecret),
                 clientId,
                 authUri)
-            .setDataStoreFactory(dataStoreFactory)
+            .setCredentialDataStore(
+                dataStoreFactory.getDataStore(
+                    getOAuthProvider() + "_" + StoredCredential.DEFAULT_DATA_STORE_ID))
             .setScopes(scopes)
             .build();
 
@@ -308,13 +346,7 @@ public abstract class OAuthAuthenticator {
     }
     final Long expirationTime = credential.getExpiresInSeconds();
     if (expirationTime != null && expirationTime < 0) {
-      boolean tokenRefreshed;
-      try {
-        tokenRefreshed = credential.refreshToken();
-      } catch (IOException ioEx) {
-        tokenRefreshed = false;
-      }
-      if (tokenRefreshed) {
+      if (refresh(userId, credential)) {
         credential = flow.loadCredential(userId);
       } else {
         // if token is not refreshed then old value should be invalidated
@@ -325,6 +357,8 @@ public abstract class OAuthAuthenticator {
         }
         return null;
       }
+    } else if (refreshPool != null && isAboutToExpire(credential)) {
+      refreshInBackground(userId);
     }
     return newDto(OAuthToken.class).withToken(credential.getAccessToken());
   }
@@ -346,14 +380,7 @@ public abstract class OAuthAuthenticator {
       return null;
     }
 
-    boolean tokenRefreshed;
-    try {
-      tokenRefreshed = credential.refreshToken();
-    } catch (IOException ioEx) {
-      tokenRefreshed = false;
-    }
-
-    if (tokenRefreshed) {
+    if (refresh(userId, credential)) {
       credential = flow.loadCredential(userId);
     } else {
       // if token is not refreshed then old value should be invalidated
@@ -367,6 +394,80 @@ public abstract class OAuthAuthenticator {
     return newDto(OAuthToken.class).withToken(credential.getAccessToken());
   }
 
+  /**
+   * Refreshes the given credential of the user, or waits for the refresh of the credential of the
+   * same user which is already in progress.
+   *
+   * @return whether the credential was refreshed
+   */
+  private boolean refresh(String userId, Credential credential) {
+    final CompletableFuture<Boolean> own = new CompletableFuture<>();
+    final CompletableFuture<Boolean> running = refreshes.putIfAbsent(userId, own);
+    if (running != null) {
+      return running.join();
+    }
+    try {
+      boolean tokenRefreshed;
+      try {
+        tokenRefreshed = credential.refreshToken();
+      } catch (IOException ioEx) {
+        tokenRefreshed = false;
+      }
+      own.complete(tokenRefreshed);
+      return tokenRefreshed;
+    } catch (RuntimeException e) {
+      own.completeExceptionally(e);
+      throw e;
+    } finally {
+      refreshes.remove(userId, own);
+    }
+  }
+
+  /**
+   * Refreshes the credential of the user in the background unless it is being refreshed or its
+   * refresh is already waiting for the executor, so at most one task is queued per user.
+   */
+  private void refreshInBackground(String userId) {
+    if (refreshes.containsKey(userId) || !pendingBackgroundRefreshes.add(userId)) {
+      return;
+    }
+    try {
+      refreshPool.execute(
+          () -> {
+            try {
+              // the credential may have been refreshed since the refresh was requested
+              final Credential credential = flow.loadCredential(userId);
+              if (credential != null && isAboutToExpire(credential)) {
+                refresh(userId, credential);
+              }
+            } catch (IOException e) {
+              LOG.debug(
+                  "Failed to refresh the {} token of user {} in advance. Cause: {}",
+                  getOAuthProvider(),
+                  userId,
+                  e.getMessage());
+            } finally {
+              pendingBackgroundRefreshes.remove(userId);
+            }
+          });
+    } catch (RejectedExecutionException e) {
+      // the token is still valid, it is refreshed when it expires
+      pendingBackgroundRefreshes.remove(userId);
+      LOG.warn(
+          "Failed to schedule the refresh of the {} token of user {} in advance. Cause: {}",
+          getOAuthProvider(),
+          userId,
+          e.getMessage());
+    }
+  }
+
+  private static boolean isAboutToExpire(Credential credential) {
+    final Long expirationTime = credential.getExpiresInSeconds();
+    return expirationTime != null
+        && expirationTime <= REFRESH_AHEAD_SEC
+        && credential.getRefreshToken() != null;
+  }
+
   /**
    * Invalidate OAuth token for specified user.
    *
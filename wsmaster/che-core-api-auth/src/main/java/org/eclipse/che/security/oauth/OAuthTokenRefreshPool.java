@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2012-2026 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.security.oauth;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import jakarta.annotation.PreDestroy;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import org.eclipse.che.commons.lang.concurrent.LoggingUncaughtExceptionHandler;
+import org.eclipse.che.commons.observability.ExecutorServiceWrapper;
+
+/**
+ * Provides a single {@link ExecutorService} instance on which the {@link OAuthAuthenticator}s of
+ * all the OAuth providers refresh the tokens which are about to expire.
+ *
+ * <p>The queue is not bounded, as the authenticators queue at most one refresh per user.
+ */
+@Singleton
+public class OAuthTokenRefreshPool {
+
+  private static final int MAX_THREADS = 4;
+
+  private final ExecutorService executor;
+
+  @Inject
+  public OAuthTokenRefreshPool(ExecutorServiceWrapper executorServiceWrapper) {
+    this(executorServiceWrapper, MAX_THREADS);
+  }
+
+  @VisibleForTesting
+  OAuthTokenRefreshPool(ExecutorServiceWrapper executorServiceWrapper, int threads) {
+    ThreadPoolExecutor threadPoolExecutor =
+        new ThreadPoolExecutor(
+            threads,
+            threads,
+            60L,
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(),
+            new ThreadFactoryBuilder()
+                .setUncaughtExceptionHandler(LoggingUncaughtExceptionHandler.getInstance())
+                .setNameFormat("OAuthTokenRefresher-%d")
+                .setDaemon(true)
+                .build());
+    threadPoolExecutor.allowCoreThreadTimeOut(true);
+    this.executor =
+        executorServiceWrapper.wrap(threadPoolExecutor, OAuthTokenRefreshPool.class.getName());
+  }
+
+  /**
+   * Runs the given refresh asynchronously.
+   *
+   * @throws java.util.concurrent.RejectedExecutionException if the pool is shut down
+   */
+  public void execute(Runnable refresh) {
+    executor.execute(refresh);
+  }
+
+  /** Interrupts the running refreshes and stops the executor. */
+  @PreDestroy
+  public void shutdown() {
+    executor.shutdownNow();
+  }
+}
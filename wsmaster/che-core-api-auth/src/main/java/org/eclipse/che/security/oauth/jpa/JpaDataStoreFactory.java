@@ -0,0 +1,305 @@
+/*
+ * Copyright (c) 2012-2026 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.security.oauth.jpa;
+
+import static java.util.Objects.requireNonNull;
+import static java.util.stream.Collectors.toSet;
+
+import com.google.api.client.util.IOUtils;
+import com.google.api.client.util.store.AbstractDataStore;
+import com.google.api.client.util.store.AbstractDataStoreFactory;
+import com.google.api.client.util.store.DataStore;
+import com.google.api.client.util.store.DataStoreFactory;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.hash.Hashing;
+import com.google.inject.persist.Transactional;
+import java.io.IOException;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import javax.crypto.AEADBadTagException;
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Provider;
+import javax.inject.Singleton;
+import javax.persistence.EntityManager;
+import org.eclipse.che.security.oauth.OAuthAuthenticator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * JPA based implementation of {@link DataStoreFactory}.
+ *
+ * <p>The values are kept serialized in the database, so the credentials which the {@link
+ * OAuthAuthenticator}s store survive restarts of Che server and are shared between its replicas.
+ * They include refresh tokens, so they are encrypted with AES-GCM using a key derived from the
+ * secret in the file configured by {@value #SECRET_FILEPATH_PROPERTY}. The id of the data store and
+ * the key of the entry are authenticated with the value, so a value cannot be moved to another
+ * entry, e.g. of another user. Values which cannot be decrypted, e.g. after the secret was changed,
+ * are treated as missing, so the users authenticate again.
+ */
+@Singleton
+public class JpaDataStoreFactory extends AbstractDataStoreFactory {
+
+  /** Path to the file with the secret which the values are encrypted with. */
+  public static final String SECRET_FILEPATH_PROPERTY = "che.oauth.data_store.secret_filepath";
+
+  private static final Logger LOG = LoggerFactory.getLogger(JpaDataStoreFactory.class);
+
+  private static final String CIPHER_TRANSFORMATION = "AES/GCM/NoPadding";
+  private static final int IV_LENGTH = 12;
+  private static final int TAG_LENGTH_BITS = 128;
+
+  private final Provider<EntityManager> managerProvider;
+  private final SecretKey secretKey;
+  private final SecureRandom random;
+
+  @Inject
+  public JpaDataStoreFactory(
+      Provider<EntityManager> managerProvider,
+      @Named(SECRET_FILEPATH_PROPERTY) String secretFilepath)
+      throws IOException {
+    this(managerProvider, secretKeyOf(Files.readString(Path.of(secretFilepath)).trim()));
+  }
+
+  @VisibleForTesting
+  JpaDataStoreFactory(Provider<EntityManager> managerProvider, SecretKey secretKey) {
+    this.managerProvider = managerProvider;
+    this.secretKey = secretKey;
+    this.random = new SecureRandom();
+  }
+
+  /** Derives the key of the cipher from the given secret. */
+  @VisibleForTesting
+  static SecretKey secretKeyOf(String secret) {
+    if (secret.isEmpty()) {
+      throw new IllegalArgumentException("The secret of the OAuth data store must not be empty");
+    }
+    return new SecretKeySpec(
+        Hashing.sha256().hashString(secret, StandardCharsets.UTF_8).asBytes(), "AES");
+  }
+
+  @Override
+  protected <V extends Serializable> DataStore<V> createDataStore(String id) {
+    return new JpaDataStore<>(this, id);
+  }
+
+  @Transactional
+  protected List<OAuthDataStoreEntry> doGetAll(String dataStoreId) {
+    return managerProvider
+        .get()
+        .createNamedQuery("OAuthDataStoreEntry.getAll", OAuthDataStoreEntry.class)
+        .setParameter("dataStoreId", dataStoreId)
+        .getResultList();
+  }
+
+  @Transactional
+  protected OAuthDataStoreEntry doGet(String dataStoreId, String key) {
+    return managerProvider
+        .get()
+        .find(OAuthDataStoreEntry.class, new OAuthDataStoreEntry.EntryId(dataStoreId, key));
+  }
+
+  @Transactional
+  protected void doSet(OAuthDataStoreEntry entry) {
+    final EntityManager manager = managerProvider.get();
+    manager.merge(entry);
+    manager.flush();
+  }
+
+  @Transactional
+  protected void doRemove(String dataStoreId, String key) {
+    final EntityManager manager = managerProvider.get();
+    final OAuthDataStoreEntry entry =
+        manager.find(OAuthDataStoreEntry.class, new OAuthDataStoreEntry.EntryId(dataStoreId, key));
+    if (entry != null) {
+      manager.remove(entry);
+      manager.flush();
+    }
+  }
+
+  @Transactional
+  protected void doRemoveAll(String dataStoreId) {
+    managerProvider
+        .get()
+        .createNamedQuery("OAuthDataStoreEntry.removeAll")
+        .setParameter("dataStoreId", dataStoreId)
+        .executeUpdate();
+  }
+
+  /** Encrypts the given value of the entry with the given data store id and key. */
+  @VisibleForTesting
+  byte[] encrypt(String dataStoreId, String key, byte[] value) throws IOException {
+    final byte[] iv = new byte[IV_LENGTH];
+    random.nextBytes(iv);
+    try {
+      final Cipher cipher = Cipher.getInstance(CIPHER_TRANSFORMATION);
+      cipher.init(Cipher.ENCRYPT_MODE, secretKey, new GCMParameterSpec(TAG_LENGTH_BITS, iv));
+      cipher.updateAAD(associatedData(dataStoreId, key));
+      final byte[] encrypted = cipher.doFinal(value);
+      return ByteBuffer.allocate(IV_LENGTH + encrypted.length).put(iv).put(encrypted).array();
+    } catch (GeneralSecurityException ex) {
+      throw new IOException(ex.getMessage(), ex);
+    }
+  }
+
+  /**
+   * Decrypts the value of the given entry.
+   *
+   * @return decrypted value, or {@code null} if the value was not encrypted for this entry with the
+   *     current secret
+   */
+  @VisibleForTesting
+  byte[] decrypt(OAuthDataStoreEntry entry) throws IOException {
+    final byte[] value = entry.getValue();
+    if (value.length < IV_LENGTH) {
+      LOG.warn("Ignoring the malformed value of OAuth data store entry {}", entry);
+      return null;
+    }
+    try {
+      final Cipher cipher = Cipher.getInstance(CIPHER_TRANSFORMATION);
+      cipher.init(
+          Cipher.DECRYPT_MODE,
+          secretKey,
+          new GCMParameterSpec(TAG_LENGTH_BITS, value, 0, IV_LENGTH));
+      cipher.updateAAD(associatedData(entry.getDataStoreId(), entry.getKey()));
+      return cipher.doFinal(value, IV_LENGTH, value.length - IV_LENGTH);
+    } catch (AEADBadTagException ex) {
+      LOG.warn(
+          "Ignoring the value of OAuth data store entry {} which cannot be decrypted with the"
+              + " current secret",
+          entry);
+      return null;
+    } catch (GeneralSecurityException ex) {
+      throw new IOException(ex.getMessage(), ex);
+    }
+  }
+
+  private static byte[] associatedData(String dataStoreId, String key) {
+    return (dataStoreId + '\0' + key).getBytes(StandardCharsets.UTF_8);
+  }
+
+  /** Data store which keeps its values in the entries with its id. */
+  private static class JpaDataStore<V extends Serializable> extends AbstractDataStore<V> {
+
+    JpaDataStore(JpaDataStoreFactory dataStoreFactory, String id) {
+      super(dataStoreFactory, id);
+    }
+
+    @Override
+    public JpaDataStoreFactory getDataStoreFactory() {
+      return (JpaDataStoreFactory) super.getDataStoreFactory();
+    }
+
+    @Override
+    public Set<String> keySet() throws IOException {
+      try {
+        return Collections.unmodifiableSet(
+            getDataStoreFactory().doGetAll(getId()).stream()
+                .map(OAuthDataStoreEntry::getKey)
+                .collect(toSet()));
+      } catch (RuntimeException ex) {
+        throw new IOException(ex.getMessage(), ex);
+      }
+    }
+
+    @Override
+    public Collection<V> values() throws IOException {
+      final List<OAuthDataStoreEntry> entries;
+      try {
+        entries = getDataStoreFactory().doGetAll(getId());
+      } catch (RuntimeException ex) {
+        throw new IOException(ex.getMessage(), ex);
+      }
+      final List<V> values = new ArrayList<>(entries.size());
+      for (OAuthDataStoreEntry entry : entries) {
+        final V value = read(entry);
+        if (value != null) {
+          values.add(value);
+        }
+      }
+      return Collections.unmodifiableList(values);
+    }
+
+    @Override
+    public V get(String key) throws IOException {
+      if (key == null) {
+        return null;
+      }
+      final OAuthDataStoreEntry entry;
+      try {
+        entry = getDataStoreFactory().doGet(getId(), key);
+      } catch (RuntimeException ex) {
+        throw new IOException(ex.getMessage(), ex);
+      }
+      return entry == null ? null : read(entry);
+    }
+
+    @Override
+    public DataStore<V> set(String key, V value) throws IOException {
+      requireNonNull(key, "Required non-null key");
+      requireNonNull(value, "Required non-null value");
+      final OAuthDataStoreEntry entry =
+          new OAuthDataStoreEntry(
+              getId(),
+              key,
+              getDataStoreFactory().encrypt(getId(), key, IOUtils.serialize(value)));
+      try {
+        getDataStoreFactory().doSet(entry);
+      } catch (RuntimeException ex) {
+        throw new IOException(ex.getMessage(), ex);
+      }
+      return this;
+    }
+
+    @Override
+    public DataStore<V> clear() throws IOException {
+      try {
+        getDataStoreFactory().doRemoveAll(getId());
+      } catch (RuntimeException ex) {
+        throw new IOException(ex.getMessage(), ex);
+      }
+      return this;
+    }
+
+    @Override
+    public DataStore<V> delete(String key) throws IOException {
+      if (key == null) {
+        return this;
+      }
+      try {
+        getDataStoreFactory().doRemove(getId(), key);
+      } catch (RuntimeException ex) {
+        throw new IOException(ex.getMessage(), ex);
+      }
+      return this;
+    }
+
+    private V read(OAuthDataStoreEntry entry) throws IOException {
+      final byte[] value = getDataStoreFactory().decrypt(entry);
+      return value == null ? null : IOUtils.deserialize(value);
+    }
+  }
+}
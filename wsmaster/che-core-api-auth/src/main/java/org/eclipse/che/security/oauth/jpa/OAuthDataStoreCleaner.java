@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2012-2026 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.security.oauth.jpa;
+
+import com.google.inject.persist.Transactional;
+import jakarta.annotation.PostConstruct;
+import javax.inject.Inject;
+import javax.inject.Provider;
+import javax.inject.Singleton;
+import javax.persistence.EntityManager;
+import org.eclipse.che.api.core.notification.EventService;
+import org.eclipse.che.api.core.notification.EventSubscriber;
+import org.eclipse.che.api.user.server.event.UserRemovedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Removes the OAuth credentials of a user from all the data stores of {@link JpaDataStoreFactory}
+ * when the user is removed. The credentials are kept under the id of their user.
+ */
+@Singleton
+public class OAuthDataStoreCleaner implements EventSubscriber<UserRemovedEvent> {
+
+  private static final Logger LOG = LoggerFactory.getLogger(OAuthDataStoreCleaner.class);
+
+  private final Provider<EntityManager> managerProvider;
+  private final EventService eventService;
+
+  @Inject
+  public OAuthDataStoreCleaner(Provider<EntityManager> managerProvider, EventService eventService) {
+    this.managerProvider = managerProvider;
+    this.eventService = eventService;
+  }
+
+  @PostConstruct
+  public void subscribe() {
+    eventService.subscribe(this);
+  }
+
+  @Override
+  public void onEvent(UserRemovedEvent event) {
+    try {
+      doRemove(event.getUserId());
+    } catch (RuntimeException ex) {
+      LOG.error(
+          "Unable to remove the OAuth credentials of the removed user {} because of '{}'",
+          event.getUserId(),
+          ex.getMessage(),
+          ex);
+    }
+  }
+
+  @Transactional
+  protected void doRemove(String userId) {
+    managerProvider
+        .get()
+        .createNamedQuery("OAuthDataStoreEntry.removeByKey")
+        .setParameter("key", userId)
+        .executeUpdate();
+  }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2012-2026 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.security.oauth.jpa;
+
+import java.util.Arrays;
+import java.util.Objects;
+import javax.persistence.Column;
+import javax.persistence.Embeddable;
+import javax.persistence.EmbeddedId;
+import javax.persistence.Entity;
+import javax.persistence.NamedQueries;
+import javax.persistence.NamedQuery;
+import javax.persistence.Table;
+
+/**
+ * Serialized and encrypted value kept under the given key in the data store with the given id, see
+ * {@link JpaDataStoreFactory}.
+ */
+@Entity(name = "OAuthDataStoreEntry")
+@Table(name = "che_oauth_data_store_entry")
+@NamedQueries({
+  @NamedQuery(
+      name = "OAuthDataStoreEntry.getAll",
+      query = "SELECT e FROM OAuthDataStoreEntry e WHERE e.entryId.dataStoreId = :dataStoreId"),
+  @NamedQuery(
+      name = "OAuthDataStoreEntry.removeAll",
+      query = "DELETE FROM OAuthDataStoreEntry e WHERE e.entryId.dataStoreId = :dataStoreId"),
+  @NamedQuery(
+      name = "OAuthDataStoreEntry.removeByKey",
+      query = "DELETE FROM OAuthDataStoreEntry e WHERE e.entryId.key = :key")
+})
+public class OAuthDataStoreEntry {
+
+  @EmbeddedId private EntryId entryId;
+
+  @Column(name = "entry_value")
+  private byte[] value;
+
+  public OAuthDataStoreEntry() {}
+
+  public OAuthDataStoreEntry(String dataStoreId, String key, byte[] value) {
+    this.entryId = new EntryId(dataStoreId, key);
+    this.value = value;
+  }
+
+  public String getDataStoreId() {
+    return entryId.dataStoreId;
+  }
+
+  public String getKey() {
+    return entryId.key;
+  }
+
+  public byte[] getValue() {
+    return value;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (!(obj instanceof OAuthDataStoreEntry)) {
+      return false;
+    }
+    final OAuthDataStoreEntry that = (OAuthDataStoreEntry) obj;
+    return Objects.equals(entryId, that.entryId) && Arrays.equals(value, that.value);
+  }
+
+  @Override
+  public int hashCode() {
+    int hash = 7;
+    hash = 31 * hash + Objects.hashCode(entryId);
+    hash = 31 * hash + Arrays.hashCode(value);
+    return hash;
+  }
+
+  @Override
+  public String toString() {
+    // the value is a credential, so it is not printed
+    return "OAuthDataStoreEntry{" + "entryId=" + entryId + '}';
+  }
+
+  @Embeddable
+  public static class EntryId {
+    @Column(name = "data_store_id")
+    private String dataStoreId;
+
+    @Column(name = "entry_key")
+    private String key;
+
+    public EntryId() {}
+
+    public EntryId(String dataStoreId, String key) {
+      this.dataStoreId = dataStoreId;
+      this.key = key;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (!(obj instanceof EntryId)) {
+        return false;
+      }
+      final EntryId that = (EntryId) obj;
+      return Objects.equals(dataStoreId, that.dataStoreId) && Objects.equals(key, that.key);
+    }
+
+    @Override
+    public int hashCode() {
+      int hash = 7;
+      hash = 31 * hash + Objects.hashCode(dataStoreId);
+      hash = 31 * hash + Objects.hashCode(key);
+      return hash;
+    }
+
+    @Override
+    public String toString() {
+      return "EntryId{" + "dataStoreId='" + dataStoreId + '\'' + ", key='" + key + '\'' + '}';
+    }
+  }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2012-2026 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.security.oauth.jpa;
+
+import static com.google.common.base.Strings.isNullOrEmpty;
+
+import com.google.api.client.util.store.DataStoreFactory;
+import com.google.api.client.util.store.MemoryDataStoreFactory;
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Provider;
+import javax.inject.Singleton;
+import org.eclipse.che.commons.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Provides the {@link DataStoreFactory} which the OAuth credentials are kept in.
+ *
+ * <p>The credentials are persisted by {@link JpaDataStoreFactory} only if the secret they are
+ * encrypted with is configured. Otherwise they are kept in memory of each Che server, so they are
+ * lost on restart and are not shared between replicas.
+ */
+@Singleton
+public class OAuthDataStoreFactoryProvider implements Provider<DataStoreFactory> {
+
+  private static final Logger LOG = LoggerFactory.getLogger(OAuthDataStoreFactoryProvider.class);
+
+  private final DataStoreFactory dataStoreFactory;
+
+  @Inject
+  public OAuthDataStoreFactoryProvider(
+      @Nullable @Named(JpaDataStoreFactory.SECRET_FILEPATH_PROPERTY) String secretFilepath,
+      Provider<JpaDataStoreFactory> jpaDataStoreFactoryProvider) {
+    if (isNullOrEmpty(secretFilepath)) {
+      LOG.warn(
+          "The secret of the OAuth data store is not configured by '{}'."
+              + " OAuth credentials are kept in memory and are lost on restart of Che server",
+          JpaDataStoreFactory.SECRET_FILEPATH_PROPERTY);
+      this.dataStoreFactory = MemoryDataStoreFactory.getDefaultInstance();
+    } else {
+      this.dataStoreFactory = jpaDataStoreFactoryProvider.get();
+    }
+  }
+
+  @Override
+  public DataStoreFactory get() {
+    return dataStoreFactory;
+  }
+}
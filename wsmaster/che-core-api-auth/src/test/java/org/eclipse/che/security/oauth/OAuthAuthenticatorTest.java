@@ -0,0 +1,260 @@
+/*
+ * Copyright (c) 2012-2026 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.security.oauth;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.google.api.client.auth.oauth2.StoredCredential;
+import com.google.api.client.util.store.DataStoreFactory;
+import com.google.api.client.util.store.MemoryDataStoreFactory;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.che.api.auth.shared.dto.OAuthToken;
+import org.eclipse.che.commons.observability.NoopExecutorServiceWrapper;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+public class OAuthAuthenticatorTest {
+
+  private static final String USER_ID = "user1";
+
+  private WireMockServer wireMockServer;
+  private OAuthTokenRefreshPool refreshPool;
+  private TestOAuthAuthenticator authenticator;
+
+  @BeforeClass
+  public void startServer() {
+    wireMockServer = new WireMockServer(wireMockConfig().dynamicPort());
+    wireMockServer.start();
+  }
+
+  @AfterClass
+  public void stopServer() {
+    wireMockServer.stop();
+  }
+
+  @BeforeMethod
+  public void setUp() throws Exception {
+    wireMockServer.resetAll();
+    wireMockServer.stubFor(
+        post(urlEqualTo("/token"))
+            .willReturn(
+                aResponse()
+                    .withHeader("Content-Type", "application/json")
+                    .withFixedDelay(300)
+                    .withBody(
+                        "{\"access_token\":\"new\",\"token_type\":\"bearer\",\"expires_in\":3600}")));
+    refreshPool = new OAuthTokenRefreshPool(new NoopExecutorServiceWrapper(), 1);
+    authenticator =
+        new TestOAuthAuthenticator(
+            "test", wireMockServer.url("/token"), new MemoryDataStoreFactory(), refreshPool);
+  }
+
+  @AfterMethod
+  public void tearDown() {
+    refreshPool.shutdown();
+  }
+
+  @Test
+  public void shouldReturnValidTokenWithoutRefresh() throws Exception {
+    storeCredential(TimeUnit.HOURS.toMillis(1));
+
+    OAuthToken token = authenticator.getOrRefreshToken(USER_ID);
+
+    assertEquals(token.getToken(), "old");
+    wireMockServer.verify(0, postRequestedFor(urlEqualTo("/token")));
+  }
+
+  @Test
+  public void shouldRefreshExpiredTokenOnceForConcurrentCallers() throws Exception {
+    storeCredential(-TimeUnit.MINUTES.toMillis(1));
+    int callers = 4;
+    ExecutorService executor = Executors.newFixedThreadPool(callers);
+    try {
+      List<Callable<OAuthToken>> calls = new ArrayList<>();
+      for (int i = 0; i < callers; i++) {
+        calls.add(() -> authenticator.getOrRefreshToken(USER_ID));
+      }
+
+      for (Future<OAuthToken> future : executor.invokeAll(calls)) {
+        assertEquals(future.get().getToken(), "new");
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+    wireMockServer.verify(1, postRequestedFor(urlEqualTo("/token")));
+  }
+
+  @Test
+  public void shouldRefreshTokenInBackgroundBeforeItExpires() throws Exception {
+    storeCredential(TimeUnit.SECONDS.toMillis(30));
+
+    OAuthToken token = authenticator.getOrRefreshToken(USER_ID);
+    authenticator.getOrRefreshToken(USER_ID);
+
+    assertEquals(token.getToken(), "old");
+    awaitToken("new");
+    wireMockServer.verify(1, postRequestedFor(urlEqualTo("/token")));
+  }
+
+  @Test
+  public void shouldQueueSingleBackgroundRefreshForBurstOfCalls() throws Exception {
+    // the refreshed token is about to expire as well, so every queued refresh requests a new one
+    wireMockServer.stubFor(
+        post(urlEqualTo("/token"))
+            .willReturn(
+                aResponse()
+                    .withHeader("Content-Type", "application/json")
+                    .withFixedDelay(300)
+                    .withBody(
+                        "{\"access_token\":\"new\",\"token_type\":\"bearer\",\"expires_in\":30}")));
+    storeCredential("busy", TimeUnit.SECONDS.toMillis(30));
+    storeCredential(TimeUnit.SECONDS.toMillis(30));
+    // keeps the refresh executor busy, so the refreshes of the user wait in its queue
+    authenticator.getOrRefreshToken("busy");
+
+    for (int i = 0; i < 10; i++) {
+      authenticator.getOrRefreshToken(USER_ID);
+    }
+
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+    while (wireMockServer.findAll(postRequestedFor(urlEqualTo("/token"))).size() < 2
+        && System.nanoTime() < deadline) {
+      Thread.sleep(10);
+    }
+    // a second queued refresh of the user would be requested right after the first one completes
+    Thread.sleep(500);
+    wireMockServer.verify(2, postRequestedFor(urlEqualTo("/token")));
+  }
+
+  @Test
+  public void shouldReturnValidTokenWhenRefreshPoolIsShutDown() throws Exception {
+    storeCredential(TimeUnit.SECONDS.toMillis(30));
+    refreshPool.shutdown();
+
+    OAuthToken token = authenticator.getOrRefreshToken(USER_ID);
+
+    assertEquals(token.getToken(), "old");
+    wireMockServer.verify(0, postRequestedFor(urlEqualTo("/token")));
+  }
+
+  @Test
+  public void shouldNotRefreshTokenBeforeItExpiresWithoutRefreshPool() throws Exception {
+    authenticator =
+        new TestOAuthAuthenticator(
+            "test", wireMockServer.url("/token"), new MemoryDataStoreFactory(), null);
+    storeCredential(TimeUnit.SECONDS.toMillis(30));
+
+    OAuthToken token = authenticator.getOrRefreshToken(USER_ID);
+
+    assertEquals(token.getToken(), "old");
+    Thread.sleep(500);
+    wireMockServer.verify(0, postRequestedFor(urlEqualTo("/token")));
+  }
+
+  @Test
+  public void shouldKeepCredentialsOfProvidersApartInSharedStore() throws Exception {
+    DataStoreFactory sharedStore = new MemoryDataStoreFactory();
+    authenticator =
+        new TestOAuthAuthenticator("first", wireMockServer.url("/token"), sharedStore, refreshPool);
+    TestOAuthAuthenticator other =
+        new TestOAuthAuthenticator(
+            "second", wireMockServer.url("/token"), sharedStore, refreshPool);
+    storeCredential(TimeUnit.HOURS.toMillis(1));
+
+    assertNotNull(authenticator.getOrRefreshToken(USER_ID));
+    assertNull(other.getOrRefreshToken(USER_ID));
+  }
+
+  @Test
+  public void shouldRemoveExpiredTokenWhenItCannotBeRefreshed() throws Exception {
+    wireMockServer.stubFor(post(urlEqualTo("/token")).willReturn(aResponse().withStatus(400)));
+    storeCredential(-TimeUnit.MINUTES.toMillis(1));
+
+    assertNull(authenticator.getOrRefreshToken(USER_ID));
+    assertNull(authenticator.flow.loadCredential(USER_ID));
+  }
+
+  private void storeCredential(long expiresInMillis) throws IOException {
+    storeCredential(USER_ID, expiresInMillis);
+  }
+
+  private void storeCredential(String userId, long expiresInMillis) throws IOException {
+    authenticator
+        .flow
+        .getCredentialDataStore()
+        .set(
+            userId,
+            new StoredCredential()
+                .setAccessToken("old")
+                .setRefreshToken("refresh")
+                .setExpirationTimeMilliseconds(System.currentTimeMillis() + expiresInMillis));
+  }
+
+  private void awaitToken(String expected) throws Exception {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+    while (!expected.equals(authenticator.flow.loadCredential(USER_ID).getAccessToken())
+        && System.nanoTime() < deadline) {
+      Thread.sleep(10);
+    }
+    assertEquals(authenticator.flow.loadCredential(USER_ID).getAccessToken(), expected);
+  }
+
+  private static class TestOAuthAuthenticator extends OAuthAuthenticator {
+
+    private final String providerName;
+
+    TestOAuthAuthenticator(
+        String providerName,
+        String tokenUri,
+        DataStoreFactory dataStoreFactory,
+        OAuthTokenRefreshPool refreshPool)
+        throws IOException {
+      super(refreshPool);
+      this.providerName = providerName;
+      configure(
+          "id",
+          "secret",
+          new String[] {"http://che.host/api/oauth/callback"},
+          "http://provider.host/authorize",
+          tokenUri,
+          dataStoreFactory);
+    }
+
+    @Override
+    public String getOAuthProvider() {
+      return providerName;
+    }
+
+    @Override
+    public String getEndpointUrl() {
+      return "http://provider.host";
+    }
+  }
+}
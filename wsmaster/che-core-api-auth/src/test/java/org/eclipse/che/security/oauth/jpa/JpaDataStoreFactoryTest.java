@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2012-2026 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.security.oauth.jpa;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+import com.google.api.client.util.IOUtils;
+import com.google.api.client.util.store.DataStore;
+import java.util.List;
+import javax.persistence.EntityManager;
+import javax.persistence.TypedQuery;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.testng.MockitoTestNGListener;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+/** Tests {@link JpaDataStoreFactory}. */
+@Listeners(MockitoTestNGListener.class)
+public class JpaDataStoreFactoryTest {
+
+  private static final String DATA_STORE_ID = "github";
+  private static final String USER_ID = "user123";
+  private static final String TOKEN = "refresh-token-value";
+
+  @Mock private EntityManager manager;
+  @Mock private TypedQuery<OAuthDataStoreEntry> query;
+
+  private JpaDataStoreFactory factory;
+  private DataStore<String> dataStore;
+
+  @BeforeMethod
+  public void setUp() throws Exception {
+    factory = new JpaDataStoreFactory(() -> manager, JpaDataStoreFactory.secretKeyOf("secret"));
+    dataStore = factory.getDataStore(DATA_STORE_ID);
+    lenient()
+        .when(manager.createNamedQuery("OAuthDataStoreEntry.getAll", OAuthDataStoreEntry.class))
+        .thenReturn(query);
+    lenient().when(query.setParameter(any(String.class), any())).thenReturn(query);
+  }
+
+  @Test
+  public void shouldStoreEncryptedValue() throws Exception {
+    // when
+    dataStore.set(USER_ID, TOKEN);
+
+    // then
+    ArgumentCaptor<OAuthDataStoreEntry> captor = ArgumentCaptor.forClass(OAuthDataStoreEntry.class);
+    verify(manager).merge(captor.capture());
+    OAuthDataStoreEntry entry = captor.getValue();
+    assertEquals(entry.getDataStoreId(), DATA_STORE_ID);
+    assertEquals(entry.getKey(), USER_ID);
+    assertFalse(new String(entry.getValue(), ISO_8859_1).contains(TOKEN));
+    String decrypted = IOUtils.deserialize(factory.decrypt(entry));
+    assertEquals(decrypted, TOKEN);
+  }
+
+  @Test
+  public void shouldReadStoredValue() throws Exception {
+    // given
+    mockEntry(encryptedEntry(factory, USER_ID, USER_ID));
+
+    // when
+    String value = dataStore.get(USER_ID);
+
+    // then
+    assertEquals(value, TOKEN);
+  }
+
+  @Test
+  public void shouldNotReadValueMovedToEntryOfAnotherUser() throws Exception {
+    // given
+    mockEntry(encryptedEntry(factory, USER_ID, "user456"));
+
+    // when
+    String value = dataStore.get("user456");
+
+    // then
+    assertNull(value);
+  }
+
+  @Test
+  public void shouldNotReadValueEncryptedWithAnotherSecret() throws Exception {
+    // given
+    JpaDataStoreFactory anotherFactory =
+        new JpaDataStoreFactory(() -> manager, JpaDataStoreFactory.secretKeyOf("another"));
+    mockEntry(encryptedEntry(anotherFactory, USER_ID, USER_ID));
+
+    // when
+    String value = dataStore.get(USER_ID);
+
+    // then
+    assertNull(value);
+  }
+
+  @Test
+  public void shouldSkipValuesWhichCannotBeDecrypted() throws Exception {
+    // given
+    JpaDataStoreFactory anotherFactory =
+        new JpaDataStoreFactory(() -> manager, JpaDataStoreFactory.secretKeyOf("another"));
+    when(query.getResultList())
+        .thenReturn(
+            List.of(
+                encryptedEntry(factory, USER_ID, USER_ID),
+                encryptedEntry(anotherFactory, "user456", "user456")));
+
+    // when
+    List<String> values = List.copyOf(dataStore.values());
+
+    // then
+    assertEquals(values, List.of(TOKEN));
+    assertTrue(dataStore.keySet().contains("user456"));
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void shouldNotAcceptEmptySecret() {
+    JpaDataStoreFactory.secretKeyOf("");
+  }
+
+  private void mockEntry(OAuthDataStoreEntry entry) {
+    when(manager.find(eq(OAuthDataStoreEntry.class), any())).thenReturn(entry);
+  }
+
+  private static OAuthDataStoreEntry encryptedEntry(
+      JpaDataStoreFactory factory, String encryptedForKey, String key) throws Exception {
+    return new OAuthDataStoreEntry(
+        DATA_STORE_ID,
+        key,
+        factory.encrypt(DATA_STORE_ID, encryptedForKey, IOUtils.serialize(TOKEN)));
+  }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2012-2026 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.security.oauth.jpa;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import javax.persistence.EntityManager;
+import javax.persistence.Query;
+import org.eclipse.che.api.core.notification.EventService;
+import org.eclipse.che.api.user.server.event.UserRemovedEvent;
+import org.mockito.Mock;
+import org.mockito.testng.MockitoTestNGListener;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+/** Tests {@link OAuthDataStoreCleaner}. */
+@Listeners(MockitoTestNGListener.class)
+public class OAuthDataStoreCleanerTest {
+
+  @Mock private EntityManager manager;
+  @Mock private Query query;
+
+  @Test
+  public void shouldRemoveEntriesOfRemovedUser() {
+    // given
+    EventService eventService = new EventService();
+    new OAuthDataStoreCleaner(() -> manager, eventService).subscribe();
+    when(manager.createNamedQuery("OAuthDataStoreEntry.removeByKey")).thenReturn(query);
+    when(query.setParameter("key", "user123")).thenReturn(query);
+
+    // when
+    eventService.publish(new UserRemovedEvent("user123"));
+
+    // then
+    verify(query).executeUpdate();
+  }
+}
@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2012-2026 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.security.oauth.jpa;
+
+import com.google.inject.TypeLiteral;
+import org.eclipse.che.api.user.server.model.impl.UserImpl;
+import org.eclipse.che.commons.test.tck.TckModule;
+import org.eclipse.che.commons.test.tck.repository.JpaTckRepository;
+import org.eclipse.che.commons.test.tck.repository.TckRepository;
+
+/** Tck module for OAuth data store test. */
+public class OAuthDataStoreTckModule extends TckModule {
+
+  @Override
+  protected void configure() {
+    bind(new TypeLiteral<TckRepository<OAuthDataStoreEntry>>() {})
+        .toInstance(new JpaTckRepository<>(OAuthDataStoreEntry.class));
+    bind(new TypeLiteral<TckRepository<UserImpl>>() {})
+        .toInstance(new JpaTckRepository<>(UserImpl.class));
+  }
+}
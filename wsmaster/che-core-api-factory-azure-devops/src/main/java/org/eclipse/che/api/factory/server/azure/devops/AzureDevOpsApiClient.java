@@ -25,7 +25,6 @@ import static org.eclipse.che.commons.lang.StringUtils.trimEnd;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.base.Charsets;
 import com.google.common.io.CharStreams;
-import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
@@ -35,16 +34,15 @@ import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.time.Duration;
-import java.util.concurrent.Executors;
 import java.util.function.Function;
 import javax.inject.Inject;
 import javax.inject.Named;
 import javax.inject.Singleton;
+import org.eclipse.che.api.factory.server.scm.ScmHttpClientRegistry;
 import org.eclipse.che.api.factory.server.scm.exception.ScmBadRequestException;
 import org.eclipse.che.api.factory.server.scm.exception.ScmCommunicationException;
 import org.eclipse.che.api.factory.server.scm.exception.ScmItemNotFoundException;
 import org.eclipse.che.api.factory.server.scm.exception.ScmUnauthorizedException;
-import org.eclipse.che.commons.lang.concurrent.LoggingUncaughtExceptionHandler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -61,20 +59,10 @@ public class AzureDevOpsApiClient {
 
   @Inject
   public AzureDevOpsApiClient(
-      @Named("che.integration.azure.devops.api_endpoint") String azureDevOpsApiEndpoint) {
+      @Named("che.integration.azure.devops.api_endpoint") String azureDevOpsApiEndpoint,
+      ScmHttpClientRegistry httpClientRegistry) {
     this.azureDevOpsApiEndpoint = trimEnd(azureDevOpsApiEndpoint, '/');
-    this.httpClient =
-        HttpClient.newBuilder()
-            .executor(
-                Executors.newCachedThreadPool(
-                    new ThreadFactoryBuilder()
-                        .setUncaughtExceptionHandler(LoggingUncaughtExceptionHandler.getInstance())
-                        .setNameFormat(AzureDevOpsApiClient.class.getName() + "-%d")
-                        .setDaemon(true)
-                        .build()))
-            .connectTimeout(DEFAULT_HTTP_TIMEOUT)
-            .version(HttpClient.Version.HTTP_1_1)
-            .build();
+    this.httpClient = httpClientRegistry.getClient(this.azureDevOpsApiEndpoint);
   }
 
   /**
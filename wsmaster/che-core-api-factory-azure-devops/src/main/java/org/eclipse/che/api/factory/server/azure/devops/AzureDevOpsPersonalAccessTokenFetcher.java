@@ -28,6 +28,7 @@ import org.eclipse.che.api.core.UnauthorizedException;
 import org.eclipse.che.api.factory.server.scm.PersonalAccessToken;
 import org.eclipse.che.api.factory.server.scm.PersonalAccessTokenFetcher;
 import org.eclipse.che.api.factory.server.scm.PersonalAccessTokenParams;
+import org.eclipse.che.api.factory.server.scm.ScmHttpClientRegistry;
 import org.eclipse.che.api.factory.server.scm.exception.ScmBadRequestException;
 import org.eclipse.che.api.factory.server.scm.exception.ScmCommunicationException;
 import org.eclipse.che.api.factory.server.scm.exception.ScmItemNotFoundException;
@@ -56,6 +57,7 @@ public class AzureDevOpsPersonalAccessTokenFetcher implements PersonalAccessToke
   private final String[] scopes;
 
   private final AzureDevOpsApiClient azureDevOpsApiClient;
+  private final ScmHttpClientRegistry httpClientRegistry;
 
   @Inject
   public AzureDevOpsPersonalAccessTokenFetcher(
@@ -63,12 +65,14 @@ public class AzureDevOpsPersonalAccessTokenFetcher implements PersonalAccessToke
       @Named("che.integration.azure.devops.scm.api_endpoint") String azureDevOpsSAASApiEndpoint,
       @Named("che.integration.azure.devops.application_scopes") String[] scopes,
       AzureDevOpsApiClient azureDevOpsApiClient,
-      OAuthAPI oAuthAPI) {
+      OAuthAPI oAuthAPI,
+      ScmHttpClientRegistry httpClientRegistry) {
     this.cheApiEndpoint = cheApiEndpoint;
     this.azureDevOpsSAASApiEndpoint = trimEnd(azureDevOpsSAASApiEndpoint, '/');
     this.oAuthAPI = oAuthAPI;
     this.scopes = scopes;
     this.azureDevOpsApiClient = azureDevOpsApiClient;
+    this.httpClientRegistry = httpClientRegistry;
   }
 
   @Override
@@ -176,7 +180,8 @@ public class AzureDevOpsPersonalAccessTokenFetcher implements PersonalAccessToke
     if (!isValidAzureDevOpsSAASUrl(params.getScmProviderUrl())) {
       if (OAUTH_PROVIDER_NAME.equals(params.getScmProviderName())) {
         AzureDevOpsServerApiClient azureDevOpsServerApiClient =
-            new AzureDevOpsServerApiClient(params.getScmProviderUrl(), params.getOrganization());
+            new AzureDevOpsServerApiClient(
+                params.getScmProviderUrl(), params.getOrganization(), httpClientRegistry);
         try {
           AzureDevOpsServerUserProfile user = azureDevOpsServerApiClient.getUser(params.getToken());
           return Optional.of(Pair.of(Boolean.TRUE, user.getIdentity().getAccountName()));
@@ -22,7 +22,6 @@ import static org.eclipse.che.commons.lang.StringUtils.trimEnd;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.base.Charsets;
 import com.google.common.io.CharStreams;
-import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
@@ -33,12 +32,11 @@ import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.time.Duration;
 import java.util.Base64;
-import java.util.concurrent.Executors;
 import java.util.function.Function;
+import org.eclipse.che.api.factory.server.scm.ScmHttpClientRegistry;
 import org.eclipse.che.api.factory.server.scm.exception.ScmBadRequestException;
 import org.eclipse.che.api.factory.server.scm.exception.ScmCommunicationException;
 import org.eclipse.che.api.factory.server.scm.exception.ScmItemNotFoundException;
-import org.eclipse.che.commons.lang.concurrent.LoggingUncaughtExceptionHandler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -54,21 +52,12 @@ public class AzureDevOpsServerApiClient {
   private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
 
   public AzureDevOpsServerApiClient(
-      String azureDevOpsServerApiEndpoint, String azureDevOpsServerCollection) {
+      String azureDevOpsServerApiEndpoint,
+      String azureDevOpsServerCollection,
+      ScmHttpClientRegistry httpClientRegistry) {
     this.azureDevOpsServerApiEndpoint = trimEnd(azureDevOpsServerApiEndpoint, '/');
     this.azureDevOpsServerCollection = azureDevOpsServerCollection;
-    this.httpClient =
-        HttpClient.newBuilder()
-            .executor(
-                Executors.newCachedThreadPool(
-                    new ThreadFactoryBuilder()
-                        .setUncaughtExceptionHandler(LoggingUncaughtExceptionHandler.getInstance())
-                        .setNameFormat(AzureDevOpsServerApiClient.class.getName() + "-%d")
-                        .setDaemon(true)
-                        .build()))
-            .connectTimeout(DEFAULT_HTTP_TIMEOUT)
-            .version(HttpClient.Version.HTTP_1_1)
-            .build();
+    this.httpClient = httpClientRegistry.getClient(this.azureDevOpsServerApiEndpoint);
   }
 
   /**
@@ -21,6 +21,7 @@ import org.eclipse.che.api.factory.server.scm.AbstractGitUserDataFetcher;
 import org.eclipse.che.api.factory.server.scm.GitUserData;
 import org.eclipse.che.api.factory.server.scm.PersonalAccessToken;
 import org.eclipse.che.api.factory.server.scm.PersonalAccessTokenManager;
+import org.eclipse.che.api.factory.server.scm.ScmHttpClientRegistry;
 import org.eclipse.che.api.factory.server.scm.exception.ScmBadRequestException;
 import org.eclipse.che.api.factory.server.scm.exception.ScmCommunicationException;
 import org.eclipse.che.api.factory.server.scm.exception.ScmItemNotFoundException;
@@ -35,6 +36,7 @@ public class AzureDevOpsUserDataFetcher extends AbstractGitUserDataFetcher {
   private final String cheApiEndpoint;
   private final String[] scopes;
   private final AzureDevOpsApiClient azureDevOpsApiClient;
+  private final ScmHttpClientRegistry httpClientRegistry;
   private static final String NO_USERNAME_AND_EMAIL_ERROR_MESSAGE =
       "User name and/or email is not found in the azure devops profile.";
 
@@ -44,11 +46,13 @@ public class AzureDevOpsUserDataFetcher extends AbstractGitUserDataFetcher {
       AzureDevOpsApiClient azureDevOpsApiClient,
       @Named("che.api") String cheApiEndpoint,
       @Named("che.integration.azure.devops.scm.api_endpoint") String azureDevOpsScmApiEndpoint,
-      @Named("che.integration.azure.devops.application_scopes") String[] scopes) {
+      @Named("che.integration.azure.devops.application_scopes") String[] scopes,
+      ScmHttpClientRegistry httpClientRegistry) {
     super(AzureDevOps.PROVIDER_NAME, azureDevOpsScmApiEndpoint, personalAccessTokenManager);
     this.scopes = scopes;
     this.cheApiEndpoint = cheApiEndpoint;
     this.azureDevOpsApiClient = azureDevOpsApiClient;
+    this.httpClientRegistry = httpClientRegistry;
   }
 
   @Override
@@ -80,7 +84,9 @@ public class AzureDevOpsUserDataFetcher extends AbstractGitUserDataFetcher {
     } else {
       AzureDevOpsServerApiClient apiClient =
           new AzureDevOpsServerApiClient(
-              personalAccessToken.getScmProviderUrl(), personalAccessToken.getScmOrganization());
+              personalAccessToken.getScmProviderUrl(),
+              personalAccessToken.getScmOrganization(),
+              httpClientRegistry);
       AzureDevOpsServerUserProfile user = apiClient.getUser(personalAccessToken.getToken());
       String defaultMailAddress = user.getDefaultMailAddress();
       String identityMailAddress = user.getIdentity().getMailAddress();
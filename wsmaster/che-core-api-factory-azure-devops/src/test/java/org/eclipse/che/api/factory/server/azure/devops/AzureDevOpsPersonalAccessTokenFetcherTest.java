@@ -37,8 +37,10 @@ import java.util.Optional;
 import org.eclipse.che.api.auth.shared.dto.OAuthToken;
 import org.eclipse.che.api.factory.server.scm.PersonalAccessToken;
 import org.eclipse.che.api.factory.server.scm.PersonalAccessTokenParams;
+import org.eclipse.che.api.factory.server.scm.ScmHttpClientRegistry;
 import org.eclipse.che.api.factory.server.scm.exception.ScmUnauthorizedException;
 import org.eclipse.che.commons.lang.Pair;
+import org.eclipse.che.commons.observability.NoopExecutorServiceWrapper;
 import org.eclipse.che.commons.subject.Subject;
 import org.eclipse.che.commons.subject.SubjectImpl;
 import org.eclipse.che.security.oauth.OAuthAPI;
@@ -55,6 +57,9 @@ import org.testng.annotations.Test;
 @Listeners(MockitoTestNGListener.class)
 public class AzureDevOpsPersonalAccessTokenFetcherTest {
 
+  private final ScmHttpClientRegistry httpClientRegistry =
+      new ScmHttpClientRegistry(new NoopExecutorServiceWrapper());
+
   @Mock private AzureDevOpsApiClient azureDevOpsApiClient;
   @Mock private OAuthAPI oAuthAPI;
   @Mock private OAuthToken oAuthToken;
@@ -81,8 +86,9 @@ public class AzureDevOpsPersonalAccessTokenFetcherTest {
             "localhost",
             "http://localhost:3301",
             new String[] {},
-            new AzureDevOpsApiClient(wireMockServer.url("/")),
-            oAuthAPI);
+            new AzureDevOpsApiClient(wireMockServer.url("/"), httpClientRegistry),
+            oAuthAPI,
+            httpClientRegistry);
   }
 
   @AfterMethod
@@ -104,7 +110,12 @@ public class AzureDevOpsPersonalAccessTokenFetcherTest {
   public void fetchPersonalAccessTokenShouldReturnToken() throws Exception {
     personalAccessTokenFetcher =
         new AzureDevOpsPersonalAccessTokenFetcher(
-            "localhost", "https://dev.azure.com", new String[] {}, azureDevOpsApiClient, oAuthAPI);
+            "localhost",
+            "https://dev.azure.com",
+            new String[] {},
+            azureDevOpsApiClient,
+            oAuthAPI,
+            httpClientRegistry);
     when(oAuthAPI.getOrRefreshToken(AzureDevOps.PROVIDER_NAME)).thenReturn(oAuthToken);
     when(azureDevOpsApiClient.getUserWithOAuthToken(any())).thenReturn(azureDevOpsUser);
     when(azureDevOpsUser.getEmailAddress()).thenReturn("user-email");
@@ -195,8 +206,9 @@ public class AzureDevOpsPersonalAccessTokenFetcherTest {
             "localhost",
             "https://dev.azure-server.com",
             new String[] {},
-            new AzureDevOpsApiClient(wireMockServer.url("/")),
-            oAuthAPI);
+            new AzureDevOpsApiClient(wireMockServer.url("/"), httpClientRegistry),
+            oAuthAPI,
+            httpClientRegistry);
     stubFor(
         get(urlEqualTo("/organization/_api/_common/GetUserProfile"))
             .withHeader(
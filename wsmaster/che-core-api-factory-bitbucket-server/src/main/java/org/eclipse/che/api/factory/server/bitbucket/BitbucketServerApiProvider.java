@@ -24,6 +24,7 @@ import javax.inject.Provider;
 import javax.inject.Singleton;
 import org.eclipse.che.api.factory.server.bitbucket.server.BitbucketServerApiClient;
 import org.eclipse.che.api.factory.server.bitbucket.server.NoopBitbucketServerApiClient;
+import org.eclipse.che.api.factory.server.scm.ScmHttpClientRegistry;
 import org.eclipse.che.commons.annotation.Nullable;
 import org.eclipse.che.commons.lang.StringUtils;
 import org.eclipse.che.inject.ConfigurationException;
@@ -41,6 +42,7 @@ public class BitbucketServerApiProvider implements Provider<BitbucketServerApiCl
   private final BitbucketServerApiClient bitbucketServerApiClient;
   private final String apiEndpoint;
   private final OAuthAPI oAuthAPI;
+  private final ScmHttpClientRegistry httpClientRegistry;
 
   @Inject
   public BitbucketServerApiProvider(
@@ -48,9 +50,11 @@ public class BitbucketServerApiProvider implements Provider<BitbucketServerApiCl
       @Named("che.oauth.bitbucket.endpoint") String bitbucketOauthEndpoint,
       @Named("che.api") String apiEndpoint,
       OAuthAPI oAuthAPI,
-      Set<OAuthAuthenticator> authenticators) {
+      Set<OAuthAuthenticator> authenticators,
+      ScmHttpClientRegistry httpClientRegistry) {
     this.apiEndpoint = apiEndpoint;
     this.oAuthAPI = oAuthAPI;
+    this.httpClientRegistry = httpClientRegistry;
     bitbucketServerApiClient = doGet(bitbucketEndpoints, bitbucketOauthEndpoint, authenticators);
     LOG.debug("Bitbucket server api is used {}", bitbucketServerApiClient);
   }
@@ -76,7 +80,8 @@ public class BitbucketServerApiProvider implements Provider<BitbucketServerApiCl
           sanitizedEndpoints(rawBitbucketEndpoints).get(0),
           new NoopOAuthAuthenticator(),
           oAuthAPI,
-          apiEndpoint);
+          apiEndpoint,
+          httpClientRegistry);
     } else {
       bitbucketOauthEndpoint = StringUtils.trimEnd(bitbucketOauthEndpoint, '/');
       if (!sanitizedEndpoints(rawBitbucketEndpoints).contains(bitbucketOauthEndpoint)) {
@@ -91,7 +96,7 @@ public class BitbucketServerApiProvider implements Provider<BitbucketServerApiCl
               "'che.oauth.bitbucket.endpoint' is set but BitbucketServerOAuthAuthenticator is not deployed correctly");
         }
         return new HttpBitbucketServerApiClient(
-            bitbucketOauthEndpoint, authenticator.get(), oAuthAPI, apiEndpoint);
+            bitbucketOauthEndpoint, authenticator.get(), oAuthAPI, apiEndpoint, httpClientRegistry);
       }
     }
   }
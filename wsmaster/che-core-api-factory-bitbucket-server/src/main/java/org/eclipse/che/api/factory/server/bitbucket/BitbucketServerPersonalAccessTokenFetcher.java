@@ -28,6 +28,7 @@ import org.eclipse.che.api.factory.server.bitbucket.server.BitbucketUser;
 import org.eclipse.che.api.factory.server.scm.PersonalAccessToken;
 import org.eclipse.che.api.factory.server.scm.PersonalAccessTokenFetcher;
 import org.eclipse.che.api.factory.server.scm.PersonalAccessTokenParams;
+import org.eclipse.che.api.factory.server.scm.ScmHttpClientRegistry;
 import org.eclipse.che.api.factory.server.scm.exception.ScmBadRequestException;
 import org.eclipse.che.api.factory.server.scm.exception.ScmCommunicationException;
 import org.eclipse.che.api.factory.server.scm.exception.ScmItemNotFoundException;
@@ -58,15 +59,18 @@ public class BitbucketServerPersonalAccessTokenFetcher implements PersonalAccess
   private final BitbucketServerApiClient bitbucketServerApiClient;
   private final URL apiEndpoint;
   private final OAuthAPI oAuthAPI;
+  private final ScmHttpClientRegistry httpClientRegistry;
 
   @Inject
   public BitbucketServerPersonalAccessTokenFetcher(
       BitbucketServerApiClient bitbucketServerApiClient,
       @Named("che.api") URL apiEndpoint,
-      OAuthAPI oAuthAPI) {
+      OAuthAPI oAuthAPI,
+      ScmHttpClientRegistry httpClientRegistry) {
     this.bitbucketServerApiClient = bitbucketServerApiClient;
     this.apiEndpoint = apiEndpoint;
     this.oAuthAPI = oAuthAPI;
+    this.httpClientRegistry = httpClientRegistry;
   }
 
   @Override
@@ -132,7 +136,8 @@ public class BitbucketServerPersonalAccessTokenFetcher implements PersonalAccess
               accessToken.getScmProviderUrl(),
               new NoopOAuthAuthenticator(),
               oAuthAPI,
-              apiEndpoint.toString());
+              apiEndpoint.toString(),
+              httpClientRegistry);
       try {
         apiClient.getUser(accessToken.getToken());
         return Optional.of(Boolean.TRUE);
@@ -167,7 +172,8 @@ public class BitbucketServerPersonalAccessTokenFetcher implements PersonalAccess
               params.getScmProviderUrl(),
               new NoopOAuthAuthenticator(),
               oAuthAPI,
-              apiEndpoint.toString());
+              apiEndpoint.toString(),
+              httpClientRegistry);
       try {
         BitbucketUser user = apiClient.getUser(params.getToken());
         return Optional.of(Pair.of(Boolean.TRUE, user.getName()));
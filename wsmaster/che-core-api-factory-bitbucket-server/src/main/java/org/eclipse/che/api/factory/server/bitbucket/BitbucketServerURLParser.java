@@ -28,6 +28,7 @@ import javax.inject.Named;
 import javax.inject.Singleton;
 import org.eclipse.che.api.factory.server.scm.PersonalAccessToken;
 import org.eclipse.che.api.factory.server.scm.PersonalAccessTokenManager;
+import org.eclipse.che.api.factory.server.scm.ScmHttpClientRegistry;
 import org.eclipse.che.api.factory.server.scm.exception.ScmCommunicationException;
 import org.eclipse.che.api.factory.server.scm.exception.ScmConfigurationPersistenceException;
 import org.eclipse.che.api.factory.server.scm.exception.ScmItemNotFoundException;
@@ -50,6 +51,7 @@ public class BitbucketServerURLParser {
   private final DevfileFilenamesProvider devfileFilenamesProvider;
   private final OAuthAPI oAuthAPI;
   private final PersonalAccessTokenManager personalAccessTokenManager;
+  private final ScmHttpClientRegistry httpClientRegistry;
   private static final List<String> bitbucketUrlPatternTemplates =
       List.of(
           "^(?<scheme>%s)://(?<host>%s)/scm/~(?<user>[^/]+)/(?<repo>.*).git$",
@@ -67,7 +69,8 @@ public class BitbucketServerURLParser {
       @Nullable @Named("che.integration.bitbucket.server_endpoints") String bitbucketEndpoints,
       DevfileFilenamesProvider devfileFilenamesProvider,
       OAuthAPI oAuthAPI,
-      PersonalAccessTokenManager personalAccessTokenManager) {
+      PersonalAccessTokenManager personalAccessTokenManager,
+      ScmHttpClientRegistry httpClientRegistry) {
     this.devfileFilenamesProvider = devfileFilenamesProvider;
     this.oAuthAPI = oAuthAPI;
     this.personalAccessTokenManager = personalAccessTokenManager;
@@ -77,6 +80,7 @@ public class BitbucketServerURLParser {
         bitbucketUrlPatterns.addAll(getUrlPatterns(trimmedEndpoint));
       }
     }
+    this.httpClientRegistry = httpClientRegistry;
   }
 
   private boolean isUserTokenPresent(String repositoryUrl) {
@@ -164,7 +168,8 @@ public class BitbucketServerURLParser {
               getServerUrl(repositoryUrl),
               new BitbucketServerOAuthAuthenticator("", "", "", ""),
               oAuthAPI,
-              "");
+              "",
+              httpClientRegistry);
       // If the user request catches the unauthorised error, it means that the provided url
       // belongs to Bitbucket.
       bitbucketServerApiClient.getUser();
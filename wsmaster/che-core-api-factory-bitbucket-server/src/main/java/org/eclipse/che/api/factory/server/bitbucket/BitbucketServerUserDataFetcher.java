@@ -25,6 +25,7 @@ import org.eclipse.che.api.factory.server.scm.GitUserData;
 import org.eclipse.che.api.factory.server.scm.GitUserDataFetcher;
 import org.eclipse.che.api.factory.server.scm.PersonalAccessToken;
 import org.eclipse.che.api.factory.server.scm.PersonalAccessTokenManager;
+import org.eclipse.che.api.factory.server.scm.ScmHttpClientRegistry;
 import org.eclipse.che.api.factory.server.scm.exception.ScmCommunicationException;
 import org.eclipse.che.api.factory.server.scm.exception.ScmConfigurationPersistenceException;
 import org.eclipse.che.api.factory.server.scm.exception.ScmItemNotFoundException;
@@ -49,6 +50,7 @@ public class BitbucketServerUserDataFetcher implements GitUserDataFetcher {
   private final OAuthAPI oAuthAPI;
 
   private final List<String> registeredBitbucketEndpoints;
+  private final ScmHttpClientRegistry httpClientRegistry;
 
   @Inject
   public BitbucketServerUserDataFetcher(
@@ -56,7 +58,8 @@ public class BitbucketServerUserDataFetcher implements GitUserDataFetcher {
       @Nullable @Named("che.integration.bitbucket.server_endpoints") String bitbucketEndpoints,
       BitbucketServerApiClient bitbucketServerApiClient,
       OAuthAPI oAuthAPI,
-      PersonalAccessTokenManager personalAccessTokenManager) {
+      PersonalAccessTokenManager personalAccessTokenManager,
+      ScmHttpClientRegistry httpClientRegistry) {
     this.oAuthAPI = oAuthAPI;
     this.apiEndpoint = apiEndpoint;
     this.bitbucketServerApiClient = bitbucketServerApiClient;
@@ -70,6 +73,7 @@ public class BitbucketServerUserDataFetcher implements GitUserDataFetcher {
     } else {
       this.registeredBitbucketEndpoints = Collections.emptyList();
     }
+    this.httpClientRegistry = httpClientRegistry;
   }
 
   @Override
@@ -100,7 +104,8 @@ public class BitbucketServerUserDataFetcher implements GitUserDataFetcher {
               StringUtils.trimEnd(token.getScmProviderUrl(), '/'),
               new NoopOAuthAuthenticator(),
               oAuthAPI,
-              this.apiEndpoint);
+              this.apiEndpoint,
+              httpClientRegistry);
 
       BitbucketUser user = httpBitbucketServerApiClient.getUser(token.getToken());
       return new GitUserData(user.getDisplayName(), user.getEmailAddress());
@@ -25,7 +25,6 @@ import com.fasterxml.jackson.databind.type.TypeFactory;
 import com.google.common.base.Charsets;
 import com.google.common.io.CharStreams;
 import com.google.common.net.HttpHeaders;
-import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import jakarta.ws.rs.core.MediaType;
 import java.io.IOException;
 import java.io.InputStream;
@@ -41,7 +40,6 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.Executors;
 import java.util.function.Function;
 import javax.net.ssl.SSLHandshakeException;
 import org.eclipse.che.api.auth.shared.dto.OAuthToken;
@@ -56,13 +54,13 @@ import org.eclipse.che.api.factory.server.bitbucket.server.BitbucketPersonalAcce
 import org.eclipse.che.api.factory.server.bitbucket.server.BitbucketServerApiClient;
 import org.eclipse.che.api.factory.server.bitbucket.server.BitbucketUser;
 import org.eclipse.che.api.factory.server.bitbucket.server.Page;
+import org.eclipse.che.api.factory.server.scm.ScmHttpClientRegistry;
 import org.eclipse.che.api.factory.server.scm.exception.ScmBadRequestException;
 import org.eclipse.che.api.factory.server.scm.exception.ScmCommunicationException;
 import org.eclipse.che.api.factory.server.scm.exception.ScmItemNotFoundException;
 import org.eclipse.che.api.factory.server.scm.exception.ScmUnauthorizedException;
 import org.eclipse.che.commons.annotation.Nullable;
 import org.eclipse.che.commons.env.EnvironmentContext;
-import org.eclipse.che.commons.lang.concurrent.LoggingUncaughtExceptionHandler;
 import org.eclipse.che.commons.subject.Subject;
 import org.eclipse.che.security.oauth.OAuthAPI;
 import org.eclipse.che.security.oauth1.NoopOAuthAuthenticator;
@@ -91,23 +89,16 @@ public class HttpBitbucketServerApiClient implements BitbucketServerApiClient {
   private static final int SSL_ERROR_CODE = 495;
 
   public HttpBitbucketServerApiClient(
-      String serverUrl, OAuthAuthenticator authenticator, OAuthAPI oAuthAPI, String apiEndpoint) {
+      String serverUrl,
+      OAuthAuthenticator authenticator,
+      OAuthAPI oAuthAPI,
+      String apiEndpoint,
+      ScmHttpClientRegistry httpClientRegistry) {
     this.serverUri = URI.create(serverUrl.endsWith("/") ? serverUrl : serverUrl + "/");
     this.authenticator = authenticator;
     this.oAuthAPI = oAuthAPI;
     this.apiEndpoint = apiEndpoint;
-    this.httpClient =
-        HttpClient.newBuilder()
-            .executor(
-                Executors.newCachedThreadPool(
-                    new ThreadFactoryBuilder()
-                        .setUncaughtExceptionHandler(LoggingUncaughtExceptionHandler.getInstance())
-                        .setNameFormat(HttpBitbucketServerApiClient.class.getName() + "-%d")
-                        .setDaemon(true)
-                        .build()))
-            .connectTimeout(DEFAULT_HTTP_TIMEOUT)
-            .version(HttpClient.Version.HTTP_1_1)
-            .build();
+    this.httpClient = httpClientRegistry.getClient(serverUri);
   }
 
   @Override
@@ -20,7 +20,9 @@ import java.util.Collections;
 import java.util.Set;
 import org.eclipse.che.api.factory.server.bitbucket.server.BitbucketServerApiClient;
 import org.eclipse.che.api.factory.server.bitbucket.server.NoopBitbucketServerApiClient;
+import org.eclipse.che.api.factory.server.scm.ScmHttpClientRegistry;
 import org.eclipse.che.commons.annotation.Nullable;
+import org.eclipse.che.commons.observability.NoopExecutorServiceWrapper;
 import org.eclipse.che.inject.ConfigurationException;
 import org.eclipse.che.security.oauth.OAuthAPI;
 import org.eclipse.che.security.oauth1.BitbucketServerOAuthAuthenticator;
@@ -31,6 +33,9 @@ import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
 public class BitbucketServerApiClientProviderTest {
+  private final ScmHttpClientRegistry httpClientRegistry =
+      new ScmHttpClientRegistry(new NoopExecutorServiceWrapper());
+
   BitbucketServerOAuthAuthenticator oAuthAuthenticator;
   @Mock OAuthAPI oAuthAPI;
 
@@ -50,7 +55,8 @@ public class BitbucketServerApiClientProviderTest {
             "https://bitbucket.server.com",
             "https://bitbucket.server.com",
             oAuthAPI,
-            ImmutableSet.of(oAuthAuthenticator));
+            ImmutableSet.of(oAuthAuthenticator),
+            httpClientRegistry);
     // when
     BitbucketServerApiClient actual = bitbucketServerApiProvider.get();
     // then
@@ -67,7 +73,8 @@ public class BitbucketServerApiClientProviderTest {
             "https://bitbucket.server.com",
             "https://bitbucket.server.com",
             oAuthAPI,
-            ImmutableSet.of(oAuthAuthenticator));
+            ImmutableSet.of(oAuthAuthenticator),
+            httpClientRegistry);
     // when
     BitbucketServerApiClient actual = bitbucketServerApiProvider.get();
     // then
@@ -83,7 +90,12 @@ public class BitbucketServerApiClientProviderTest {
     // given
     BitbucketServerApiProvider bitbucketServerApiProvider =
         new BitbucketServerApiProvider(
-            bitbucketEndpoints, "https://bitbucket.org", "", oAuthAPI, authenticators);
+            bitbucketEndpoints,
+            "https://bitbucket.org",
+            "",
+            oAuthAPI,
+            authenticators,
+            httpClientRegistry);
     // when
     BitbucketServerApiClient actual = bitbucketServerApiProvider.get();
     // then
@@ -98,7 +110,12 @@ public class BitbucketServerApiClientProviderTest {
     // given
     BitbucketServerApiProvider bitbucketServerApiProvider =
         new BitbucketServerApiProvider(
-            bitbucketEndpoints, "https://bitbucket.org", "", oAuthAPI, authenticators);
+            bitbucketEndpoints,
+            "https://bitbucket.org",
+            "",
+            oAuthAPI,
+            authenticators,
+            httpClientRegistry);
     // when
     BitbucketServerApiClient actual = bitbucketServerApiProvider.get();
     // then
@@ -119,7 +136,8 @@ public class BitbucketServerApiClientProviderTest {
             "https://bitbucket.server.com",
             "https://bitbucket.server.com",
             oAuthAPI,
-            ImmutableSet.of(oAuthAuthenticator));
+            ImmutableSet.of(oAuthAuthenticator),
+            httpClientRegistry);
   }
 
   @Test(
@@ -135,7 +153,8 @@ public class BitbucketServerApiClientProviderTest {
             "https://bitbucket.server.com",
             "https://bitbucket.server.com",
             oAuthAPI,
-            Collections.emptySet());
+            Collections.emptySet(),
+            httpClientRegistry);
   }
 
   @Test(
@@ -151,7 +170,8 @@ public class BitbucketServerApiClientProviderTest {
             "https://bitbucket.server.com",
             "https://bitbucket.server.com",
             oAuthAPI,
-            ImmutableSet.of(oAuthAuthenticator));
+            ImmutableSet.of(oAuthAuthenticator),
+            httpClientRegistry);
   }
 
   @DataProvider(name = "noopConfig")
@@ -35,12 +35,14 @@ import org.eclipse.che.api.core.ApiException;
 import org.eclipse.che.api.core.model.factory.ScmInfo;
 import org.eclipse.che.api.factory.server.scm.AuthorisationRequestManager;
 import org.eclipse.che.api.factory.server.scm.PersonalAccessTokenManager;
+import org.eclipse.che.api.factory.server.scm.ScmHttpClientRegistry;
 import org.eclipse.che.api.factory.server.urlfactory.DevfileFilenamesProvider;
 import org.eclipse.che.api.factory.server.urlfactory.RemoteFactoryUrl;
 import org.eclipse.che.api.factory.server.urlfactory.URLFactoryBuilder;
 import org.eclipse.che.api.factory.shared.dto.FactoryDevfileV2Dto;
 import org.eclipse.che.api.factory.shared.dto.ScmInfoDto;
 import org.eclipse.che.api.workspace.server.devfile.URLFetcher;
+import org.eclipse.che.commons.observability.NoopExecutorServiceWrapper;
 import org.eclipse.che.security.oauth.OAuthAPI;
 import org.mockito.Mock;
 import org.mockito.testng.MockitoTestNGListener;
@@ -51,6 +53,9 @@ import org.testng.annotations.Test;
 @Listeners(MockitoTestNGListener.class)
 public class BitbucketServerAuthorizingFactoryParametersResolverTest {
 
+  private final ScmHttpClientRegistry httpClientRegistry =
+      new ScmHttpClientRegistry(new NoopExecutorServiceWrapper());
+
   @Mock private OAuthAPI oAuthAPI;
   @Mock private URLFactoryBuilder urlFactoryBuilder;
 
@@ -73,7 +78,8 @@ public class BitbucketServerAuthorizingFactoryParametersResolverTest {
             "http://bitbucket.2mcl.com",
             devfileFilenamesProvider,
             oAuthAPI,
-            mock(PersonalAccessTokenManager.class));
+            mock(PersonalAccessTokenManager.class),
+            httpClientRegistry);
     assertNotNull(this.bitbucketURLParser);
     bitbucketServerFactoryParametersResolver =
         new BitbucketServerAuthorizingFactoryParametersResolver(
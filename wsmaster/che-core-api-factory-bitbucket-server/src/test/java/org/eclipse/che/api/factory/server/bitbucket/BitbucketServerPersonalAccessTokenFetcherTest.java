@@ -40,12 +40,14 @@ import org.eclipse.che.api.factory.server.bitbucket.server.BitbucketServerApiCli
 import org.eclipse.che.api.factory.server.bitbucket.server.BitbucketUser;
 import org.eclipse.che.api.factory.server.scm.PersonalAccessToken;
 import org.eclipse.che.api.factory.server.scm.PersonalAccessTokenParams;
+import org.eclipse.che.api.factory.server.scm.ScmHttpClientRegistry;
 import org.eclipse.che.api.factory.server.scm.exception.ScmBadRequestException;
 import org.eclipse.che.api.factory.server.scm.exception.ScmCommunicationException;
 import org.eclipse.che.api.factory.server.scm.exception.ScmItemNotFoundException;
 import org.eclipse.che.api.factory.server.scm.exception.ScmUnauthorizedException;
 import org.eclipse.che.commons.env.EnvironmentContext;
 import org.eclipse.che.commons.lang.Pair;
+import org.eclipse.che.commons.observability.NoopExecutorServiceWrapper;
 import org.eclipse.che.commons.subject.Subject;
 import org.eclipse.che.commons.subject.SubjectImpl;
 import org.eclipse.che.security.oauth.OAuthAPI;
@@ -58,6 +60,9 @@ import org.testng.annotations.Test;
 
 @Listeners(MockitoTestNGListener.class)
 public class BitbucketServerPersonalAccessTokenFetcherTest {
+  private final ScmHttpClientRegistry httpClientRegistry =
+      new ScmHttpClientRegistry(new NoopExecutorServiceWrapper());
+
   String someNotBitbucketURL = "https://notabitbucket.com";
   String someBitbucketURL = "https://some.bitbucketserver.com";
   Subject subject;
@@ -110,7 +115,7 @@ public class BitbucketServerPersonalAccessTokenFetcherTest {
             ImmutableSet.of("PROJECT_READ", "REPO_READ"));
     fetcher =
         new BitbucketServerPersonalAccessTokenFetcher(
-            bitbucketServerApiClient, apiEndpoint, oAuthAPI);
+            bitbucketServerApiClient, apiEndpoint, oAuthAPI, httpClientRegistry);
     EnvironmentContext context = new EnvironmentContext();
     context.setSubject(subject);
     EnvironmentContext.setCurrent(context);
@@ -19,9 +19,11 @@ import static org.testng.Assert.*;
 
 import org.eclipse.che.api.factory.server.scm.PersonalAccessToken;
 import org.eclipse.che.api.factory.server.scm.PersonalAccessTokenManager;
+import org.eclipse.che.api.factory.server.scm.ScmHttpClientRegistry;
 import org.eclipse.che.api.factory.server.scm.exception.ScmUnauthorizedException;
 import org.eclipse.che.api.factory.server.urlfactory.DevfileFilenamesProvider;
 import org.eclipse.che.api.workspace.server.devfile.URLFetcher;
+import org.eclipse.che.commons.observability.NoopExecutorServiceWrapper;
 import org.eclipse.che.security.oauth.OAuthAPI;
 import org.mockito.Mock;
 import org.mockito.testng.MockitoTestNGListener;
@@ -32,6 +34,9 @@ import org.testng.annotations.Test;
 @Listeners(MockitoTestNGListener.class)
 public class BitbucketServerScmFileResolverTest {
 
+  private final ScmHttpClientRegistry httpClientRegistry =
+      new ScmHttpClientRegistry(new NoopExecutorServiceWrapper());
+
   public static final String SCM_URL = "https://foo.bar";
   BitbucketServerURLParser bitbucketURLParser;
 
@@ -47,7 +52,11 @@ public class BitbucketServerScmFileResolverTest {
   protected void init() {
     bitbucketURLParser =
         new BitbucketServerURLParser(
-            SCM_URL, devfileFilenamesProvider, oAuthAPI, personalAccessTokenManager);
+            SCM_URL,
+            devfileFilenamesProvider,
+            oAuthAPI,
+            personalAccessTokenManager,
+            httpClientRegistry);
     assertNotNull(this.bitbucketURLParser);
     serverScmFileResolver =
         new BitbucketServerScmFileResolver(
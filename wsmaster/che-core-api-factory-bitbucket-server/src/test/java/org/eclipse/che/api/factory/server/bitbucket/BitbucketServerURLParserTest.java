@@ -25,7 +25,9 @@ import com.github.tomakehurst.wiremock.WireMockServer;
 import com.github.tomakehurst.wiremock.client.WireMock;
 import com.github.tomakehurst.wiremock.common.Slf4jNotifier;
 import org.eclipse.che.api.factory.server.scm.PersonalAccessTokenManager;
+import org.eclipse.che.api.factory.server.scm.ScmHttpClientRegistry;
 import org.eclipse.che.api.factory.server.urlfactory.DevfileFilenamesProvider;
+import org.eclipse.che.commons.observability.NoopExecutorServiceWrapper;
 import org.eclipse.che.security.oauth.OAuthAPI;
 import org.mockito.Mock;
 import org.mockito.testng.MockitoTestNGListener;
@@ -38,6 +40,9 @@ import org.testng.annotations.Test;
 @Listeners(MockitoTestNGListener.class)
 public class BitbucketServerURLParserTest {
 
+  private final ScmHttpClientRegistry httpClientRegistry =
+      new ScmHttpClientRegistry(new NoopExecutorServiceWrapper());
+
   @Mock private DevfileFilenamesProvider devfileFilenamesProvider;
   @Mock private OAuthAPI oAuthAPI;
 
@@ -62,7 +67,8 @@ public class BitbucketServerURLParserTest {
             "https://bitbucket.2mcl.com,https://bbkt.com,https://my-bitbucket.org/bitbucket",
             devfileFilenamesProvider,
             oAuthAPI,
-            mock(PersonalAccessTokenManager.class));
+            mock(PersonalAccessTokenManager.class),
+            httpClientRegistry);
   }
 
   /** Check URLs are valid with regexp */
@@ -105,7 +111,11 @@ public class BitbucketServerURLParserTest {
     // given
     bitbucketURLParser =
         new BitbucketServerURLParser(
-            null, devfileFilenamesProvider, oAuthAPI, mock(PersonalAccessTokenManager.class));
+            null,
+            devfileFilenamesProvider,
+            oAuthAPI,
+            mock(PersonalAccessTokenManager.class),
+            httpClientRegistry);
 
     // when
     BitbucketServerUrl bitbucketServerUrl = bitbucketURLParser.parse(url, null);
@@ -130,7 +140,11 @@ public class BitbucketServerURLParserTest {
     // given
     bitbucketURLParser =
         new BitbucketServerURLParser(
-            null, devfileFilenamesProvider, oAuthAPI, mock(PersonalAccessTokenManager.class));
+            null,
+            devfileFilenamesProvider,
+            oAuthAPI,
+            mock(PersonalAccessTokenManager.class),
+            httpClientRegistry);
     String url = wireMockServer.url("/users/user/repos/repo");
     stubFor(
         get(urlEqualTo("/rest/api/1.0/application-properties"))
@@ -150,7 +164,11 @@ public class BitbucketServerURLParserTest {
     // given
     bitbucketURLParser =
         new BitbucketServerURLParser(
-            null, devfileFilenamesProvider, oAuthAPI, mock(PersonalAccessTokenManager.class));
+            null,
+            devfileFilenamesProvider,
+            oAuthAPI,
+            mock(PersonalAccessTokenManager.class),
+            httpClientRegistry);
     String url = wireMockServer.url("/user/repo");
     stubFor(
         get(urlEqualTo("/rest/api/1.0/application-properties"))
@@ -170,7 +188,11 @@ public class BitbucketServerURLParserTest {
     // given
     bitbucketURLParser =
         new BitbucketServerURLParser(
-            null, devfileFilenamesProvider, oAuthAPI, mock(PersonalAccessTokenManager.class));
+            null,
+            devfileFilenamesProvider,
+            oAuthAPI,
+            mock(PersonalAccessTokenManager.class),
+            httpClientRegistry);
     String url = wireMockServer.url("/users/user/repos/repo");
     stubFor(
         get(urlEqualTo("/rest/api/1.0/application-properties"))
@@ -188,7 +210,11 @@ public class BitbucketServerURLParserTest {
     // given
     bitbucketURLParser =
         new BitbucketServerURLParser(
-            null, devfileFilenamesProvider, oAuthAPI, mock(PersonalAccessTokenManager.class));
+            null,
+            devfileFilenamesProvider,
+            oAuthAPI,
+            mock(PersonalAccessTokenManager.class),
+            httpClientRegistry);
     String url = wireMockServer.url("/users/user/repos/repo");
     stubFor(
         get(urlEqualTo("/rest/api/1.0/application-properties"))
@@ -206,7 +232,11 @@ public class BitbucketServerURLParserTest {
     // given
     bitbucketURLParser =
         new BitbucketServerURLParser(
-            null, devfileFilenamesProvider, oAuthAPI, mock(PersonalAccessTokenManager.class));
+            null,
+            devfileFilenamesProvider,
+            oAuthAPI,
+            mock(PersonalAccessTokenManager.class),
+            httpClientRegistry);
     String url = wireMockServer.url("/users/user/repos/repo");
     stubFor(
         get(urlEqualTo("/rest/api/1.0/application-properties"))
@@ -227,7 +257,8 @@ public class BitbucketServerURLParserTest {
             "https://[2001:db8::1]",
             devfileFilenamesProvider,
             oAuthAPI,
-            mock(PersonalAccessTokenManager.class));
+            mock(PersonalAccessTokenManager.class),
+            httpClientRegistry);
 
     // when
     BitbucketServerUrl bitbucketServerUrl =
@@ -246,7 +277,8 @@ public class BitbucketServerURLParserTest {
             "https://[2001:db8::1]",
             devfileFilenamesProvider,
             oAuthAPI,
-            mock(PersonalAccessTokenManager.class));
+            mock(PersonalAccessTokenManager.class),
+            httpClientRegistry);
 
     // when
     BitbucketServerUrl bitbucketServerUrl =
@@ -265,7 +297,8 @@ public class BitbucketServerURLParserTest {
             "https://[2001:db8::1]",
             devfileFilenamesProvider,
             oAuthAPI,
-            mock(PersonalAccessTokenManager.class));
+            mock(PersonalAccessTokenManager.class),
+            httpClientRegistry);
 
     // when
     BitbucketServerUrl bitbucketServerUrl =
@@ -287,7 +320,8 @@ public class BitbucketServerURLParserTest {
             "https://[2001:db8::1]",
             devfileFilenamesProvider,
             oAuthAPI,
-            mock(PersonalAccessTokenManager.class));
+            mock(PersonalAccessTokenManager.class),
+            httpClientRegistry);
 
     // when
     BitbucketServerUrl bitbucketServerUrl =
@@ -307,7 +341,8 @@ public class BitbucketServerURLParserTest {
             "https://[2001:db8::1]",
             devfileFilenamesProvider,
             oAuthAPI,
-            mock(PersonalAccessTokenManager.class));
+            mock(PersonalAccessTokenManager.class),
+            httpClientRegistry);
 
     // when
     BitbucketServerUrl bitbucketServerUrl =
@@ -328,7 +363,8 @@ public class BitbucketServerURLParserTest {
             "https://[::1]",
             devfileFilenamesProvider,
             oAuthAPI,
-            mock(PersonalAccessTokenManager.class));
+            mock(PersonalAccessTokenManager.class),
+            httpClientRegistry);
 
     // when
     BitbucketServerUrl bitbucketServerUrl =
@@ -347,7 +383,8 @@ public class BitbucketServerURLParserTest {
             "https://[2001:0db8:0000:0000:0000:0000:0000:0001]",
             devfileFilenamesProvider,
             oAuthAPI,
-            mock(PersonalAccessTokenManager.class));
+            mock(PersonalAccessTokenManager.class),
+            httpClientRegistry);
 
     // when
     BitbucketServerUrl bitbucketServerUrl =
@@ -367,7 +404,8 @@ public class BitbucketServerURLParserTest {
             "https://[2001:db8::1]",
             devfileFilenamesProvider,
             oAuthAPI,
-            mock(PersonalAccessTokenManager.class));
+            mock(PersonalAccessTokenManager.class),
+            httpClientRegistry);
 
     // when/then
     assertTrue(bitbucketURLParser.isValid("https://[2001:db8::1]/scm/project/repo.git"));
@@ -381,7 +419,8 @@ public class BitbucketServerURLParserTest {
             "https://[2001:db8::1]",
             devfileFilenamesProvider,
             oAuthAPI,
-            mock(PersonalAccessTokenManager.class));
+            mock(PersonalAccessTokenManager.class),
+            httpClientRegistry);
 
     // when/then
     assertTrue(
@@ -396,7 +435,8 @@ public class BitbucketServerURLParserTest {
             "https://[2001:db8::1]",
             devfileFilenamesProvider,
             oAuthAPI,
-            mock(PersonalAccessTokenManager.class));
+            mock(PersonalAccessTokenManager.class),
+            httpClientRegistry);
 
     // when
     BitbucketServerUrl bitbucketServerUrl =
@@ -415,7 +455,8 @@ public class BitbucketServerURLParserTest {
             "https://[2001:db8::1]",
             devfileFilenamesProvider,
             oAuthAPI,
-            mock(PersonalAccessTokenManager.class));
+            mock(PersonalAccessTokenManager.class),
+            httpClientRegistry);
 
     // when
     BitbucketServerUrl bitbucketServerUrl =
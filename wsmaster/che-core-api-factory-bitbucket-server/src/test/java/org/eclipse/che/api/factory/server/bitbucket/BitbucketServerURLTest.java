@@ -20,8 +20,10 @@ import static org.testng.Assert.assertEquals;
 import java.util.Arrays;
 import java.util.Iterator;
 import org.eclipse.che.api.factory.server.scm.PersonalAccessTokenManager;
+import org.eclipse.che.api.factory.server.scm.ScmHttpClientRegistry;
 import org.eclipse.che.api.factory.server.urlfactory.DevfileFilenamesProvider;
 import org.eclipse.che.api.factory.server.urlfactory.RemoteFactoryUrl;
+import org.eclipse.che.commons.observability.NoopExecutorServiceWrapper;
 import org.eclipse.che.security.oauth.OAuthAPI;
 import org.mockito.Mock;
 import org.mockito.testng.MockitoTestNGListener;
@@ -32,6 +34,9 @@ import org.testng.annotations.Test;
 
 @Listeners(MockitoTestNGListener.class)
 public class BitbucketServerURLTest {
+  private final ScmHttpClientRegistry httpClientRegistry =
+      new ScmHttpClientRegistry(new NoopExecutorServiceWrapper());
+
   private BitbucketServerURLParser bitbucketServerURLParser;
   @Mock private DevfileFilenamesProvider devfileFilenamesProvider;
 
@@ -44,7 +49,8 @@ public class BitbucketServerURLTest {
             "https://bitbucket.net",
             devfileFilenamesProvider,
             mock(OAuthAPI.class),
-            mock(PersonalAccessTokenManager.class));
+            mock(PersonalAccessTokenManager.class),
+            httpClientRegistry);
   }
 
   @Test(dataProvider = "urlsProvider")
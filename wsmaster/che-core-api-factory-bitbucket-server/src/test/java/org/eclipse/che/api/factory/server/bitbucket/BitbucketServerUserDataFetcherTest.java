@@ -21,8 +21,10 @@ import org.eclipse.che.api.factory.server.bitbucket.server.BitbucketServerApiCli
 import org.eclipse.che.api.factory.server.bitbucket.server.BitbucketUser;
 import org.eclipse.che.api.factory.server.scm.GitUserData;
 import org.eclipse.che.api.factory.server.scm.PersonalAccessTokenManager;
+import org.eclipse.che.api.factory.server.scm.ScmHttpClientRegistry;
 import org.eclipse.che.api.factory.server.scm.exception.*;
 import org.eclipse.che.commons.env.EnvironmentContext;
+import org.eclipse.che.commons.observability.NoopExecutorServiceWrapper;
 import org.eclipse.che.commons.subject.Subject;
 import org.eclipse.che.commons.subject.SubjectImpl;
 import org.eclipse.che.security.oauth.OAuthAPI;
@@ -34,6 +36,9 @@ import org.testng.annotations.Test;
 
 @Listeners(MockitoTestNGListener.class)
 public class BitbucketServerUserDataFetcherTest {
+  private final ScmHttpClientRegistry httpClientRegistry =
+      new ScmHttpClientRegistry(new NoopExecutorServiceWrapper());
+
   String someBitbucketURL = "https://some.bitbucketserver.com";
   Subject subject;
   @Mock BitbucketServerApiClient bitbucketServerApiClient;
@@ -54,7 +59,8 @@ public class BitbucketServerUserDataFetcherTest {
             someBitbucketURL,
             bitbucketServerApiClient,
             oAuthAPI,
-            personalAccessTokenManager);
+            personalAccessTokenManager,
+            httpClientRegistry);
     EnvironmentContext context = new EnvironmentContext();
     context.setSubject(subject);
     EnvironmentContext.setCurrent(context);
@@ -50,10 +50,12 @@ import org.eclipse.che.api.core.UnauthorizedException;
 import org.eclipse.che.api.factory.server.bitbucket.server.BitbucketPersonalAccessToken;
 import org.eclipse.che.api.factory.server.bitbucket.server.BitbucketServerApiClient;
 import org.eclipse.che.api.factory.server.bitbucket.server.BitbucketUser;
+import org.eclipse.che.api.factory.server.scm.ScmHttpClientRegistry;
 import org.eclipse.che.api.factory.server.scm.exception.ScmBadRequestException;
 import org.eclipse.che.api.factory.server.scm.exception.ScmCommunicationException;
 import org.eclipse.che.api.factory.server.scm.exception.ScmItemNotFoundException;
 import org.eclipse.che.api.factory.server.scm.exception.ScmUnauthorizedException;
+import org.eclipse.che.commons.observability.NoopExecutorServiceWrapper;
 import org.eclipse.che.security.oauth.OAuthAPI;
 import org.eclipse.che.security.oauth1.BitbucketServerOAuthAuthenticator;
 import org.eclipse.che.security.oauth1.NoopOAuthAuthenticator;
@@ -67,6 +69,9 @@ import org.testng.annotations.Test;
 
 @Listeners(MockitoTestNGListener.class)
 public class HttpBitbucketServerApiClientTest {
+  private final ScmHttpClientRegistry httpClientRegistry =
+      new ScmHttpClientRegistry(new NoopExecutorServiceWrapper());
+
   private final String AUTHORIZATION_TOKEN =
       "OAuth oauth_consumer_key=\"key123321\", oauth_nonce=\"nonce\","
           + " oauth_signature=\"signature\", "
@@ -100,7 +105,8 @@ public class HttpBitbucketServerApiClientTest {
               }
             },
             oAuthAPI,
-            apiEndpoint);
+            apiEndpoint,
+            httpClientRegistry);
     stubFor(
         get(urlEqualTo("/rest/api/1.0/application-properties"))
             .willReturn(aResponse().withHeader("x-ausername", "ksmster")));
@@ -441,7 +447,11 @@ public class HttpBitbucketServerApiClientTest {
     when(oAuthAPI.getOrRefreshToken(eq("bitbucket-server"))).thenReturn(mock(OAuthToken.class));
     HttpBitbucketServerApiClient localServer =
         new HttpBitbucketServerApiClient(
-            wireMockServer.url("/"), new NoopOAuthAuthenticator(), oAuthAPI, apiEndpoint);
+            wireMockServer.url("/"),
+            new NoopOAuthAuthenticator(),
+            oAuthAPI,
+            apiEndpoint,
+            httpClientRegistry);
 
     // when
     localServer.getUser();
@@ -464,7 +474,11 @@ public class HttpBitbucketServerApiClientTest {
     when(oAuthAPI.getOrRefreshToken(eq("bitbucket-server"))).thenReturn(token);
     bitbucketServer =
         new HttpBitbucketServerApiClient(
-            wireMockServer.url("/"), new NoopOAuthAuthenticator(), oAuthAPI, apiEndpoint);
+            wireMockServer.url("/"),
+            new NoopOAuthAuthenticator(),
+            oAuthAPI,
+            apiEndpoint,
+            httpClientRegistry);
     stubFor(
         get(urlEqualTo("/rest/api/1.0/users/ksmster"))
             .withHeader(HttpHeaders.AUTHORIZATION, equalTo("Bearer token"))
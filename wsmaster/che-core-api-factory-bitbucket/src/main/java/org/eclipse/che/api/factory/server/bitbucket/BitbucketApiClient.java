@@ -13,6 +13,7 @@ package org.eclipse.che.api.factory.server.bitbucket;
 
 import static java.net.HttpURLConnection.HTTP_BAD_REQUEST;
 import static java.net.HttpURLConnection.HTTP_NOT_FOUND;
+import static java.net.HttpURLConnection.HTTP_NOT_MODIFIED;
 import static java.net.HttpURLConnection.HTTP_NO_CONTENT;
 import static java.net.HttpURLConnection.HTTP_OK;
 import static java.net.HttpURLConnection.HTTP_UNAUTHORIZED;
@@ -22,7 +23,6 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.base.Charsets;
 import com.google.common.base.Splitter;
 import com.google.common.io.CharStreams;
-import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
@@ -33,14 +33,14 @@ import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.time.Duration;
 import java.util.Optional;
-import java.util.concurrent.Executors;
 import java.util.function.Function;
+import org.eclipse.che.api.factory.server.scm.ScmHttpClientRegistry;
+import org.eclipse.che.api.factory.server.scm.ScmResponseCache;
 import org.eclipse.che.api.factory.server.scm.exception.ScmBadRequestException;
 import org.eclipse.che.api.factory.server.scm.exception.ScmCommunicationException;
 import org.eclipse.che.api.factory.server.scm.exception.ScmItemNotFoundException;
 import org.eclipse.che.api.factory.server.scm.exception.ScmUnauthorizedException;
 import org.eclipse.che.commons.lang.Pair;
-import org.eclipse.che.commons.lang.concurrent.LoggingUncaughtExceptionHandler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -61,35 +61,32 @@ public class BitbucketApiClient {
   private final HttpClient httpClient;
   private final URI apiServerUrl;
   private final URI scmServerUrl;
+  private final ScmResponseCache responseCache;
 
   private static final Duration DEFAULT_HTTP_TIMEOUT = ofSeconds(10);
   private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
 
   /** Default constructor, binds http client to https://api.bitbucket.org */
-  public BitbucketApiClient() {
-    this(BITBUCKET_API_SERVER);
+  public BitbucketApiClient(
+      ScmHttpClientRegistry httpClientRegistry, ScmResponseCache responseCache) {
+    this(BITBUCKET_API_SERVER, httpClientRegistry, responseCache);
   }
 
   /**
    * Used for URL injection in testing.
    *
    * @param apiServerUrl the Bitbucket API url
+   * @param httpClientRegistry registry of the HTTP clients of the SCM endpoints
+   * @param responseCache cache of the API responses
    */
-  BitbucketApiClient(final String apiServerUrl) {
+  BitbucketApiClient(
+      final String apiServerUrl,
+      ScmHttpClientRegistry httpClientRegistry,
+      ScmResponseCache responseCache) {
+    this.responseCache = responseCache;
     this.apiServerUrl = URI.create(apiServerUrl);
     this.scmServerUrl = URI.create(BITBUCKET_SERVER);
-    this.httpClient =
-        HttpClient.newBuilder()
-            .executor(
-                Executors.newCachedThreadPool(
-                    new ThreadFactoryBuilder()
-                        .setUncaughtExceptionHandler(LoggingUncaughtExceptionHandler.getInstance())
-                        .setNameFormat(BitbucketApiClient.class.getName() + "-%d")
-                        .setDaemon(true)
-                        .build()))
-            .connectTimeout(DEFAULT_HTTP_TIMEOUT)
-            .version(HttpClient.Version.HTTP_1_1)
-            .build();
+    this.httpClient = httpClientRegistry.getClient(this.apiServerUrl);
   }
 
   /**
@@ -109,9 +106,10 @@ public class BitbucketApiClient {
     final URI uri = apiServerUrl.resolve("user");
     HttpRequest request = buildBitbucketApiRequest(uri, authenticationToken);
     LOG.trace("executeRequest={}", request);
-    return executeRequest(
-        httpClient,
+    return responseCache.execute(
+        "user",
         request,
+        this::executeRequest,
         response -> {
           try {
             String result =
@@ -135,7 +133,6 @@ public class BitbucketApiClient {
     HttpRequest request = buildBitbucketApiRequest(uri, authenticationToken);
     LOG.trace("executeRequest={}", request);
     return executeRequest(
-        httpClient,
         request,
         response -> {
           try {
@@ -163,9 +160,10 @@ public class BitbucketApiClient {
     final URI uri = apiServerUrl.resolve("user/emails");
     HttpRequest request = buildBitbucketApiRequest(uri, authenticationToken);
     LOG.trace("executeRequest={}", request);
-    return executeRequest(
-        httpClient,
+    return responseCache.execute(
+        "email",
         request,
+        this::executeRequest,
         response -> {
           try {
             String result =
@@ -192,9 +190,10 @@ public class BitbucketApiClient {
     final URI uri = apiServerUrl.resolve("user");
     HttpRequest request = buildBitbucketApiRequest(uri, authenticationToken);
     LOG.trace("executeRequest={}", request);
-    return executeRequest(
-        httpClient,
+    return responseCache.execute(
+        "token-scopes",
         request,
+        this::executeRequest,
         response -> {
           try {
             String result =
@@ -223,9 +222,7 @@ public class BitbucketApiClient {
   }
 
   private <T> T executeRequest(
-      HttpClient httpClient,
-      HttpRequest request,
-      Function<HttpResponse<InputStream>, T> responseConverter)
+      HttpRequest request, Function<HttpResponse<InputStream>, T> responseConverter)
       throws ScmBadRequestException,
           ScmItemNotFoundException,
           ScmCommunicationException,
@@ -234,7 +231,9 @@ public class BitbucketApiClient {
       HttpResponse<InputStream> response =
           httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
       LOG.trace("executeRequest={} response {}", request, response.statusCode());
-      if (response.statusCode() == HTTP_OK) {
+      if (response.statusCode() == HTTP_OK
+          || (response.statusCode() == HTTP_NOT_MODIFIED
+              && ScmResponseCache.isConditional(request))) {
         return responseConverter.apply(response);
       } else if (response.statusCode() == HTTP_NO_CONTENT) {
         return null;
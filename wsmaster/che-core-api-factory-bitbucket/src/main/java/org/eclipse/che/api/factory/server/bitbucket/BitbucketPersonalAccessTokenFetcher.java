@@ -26,6 +26,8 @@ import org.eclipse.che.api.core.UnauthorizedException;
 import org.eclipse.che.api.factory.server.scm.PersonalAccessToken;
 import org.eclipse.che.api.factory.server.scm.PersonalAccessTokenFetcher;
 import org.eclipse.che.api.factory.server.scm.PersonalAccessTokenParams;
+import org.eclipse.che.api.factory.server.scm.ScmHttpClientRegistry;
+import org.eclipse.che.api.factory.server.scm.ScmResponseCache;
 import org.eclipse.che.api.factory.server.scm.exception.ScmBadRequestException;
 import org.eclipse.che.api.factory.server.scm.exception.ScmCommunicationException;
 import org.eclipse.che.api.factory.server.scm.exception.ScmItemNotFoundException;
@@ -63,8 +65,11 @@ public class BitbucketPersonalAccessTokenFetcher implements PersonalAccessTokenF
 
   @Inject
   public BitbucketPersonalAccessTokenFetcher(
-      @Named("che.api") String apiEndpoint, OAuthAPI oAuthAPI) {
-    this(apiEndpoint, oAuthAPI, new BitbucketApiClient());
+      @Named("che.api") String apiEndpoint,
+      OAuthAPI oAuthAPI,
+      ScmHttpClientRegistry httpClientRegistry,
+      ScmResponseCache responseCache) {
+    this(apiEndpoint, oAuthAPI, new BitbucketApiClient(httpClientRegistry, responseCache));
   }
 
   /**
@@ -25,6 +25,8 @@ import org.eclipse.che.api.core.ServerException;
 import org.eclipse.che.api.core.UnauthorizedException;
 import org.eclipse.che.api.factory.server.scm.GitUserData;
 import org.eclipse.che.api.factory.server.scm.GitUserDataFetcher;
+import org.eclipse.che.api.factory.server.scm.ScmHttpClientRegistry;
+import org.eclipse.che.api.factory.server.scm.ScmResponseCache;
 import org.eclipse.che.api.factory.server.scm.exception.ScmBadRequestException;
 import org.eclipse.che.api.factory.server.scm.exception.ScmCommunicationException;
 import org.eclipse.che.api.factory.server.scm.exception.ScmItemNotFoundException;
@@ -51,8 +53,12 @@ public class BitbucketUserDataFetcher implements GitUserDataFetcher {
   public static final Set<String> DEFAULT_TOKEN_SCOPES = ImmutableSet.of("repo");
 
   @Inject
-  public BitbucketUserDataFetcher(@Named("che.api") String apiEndpoint, OAuthAPI oAuthAPI) {
-    this(apiEndpoint, oAuthAPI, new BitbucketApiClient());
+  public BitbucketUserDataFetcher(
+      @Named("che.api") String apiEndpoint,
+      OAuthAPI oAuthAPI,
+      ScmHttpClientRegistry httpClientRegistry,
+      ScmResponseCache responseCache) {
+    this(apiEndpoint, oAuthAPI, new BitbucketApiClient(httpClientRegistry, responseCache));
   }
 
   /** Constructor used for testing only. */
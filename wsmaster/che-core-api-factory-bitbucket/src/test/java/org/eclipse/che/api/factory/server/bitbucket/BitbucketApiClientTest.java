@@ -27,6 +27,10 @@ import com.github.tomakehurst.wiremock.WireMockServer;
 import com.github.tomakehurst.wiremock.client.WireMock;
 import com.github.tomakehurst.wiremock.common.Slf4jNotifier;
 import com.google.common.net.HttpHeaders;
+import org.eclipse.che.api.factory.server.scm.InMemoryScmResponseCache;
+import org.eclipse.che.api.factory.server.scm.ScmHttpClientRegistry;
+import org.eclipse.che.api.factory.server.scm.ScmResponseCache;
+import org.eclipse.che.commons.observability.NoopExecutorServiceWrapper;
 import org.mockito.testng.MockitoTestNGListener;
 import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
@@ -36,6 +40,11 @@ import org.testng.annotations.Test;
 @Listeners(MockitoTestNGListener.class)
 public class BitbucketApiClientTest {
 
+  private final ScmResponseCache responseCache = new InMemoryScmResponseCache(10);
+
+  private final ScmHttpClientRegistry httpClientRegistry =
+      new ScmHttpClientRegistry(new NoopExecutorServiceWrapper());
+
   private BitbucketApiClient client;
   WireMockServer wireMockServer;
   WireMock wireMock;
@@ -47,7 +56,7 @@ public class BitbucketApiClientTest {
     wireMockServer.start();
     WireMock.configureFor("localhost", wireMockServer.port());
     wireMock = new WireMock("localhost", wireMockServer.port());
-    client = new BitbucketApiClient(wireMockServer.url("/"));
+    client = new BitbucketApiClient(wireMockServer.url("/"), httpClientRegistry, responseCache);
   }
 
   @AfterMethod
@@ -28,6 +28,10 @@ import com.github.tomakehurst.wiremock.common.Slf4jNotifier;
 import com.google.common.net.HttpHeaders;
 import org.eclipse.che.api.auth.shared.dto.OAuthToken;
 import org.eclipse.che.api.factory.server.scm.GitUserData;
+import org.eclipse.che.api.factory.server.scm.InMemoryScmResponseCache;
+import org.eclipse.che.api.factory.server.scm.ScmHttpClientRegistry;
+import org.eclipse.che.api.factory.server.scm.ScmResponseCache;
+import org.eclipse.che.commons.observability.NoopExecutorServiceWrapper;
 import org.eclipse.che.security.oauth.OAuthAPI;
 import org.mockito.Mock;
 import org.mockito.testng.MockitoTestNGListener;
@@ -39,6 +43,11 @@ import org.testng.annotations.Test;
 @Listeners(MockitoTestNGListener.class)
 public class BitbucketGitUserDataFetcherTest {
 
+  private final ScmResponseCache responseCache = new InMemoryScmResponseCache(10);
+
+  private final ScmHttpClientRegistry httpClientRegistry =
+      new ScmHttpClientRegistry(new NoopExecutorServiceWrapper());
+
   @Mock OAuthAPI oAuthAPI;
   BitbucketUserDataFetcher bitbucketUserDataFetcher;
 
@@ -57,7 +66,9 @@ public class BitbucketGitUserDataFetcherTest {
     wireMock = new WireMock("localhost", httpPort);
     bitbucketUserDataFetcher =
         new BitbucketUserDataFetcher(
-            "http://che.api", oAuthAPI, new BitbucketApiClient(wireMockServer.url("/")));
+            "http://che.api",
+            oAuthAPI,
+            new BitbucketApiClient(wireMockServer.url("/"), httpClientRegistry, responseCache));
     stubFor(
         get(urlEqualTo("/user"))
             .withHeader(HttpHeaders.AUTHORIZATION, equalTo("Bearer " + bitbucketOauthToken))
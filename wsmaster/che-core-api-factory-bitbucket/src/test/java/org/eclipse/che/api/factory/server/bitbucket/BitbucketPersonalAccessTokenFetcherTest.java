@@ -32,11 +32,15 @@ import java.util.Collections;
 import java.util.Optional;
 import org.eclipse.che.api.auth.shared.dto.OAuthToken;
 import org.eclipse.che.api.core.UnauthorizedException;
+import org.eclipse.che.api.factory.server.scm.InMemoryScmResponseCache;
 import org.eclipse.che.api.factory.server.scm.PersonalAccessToken;
 import org.eclipse.che.api.factory.server.scm.PersonalAccessTokenParams;
+import org.eclipse.che.api.factory.server.scm.ScmHttpClientRegistry;
+import org.eclipse.che.api.factory.server.scm.ScmResponseCache;
 import org.eclipse.che.api.factory.server.scm.exception.ScmCommunicationException;
 import org.eclipse.che.api.factory.server.scm.exception.ScmUnauthorizedException;
 import org.eclipse.che.commons.lang.Pair;
+import org.eclipse.che.commons.observability.NoopExecutorServiceWrapper;
 import org.eclipse.che.commons.subject.Subject;
 import org.eclipse.che.commons.subject.SubjectImpl;
 import org.eclipse.che.security.oauth.OAuthAPI;
@@ -50,6 +54,11 @@ import org.testng.annotations.Test;
 @Listeners(MockitoTestNGListener.class)
 public class BitbucketPersonalAccessTokenFetcherTest {
 
+  private final ScmResponseCache responseCache = new InMemoryScmResponseCache(10);
+
+  private final ScmHttpClientRegistry httpClientRegistry =
+      new ScmHttpClientRegistry(new NoopExecutorServiceWrapper());
+
   @Mock OAuthAPI oAuthAPI;
   BitbucketPersonalAccessTokenFetcher bitbucketPersonalAccessTokenFetcher;
 
@@ -69,7 +78,9 @@ public class BitbucketPersonalAccessTokenFetcherTest {
     wireMock = new WireMock("localhost", httpPort);
     bitbucketPersonalAccessTokenFetcher =
         new BitbucketPersonalAccessTokenFetcher(
-            "http://che.api", oAuthAPI, new BitbucketApiClient(wireMockServer.url("/")));
+            "http://che.api",
+            oAuthAPI,
+            new BitbucketApiClient(wireMockServer.url("/"), httpClientRegistry, responseCache));
   }
 
   @AfterMethod
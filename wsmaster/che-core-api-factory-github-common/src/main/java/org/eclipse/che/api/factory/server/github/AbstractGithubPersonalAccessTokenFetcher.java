@@ -23,6 +23,8 @@ import org.eclipse.che.api.core.*;
 import org.eclipse.che.api.factory.server.scm.PersonalAccessToken;
 import org.eclipse.che.api.factory.server.scm.PersonalAccessTokenFetcher;
 import org.eclipse.che.api.factory.server.scm.PersonalAccessTokenParams;
+import org.eclipse.che.api.factory.server.scm.ScmHttpClientRegistry;
+import org.eclipse.che.api.factory.server.scm.ScmResponseCache;
 import org.eclipse.che.api.factory.server.scm.exception.*;
 import org.eclipse.che.commons.lang.NameGenerator;
 import org.eclipse.che.commons.lang.Pair;
@@ -44,8 +46,11 @@ public abstract class AbstractGithubPersonalAccessTokenFetcher
   /** GitHub API client. */
   private final GithubApiClient githubApiClient;
 
+  private final ScmHttpClientRegistry httpClientRegistry;
+
   /** Name of this OAuth provider as found in OAuthAPI. */
   private final String providerName;
+  private final ScmResponseCache responseCache;
 
   /** Collection of OAuth scopes required to make integration with GitHub work. */
   public static final Set<String> DEFAULT_TOKEN_SCOPES =
@@ -118,11 +123,18 @@ public abstract class AbstractGithubPersonalAccessTokenFetcher
    * @param githubApiClient
    */
   AbstractGithubPersonalAccessTokenFetcher(
-      String apiEndpoint, OAuthAPI oAuthAPI, GithubApiClient githubApiClient, String providerName) {
+      String apiEndpoint,
+      OAuthAPI oAuthAPI,
+      GithubApiClient githubApiClient,
+      String providerName,
+      ScmHttpClientRegistry httpClientRegistry,
+      ScmResponseCache responseCache) {
     this.apiEndpoint = apiEndpoint;
     this.oAuthAPI = oAuthAPI;
     this.githubApiClient = githubApiClient;
+    this.httpClientRegistry = httpClientRegistry;
     this.providerName = providerName;
+    this.responseCache = responseCache;
   }
 
   public PersonalAccessToken refreshPersonalAccessToken(Subject cheSubject, String scmServerUrl)
@@ -232,7 +244,8 @@ public abstract class AbstractGithubPersonalAccessTokenFetcher
       apiClient = githubApiClient;
     } else {
       if (OAUTH_PROVIDER_NAME.equals(params.getScmTokenName())) {
-        apiClient = new GithubApiClient(params.getScmProviderUrl());
+        apiClient =
+            new GithubApiClient(params.getScmProviderUrl(), httpClientRegistry, responseCache);
       } else {
         LOG.debug("not a  valid url {} for current fetcher ", params.getScmProviderUrl());
         return Optional.empty();
@@ -22,7 +22,6 @@ import static org.eclipse.che.commons.lang.StringUtils.trimEnd;
 import jakarta.validation.constraints.NotNull;
 import java.net.URI;
 import java.net.URISyntaxException;
-import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.time.Duration;
@@ -32,6 +31,8 @@ import java.util.regex.Pattern;
 import org.eclipse.che.api.core.ApiException;
 import org.eclipse.che.api.factory.server.scm.PersonalAccessToken;
 import org.eclipse.che.api.factory.server.scm.PersonalAccessTokenManager;
+import org.eclipse.che.api.factory.server.scm.ScmHttpClientRegistry;
+import org.eclipse.che.api.factory.server.scm.ScmResponseCache;
 import org.eclipse.che.api.factory.server.scm.exception.*;
 import org.eclipse.che.api.factory.server.urlfactory.DevfileFilenamesProvider;
 import org.eclipse.che.commons.annotation.Nullable;
@@ -51,6 +52,7 @@ public abstract class AbstractGithubURLParser {
   private final PersonalAccessTokenManager tokenManager;
   private final DevfileFilenamesProvider devfileFilenamesProvider;
   private final GithubApiClient apiClient;
+  private final ScmHttpClientRegistry httpClientRegistry;
 
   /**
    * Regexp to find repository details (repository name, project name and branch and subfolder)
@@ -70,6 +72,7 @@ public abstract class AbstractGithubURLParser {
   private final String providerName;
   private final String endpoint;
   private final boolean isGitHubServer;
+  private final ScmResponseCache responseCache;
 
   /** Constructor used for testing only. */
   AbstractGithubURLParser(
@@ -78,10 +81,14 @@ public abstract class AbstractGithubURLParser {
       GithubApiClient githubApiClient,
       String oauthEndpoint,
       boolean disableSubdomainIsolation,
-      String providerName) {
+      String providerName,
+      ScmHttpClientRegistry httpClientRegistry,
+      ScmResponseCache responseCache) {
     this.tokenManager = tokenManager;
     this.devfileFilenamesProvider = devfileFilenamesProvider;
     this.apiClient = githubApiClient;
+    this.httpClientRegistry = httpClientRegistry;
+    this.responseCache = responseCache;
     this.disableSubdomainIsolation = disableSubdomainIsolation;
     this.providerName = providerName;
     // Check if the given OAuth endpoint is a GitHub server URL. If the OAuth endpoint is not
@@ -138,7 +145,8 @@ public abstract class AbstractGithubURLParser {
     Optional<String> serverUrlOptional = getServerUrl(repositoryUrl);
     if (serverUrlOptional.isPresent()) {
       String serverUrl = serverUrlOptional.get();
-      GithubApiClient githubApiClient = new GithubApiClient(serverUrl);
+      GithubApiClient githubApiClient =
+          new GithubApiClient(serverUrl, httpClientRegistry, responseCache);
       try {
         // If the user request catches the unauthorised error, it means that the provided url
         // belongs to GitHub.
@@ -174,7 +182,9 @@ public abstract class AbstractGithubURLParser {
               .GET()
               .build();
       HttpResponse<Void> response =
-          HttpClient.newHttpClient().send(request, HttpResponse.BodyHandlers.discarding());
+          httpClientRegistry
+              .getClient(serverUrl)
+              .send(request, HttpResponse.BodyHandlers.discarding());
       return response.statusCode() == 401;
     } catch (Exception e) {
       LOG.debug("Failed to reach Gitea API at {}: {}", serverUrl, e.getMessage());
@@ -357,7 +367,7 @@ public abstract class AbstractGithubURLParser {
       GithubApiClient apiClient =
           this.apiClient.isConnected(githubEndpoint)
               ? this.apiClient
-              : new GithubApiClient(githubEndpoint);
+              : new GithubApiClient(githubEndpoint, httpClientRegistry, responseCache);
 
       // get pull request
       return apiClient.getPullRequest(
@@ -399,7 +409,7 @@ public abstract class AbstractGithubURLParser {
     GithubApiClient apiClient =
         this.apiClient.isConnected(githubEndpoint)
             ? this.apiClient
-            : new GithubApiClient(githubEndpoint);
+            : new GithubApiClient(githubEndpoint, httpClientRegistry, responseCache);
     try {
       // prepare token
       Subject subject = EnvironmentContext.getCurrent().getSubject();
@@ -20,6 +20,8 @@ import org.eclipse.che.api.factory.server.scm.AbstractGitUserDataFetcher;
 import org.eclipse.che.api.factory.server.scm.GitUserData;
 import org.eclipse.che.api.factory.server.scm.PersonalAccessToken;
 import org.eclipse.che.api.factory.server.scm.PersonalAccessTokenManager;
+import org.eclipse.che.api.factory.server.scm.ScmHttpClientRegistry;
+import org.eclipse.che.api.factory.server.scm.ScmResponseCache;
 import org.eclipse.che.api.factory.server.scm.exception.ScmBadRequestException;
 import org.eclipse.che.api.factory.server.scm.exception.ScmCommunicationException;
 import org.eclipse.che.api.factory.server.scm.exception.ScmItemNotFoundException;
@@ -32,8 +34,11 @@ public abstract class AbstractGithubUserDataFetcher extends AbstractGitUserDataF
   /** GitHub API client. */
   private final GithubApiClient githubApiClient;
 
+  private final ScmHttpClientRegistry httpClientRegistry;
+
   /** Name of this OAuth provider as found in OAuthAPI. */
   private final String providerName;
+  private final ScmResponseCache responseCache;
 
   /** Collection of OAuth scopes required to make integration with GitHub work. */
   public static final Set<String> DEFAULT_TOKEN_SCOPES =
@@ -47,11 +52,15 @@ public abstract class AbstractGithubUserDataFetcher extends AbstractGitUserDataF
       String apiEndpoint,
       PersonalAccessTokenManager personalAccessTokenManager,
       GithubApiClient githubApiClient,
-      String providerName) {
+      String providerName,
+      ScmHttpClientRegistry httpClientRegistry,
+      ScmResponseCache responseCache) {
     super(providerName, githubApiClient.getServerUrl(), personalAccessTokenManager);
     this.providerName = providerName;
     this.githubApiClient = githubApiClient;
+    this.httpClientRegistry = httpClientRegistry;
     this.apiEndpoint = apiEndpoint;
+    this.responseCache = responseCache;
   }
 
   @Override
@@ -78,7 +87,8 @@ public abstract class AbstractGithubUserDataFetcher extends AbstractGitUserDataF
     GithubApiClient apiClient =
         githubApiClient.isConnected(personalAccessToken.getScmProviderUrl())
             ? githubApiClient
-            : new GithubApiClient(personalAccessToken.getScmProviderUrl());
+            : new GithubApiClient(
+                personalAccessToken.getScmProviderUrl(), httpClientRegistry, responseCache);
     GithubUser user = apiClient.getUser(personalAccessToken.getToken());
     if (isNullOrEmpty(user.getName()) || isNullOrEmpty(user.getEmail())) {
       throw new ScmItemNotFoundException(NO_USERNAME_AND_EMAIL_ERROR_MESSAGE);
@@ -14,6 +14,7 @@ package org.eclipse.che.api.factory.server.github;
 import static com.google.common.base.Strings.isNullOrEmpty;
 import static java.net.HttpURLConnection.HTTP_BAD_REQUEST;
 import static java.net.HttpURLConnection.HTTP_NOT_FOUND;
+import static java.net.HttpURLConnection.HTTP_NOT_MODIFIED;
 import static java.net.HttpURLConnection.HTTP_NO_CONTENT;
 import static java.net.HttpURLConnection.HTTP_OK;
 import static java.net.HttpURLConnection.HTTP_UNAUTHORIZED;
@@ -24,7 +25,6 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.base.Charsets;
 import com.google.common.base.Splitter;
 import com.google.common.io.CharStreams;
-import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
@@ -36,15 +36,15 @@ import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.time.Duration;
 import java.util.Optional;
-import java.util.concurrent.Executors;
 import java.util.function.Function;
+import org.eclipse.che.api.factory.server.scm.ScmHttpClientRegistry;
+import org.eclipse.che.api.factory.server.scm.ScmResponseCache;
 import org.eclipse.che.api.factory.server.scm.exception.ScmBadRequestException;
 import org.eclipse.che.api.factory.server.scm.exception.ScmCommunicationException;
 import org.eclipse.che.api.factory.server.scm.exception.ScmItemNotFoundException;
 import org.eclipse.che.api.factory.server.scm.exception.ScmUnauthorizedException;
 import org.eclipse.che.commons.annotation.Nullable;
 import org.eclipse.che.commons.lang.Pair;
-import org.eclipse.che.commons.lang.concurrent.LoggingUncaughtExceptionHandler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -66,12 +66,17 @@ public class GithubApiClient {
   private final HttpClient httpClient;
   private final URI apiServerUrl;
   private final URI scmServerUrl;
+  private final ScmResponseCache responseCache;
 
   private static final Duration DEFAULT_HTTP_TIMEOUT = ofSeconds(10);
   private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
 
   /** Default constructor, binds http client to GitHub API url */
-  public GithubApiClient(@Nullable String serverUrl) {
+  public GithubApiClient(
+      @Nullable String serverUrl,
+      ScmHttpClientRegistry httpClientRegistry,
+      ScmResponseCache responseCache) {
+    this.responseCache = responseCache;
     String trimmedServerUrl = !isNullOrEmpty(serverUrl) ? trimEnd(serverUrl, '/') : null;
     this.apiServerUrl =
         URI.create(
@@ -80,18 +85,7 @@ public class GithubApiClient {
                 : trimmedServerUrl + "/api/v3/");
     this.scmServerUrl =
         URI.create(isNullOrEmpty(trimmedServerUrl) ? GITHUB_SAAS_ENDPOINT : trimmedServerUrl);
-    this.httpClient =
-        HttpClient.newBuilder()
-            .executor(
-                Executors.newCachedThreadPool(
-                    new ThreadFactoryBuilder()
-                        .setUncaughtExceptionHandler(LoggingUncaughtExceptionHandler.getInstance())
-                        .setNameFormat(GithubApiClient.class.getName() + "-%d")
-                        .setDaemon(true)
-                        .build()))
-            .connectTimeout(DEFAULT_HTTP_TIMEOUT)
-            .version(HttpClient.Version.HTTP_1_1)
-            .build();
+    this.httpClient = httpClientRegistry.getClient(apiServerUrl);
   }
 
   /**
@@ -112,9 +106,10 @@ public class GithubApiClient {
     final URI uri = apiServerUrl.resolve("./user");
     HttpRequest request = buildGithubApiRequest(uri, authenticationToken);
     LOG.trace("executeRequest={}", request);
-    return executeRequest(
-        httpClient,
+    return responseCache.execute(
+        "user",
         request,
+        this::executeRequest,
         response -> {
           try {
             String result =
@@ -146,9 +141,10 @@ public class GithubApiClient {
         apiServerUrl.resolve(String.format("./repos/%s/%s/pulls/%s", username, repoName, id));
     HttpRequest request = buildGithubApiRequest(uri, authenticationToken);
     LOG.trace("executeRequest={}", request);
-    return executeRequest(
-        httpClient,
+    return responseCache.execute(
+        "pull-request",
         request,
+        this::executeRequest,
         response -> {
           try {
             String result =
@@ -192,9 +188,10 @@ public class GithubApiClient {
     HttpRequest request = buildGithubApiRequest(requestURI, authenticationToken);
     LOG.trace("executeRequest={}", request);
 
-    return executeRequest(
-        httpClient,
+    return responseCache.execute(
+        "latest-commit",
         request,
+        this::executeRequest,
         response -> {
           try {
             String result =
@@ -226,9 +223,10 @@ public class GithubApiClient {
     final URI uri = apiServerUrl.resolve("./user");
     HttpRequest request = buildGithubApiRequest(uri, authenticationToken);
     LOG.trace("executeRequest={}", request);
-    return executeRequest(
-        httpClient,
+    return responseCache.execute(
+        "token-scopes",
         request,
+        this::executeRequest,
         response -> {
           Optional<String> responseScopes =
               response.headers().firstValue(GITHUB_OAUTH_SCOPES_HEADER);
@@ -281,9 +279,7 @@ public class GithubApiClient {
   }
 
   private <T> T executeRequest(
-      HttpClient httpClient,
-      HttpRequest request,
-      Function<HttpResponse<InputStream>, T> responseConverter)
+      HttpRequest request, Function<HttpResponse<InputStream>, T> responseConverter)
       throws ScmBadRequestException,
           ScmItemNotFoundException,
           ScmCommunicationException,
@@ -294,7 +290,8 @@ public class GithubApiClient {
           httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
       int statusCode = response.statusCode();
       LOG.trace("executeRequest={} response {}", request, statusCode);
-      if (statusCode == HTTP_OK) {
+      if (statusCode == HTTP_OK
+          || (statusCode == HTTP_NOT_MODIFIED && ScmResponseCache.isConditional(request))) {
         return responseConverter.apply(response);
       } else if (statusCode == HTTP_NO_CONTENT) {
         return null;
@@ -13,6 +13,8 @@ package org.eclipse.che.api.factory.server.github;
 
 import javax.inject.Inject;
 import javax.inject.Named;
+import org.eclipse.che.api.factory.server.scm.ScmHttpClientRegistry;
+import org.eclipse.che.api.factory.server.scm.ScmResponseCache;
 import org.eclipse.che.commons.annotation.Nullable;
 import org.eclipse.che.security.oauth.OAuthAPI;
 
@@ -27,7 +29,15 @@ public class GithubPersonalAccessTokenFetcherSecond
   public GithubPersonalAccessTokenFetcherSecond(
       @Named("che.api") String apiEndpoint,
       @Nullable @Named("che.integration.github.oauth_endpoint_2") String oauthEndpoint,
-      OAuthAPI oAuthAPI) {
-    super(apiEndpoint, oAuthAPI, new GithubApiClient(oauthEndpoint), OAUTH_PROVIDER_NAME);
+      OAuthAPI oAuthAPI,
+      ScmHttpClientRegistry httpClientRegistry,
+      ScmResponseCache responseCache) {
+    super(
+        apiEndpoint,
+        oAuthAPI,
+        new GithubApiClient(oauthEndpoint, httpClientRegistry, responseCache),
+        OAUTH_PROVIDER_NAME,
+        httpClientRegistry,
+        responseCache);
   }
 }
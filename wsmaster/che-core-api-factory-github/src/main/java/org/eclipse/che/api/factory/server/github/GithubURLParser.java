@@ -15,6 +15,8 @@ import javax.inject.Inject;
 import javax.inject.Named;
 import javax.inject.Singleton;
 import org.eclipse.che.api.factory.server.scm.PersonalAccessTokenManager;
+import org.eclipse.che.api.factory.server.scm.ScmHttpClientRegistry;
+import org.eclipse.che.api.factory.server.scm.ScmResponseCache;
 import org.eclipse.che.api.factory.server.urlfactory.DevfileFilenamesProvider;
 import org.eclipse.che.commons.annotation.Nullable;
 
@@ -35,14 +37,18 @@ public class GithubURLParser extends AbstractGithubURLParser {
       DevfileFilenamesProvider devfileFilenamesProvider,
       @Nullable @Named("che.integration.github.oauth_endpoint") String oauthEndpoint,
       @Named("che.integration.github.disable_subdomain_isolation")
-          boolean disableSubdomainIsolation) {
+          boolean disableSubdomainIsolation,
+      ScmHttpClientRegistry httpClientRegistry,
+      ScmResponseCache responseCache) {
     super(
         tokenManager,
         devfileFilenamesProvider,
-        new GithubApiClient(oauthEndpoint),
+        new GithubApiClient(oauthEndpoint, httpClientRegistry, responseCache),
         oauthEndpoint,
         disableSubdomainIsolation,
-        OAUTH_PROVIDER_NAME);
+        OAUTH_PROVIDER_NAME,
+        httpClientRegistry,
+        responseCache);
   }
 
   GithubURLParser(
@@ -50,13 +56,17 @@ public class GithubURLParser extends AbstractGithubURLParser {
       DevfileFilenamesProvider devfileFilenamesProvider,
       GithubApiClient githubApiClient,
       String oauthEndpoint,
-      boolean disableSubdomainIsolation) {
+      boolean disableSubdomainIsolation,
+      ScmHttpClientRegistry httpClientRegistry,
+      ScmResponseCache responseCache) {
     super(
         tokenManager,
         devfileFilenamesProvider,
         githubApiClient,
         oauthEndpoint,
         disableSubdomainIsolation,
-        OAUTH_PROVIDER_NAME);
+        OAUTH_PROVIDER_NAME,
+        httpClientRegistry,
+        responseCache);
   }
 }
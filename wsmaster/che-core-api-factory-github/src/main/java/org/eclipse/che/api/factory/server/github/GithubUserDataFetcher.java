@@ -14,6 +14,8 @@ package org.eclipse.che.api.factory.server.github;
 import javax.inject.Inject;
 import javax.inject.Named;
 import org.eclipse.che.api.factory.server.scm.PersonalAccessTokenManager;
+import org.eclipse.che.api.factory.server.scm.ScmHttpClientRegistry;
+import org.eclipse.che.api.factory.server.scm.ScmResponseCache;
 import org.eclipse.che.commons.annotation.Nullable;
 
 /** GitHub user data retriever. */
@@ -25,18 +27,30 @@ public class GithubUserDataFetcher extends AbstractGithubUserDataFetcher {
   public GithubUserDataFetcher(
       @Named("che.api") String apiEndpoint,
       @Nullable @Named("che.integration.github.oauth_endpoint") String oauthEndpoint,
-      PersonalAccessTokenManager personalAccessTokenManager) {
+      PersonalAccessTokenManager personalAccessTokenManager,
+      ScmHttpClientRegistry httpClientRegistry,
+      ScmResponseCache responseCache) {
     super(
         apiEndpoint,
         personalAccessTokenManager,
-        new GithubApiClient(oauthEndpoint),
-        OAUTH_PROVIDER_NAME);
+        new GithubApiClient(oauthEndpoint, httpClientRegistry, responseCache),
+        OAUTH_PROVIDER_NAME,
+        httpClientRegistry,
+        responseCache);
   }
 
   GithubUserDataFetcher(
       String apiEndpoint,
       PersonalAccessTokenManager personalAccessTokenManager,
-      GithubApiClient githubApiClient) {
-    super(apiEndpoint, personalAccessTokenManager, githubApiClient, OAUTH_PROVIDER_NAME);
+      GithubApiClient githubApiClient,
+      ScmHttpClientRegistry httpClientRegistry,
+      ScmResponseCache responseCache) {
+    super(
+        apiEndpoint,
+        personalAccessTokenManager,
+        githubApiClient,
+        OAUTH_PROVIDER_NAME,
+        httpClientRegistry,
+        responseCache);
   }
 }
@@ -14,6 +14,8 @@ package org.eclipse.che.api.factory.server.github;
 import javax.inject.Inject;
 import javax.inject.Named;
 import org.eclipse.che.api.factory.server.scm.PersonalAccessTokenManager;
+import org.eclipse.che.api.factory.server.scm.ScmHttpClientRegistry;
+import org.eclipse.che.api.factory.server.scm.ScmResponseCache;
 import org.eclipse.che.commons.annotation.Nullable;
 
 /** GitHub user data retriever. */
@@ -25,11 +27,15 @@ public class GithubUserDataFetcherSecond extends AbstractGithubUserDataFetcher {
   public GithubUserDataFetcherSecond(
       @Named("che.api") String apiEndpoint,
       @Nullable @Named("che.integration.github.oauth_endpoint_2") String oauthEndpoint,
-      PersonalAccessTokenManager personalAccessTokenManager) {
+      PersonalAccessTokenManager personalAccessTokenManager,
+      ScmHttpClientRegistry httpClientRegistry,
+      ScmResponseCache responseCache) {
     super(
         apiEndpoint,
         personalAccessTokenManager,
-        new GithubApiClient(oauthEndpoint),
-        OAUTH_PROVIDER_NAME);
+        new GithubApiClient(oauthEndpoint, httpClientRegistry, responseCache),
+        OAUTH_PROVIDER_NAME,
+        httpClientRegistry,
+        responseCache);
   }
 }
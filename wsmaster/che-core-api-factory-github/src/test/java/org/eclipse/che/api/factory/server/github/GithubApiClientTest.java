@@ -14,12 +14,15 @@ package org.eclipse.che.api.factory.server.github;
 import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
 import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
 import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
 import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
 import static java.net.HttpURLConnection.HTTP_BAD_GATEWAY;
 import static java.net.HttpURLConnection.HTTP_BAD_REQUEST;
 import static java.net.HttpURLConnection.HTTP_NOT_FOUND;
+import static java.net.HttpURLConnection.HTTP_NOT_MODIFIED;
 import static java.net.HttpURLConnection.HTTP_NO_CONTENT;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
@@ -28,6 +31,7 @@ import static org.testng.Assert.assertEqualsNoOrder;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNotNull;
 import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertTrue;
 
 import com.github.tomakehurst.wiremock.WireMockServer;
@@ -37,10 +41,14 @@ import com.google.common.net.HttpHeaders;
 import java.lang.reflect.Field;
 import java.net.http.HttpClient;
 import java.net.http.HttpResponse;
+import org.eclipse.che.api.factory.server.scm.InMemoryScmResponseCache;
+import org.eclipse.che.api.factory.server.scm.ScmHttpClientRegistry;
+import org.eclipse.che.api.factory.server.scm.ScmResponseCache;
 import org.eclipse.che.api.factory.server.scm.exception.ScmBadRequestException;
 import org.eclipse.che.api.factory.server.scm.exception.ScmCommunicationException;
 import org.eclipse.che.api.factory.server.scm.exception.ScmItemNotFoundException;
 import org.eclipse.che.commons.lang.Pair;
+import org.eclipse.che.commons.observability.NoopExecutorServiceWrapper;
 import org.mockito.Mockito;
 import org.mockito.testng.MockitoTestNGListener;
 import org.testng.annotations.AfterMethod;
@@ -51,6 +59,11 @@ import org.testng.annotations.Test;
 @Listeners(MockitoTestNGListener.class)
 public class GithubApiClientTest {
 
+  private final ScmResponseCache responseCache = new InMemoryScmResponseCache(10);
+
+  private final ScmHttpClientRegistry httpClientRegistry =
+      new ScmHttpClientRegistry(new NoopExecutorServiceWrapper());
+
   private GithubApiClient client;
   WireMockServer wireMockServer;
   WireMock wireMock;
@@ -62,7 +75,7 @@ public class GithubApiClientTest {
     wireMockServer.start();
     WireMock.configureFor("localhost", wireMockServer.port());
     wireMock = new WireMock("localhost", wireMockServer.port());
-    client = new GithubApiClient(wireMockServer.url("/"));
+    client = new GithubApiClient(wireMockServer.url("/"), httpClientRegistry, responseCache);
   }
 
   @AfterMethod
@@ -73,7 +86,7 @@ public class GithubApiClientTest {
   @Test
   public void shouldUseDefaultApiUrl() throws Exception {
     // given
-    client = new GithubApiClient("https://github.com");
+    client = new GithubApiClient("https://github.com", httpClientRegistry, responseCache);
     Field serverUrl = client.getClass().getDeclaredField("apiServerUrl");
     serverUrl.setAccessible(true);
     // then
@@ -83,7 +96,7 @@ public class GithubApiClientTest {
   @Test
   public void shouldUseDefaultApiUrlWithNull() throws Exception {
     // given
-    client = new GithubApiClient(null);
+    client = new GithubApiClient(null, httpClientRegistry, responseCache);
     Field serverUrl = client.getClass().getDeclaredField("apiServerUrl");
     serverUrl.setAccessible(true);
     // then
@@ -93,7 +106,7 @@ public class GithubApiClientTest {
   @Test
   public void shouldUseDefaultApiUrlWithEmpty() throws Exception {
     // given
-    client = new GithubApiClient("");
+    client = new GithubApiClient("", httpClientRegistry, responseCache);
     Field serverUrl = client.getClass().getDeclaredField("apiServerUrl");
     serverUrl.setAccessible(true);
     // then
@@ -221,6 +234,74 @@ public class GithubApiClientTest {
             + " header should return an empty array");
   }
 
+  @Test
+  public void shouldReturnCachedUserWhenNotModified() throws Exception {
+    // given
+    client =
+        new GithubApiClient(
+            wireMockServer.url("/"), httpClientRegistry, new InMemoryScmResponseCache(10));
+    stubFor(
+        get(urlEqualTo("/api/v3/user"))
+            .withHeader(HttpHeaders.AUTHORIZATION, equalTo("token token1"))
+            .willReturn(
+                aResponse()
+                    .withHeader("Content-Type", "application/json; charset=utf-8")
+                    .withHeader(HttpHeaders.ETAG, "\"etag1\"")
+                    .withBodyFile("github/rest/user/response.json")));
+    GithubUser user = client.getUser("token1");
+    stubFor(
+        get(urlEqualTo("/api/v3/user"))
+            .withHeader(HttpHeaders.AUTHORIZATION, equalTo("token token1"))
+            .withHeader(HttpHeaders.IF_NONE_MATCH, equalTo("\"etag1\""))
+            .willReturn(aResponse().withStatus(HTTP_NOT_MODIFIED)));
+
+    // when
+    GithubUser cachedUser = client.getUser("token1");
+
+    // then
+    assertSame(cachedUser, user);
+    verify(2, getRequestedFor(urlEqualTo("/api/v3/user")));
+    verify(
+        1,
+        getRequestedFor(urlEqualTo("/api/v3/user"))
+            .withHeader(HttpHeaders.IF_NONE_MATCH, equalTo("\"etag1\"")));
+  }
+
+  @Test
+  public void shouldNotShareCachedUserBetweenTokens() throws Exception {
+    // given
+    client =
+        new GithubApiClient(
+            wireMockServer.url("/"), httpClientRegistry, new InMemoryScmResponseCache(10));
+    stubFor(
+        get(urlEqualTo("/api/v3/user"))
+            .willReturn(
+                aResponse()
+                    .withHeader("Content-Type", "application/json; charset=utf-8")
+                    .withHeader(HttpHeaders.ETAG, "\"etag1\"")
+                    .withBodyFile("github/rest/user/response.json")));
+    client.getUser("token1");
+
+    // when
+    client.getUser("token2");
+
+    // then
+    verify(
+        0,
+        getRequestedFor(urlEqualTo("/api/v3/user"))
+            .withHeader(HttpHeaders.IF_NONE_MATCH, equalTo("\"etag1\"")));
+  }
+
+  @Test(expectedExceptions = ScmCommunicationException.class)
+  public void shouldFailOnNotModifiedResponseToUnconditionalRequest() throws Exception {
+    stubFor(
+        get(urlEqualTo("/api/v3/user"))
+            .withHeader(HttpHeaders.AUTHORIZATION, equalTo("token token1"))
+            .willReturn(aResponse().withStatus(HTTP_NOT_MODIFIED)));
+
+    client.getUser("token1");
+  }
+
   @Test
   public void shouldReturnFalseOnConnectedToOtherHost() {
     assertFalse(client.isConnected("https://other.com"));
@@ -36,7 +36,10 @@ import java.util.Optional;
 import org.eclipse.che.api.core.ApiException;
 import org.eclipse.che.api.core.model.factory.ScmInfo;
 import org.eclipse.che.api.factory.server.scm.AuthorisationRequestManager;
+import org.eclipse.che.api.factory.server.scm.InMemoryScmResponseCache;
 import org.eclipse.che.api.factory.server.scm.PersonalAccessTokenManager;
+import org.eclipse.che.api.factory.server.scm.ScmHttpClientRegistry;
+import org.eclipse.che.api.factory.server.scm.ScmResponseCache;
 import org.eclipse.che.api.factory.server.urlfactory.DevfileFilenamesProvider;
 import org.eclipse.che.api.factory.server.urlfactory.RemoteFactoryUrl;
 import org.eclipse.che.api.factory.server.urlfactory.URLFactoryBuilder;
@@ -44,6 +47,7 @@ import org.eclipse.che.api.factory.shared.dto.FactoryDevfileV2Dto;
 import org.eclipse.che.api.factory.shared.dto.ScmInfoDto;
 import org.eclipse.che.api.workspace.server.devfile.FileContentProvider;
 import org.eclipse.che.api.workspace.server.devfile.URLFetcher;
+import org.eclipse.che.commons.observability.NoopExecutorServiceWrapper;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.Mock;
@@ -61,6 +65,11 @@ import org.testng.annotations.Test;
 @Listeners(MockitoTestNGListener.class)
 public class GithubFactoryParametersResolverTest {
 
+  private final ScmResponseCache responseCache = new InMemoryScmResponseCache(10);
+
+  private final ScmHttpClientRegistry httpClientRegistry =
+      new ScmHttpClientRegistry(new NoopExecutorServiceWrapper());
+
   @Mock private URLFetcher urlFetcher;
 
   @Mock private DevfileFilenamesProvider devfileFilenamesProvider;
@@ -97,7 +106,13 @@ public class GithubFactoryParametersResolverTest {
 
     githubUrlParser =
         new GithubURLParser(
-            personalAccessTokenManager, devfileFilenamesProvider, githubApiClient, null, false);
+            personalAccessTokenManager,
+            devfileFilenamesProvider,
+            githubApiClient,
+            null,
+            false,
+            httpClientRegistry,
+            responseCache);
 
     abstractGithubFactoryParametersResolver =
         new GithubFactoryParametersResolver(
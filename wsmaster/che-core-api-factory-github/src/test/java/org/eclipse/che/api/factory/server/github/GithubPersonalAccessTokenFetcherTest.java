@@ -34,11 +34,15 @@ import java.util.Collections;
 import java.util.Optional;
 import org.eclipse.che.api.auth.shared.dto.OAuthToken;
 import org.eclipse.che.api.core.UnauthorizedException;
+import org.eclipse.che.api.factory.server.scm.InMemoryScmResponseCache;
 import org.eclipse.che.api.factory.server.scm.PersonalAccessToken;
 import org.eclipse.che.api.factory.server.scm.PersonalAccessTokenParams;
+import org.eclipse.che.api.factory.server.scm.ScmHttpClientRegistry;
+import org.eclipse.che.api.factory.server.scm.ScmResponseCache;
 import org.eclipse.che.api.factory.server.scm.exception.ScmCommunicationException;
 import org.eclipse.che.api.factory.server.scm.exception.ScmUnauthorizedException;
 import org.eclipse.che.commons.lang.Pair;
+import org.eclipse.che.commons.observability.NoopExecutorServiceWrapper;
 import org.eclipse.che.commons.subject.Subject;
 import org.eclipse.che.commons.subject.SubjectImpl;
 import org.eclipse.che.security.oauth.OAuthAPI;
@@ -53,6 +57,11 @@ import org.testng.annotations.Test;
 @Listeners(MockitoTestNGListener.class)
 public class GithubPersonalAccessTokenFetcherTest {
 
+  private final ScmResponseCache responseCache = new InMemoryScmResponseCache(10);
+
+  private final ScmHttpClientRegistry httpClientRegistry =
+      new ScmHttpClientRegistry(new NoopExecutorServiceWrapper());
+
   @Mock OAuthAPI oAuthAPI;
   GithubPersonalAccessTokenFetcher githubPATFetcher;
 
@@ -72,7 +81,11 @@ public class GithubPersonalAccessTokenFetcherTest {
     wireMock = new WireMock("localhost", httpPort);
     githubPATFetcher =
         new GithubPersonalAccessTokenFetcher(
-            "http://che.api", oAuthAPI, new GithubApiClient(wireMockServer.url("/")));
+            "http://che.api",
+            oAuthAPI,
+            new GithubApiClient(wireMockServer.url("/"), httpClientRegistry),
+            httpClientRegistry,
+            responseCache);
   }
 
   @AfterMethod
@@ -20,11 +20,15 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.*;
 
+import org.eclipse.che.api.factory.server.scm.InMemoryScmResponseCache;
 import org.eclipse.che.api.factory.server.scm.PersonalAccessToken;
 import org.eclipse.che.api.factory.server.scm.PersonalAccessTokenManager;
+import org.eclipse.che.api.factory.server.scm.ScmHttpClientRegistry;
+import org.eclipse.che.api.factory.server.scm.ScmResponseCache;
 import org.eclipse.che.api.factory.server.scm.exception.ScmUnauthorizedException;
 import org.eclipse.che.api.factory.server.urlfactory.DevfileFilenamesProvider;
 import org.eclipse.che.api.workspace.server.devfile.URLFetcher;
+import org.eclipse.che.commons.observability.NoopExecutorServiceWrapper;
 import org.mockito.Mock;
 import org.mockito.testng.MockitoTestNGListener;
 import org.testng.annotations.BeforeMethod;
@@ -34,6 +38,11 @@ import org.testng.annotations.Test;
 @Listeners(MockitoTestNGListener.class)
 public class GithubScmFileResolverTest {
 
+  private final ScmResponseCache responseCache = new InMemoryScmResponseCache(10);
+
+  private final ScmHttpClientRegistry httpClientRegistry =
+      new ScmHttpClientRegistry(new NoopExecutorServiceWrapper());
+
   @Mock private DevfileFilenamesProvider devfileFilenamesProvider;
 
   GithubURLParser githubURLParser;
@@ -55,7 +64,13 @@ public class GithubScmFileResolverTest {
 
     githubURLParser =
         new GithubURLParser(
-            personalAccessTokenManager, devfileFilenamesProvider, githubApiClient, null, false);
+            personalAccessTokenManager,
+            devfileFilenamesProvider,
+            githubApiClient,
+            null,
+            false,
+            httpClientRegistry,
+            responseCache);
 
     githubScmFileResolver =
         new GithubScmFileResolver(githubURLParser, urlFetcher, personalAccessTokenManager);
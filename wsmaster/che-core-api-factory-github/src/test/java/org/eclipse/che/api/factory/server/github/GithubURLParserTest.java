@@ -35,9 +35,13 @@ import com.github.tomakehurst.wiremock.common.Slf4jNotifier;
 import java.lang.reflect.Field;
 import java.util.Optional;
 import org.eclipse.che.api.core.ApiException;
+import org.eclipse.che.api.factory.server.scm.InMemoryScmResponseCache;
 import org.eclipse.che.api.factory.server.scm.PersonalAccessToken;
 import org.eclipse.che.api.factory.server.scm.PersonalAccessTokenManager;
+import org.eclipse.che.api.factory.server.scm.ScmHttpClientRegistry;
+import org.eclipse.che.api.factory.server.scm.ScmResponseCache;
 import org.eclipse.che.api.factory.server.urlfactory.DevfileFilenamesProvider;
+import org.eclipse.che.commons.observability.NoopExecutorServiceWrapper;
 import org.eclipse.che.commons.subject.Subject;
 import org.mockito.Mock;
 import org.mockito.testng.MockitoTestNGListener;
@@ -54,6 +58,11 @@ import org.testng.annotations.Test;
 @Listeners(MockitoTestNGListener.class)
 public class GithubURLParserTest {
 
+  private final ScmResponseCache responseCache = new InMemoryScmResponseCache(10);
+
+  private final ScmHttpClientRegistry httpClientRegistry =
+      new ScmHttpClientRegistry(new NoopExecutorServiceWrapper());
+
   private GithubApiClient githubApiClient;
 
   private PersonalAccessTokenManager personalAccessTokenManager;
@@ -78,7 +87,13 @@ public class GithubURLParserTest {
 
     githubUrlParser =
         new GithubURLParser(
-            personalAccessTokenManager, devfileFilenamesProvider, githubApiClient, null, false);
+            personalAccessTokenManager,
+            devfileFilenamesProvider,
+            githubApiClient,
+            null,
+            false,
+            httpClientRegistry,
+            responseCache);
   }
 
   /** Check invalid url (not a GitHub one) */
@@ -109,7 +124,9 @@ public class GithubURLParserTest {
             devfileFilenamesProvider,
             githubApiClient,
             "https://[2001:db8::1]",
-            false);
+            false,
+            httpClientRegistry,
+            responseCache);
     when(githubApiClient.isConnected(eq("https://[2001:db8::1]"))).thenReturn(true);
     when(devfileFilenamesProvider.getConfiguredDevfileFilenames())
         .thenReturn(asList("devfile.yaml", ".devfile.yaml"));
@@ -131,7 +148,9 @@ public class GithubURLParserTest {
             devfileFilenamesProvider,
             githubApiClient,
             "https://[2001:db8::1]",
-            false);
+            false,
+            httpClientRegistry,
+            responseCache);
     when(githubApiClient.isConnected(eq("https://[2001:db8::1]"))).thenReturn(true);
     when(devfileFilenamesProvider.getConfiguredDevfileFilenames())
         .thenReturn(asList("devfile.yaml", ".devfile.yaml"));
@@ -155,7 +174,9 @@ public class GithubURLParserTest {
             devfileFilenamesProvider,
             githubApiClient,
             "https://[2001:db8::1]",
-            false);
+            false,
+            httpClientRegistry,
+            responseCache);
     when(githubApiClient.isConnected(eq("https://[2001:db8::1]"))).thenReturn(true);
     when(devfileFilenamesProvider.getConfiguredDevfileFilenames())
         .thenReturn(asList("devfile.yaml", ".devfile.yaml"));
@@ -178,7 +199,9 @@ public class GithubURLParserTest {
             devfileFilenamesProvider,
             githubApiClient,
             "https://[2001:db8::1]",
-            false);
+            false,
+            httpClientRegistry,
+            responseCache);
 
     GithubPullRequest pr =
         new GithubPullRequest()
@@ -209,7 +232,9 @@ public class GithubURLParserTest {
             devfileFilenamesProvider,
             githubApiClient,
             "https://[::1]",
-            false);
+            false,
+            httpClientRegistry,
+            responseCache);
     when(githubApiClient.isConnected(eq("https://[::1]"))).thenReturn(true);
     when(devfileFilenamesProvider.getConfiguredDevfileFilenames())
         .thenReturn(asList("devfile.yaml", ".devfile.yaml"));
@@ -231,7 +256,9 @@ public class GithubURLParserTest {
             devfileFilenamesProvider,
             githubApiClient,
             "https://[2001:0db8:0000:0000:0000:0000:0000:0001]",
-            false);
+            false,
+            httpClientRegistry,
+            responseCache);
     when(githubApiClient.isConnected(eq("https://[2001:0db8:0000:0000:0000:0000:0000:0001]")))
         .thenReturn(true);
     when(devfileFilenamesProvider.getConfiguredDevfileFilenames())
@@ -256,7 +283,9 @@ public class GithubURLParserTest {
             devfileFilenamesProvider,
             githubApiClient,
             "https://[2001:db8::1]",
-            false);
+            false,
+            httpClientRegistry,
+            responseCache);
     when(githubApiClient.isConnected(eq("https://[2001:db8::1]"))).thenReturn(true);
     when(devfileFilenamesProvider.getConfiguredDevfileFilenames())
         .thenReturn(asList("devfile.yaml", ".devfile.yaml"));
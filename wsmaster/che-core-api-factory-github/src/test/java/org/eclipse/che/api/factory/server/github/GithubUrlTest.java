@@ -17,9 +17,13 @@ import static org.testng.Assert.assertEquals;
 
 import java.util.Arrays;
 import java.util.Iterator;
+import org.eclipse.che.api.factory.server.scm.InMemoryScmResponseCache;
 import org.eclipse.che.api.factory.server.scm.PersonalAccessTokenManager;
+import org.eclipse.che.api.factory.server.scm.ScmHttpClientRegistry;
+import org.eclipse.che.api.factory.server.scm.ScmResponseCache;
 import org.eclipse.che.api.factory.server.urlfactory.DevfileFilenamesProvider;
 import org.eclipse.che.api.factory.server.urlfactory.RemoteFactoryUrl.DevfileLocation;
+import org.eclipse.che.commons.observability.NoopExecutorServiceWrapper;
 import org.mockito.Mock;
 import org.mockito.testng.MockitoTestNGListener;
 import org.testng.annotations.Listeners;
@@ -33,6 +37,11 @@ import org.testng.annotations.Test;
 @Listeners(MockitoTestNGListener.class)
 public class GithubUrlTest {
 
+  private final ScmResponseCache responseCache = new InMemoryScmResponseCache(10);
+
+  private final ScmHttpClientRegistry httpClientRegistry =
+      new ScmHttpClientRegistry(new NoopExecutorServiceWrapper());
+
   @Mock private GithubApiClient githubApiClient;
 
   /** Check when there is devfile in the repository */
@@ -48,7 +57,9 @@ public class GithubUrlTest {
             devfileFilenamesProvider,
             githubApiClient,
             null,
-            false);
+            false,
+            httpClientRegistry,
+            responseCache);
 
     when(devfileFilenamesProvider.getConfiguredDevfileFilenames())
         .thenReturn(Arrays.asList("devfile.yaml", "foo.bar"));
@@ -77,7 +88,9 @@ public class GithubUrlTest {
             devfileFilenamesProvider,
             githubApiClient,
             null,
-            false);
+            false,
+            httpClientRegistry,
+            responseCache);
 
     when(devfileFilenamesProvider.getConfiguredDevfileFilenames())
         .thenReturn(Arrays.asList("devfile.yaml", "foo.bar"));
@@ -106,7 +119,9 @@ public class GithubUrlTest {
             devfileFilenamesProvider,
             githubApiClient,
             null,
-            false);
+            false,
+            httpClientRegistry,
+            responseCache);
 
     when(devfileFilenamesProvider.getConfiguredDevfileFilenames())
         .thenReturn(Arrays.asList("devfile.yaml", "foo.bar"));
@@ -127,7 +142,9 @@ public class GithubUrlTest {
             devfileFilenamesProvider,
             githubApiClient,
             null,
-            false);
+            false,
+            httpClientRegistry,
+            responseCache);
 
     when(devfileFilenamesProvider.getConfiguredDevfileFilenames())
         .thenReturn(Arrays.asList("devfile.yaml", "foo.bar"));
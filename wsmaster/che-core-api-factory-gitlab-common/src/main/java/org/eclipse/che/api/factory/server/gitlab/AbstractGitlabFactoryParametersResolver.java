@@ -23,6 +23,7 @@ import org.eclipse.che.api.factory.server.BaseFactoryParameterResolver;
 import org.eclipse.che.api.factory.server.FactoryParametersResolver;
 import org.eclipse.che.api.factory.server.scm.AuthorisationRequestManager;
 import org.eclipse.che.api.factory.server.scm.PersonalAccessTokenManager;
+import org.eclipse.che.api.factory.server.scm.ScmHttpClientRegistry;
 import org.eclipse.che.api.factory.server.urlfactory.RemoteFactoryUrl;
 import org.eclipse.che.api.factory.server.urlfactory.URLFactoryBuilder;
 import org.eclipse.che.api.factory.shared.dto.FactoryDevfileV2Dto;
@@ -43,6 +44,7 @@ public class AbstractGitlabFactoryParametersResolver extends BaseFactoryParamete
   private final AbstractGitlabUrlParser gitlabURLParser;
   private final PersonalAccessTokenManager personalAccessTokenManager;
   private final String providerName;
+  private final ScmHttpClientRegistry httpClientRegistry;
 
   public AbstractGitlabFactoryParametersResolver(
       URLFactoryBuilder urlFactoryBuilder,
@@ -50,12 +52,14 @@ public class AbstractGitlabFactoryParametersResolver extends BaseFactoryParamete
       AbstractGitlabUrlParser gitlabURLParser,
       PersonalAccessTokenManager personalAccessTokenManager,
       AuthorisationRequestManager authorisationRequestManager,
-      String providerName) {
+      String providerName,
+      ScmHttpClientRegistry httpClientRegistry) {
     super(authorisationRequestManager, urlFactoryBuilder, providerName);
     this.urlFetcher = urlFetcher;
     this.gitlabURLParser = gitlabURLParser;
     this.personalAccessTokenManager = personalAccessTokenManager;
     this.providerName = providerName;
+    this.httpClientRegistry = httpClientRegistry;
   }
 
   /**
@@ -96,7 +100,7 @@ public class AbstractGitlabFactoryParametersResolver extends BaseFactoryParamete
         gitlabUrl,
         new GitlabFactoryVisitor(gitlabUrl),
         new GitlabAuthorizingFileContentProvider(
-            gitlabUrl, urlFetcher, personalAccessTokenManager));
+            gitlabUrl, urlFetcher, personalAccessTokenManager, httpClientRegistry));
   }
 
   /**
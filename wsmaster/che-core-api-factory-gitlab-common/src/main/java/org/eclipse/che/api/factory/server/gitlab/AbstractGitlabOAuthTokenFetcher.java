@@ -29,6 +29,8 @@ import org.eclipse.che.api.core.UnauthorizedException;
 import org.eclipse.che.api.factory.server.scm.PersonalAccessToken;
 import org.eclipse.che.api.factory.server.scm.PersonalAccessTokenFetcher;
 import org.eclipse.che.api.factory.server.scm.PersonalAccessTokenParams;
+import org.eclipse.che.api.factory.server.scm.ScmHttpClientRegistry;
+import org.eclipse.che.api.factory.server.scm.ScmResponseCache;
 import org.eclipse.che.api.factory.server.scm.exception.ScmBadRequestException;
 import org.eclipse.che.api.factory.server.scm.exception.ScmCommunicationException;
 import org.eclipse.che.api.factory.server.scm.exception.ScmItemNotFoundException;
@@ -51,13 +53,22 @@ public class AbstractGitlabOAuthTokenFetcher implements PersonalAccessTokenFetch
   private final String serverUrl;
   private final String apiEndpoint;
   private final String providerName;
+  private final ScmHttpClientRegistry httpClientRegistry;
+  private final ScmResponseCache responseCache;
 
   public AbstractGitlabOAuthTokenFetcher(
-      String serverUrl, String apiEndpoint, OAuthAPI oAuthAPI, String providerName) {
+      String serverUrl,
+      String apiEndpoint,
+      OAuthAPI oAuthAPI,
+      String providerName,
+      ScmHttpClientRegistry httpClientRegistry,
+      ScmResponseCache responseCache) {
     this.serverUrl = trimEnd(serverUrl, '/');
     this.apiEndpoint = apiEndpoint;
     this.providerName = providerName;
     this.oAuthAPI = oAuthAPI;
+    this.httpClientRegistry = httpClientRegistry;
+    this.responseCache = responseCache;
   }
 
   @Override
@@ -139,7 +150,9 @@ public class AbstractGitlabOAuthTokenFetcher implements PersonalAccessTokenFetch
     if (gitlabApiClient == null
         || !gitlabApiClient.isConnected(personalAccessToken.getScmProviderUrl())) {
       if (personalAccessToken.getScmTokenName().equals(providerName)) {
-        gitlabApiClient = new GitlabApiClient(personalAccessToken.getScmProviderUrl());
+        gitlabApiClient =
+            new GitlabApiClient(
+                personalAccessToken.getScmProviderUrl(), httpClientRegistry, responseCache);
       } else {
         LOG.debug(
             "not a  valid url {} for current fetcher ", personalAccessToken.getScmProviderUrl());
@@ -181,7 +194,8 @@ public class AbstractGitlabOAuthTokenFetcher implements PersonalAccessTokenFetch
     GitlabApiClient gitlabApiClient = getApiClient(params.getScmProviderUrl());
     if (gitlabApiClient == null || !gitlabApiClient.isConnected(params.getScmProviderUrl())) {
       if (providerName.equals(params.getScmTokenName())) {
-        gitlabApiClient = new GitlabApiClient(params.getScmProviderUrl());
+        gitlabApiClient =
+            new GitlabApiClient(params.getScmProviderUrl(), httpClientRegistry, responseCache);
       } else {
         LOG.debug("not a  valid url {} for current fetcher ", params.getScmProviderUrl());
         return Optional.empty();
@@ -218,6 +232,8 @@ public class AbstractGitlabOAuthTokenFetcher implements PersonalAccessTokenFetch
   }
 
   private GitlabApiClient getApiClient(String serverUrl) {
-    return serverUrl.equals(this.serverUrl) ? new GitlabApiClient(serverUrl) : null;
+    return serverUrl.equals(this.serverUrl)
+        ? new GitlabApiClient(serverUrl, httpClientRegistry, responseCache)
+        : null;
   }
 }
@@ -18,6 +18,7 @@ import org.eclipse.che.api.core.ApiException;
 import org.eclipse.che.api.core.NotFoundException;
 import org.eclipse.che.api.factory.server.ScmFileResolver;
 import org.eclipse.che.api.factory.server.scm.PersonalAccessTokenManager;
+import org.eclipse.che.api.factory.server.scm.ScmHttpClientRegistry;
 import org.eclipse.che.api.workspace.server.devfile.URLFetcher;
 import org.eclipse.che.api.workspace.server.devfile.exception.DevfileException;
 
@@ -27,14 +28,17 @@ public class AbstractGitlabScmFileResolver implements ScmFileResolver {
   private final AbstractGitlabUrlParser gitlabUrlParser;
   private final URLFetcher urlFetcher;
   private final PersonalAccessTokenManager personalAccessTokenManager;
+  private final ScmHttpClientRegistry httpClientRegistry;
 
   public AbstractGitlabScmFileResolver(
       AbstractGitlabUrlParser gitlabUrlParser,
       URLFetcher urlFetcher,
-      PersonalAccessTokenManager personalAccessTokenManager) {
+      PersonalAccessTokenManager personalAccessTokenManager,
+      ScmHttpClientRegistry httpClientRegistry) {
     this.gitlabUrlParser = gitlabUrlParser;
     this.urlFetcher = urlFetcher;
     this.personalAccessTokenManager = personalAccessTokenManager;
+    this.httpClientRegistry = httpClientRegistry;
   }
 
   @Override
@@ -64,7 +68,7 @@ public class AbstractGitlabScmFileResolver implements ScmFileResolver {
     try {
       GitlabAuthorizingFileContentProvider contentProvider =
           new GitlabAuthorizingFileContentProvider(
-              gitlabUrl, urlFetcher, personalAccessTokenManager);
+              gitlabUrl, urlFetcher, personalAccessTokenManager, httpClientRegistry);
       return skipAuthentication
           ? contentProvider.fetchContentWithoutAuthentication(filePath)
           : contentProvider.fetchContent(filePath);
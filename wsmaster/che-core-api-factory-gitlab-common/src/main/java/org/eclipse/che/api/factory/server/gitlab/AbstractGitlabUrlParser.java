@@ -28,6 +28,8 @@ import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import org.eclipse.che.api.factory.server.scm.PersonalAccessToken;
 import org.eclipse.che.api.factory.server.scm.PersonalAccessTokenManager;
+import org.eclipse.che.api.factory.server.scm.ScmHttpClientRegistry;
+import org.eclipse.che.api.factory.server.scm.ScmResponseCache;
 import org.eclipse.che.api.factory.server.scm.exception.ScmCommunicationException;
 import org.eclipse.che.api.factory.server.scm.exception.ScmConfigurationPersistenceException;
 import org.eclipse.che.api.factory.server.scm.exception.ScmItemNotFoundException;
@@ -46,6 +48,8 @@ public class AbstractGitlabUrlParser {
   private final DevfileFilenamesProvider devfileFilenamesProvider;
   private final PersonalAccessTokenManager personalAccessTokenManager;
   private final String providerName;
+  private final ScmHttpClientRegistry httpClientRegistry;
+  private final ScmResponseCache responseCache;
   private static final List<String> gitlabUrlPatternTemplates =
       List.of(
           "^(?<scheme>%s)://(?<host>%s)(:(?<port>%s))?/(?<subgroups>([^/]++/?)+)/-/tree/(?<branch>.++)(/)?",
@@ -60,10 +64,14 @@ public class AbstractGitlabUrlParser {
       String serverUrl,
       DevfileFilenamesProvider devfileFilenamesProvider,
       PersonalAccessTokenManager personalAccessTokenManager,
-      String providerName) {
+      String providerName,
+      ScmHttpClientRegistry httpClientRegistry,
+      ScmResponseCache responseCache) {
     this.devfileFilenamesProvider = devfileFilenamesProvider;
     this.personalAccessTokenManager = personalAccessTokenManager;
     this.providerName = providerName;
+    this.httpClientRegistry = httpClientRegistry;
+    this.responseCache = responseCache;
     if (isNullOrEmpty(serverUrl)) {
       gitlabUrlPatternTemplates.forEach(
           t -> gitlabUrlPatterns.add(compile(format(t, "https", "gitlab.com", 443))));
@@ -158,7 +166,8 @@ public class AbstractGitlabUrlParser {
   private boolean isApiRequestRelevant(String repositoryUrl) {
     Optional<String> serverUrlOptional = getServerUrl(repositoryUrl);
     if (serverUrlOptional.isPresent()) {
-      GitlabApiClient gitlabApiClient = new GitlabApiClient(serverUrlOptional.get());
+      GitlabApiClient gitlabApiClient =
+          new GitlabApiClient(serverUrlOptional.get(), httpClientRegistry, responseCache);
       try {
         // If the token request catches the unauthorised error, it means that the provided url
         // belongs to Gitlab.
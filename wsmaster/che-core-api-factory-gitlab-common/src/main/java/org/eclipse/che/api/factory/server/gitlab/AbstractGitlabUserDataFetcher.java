@@ -29,6 +29,8 @@ public class AbstractGitlabUserDataFetcher extends AbstractGitUserDataFetcher {
   private final String serverUrl;
   private final String apiEndpoint;
   private final String providerName;
+  private final ScmHttpClientRegistry httpClientRegistry;
+  private final ScmResponseCache responseCache;
 
   public static final Set<String> DEFAULT_TOKEN_SCOPES =
       ImmutableSet.of("api", "write_repository", "openid");
@@ -38,7 +40,9 @@ public class AbstractGitlabUserDataFetcher extends AbstractGitUserDataFetcher {
       @Nullable String serverUrl,
       String apiEndpoint,
       PersonalAccessTokenManager personalAccessTokenManager,
-      String providerName) {
+      String providerName,
+      ScmHttpClientRegistry httpClientRegistry,
+      ScmResponseCache responseCache) {
     super(
         providerName,
         isNullOrEmpty(serverUrl) ? GITLAB_SAAS_ENDPOINT : serverUrl,
@@ -46,6 +50,8 @@ public class AbstractGitlabUserDataFetcher extends AbstractGitUserDataFetcher {
     this.serverUrl = super.oAuthProviderUrl;
     this.apiEndpoint = apiEndpoint;
     this.providerName = providerName;
+    this.httpClientRegistry = httpClientRegistry;
+    this.responseCache = responseCache;
   }
 
   @Override
@@ -54,7 +60,8 @@ public class AbstractGitlabUserDataFetcher extends AbstractGitUserDataFetcher {
           ScmCommunicationException,
           ScmBadRequestException,
           ScmUnauthorizedException {
-    GitlabUser user = new GitlabApiClient(serverUrl).getUser(token);
+    GitlabUser user =
+        new GitlabApiClient(serverUrl, httpClientRegistry, responseCache).getUser(token);
     return new GitUserData(user.getName(), user.getEmail());
   }
 
@@ -66,7 +73,8 @@ public class AbstractGitlabUserDataFetcher extends AbstractGitUserDataFetcher {
           ScmBadRequestException,
           ScmUnauthorizedException {
     GitlabUser user =
-        new GitlabApiClient(personalAccessToken.getScmProviderUrl())
+        new GitlabApiClient(
+            personalAccessToken.getScmProviderUrl(), httpClientRegistry, responseCache)
             .getUser(personalAccessToken.getToken());
     return new GitUserData(user.getName(), user.getEmail());
   }
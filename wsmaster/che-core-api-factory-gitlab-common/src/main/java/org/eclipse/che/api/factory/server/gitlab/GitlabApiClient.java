@@ -13,6 +13,8 @@ package org.eclipse.che.api.factory.server.gitlab;
 
 import static java.net.HttpURLConnection.HTTP_BAD_REQUEST;
 import static java.net.HttpURLConnection.HTTP_NOT_FOUND;
+import static java.net.HttpURLConnection.HTTP_NOT_MODIFIED;
+import static java.net.HttpURLConnection.HTTP_OK;
 import static java.net.HttpURLConnection.HTTP_UNAUTHORIZED;
 import static java.time.Duration.ofSeconds;
 import static org.eclipse.che.commons.lang.StringUtils.trimEnd;
@@ -20,7 +22,6 @@ import static org.eclipse.che.commons.lang.StringUtils.trimEnd;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.base.Charsets;
 import com.google.common.io.CharStreams;
-import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
@@ -30,13 +31,13 @@ import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.time.Duration;
-import java.util.concurrent.Executors;
 import java.util.function.Function;
+import org.eclipse.che.api.factory.server.scm.ScmHttpClientRegistry;
+import org.eclipse.che.api.factory.server.scm.ScmResponseCache;
 import org.eclipse.che.api.factory.server.scm.exception.ScmBadRequestException;
 import org.eclipse.che.api.factory.server.scm.exception.ScmCommunicationException;
 import org.eclipse.che.api.factory.server.scm.exception.ScmItemNotFoundException;
 import org.eclipse.che.api.factory.server.scm.exception.ScmUnauthorizedException;
-import org.eclipse.che.commons.lang.concurrent.LoggingUncaughtExceptionHandler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -47,24 +48,16 @@ public class GitlabApiClient {
 
   private final HttpClient httpClient;
   private final String serverUrl;
+  private final ScmResponseCache responseCache;
 
   private static final Duration DEFAULT_HTTP_TIMEOUT = ofSeconds(10);
   private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
 
-  public GitlabApiClient(String serverUrl) {
+  public GitlabApiClient(
+      String serverUrl, ScmHttpClientRegistry httpClientRegistry, ScmResponseCache responseCache) {
+    this.responseCache = responseCache;
     this.serverUrl = trimEnd(serverUrl, '/');
-    this.httpClient =
-        HttpClient.newBuilder()
-            .executor(
-                Executors.newCachedThreadPool(
-                    new ThreadFactoryBuilder()
-                        .setUncaughtExceptionHandler(LoggingUncaughtExceptionHandler.getInstance())
-                        .setNameFormat(GitlabApiClient.class.getName() + "-%d")
-                        .setDaemon(true)
-                        .build()))
-            .connectTimeout(DEFAULT_HTTP_TIMEOUT)
-            .version(HttpClient.Version.HTTP_1_1)
-            .build();
+    this.httpClient = httpClientRegistry.getClient(this.serverUrl);
   }
 
   public GitlabUser getUser(String authenticationToken)
@@ -79,13 +72,14 @@ public class GitlabApiClient {
             .timeout(DEFAULT_HTTP_TIMEOUT)
             .build();
     LOG.trace("executeRequest={}", request);
-    return executeRequest(
-        httpClient,
+    return responseCache.execute(
+        "user",
         request,
-        inputStream -> {
+        this::executeRequest,
+        response -> {
           try {
             String result =
-                CharStreams.toString(new InputStreamReader(inputStream, Charsets.UTF_8));
+                CharStreams.toString(new InputStreamReader(response.body(), Charsets.UTF_8));
             return OBJECT_MAPPER.readValue(result, GitlabUser.class);
           } catch (IOException e) {
             throw new UncheckedIOException(e);
@@ -103,13 +97,14 @@ public class GitlabApiClient {
             .build();
     LOG.trace("executeRequest={}", request);
     try {
-      return executeRequest(
-          httpClient,
+      return responseCache.execute(
+          "personal-access-token-info",
           request,
-          inputStream -> {
+          this::executeRequest,
+          response -> {
             try {
               String result =
-                  CharStreams.toString(new InputStreamReader(inputStream, Charsets.UTF_8));
+                  CharStreams.toString(new InputStreamReader(response.body(), Charsets.UTF_8));
               return OBJECT_MAPPER.readValue(result, GitlabPersonalAccessTokenInfo.class);
             } catch (IOException e) {
               throw new UncheckedIOException(e);
@@ -130,13 +125,14 @@ public class GitlabApiClient {
             .build();
     LOG.trace("executeRequest={}", request);
     try {
-      return executeRequest(
-          httpClient,
+      return responseCache.execute(
+          "oauth-token-info",
           request,
-          inputStream -> {
+          this::executeRequest,
+          response -> {
             try {
               String result =
-                  CharStreams.toString(new InputStreamReader(inputStream, Charsets.UTF_8));
+                  CharStreams.toString(new InputStreamReader(response.body(), Charsets.UTF_8));
               return OBJECT_MAPPER.readValue(result, GitlabOauthTokenInfo.class);
             } catch (IOException e) {
               throw new UncheckedIOException(e);
@@ -148,7 +144,7 @@ public class GitlabApiClient {
   }
 
   private <T> T executeRequest(
-      HttpClient httpClient, HttpRequest request, Function<InputStream, T> bodyConverter)
+      HttpRequest request, Function<HttpResponse<InputStream>, T> responseConverter)
       throws ScmBadRequestException,
           ScmItemNotFoundException,
           ScmCommunicationException,
@@ -158,8 +154,10 @@ public class GitlabApiClient {
       HttpResponse<InputStream> response =
           httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
       LOG.trace("executeRequest={} response {}", request, response.statusCode());
-      if (response.statusCode() == 200) {
-        return bodyConverter.apply(response.body());
+      if (response.statusCode() == HTTP_OK
+          || (response.statusCode() == HTTP_NOT_MODIFIED
+              && ScmResponseCache.isConditional(request))) {
+        return responseConverter.apply(response);
       } else if (response.statusCode() == 204) {
         return null;
       } else {
@@ -16,6 +16,7 @@ import javax.inject.Singleton;
 import org.eclipse.che.api.factory.server.FactoryParametersResolver;
 import org.eclipse.che.api.factory.server.scm.AuthorisationRequestManager;
 import org.eclipse.che.api.factory.server.scm.PersonalAccessTokenManager;
+import org.eclipse.che.api.factory.server.scm.ScmHttpClientRegistry;
 import org.eclipse.che.api.factory.server.urlfactory.URLFactoryBuilder;
 import org.eclipse.che.api.workspace.server.devfile.URLFetcher;
 
@@ -36,13 +37,15 @@ public class GitlabFactoryParametersResolverSecond extends AbstractGitlabFactory
       URLFetcher urlFetcher,
       GitlabUrlParserSecond gitlabURLParser,
       PersonalAccessTokenManager personalAccessTokenManager,
-      AuthorisationRequestManager authorisationRequestManager) {
+      AuthorisationRequestManager authorisationRequestManager,
+      ScmHttpClientRegistry httpClientRegistry) {
     super(
         urlFactoryBuilder,
         urlFetcher,
         gitlabURLParser,
         personalAccessTokenManager,
         authorisationRequestManager,
-        PROVIDER_NAME);
+        PROVIDER_NAME,
+        httpClientRegistry);
   }
 }
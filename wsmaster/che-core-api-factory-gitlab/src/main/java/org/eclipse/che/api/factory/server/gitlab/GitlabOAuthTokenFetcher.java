@@ -13,6 +13,8 @@ package org.eclipse.che.api.factory.server.gitlab;
 
 import javax.inject.Inject;
 import javax.inject.Named;
+import org.eclipse.che.api.factory.server.scm.ScmHttpClientRegistry;
+import org.eclipse.che.api.factory.server.scm.ScmResponseCache;
 import org.eclipse.che.commons.annotation.Nullable;
 import org.eclipse.che.security.oauth.OAuthAPI;
 
@@ -25,7 +27,9 @@ public class GitlabOAuthTokenFetcher extends AbstractGitlabOAuthTokenFetcher {
   public GitlabOAuthTokenFetcher(
       @Nullable @Named("che.integration.gitlab.oauth_endpoint") String serverUrl,
       @Named("che.api") String apiEndpoint,
-      OAuthAPI oAuthAPI) {
-    super(serverUrl, apiEndpoint, oAuthAPI, OAUTH_PROVIDER_NAME);
+      OAuthAPI oAuthAPI,
+      ScmHttpClientRegistry httpClientRegistry,
+      ScmResponseCache responseCache) {
+    super(serverUrl, apiEndpoint, oAuthAPI, OAUTH_PROVIDER_NAME, httpClientRegistry, responseCache);
   }
 }
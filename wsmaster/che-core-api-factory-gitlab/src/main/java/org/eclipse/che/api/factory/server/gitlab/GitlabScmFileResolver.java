@@ -13,6 +13,7 @@ package org.eclipse.che.api.factory.server.gitlab;
 
 import javax.inject.Inject;
 import org.eclipse.che.api.factory.server.scm.PersonalAccessTokenManager;
+import org.eclipse.che.api.factory.server.scm.ScmHttpClientRegistry;
 import org.eclipse.che.api.workspace.server.devfile.URLFetcher;
 
 /** GitLab specific SCM file resolver. */
@@ -22,7 +23,8 @@ public class GitlabScmFileResolver extends AbstractGitlabScmFileResolver {
   public GitlabScmFileResolver(
       GitlabUrlParser gitlabUrlParser,
       URLFetcher urlFetcher,
-      PersonalAccessTokenManager personalAccessTokenManager) {
-    super(gitlabUrlParser, urlFetcher, personalAccessTokenManager);
+      PersonalAccessTokenManager personalAccessTokenManager,
+      ScmHttpClientRegistry httpClientRegistry) {
+    super(gitlabUrlParser, urlFetcher, personalAccessTokenManager, httpClientRegistry);
   }
 }
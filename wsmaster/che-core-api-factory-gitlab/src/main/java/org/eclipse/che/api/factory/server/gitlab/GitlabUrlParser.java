@@ -14,6 +14,8 @@ package org.eclipse.che.api.factory.server.gitlab;
 import javax.inject.Inject;
 import javax.inject.Named;
 import org.eclipse.che.api.factory.server.scm.PersonalAccessTokenManager;
+import org.eclipse.che.api.factory.server.scm.ScmHttpClientRegistry;
+import org.eclipse.che.api.factory.server.scm.ScmResponseCache;
 import org.eclipse.che.api.factory.server.urlfactory.DevfileFilenamesProvider;
 import org.eclipse.che.commons.annotation.Nullable;
 
@@ -30,7 +32,15 @@ public class GitlabUrlParser extends AbstractGitlabUrlParser {
   public GitlabUrlParser(
       @Nullable @Named("che.integration.gitlab.oauth_endpoint") String serverUrl,
       DevfileFilenamesProvider devfileFilenamesProvider,
-      PersonalAccessTokenManager personalAccessTokenManager) {
-    super(serverUrl, devfileFilenamesProvider, personalAccessTokenManager, OAUTH_PROVIDER_NAME);
+      PersonalAccessTokenManager personalAccessTokenManager,
+      ScmHttpClientRegistry httpClientRegistry,
+      ScmResponseCache responseCache) {
+    super(
+        serverUrl,
+        devfileFilenamesProvider,
+        personalAccessTokenManager,
+        OAUTH_PROVIDER_NAME,
+        httpClientRegistry,
+        responseCache);
   }
 }
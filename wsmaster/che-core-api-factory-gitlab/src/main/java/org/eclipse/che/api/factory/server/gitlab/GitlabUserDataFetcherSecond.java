@@ -14,6 +14,8 @@ package org.eclipse.che.api.factory.server.gitlab;
 import javax.inject.Inject;
 import javax.inject.Named;
 import org.eclipse.che.api.factory.server.scm.*;
+import org.eclipse.che.api.factory.server.scm.ScmHttpClientRegistry;
+import org.eclipse.che.api.factory.server.scm.ScmResponseCache;
 import org.eclipse.che.commons.annotation.Nullable;
 
 /** Gitlab OAuth token retriever. */
@@ -26,7 +28,15 @@ public class GitlabUserDataFetcherSecond extends AbstractGitlabUserDataFetcher {
   public GitlabUserDataFetcherSecond(
       @Nullable @Named("che.integration.gitlab.oauth_endpoint_2") String serverUrl,
       @Named("che.api") String apiEndpoint,
-      PersonalAccessTokenManager personalAccessTokenManager) {
-    super(serverUrl, apiEndpoint, personalAccessTokenManager, OAUTH_PROVIDER_NAME);
+      PersonalAccessTokenManager personalAccessTokenManager,
+      ScmHttpClientRegistry httpClientRegistry,
+      ScmResponseCache responseCache) {
+    super(
+        serverUrl,
+        apiEndpoint,
+        personalAccessTokenManager,
+        OAUTH_PROVIDER_NAME,
+        httpClientRegistry,
+        responseCache);
   }
 }
@@ -28,6 +28,10 @@ import com.github.tomakehurst.wiremock.client.WireMock;
 import com.github.tomakehurst.wiremock.common.Slf4jNotifier;
 import com.google.common.collect.Sets;
 import com.google.common.net.HttpHeaders;
+import org.eclipse.che.api.factory.server.scm.InMemoryScmResponseCache;
+import org.eclipse.che.api.factory.server.scm.ScmHttpClientRegistry;
+import org.eclipse.che.api.factory.server.scm.ScmResponseCache;
+import org.eclipse.che.commons.observability.NoopExecutorServiceWrapper;
 import org.mockito.testng.MockitoTestNGListener;
 import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
@@ -37,6 +41,11 @@ import org.testng.annotations.Test;
 @Listeners(MockitoTestNGListener.class)
 public class GitlabApiClientTest {
 
+  private final ScmResponseCache responseCache = new InMemoryScmResponseCache(10);
+
+  private final ScmHttpClientRegistry httpClientRegistry =
+      new ScmHttpClientRegistry(new NoopExecutorServiceWrapper());
+
   private GitlabApiClient client;
   WireMockServer wireMockServer;
   WireMock wireMock;
@@ -48,7 +57,7 @@ public class GitlabApiClientTest {
     wireMockServer.start();
     WireMock.configureFor("localhost", wireMockServer.port());
     wireMock = new WireMock("localhost", wireMockServer.port());
-    client = new GitlabApiClient(wireMockServer.url("/"));
+    client = new GitlabApiClient(wireMockServer.url("/"), httpClientRegistry, responseCache);
   }
 
   @AfterMethod
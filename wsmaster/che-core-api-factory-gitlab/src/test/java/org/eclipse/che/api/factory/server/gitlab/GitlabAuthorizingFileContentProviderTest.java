@@ -30,10 +30,12 @@ import java.io.FileNotFoundException;
 import java.net.URI;
 import org.eclipse.che.api.factory.server.scm.PersonalAccessToken;
 import org.eclipse.che.api.factory.server.scm.PersonalAccessTokenManager;
+import org.eclipse.che.api.factory.server.scm.ScmHttpClientRegistry;
 import org.eclipse.che.api.factory.server.scm.exception.UnknownScmProviderException;
 import org.eclipse.che.api.workspace.server.devfile.FileContentProvider;
 import org.eclipse.che.api.workspace.server.devfile.URLFetcher;
 import org.eclipse.che.api.workspace.server.devfile.exception.DevfileException;
+import org.eclipse.che.commons.observability.NoopExecutorServiceWrapper;
 import org.mockito.Mock;
 import org.mockito.testng.MockitoTestNGListener;
 import org.testng.annotations.AfterMethod;
@@ -43,6 +45,9 @@ import org.testng.annotations.Test;
 
 @Listeners(MockitoTestNGListener.class)
 public class GitlabAuthorizingFileContentProviderTest {
+  private final ScmHttpClientRegistry httpClientRegistry =
+      new ScmHttpClientRegistry(new NoopExecutorServiceWrapper());
+
   @Mock private PersonalAccessTokenManager personalAccessTokenManager;
   @Mock private URLFetcher urlFetcher;
 
@@ -67,7 +72,8 @@ public class GitlabAuthorizingFileContentProviderTest {
   public void shouldExpandRelativePaths() throws Exception {
     GitlabUrl gitlabUrl = new GitlabUrl().withHostName("gitlab.net").withSubGroups("eclipse/che");
     FileContentProvider fileContentProvider =
-        new GitlabAuthorizingFileContentProvider(gitlabUrl, urlFetcher, personalAccessTokenManager);
+        new GitlabAuthorizingFileContentProvider(
+            gitlabUrl, urlFetcher, personalAccessTokenManager, httpClientRegistry);
     var personalAccessToken = new PersonalAccessToken("foo", "provider", "che", "my-token");
     when(personalAccessTokenManager.getAndStore(anyString())).thenReturn(personalAccessToken);
     fileContentProvider.fetchContent("devfile.yaml");
@@ -82,7 +88,8 @@ public class GitlabAuthorizingFileContentProviderTest {
   public void shouldPreserveAbsolutePaths() throws Exception {
     GitlabUrl gitlabUrl = new GitlabUrl().withHostName("gitlab.net").withSubGroups("eclipse/che");
     FileContentProvider fileContentProvider =
-        new GitlabAuthorizingFileContentProvider(gitlabUrl, urlFetcher, personalAccessTokenManager);
+        new GitlabAuthorizingFileContentProvider(
+            gitlabUrl, urlFetcher, personalAccessTokenManager, httpClientRegistry);
     String url =
         "https://gitlab.net/api/v4/projects/eclipse%2Fche/repository/files/devfile.yaml/raw";
     var personalAccessToken = new PersonalAccessToken(url, "provider", "che", "my-token");
@@ -109,7 +116,8 @@ public class GitlabAuthorizingFileContentProviderTest {
             .withHostName(format("%s:%s", uri.getHost(), uri.getPort()))
             .withSubGroups("eclipse/che");
     FileContentProvider fileContentProvider =
-        new GitlabAuthorizingFileContentProvider(gitlabUrl, urlFetcher, personalAccessTokenManager);
+        new GitlabAuthorizingFileContentProvider(
+            gitlabUrl, urlFetcher, personalAccessTokenManager, httpClientRegistry);
 
     stubFor(get(urlEqualTo("/eclipse/che")).willReturn(aResponse().withStatus(HTTP_OK)));
 
@@ -136,7 +144,8 @@ public class GitlabAuthorizingFileContentProviderTest {
             .withHostName(format("%s:%s", uri.getHost(), uri.getPort()))
             .withSubGroups("eclipse/che");
     FileContentProvider fileContentProvider =
-        new GitlabAuthorizingFileContentProvider(gitlabUrl, urlFetcher, personalAccessTokenManager);
+        new GitlabAuthorizingFileContentProvider(
+            gitlabUrl, urlFetcher, personalAccessTokenManager, httpClientRegistry);
 
     stubFor(get(urlEqualTo("/eclipse/che")).willReturn(aResponse().withStatus(HTTP_MOVED_TEMP)));
 
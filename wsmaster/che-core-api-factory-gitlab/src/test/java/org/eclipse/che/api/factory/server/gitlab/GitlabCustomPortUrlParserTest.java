@@ -24,8 +24,12 @@ import static org.testng.Assert.assertTrue;
 import com.github.tomakehurst.wiremock.WireMockServer;
 import com.github.tomakehurst.wiremock.client.WireMock;
 import com.github.tomakehurst.wiremock.common.Slf4jNotifier;
+import org.eclipse.che.api.factory.server.scm.InMemoryScmResponseCache;
 import org.eclipse.che.api.factory.server.scm.PersonalAccessTokenManager;
+import org.eclipse.che.api.factory.server.scm.ScmHttpClientRegistry;
+import org.eclipse.che.api.factory.server.scm.ScmResponseCache;
 import org.eclipse.che.api.factory.server.urlfactory.DevfileFilenamesProvider;
+import org.eclipse.che.commons.observability.NoopExecutorServiceWrapper;
 import org.mockito.Mock;
 import org.mockito.testng.MockitoTestNGListener;
 import org.testng.annotations.BeforeClass;
@@ -37,6 +41,11 @@ import org.testng.annotations.Test;
 @Listeners(MockitoTestNGListener.class)
 public class GitlabCustomPortUrlParserTest {
 
+  private final ScmResponseCache responseCache = new InMemoryScmResponseCache(10);
+
+  private final ScmHttpClientRegistry httpClientRegistry =
+      new ScmHttpClientRegistry(new NoopExecutorServiceWrapper());
+
   @Mock private DevfileFilenamesProvider devfileFilenamesProvider;
 
   /** Instance of component that will be tested. */
@@ -60,7 +69,9 @@ public class GitlabCustomPortUrlParserTest {
         new GitlabUrlParser(
             "https://gitlab.custom.com:31280",
             devfileFilenamesProvider,
-            mock(PersonalAccessTokenManager.class));
+            mock(PersonalAccessTokenManager.class),
+            httpClientRegistry,
+            responseCache);
   }
 
   /** Check URLs are valid with regexp */
@@ -85,7 +96,12 @@ public class GitlabCustomPortUrlParserTest {
       String url, String project, String subGroups, String branch) {
     // given
     gitlabUrlParser =
-        new GitlabUrlParser(null, devfileFilenamesProvider, mock(PersonalAccessTokenManager.class));
+        new GitlabUrlParser(
+            null,
+            devfileFilenamesProvider,
+            mock(PersonalAccessTokenManager.class),
+            httpClientRegistry,
+            responseCache);
     // when
     GitlabUrl gitlabUrl = gitlabUrlParser.parse(url, null);
 
@@ -34,13 +34,17 @@ import java.util.Optional;
 import org.eclipse.che.api.core.ApiException;
 import org.eclipse.che.api.core.model.factory.ScmInfo;
 import org.eclipse.che.api.factory.server.scm.AuthorisationRequestManager;
+import org.eclipse.che.api.factory.server.scm.InMemoryScmResponseCache;
 import org.eclipse.che.api.factory.server.scm.PersonalAccessTokenManager;
+import org.eclipse.che.api.factory.server.scm.ScmHttpClientRegistry;
+import org.eclipse.che.api.factory.server.scm.ScmResponseCache;
 import org.eclipse.che.api.factory.server.urlfactory.DevfileFilenamesProvider;
 import org.eclipse.che.api.factory.server.urlfactory.RemoteFactoryUrl;
 import org.eclipse.che.api.factory.server.urlfactory.URLFactoryBuilder;
 import org.eclipse.che.api.factory.shared.dto.FactoryDevfileV2Dto;
 import org.eclipse.che.api.factory.shared.dto.ScmInfoDto;
 import org.eclipse.che.api.workspace.server.devfile.URLFetcher;
+import org.eclipse.che.commons.observability.NoopExecutorServiceWrapper;
 import org.mockito.Mock;
 import org.mockito.testng.MockitoTestNGListener;
 import org.testng.annotations.BeforeMethod;
@@ -55,6 +59,11 @@ import org.testng.annotations.Test;
 @Listeners(MockitoTestNGListener.class)
 public class GitlabFactoryParametersResolverTest {
 
+  private final ScmResponseCache responseCache = new InMemoryScmResponseCache(10);
+
+  private final ScmHttpClientRegistry httpClientRegistry =
+      new ScmHttpClientRegistry(new NoopExecutorServiceWrapper());
+
   @Mock private URLFactoryBuilder urlFactoryBuilder;
 
   @Mock private URLFetcher urlFetcher;
@@ -74,7 +83,9 @@ public class GitlabFactoryParametersResolverTest {
         new GitlabUrlParser(
             "http://gitlab.2mcl.com",
             devfileFilenamesProvider,
-            mock(PersonalAccessTokenManager.class));
+            mock(PersonalAccessTokenManager.class),
+            httpClientRegistry,
+            responseCache);
     assertNotNull(this.gitlabUrlParser);
     gitlabFactoryParametersResolver =
         new GitlabFactoryParametersResolver(
@@ -82,7 +93,8 @@ public class GitlabFactoryParametersResolverTest {
             urlFetcher,
             gitlabUrlParser,
             personalAccessTokenManager,
-            authorisationRequestManager);
+            authorisationRequestManager,
+            httpClientRegistry);
     assertNotNull(this.gitlabFactoryParametersResolver);
   }
 
@@ -32,11 +32,15 @@ import java.util.Collections;
 import java.util.Optional;
 import org.eclipse.che.api.auth.shared.dto.OAuthToken;
 import org.eclipse.che.api.core.UnauthorizedException;
+import org.eclipse.che.api.factory.server.scm.InMemoryScmResponseCache;
 import org.eclipse.che.api.factory.server.scm.PersonalAccessToken;
 import org.eclipse.che.api.factory.server.scm.PersonalAccessTokenParams;
+import org.eclipse.che.api.factory.server.scm.ScmHttpClientRegistry;
+import org.eclipse.che.api.factory.server.scm.ScmResponseCache;
 import org.eclipse.che.api.factory.server.scm.exception.ScmCommunicationException;
 import org.eclipse.che.api.factory.server.scm.exception.ScmUnauthorizedException;
 import org.eclipse.che.commons.lang.Pair;
+import org.eclipse.che.commons.observability.NoopExecutorServiceWrapper;
 import org.eclipse.che.commons.subject.Subject;
 import org.eclipse.che.commons.subject.SubjectImpl;
 import org.eclipse.che.security.oauth.OAuthAPI;
@@ -50,6 +54,11 @@ import org.testng.annotations.Test;
 @Listeners(MockitoTestNGListener.class)
 public class GitlabOAuthTokenFetcherTest {
 
+  private final ScmResponseCache responseCache = new InMemoryScmResponseCache(10);
+
+  private final ScmHttpClientRegistry httpClientRegistry =
+      new ScmHttpClientRegistry(new NoopExecutorServiceWrapper());
+
   @Mock OAuthAPI oAuthAPI;
   GitlabOAuthTokenFetcher oAuthTokenFetcher;
 
@@ -64,7 +73,8 @@ public class GitlabOAuthTokenFetcherTest {
     WireMock.configureFor("localhost", wireMockServer.port());
     wireMock = new WireMock("localhost", wireMockServer.port());
     oAuthTokenFetcher =
-        new GitlabOAuthTokenFetcher(wireMockServer.url("/"), "http://che.api", oAuthAPI);
+        new GitlabOAuthTokenFetcher(
+            wireMockServer.url("/"), "http://che.api", oAuthAPI, httpClientRegistry, responseCache);
   }
 
   @AfterMethod
@@ -146,7 +156,8 @@ public class GitlabOAuthTokenFetcherTest {
   public void shouldThrowScmCommunicationExceptionWhenNoOauthIsConfigured() throws Exception {
     Subject subject = new SubjectImpl("Username", Collections.emptyList(), "id1", "token", false);
     GitlabOAuthTokenFetcher localFetcher =
-        new GitlabOAuthTokenFetcher(wireMockServer.url("/"), "http://che.api", null);
+        new GitlabOAuthTokenFetcher(
+            wireMockServer.url("/"), "http://che.api", null, httpClientRegistry, responseCache);
     localFetcher.fetchPersonalAccessToken(subject, wireMockServer.url("/"));
   }
 
@@ -19,11 +19,15 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.*;
 
+import org.eclipse.che.api.factory.server.scm.InMemoryScmResponseCache;
 import org.eclipse.che.api.factory.server.scm.PersonalAccessToken;
 import org.eclipse.che.api.factory.server.scm.PersonalAccessTokenManager;
+import org.eclipse.che.api.factory.server.scm.ScmHttpClientRegistry;
+import org.eclipse.che.api.factory.server.scm.ScmResponseCache;
 import org.eclipse.che.api.factory.server.scm.exception.ScmUnauthorizedException;
 import org.eclipse.che.api.factory.server.urlfactory.DevfileFilenamesProvider;
 import org.eclipse.che.api.workspace.server.devfile.URLFetcher;
+import org.eclipse.che.commons.observability.NoopExecutorServiceWrapper;
 import org.mockito.Mock;
 import org.mockito.testng.MockitoTestNGListener;
 import org.testng.annotations.BeforeMethod;
@@ -33,6 +37,11 @@ import org.testng.annotations.Test;
 @Listeners(MockitoTestNGListener.class)
 public class GitlabScmFileResolverTest {
 
+  private final ScmResponseCache responseCache = new InMemoryScmResponseCache(10);
+
+  private final ScmHttpClientRegistry httpClientRegistry =
+      new ScmHttpClientRegistry(new NoopExecutorServiceWrapper());
+
   public static final String SCM_URL = "http://gitlab.2mcl.com";
   GitlabUrlParser gitlabUrlParser;
 
@@ -47,10 +56,15 @@ public class GitlabScmFileResolverTest {
   protected void init() {
     gitlabUrlParser =
         new GitlabUrlParser(
-            SCM_URL, devfileFilenamesProvider, mock(PersonalAccessTokenManager.class));
+            SCM_URL,
+            devfileFilenamesProvider,
+            mock(PersonalAccessTokenManager.class),
+            httpClientRegistry,
+            responseCache);
     assertNotNull(this.gitlabUrlParser);
     gitlabScmFileResolver =
-        new GitlabScmFileResolver(gitlabUrlParser, urlFetcher, personalAccessTokenManager);
+        new GitlabScmFileResolver(
+            gitlabUrlParser, urlFetcher, personalAccessTokenManager, httpClientRegistry);
     assertNotNull(this.gitlabScmFileResolver);
   }
 
@@ -25,8 +25,12 @@ import com.github.tomakehurst.wiremock.WireMockServer;
 import com.github.tomakehurst.wiremock.client.WireMock;
 import com.github.tomakehurst.wiremock.common.Slf4jNotifier;
 import org.eclipse.che.api.core.ApiException;
+import org.eclipse.che.api.factory.server.scm.InMemoryScmResponseCache;
 import org.eclipse.che.api.factory.server.scm.PersonalAccessTokenManager;
+import org.eclipse.che.api.factory.server.scm.ScmHttpClientRegistry;
+import org.eclipse.che.api.factory.server.scm.ScmResponseCache;
 import org.eclipse.che.api.factory.server.urlfactory.DevfileFilenamesProvider;
+import org.eclipse.che.commons.observability.NoopExecutorServiceWrapper;
 import org.mockito.Mock;
 import org.mockito.testng.MockitoTestNGListener;
 import org.testng.annotations.BeforeClass;
@@ -38,6 +42,11 @@ import org.testng.annotations.Test;
 @Listeners(MockitoTestNGListener.class)
 public class GitlabUrlParserTest {
 
+  private final ScmResponseCache responseCache = new InMemoryScmResponseCache(10);
+
+  private final ScmHttpClientRegistry httpClientRegistry =
+      new ScmHttpClientRegistry(new NoopExecutorServiceWrapper());
+
   @Mock private DevfileFilenamesProvider devfileFilenamesProvider;
 
   /** Instance of component that will be tested. */
@@ -61,7 +70,9 @@ public class GitlabUrlParserTest {
         new GitlabUrlParser(
             "https://gitlab1.com",
             devfileFilenamesProvider,
-            mock(PersonalAccessTokenManager.class));
+            mock(PersonalAccessTokenManager.class),
+            httpClientRegistry,
+            responseCache);
   }
 
   /** Check URLs are valid with regexp */
@@ -83,7 +94,9 @@ public class GitlabUrlParserTest {
         new GitlabUrlParser(
             "https://gitlab-server.com/scm",
             devfileFilenamesProvider,
-            mock(PersonalAccessTokenManager.class));
+            mock(PersonalAccessTokenManager.class),
+            httpClientRegistry,
+            responseCache);
     GitlabUrl gitlabUrl =
         gitlabUrlParser.parse("https://gitlab-server.com/scm/user/project/test.git", null);
     assertEquals(gitlabUrl.getProviderUrl(), "https://gitlab-server.com/scm");
@@ -95,7 +108,9 @@ public class GitlabUrlParserTest {
         new GitlabUrlParser(
             "https://[2001:db8::1]/scm",
             devfileFilenamesProvider,
-            mock(PersonalAccessTokenManager.class));
+            mock(PersonalAccessTokenManager.class),
+            httpClientRegistry,
+            responseCache);
     GitlabUrl gitlabUrl =
         gitlabUrlParser.parse("https://[2001:db8::1]/scm/user/project/test.git", null);
     assertEquals(gitlabUrl.getProviderUrl(), "https://[2001:db8::1]/scm");
@@ -107,7 +122,9 @@ public class GitlabUrlParserTest {
         new GitlabUrlParser(
             "https://[2001:db8::1]:8443/scm",
             devfileFilenamesProvider,
-            mock(PersonalAccessTokenManager.class));
+            mock(PersonalAccessTokenManager.class),
+            httpClientRegistry,
+            responseCache);
     GitlabUrl gitlabUrl =
         gitlabUrlParser.parse("https://[2001:db8::1]:8443/scm/user/project/test.git", null);
     assertEquals(gitlabUrl.getProviderUrl(), "https://[2001:db8::1]:8443/scm");
@@ -120,7 +137,9 @@ public class GitlabUrlParserTest {
         new GitlabUrlParser(
             "https://[2001:db8::1]",
             devfileFilenamesProvider,
-            mock(PersonalAccessTokenManager.class));
+            mock(PersonalAccessTokenManager.class),
+            httpClientRegistry,
+            responseCache);
 
     // when
     GitlabUrl gitlabUrl = gitlabUrlParser.parse("https://[2001:db8::1]/user/project.git", null);
@@ -138,7 +157,9 @@ public class GitlabUrlParserTest {
         new GitlabUrlParser(
             "https://[2001:db8::1]",
             devfileFilenamesProvider,
-            mock(PersonalAccessTokenManager.class));
+            mock(PersonalAccessTokenManager.class),
+            httpClientRegistry,
+            responseCache);
 
     // when
     GitlabUrl gitlabUrl =
@@ -157,7 +178,9 @@ public class GitlabUrlParserTest {
         new GitlabUrlParser(
             "https://[2001:db8::1]",
             devfileFilenamesProvider,
-            mock(PersonalAccessTokenManager.class));
+            mock(PersonalAccessTokenManager.class),
+            httpClientRegistry,
+            responseCache);
 
     // when
     GitlabUrl gitlabUrl =
@@ -176,7 +199,9 @@ public class GitlabUrlParserTest {
         new GitlabUrlParser(
             "https://[2001:db8::1]",
             devfileFilenamesProvider,
-            mock(PersonalAccessTokenManager.class));
+            mock(PersonalAccessTokenManager.class),
+            httpClientRegistry,
+            responseCache);
 
     // when
     GitlabUrl gitlabUrl =
@@ -195,7 +220,9 @@ public class GitlabUrlParserTest {
         new GitlabUrlParser(
             "https://[2001:db8::1]",
             devfileFilenamesProvider,
-            mock(PersonalAccessTokenManager.class));
+            mock(PersonalAccessTokenManager.class),
+            httpClientRegistry,
+            responseCache);
 
     // when
     GitlabUrl gitlabUrl =
@@ -211,7 +238,11 @@ public class GitlabUrlParserTest {
     // given
     gitlabUrlParser =
         new GitlabUrlParser(
-            "https://[::1]", devfileFilenamesProvider, mock(PersonalAccessTokenManager.class));
+            "https://[::1]",
+            devfileFilenamesProvider,
+            mock(PersonalAccessTokenManager.class),
+            httpClientRegistry,
+            responseCache);
 
     // when
     GitlabUrl gitlabUrl = gitlabUrlParser.parse("https://[::1]/user/project.git", null);
@@ -229,7 +260,9 @@ public class GitlabUrlParserTest {
         new GitlabUrlParser(
             "https://[2001:0db8:0000:0000:0000:0000:0000:0001]",
             devfileFilenamesProvider,
-            mock(PersonalAccessTokenManager.class));
+            mock(PersonalAccessTokenManager.class),
+            httpClientRegistry,
+            responseCache);
 
     // when
     GitlabUrl gitlabUrl =
@@ -248,7 +281,9 @@ public class GitlabUrlParserTest {
         new GitlabUrlParser(
             "https://[2001:db8::1]",
             devfileFilenamesProvider,
-            mock(PersonalAccessTokenManager.class));
+            mock(PersonalAccessTokenManager.class),
+            httpClientRegistry,
+            responseCache);
 
     // when/then
     assertTrue(gitlabUrlParser.isValid("https://[2001:db8::1]/user/project.git"));
@@ -261,7 +296,9 @@ public class GitlabUrlParserTest {
         new GitlabUrlParser(
             "https://[2001:db8::1]:8443",
             devfileFilenamesProvider,
-            mock(PersonalAccessTokenManager.class));
+            mock(PersonalAccessTokenManager.class),
+            httpClientRegistry,
+            responseCache);
 
     // when/then
     assertTrue(gitlabUrlParser.isValid("https://[2001:db8::1]:8443/user/project.git"));
@@ -274,7 +311,9 @@ public class GitlabUrlParserTest {
         new GitlabUrlParser(
             "https://[2001:db8::1]",
             devfileFilenamesProvider,
-            mock(PersonalAccessTokenManager.class));
+            mock(PersonalAccessTokenManager.class),
+            httpClientRegistry,
+            responseCache);
 
     // when/then
     assertTrue(gitlabUrlParser.isValid("https://[2001:db8::1]/user/project/-/tree/master"));
@@ -326,7 +365,12 @@ public class GitlabUrlParserTest {
       String url, String project, String subGroups, String branch) {
     // given
     gitlabUrlParser =
-        new GitlabUrlParser(null, devfileFilenamesProvider, mock(PersonalAccessTokenManager.class));
+        new GitlabUrlParser(
+            null,
+            devfileFilenamesProvider,
+            mock(PersonalAccessTokenManager.class),
+            httpClientRegistry,
+            responseCache);
     // when
     GitlabUrl gitlabUrl = gitlabUrlParser.parse(url, null);
 
@@ -19,9 +19,13 @@ import static org.testng.Assert.assertEquals;
 
 import java.util.Arrays;
 import java.util.Iterator;
+import org.eclipse.che.api.factory.server.scm.InMemoryScmResponseCache;
 import org.eclipse.che.api.factory.server.scm.PersonalAccessTokenManager;
+import org.eclipse.che.api.factory.server.scm.ScmHttpClientRegistry;
+import org.eclipse.che.api.factory.server.scm.ScmResponseCache;
 import org.eclipse.che.api.factory.server.urlfactory.DevfileFilenamesProvider;
 import org.eclipse.che.api.factory.server.urlfactory.RemoteFactoryUrl.DevfileLocation;
+import org.eclipse.che.commons.observability.NoopExecutorServiceWrapper;
 import org.mockito.Mock;
 import org.mockito.testng.MockitoTestNGListener;
 import org.testng.annotations.BeforeMethod;
@@ -37,6 +41,11 @@ import org.testng.annotations.Test;
 @Listeners(MockitoTestNGListener.class)
 public class GitlabUrlTest {
 
+  private final ScmResponseCache responseCache = new InMemoryScmResponseCache(10);
+
+  private final ScmHttpClientRegistry httpClientRegistry =
+      new ScmHttpClientRegistry(new NoopExecutorServiceWrapper());
+
   @Mock private DevfileFilenamesProvider devfileFilenamesProvider;
 
   /** Parser used to create the url. */
@@ -49,7 +58,11 @@ public class GitlabUrlTest {
         .thenReturn(Arrays.asList("devfile.yaml", "foo.bar"));
     gitlabUrlParser =
         new GitlabUrlParser(
-            "https://gitlab.net", devfileFilenamesProvider, mock(PersonalAccessTokenManager.class));
+            "https://gitlab.net",
+            devfileFilenamesProvider,
+            mock(PersonalAccessTokenManager.class),
+            httpClientRegistry,
+            responseCache);
   }
 
   /** Check when there is devfile in the repository */
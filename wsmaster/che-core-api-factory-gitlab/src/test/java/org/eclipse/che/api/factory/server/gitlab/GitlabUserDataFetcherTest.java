@@ -30,8 +30,12 @@ import com.google.common.net.HttpHeaders;
 import java.lang.reflect.Field;
 import java.util.Optional;
 import org.eclipse.che.api.factory.server.scm.GitUserData;
+import org.eclipse.che.api.factory.server.scm.InMemoryScmResponseCache;
 import org.eclipse.che.api.factory.server.scm.PersonalAccessToken;
 import org.eclipse.che.api.factory.server.scm.PersonalAccessTokenManager;
+import org.eclipse.che.api.factory.server.scm.ScmHttpClientRegistry;
+import org.eclipse.che.api.factory.server.scm.ScmResponseCache;
+import org.eclipse.che.commons.observability.NoopExecutorServiceWrapper;
 import org.eclipse.che.commons.subject.Subject;
 import org.mockito.Mock;
 import org.mockito.testng.MockitoTestNGListener;
@@ -43,6 +47,11 @@ import org.testng.annotations.Test;
 @Listeners(MockitoTestNGListener.class)
 public class GitlabUserDataFetcherTest {
 
+  private final ScmResponseCache responseCache = new InMemoryScmResponseCache(10);
+
+  private final ScmHttpClientRegistry httpClientRegistry =
+      new ScmHttpClientRegistry(new NoopExecutorServiceWrapper());
+
   @Mock PersonalAccessTokenManager personalAccessTokenManager;
 
   GitlabUserDataFetcher gitlabUserDataFetcher;
@@ -59,7 +68,11 @@ public class GitlabUserDataFetcherTest {
     wireMock = new WireMock("localhost", wireMockServer.port());
     gitlabUserDataFetcher =
         new GitlabUserDataFetcher(
-            wireMockServer.url("/"), "http://che.api", personalAccessTokenManager);
+            wireMockServer.url("/"),
+            "http://che.api",
+            personalAccessTokenManager,
+            httpClientRegistry,
+            responseCache);
 
     stubFor(
         get(urlEqualTo("/api/v4/user"))
@@ -108,7 +121,8 @@ public class GitlabUserDataFetcherTest {
   @Test
   public void shouldSetSAASUrlAsDefault() throws Exception {
     gitlabUserDataFetcher =
-        new GitlabUserDataFetcher(null, "http://che.api", personalAccessTokenManager);
+        new GitlabUserDataFetcher(
+            null, "http://che.api", personalAccessTokenManager, httpClientRegistry, responseCache);
 
     Field serverUrlField =
         gitlabUserDataFetcher.getClass().getSuperclass().getDeclaredField("serverUrl");
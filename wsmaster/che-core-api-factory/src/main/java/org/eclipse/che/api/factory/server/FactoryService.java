@@ -11,13 +11,18 @@
  */
 package org.eclipse.che.api.factory.server;
 
+import static com.google.common.base.Strings.isNullOrEmpty;
 import static jakarta.ws.rs.core.MediaType.APPLICATION_JSON;
 import static java.util.Collections.singletonMap;
 import static java.util.Comparator.comparingInt;
+import static java.util.stream.Collectors.toList;
 import static org.eclipse.che.api.factory.server.ApiExceptionMapper.toApiException;
 import static org.eclipse.che.api.factory.server.FactoryLinksHelper.createLinks;
 import static org.eclipse.che.api.factory.shared.Constants.URL_PARAMETER_NAME;
 
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -28,10 +33,18 @@ import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.QueryParam;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.Collection;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import javax.inject.Inject;
+import javax.inject.Singleton;
 import org.eclipse.che.api.core.ApiException;
 import org.eclipse.che.api.core.BadRequestException;
 import org.eclipse.che.api.core.rest.Service;
@@ -43,6 +56,7 @@ import org.eclipse.che.api.factory.server.scm.exception.ScmUnauthorizedException
 import org.eclipse.che.api.factory.server.scm.exception.UnknownScmProviderException;
 import org.eclipse.che.api.factory.server.scm.exception.UnsatisfiedScmPreconditionException;
 import org.eclipse.che.api.factory.shared.dto.FactoryMetaDto;
+import org.eclipse.che.commons.annotation.Nullable;
 
 /**
  * Defines Factory REST API.
@@ -181,13 +195,36 @@ public class FactoryService extends Service {
             parameters.get(URL_PARAMETER_NAME)));
   }
 
-  /** Usage of a dedicated class to manage the optional service-specific resolvers */
+  /**
+   * Usage of a dedicated class to manage the optional service-specific resolvers.
+   *
+   * <p>The resolvers of SCM providers may need to look up user tokens or to reach the SCM server to
+   * decide whether they accept a URL, so the holder remembers which resolver claimed the server
+   * (scheme and authority) of a factory URL. The next URL of the same server is checked only
+   * against that resolver and the resolvers with higher priority, the owners are forgotten when the
+   * set of resolvers changes. Whether a resolver accepts a URL may depend on the tokens of the
+   * current user, so the owner is checked for each URL and a URL no resolver accepts is not
+   * remembered.
+   */
+  @Singleton
   protected static class FactoryParametersResolverHolder {
 
+    private static final long MAX_CLASSIFIED_ENTRIES = 1000;
+    private static final long SERVER_OWNER_EXPIRATION_SEC = TimeUnit.HOURS.toSeconds(1);
+    private static final Pattern SCP_LIKE_LOCATION =
+        Pattern.compile("^[^@/:]+@(?<host>[^:/]+):.*$");
+
     @Inject
     @SuppressWarnings("unused")
     private Set<FactoryParametersResolver> specificFactoryParametersResolvers;
 
+    private final Cache<String, FactoryParametersResolver> serverOwners =
+        CacheBuilder.newBuilder()
+            .maximumSize(MAX_CLASSIFIED_ENTRIES)
+            .expireAfterAccess(SERVER_OWNER_EXPIRATION_SEC, TimeUnit.SECONDS)
+            .build();
+    private volatile Set<FactoryParametersResolver> classifiedWith = Set.of();
+
     /**
      * Provides a suitable resolver for the given parameters. If there is no at least one resolver
      * able to process parameters,then {@link BadRequestException} will be thrown
@@ -196,22 +233,100 @@ public class FactoryService extends Service {
      */
     public FactoryParametersResolver getFactoryParametersResolver(Map<String, String> parameters)
         throws BadRequestException {
-      Optional<FactoryParametersResolver> resolverOptional =
-          specificFactoryParametersResolvers.stream()
-              .filter(
-                  r -> {
-                    try {
-                      return r.accept(parameters);
-                    } catch (IllegalArgumentException e) {
-                      return false;
-                    }
-                  })
-              .max(comparingInt(r -> r.priority().getValue()));
+      Set<FactoryParametersResolver> resolvers = currentResolvers();
+      String url = parameters.get(URL_PARAMETER_NAME);
+      String serverKey = serverKeyOf(url);
+      if (serverKey == null) {
+        return findResolver(resolvers, parameters)
+            .orElseThrow(() -> new BadRequestException(FACTORY_NOT_RESOLVABLE));
+      }
+
+      FactoryParametersResolver owner = serverOwners.getIfPresent(serverKey);
+      if (owner != null && resolvers.contains(owner)) {
+        int ownerPriority = owner.priority().getValue();
+        Optional<FactoryParametersResolver> preferred =
+            findResolver(
+                resolvers.stream()
+                    .filter(r -> r.priority().getValue() > ownerPriority)
+                    .collect(toList()),
+                parameters);
+        if (preferred.isPresent()) {
+          return preferred.get();
+        }
+        if (accepts(owner, parameters)) {
+          return owner;
+        }
+      }
+
+      Optional<FactoryParametersResolver> resolverOptional = findResolver(resolvers, parameters);
       if (resolverOptional.isPresent()) {
-        return resolverOptional.get();
+        FactoryParametersResolver resolver = resolverOptional.get();
+        // resolvers with higher priority than the owner are checked anyway, so the owner with the
+        // lowest priority is the most useful one
+        if (owner == null || resolver.priority().getValue() <= owner.priority().getValue()) {
+          serverOwners.put(serverKey, resolver);
+        }
+        return resolver;
       }
       throw new BadRequestException(FACTORY_NOT_RESOLVABLE);
     }
+
+    /**
+     * Returns the injected resolvers. Forgets the owners of servers if the resolvers changed since
+     * they were found.
+     */
+    private Set<FactoryParametersResolver> currentResolvers() {
+      Set<FactoryParametersResolver> resolvers = specificFactoryParametersResolvers;
+      if (!classifiedWith.equals(resolvers)) {
+        serverOwners.invalidateAll();
+        classifiedWith = Set.copyOf(resolvers);
+      }
+      return resolvers;
+    }
+
+    /** Returns the resolver with the highest priority among the ones accepting the parameters. */
+    private static Optional<FactoryParametersResolver> findResolver(
+        Collection<FactoryParametersResolver> resolvers, Map<String, String> parameters) {
+      return resolvers.stream()
+          .filter(r -> accepts(r, parameters))
+          .max(comparingInt(r -> r.priority().getValue()));
+    }
+
+    private static boolean accepts(
+        FactoryParametersResolver resolver, Map<String, String> parameters) {
+      try {
+        return resolver.accept(parameters);
+      } catch (IllegalArgumentException e) {
+        return false;
+      }
+    }
+
+    /**
+     * Returns the scheme and authority of the given URL, or of the host of an SCP-like SSH
+     * location, e.g. {@code git@github.com:eclipse/che.git}. Returns {@code null} if the URL is
+     * absent or malformed.
+     */
+    @Nullable
+    @VisibleForTesting
+    static String serverKeyOf(@Nullable String url) {
+      if (isNullOrEmpty(url)) {
+        return null;
+      }
+      try {
+        URI uri = new URI(url);
+        if (uri.getScheme() != null && uri.getHost() != null) {
+          return (uri.getScheme()
+                  + "://"
+                  + uri.getHost()
+                  + (uri.getPort() == -1 ? "" : ":" + uri.getPort()))
+              .toLowerCase(Locale.ROOT);
+        }
+      } catch (URISyntaxException e) {
+        // may be an SCP-like SSH location
+      }
+      Matcher matcher = SCP_LIKE_LOCATION.matcher(url);
+      return matcher.matches() ? "scp://" + matcher.group("host").toLowerCase(Locale.ROOT) : null;
+    }
   }
 
   /**
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2012-2026 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.api.factory.server.scm;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+/**
+ * Bounded in-memory {@link ScmResponseCache}. Least recently used entries are evicted when the
+ * maximum size is reached, entries which were not used for an hour expire.
+ */
+@Singleton
+public class InMemoryScmResponseCache implements ScmResponseCache {
+
+  private static final long DEFAULT_MAXIMUM_SIZE = 1000;
+
+  private final Cache<String, Entry> cache;
+
+  @Inject
+  public InMemoryScmResponseCache() {
+    this(DEFAULT_MAXIMUM_SIZE);
+  }
+
+  public InMemoryScmResponseCache(long maximumSize) {
+    this.cache =
+        CacheBuilder.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterAccess(1, TimeUnit.HOURS)
+            .build();
+  }
+
+  @Override
+  public Optional<Entry> get(String key) {
+    return Optional.ofNullable(cache.getIfPresent(key));
+  }
+
+  @Override
+  public void put(String key, Entry entry) {
+    cache.put(key, entry);
+  }
+}
@@ -11,6 +11,8 @@
  */
 package org.eclipse.che.api.factory.server.scm;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 import org.eclipse.che.api.factory.server.scm.exception.ScmCommunicationException;
 import org.eclipse.che.api.factory.server.scm.exception.ScmConfigurationPersistenceException;
@@ -82,6 +84,22 @@ public interface PersonalAccessTokenManager {
       @Nullable String namespaceName)
       throws ScmConfigurationPersistenceException, ScmCommunicationException;
 
+  /**
+   * Gets {@link PersonalAccessToken}s of several Git provider endpoints from permanent storage at
+   * once. Implementations should read the storage once for all the endpoints.
+   *
+   * <p>A failure to get the token of one endpoint does not prevent getting the tokens of the other
+   * endpoints. The failure is logged and the endpoint is left out of the returned map.
+   *
+   * @param cheUser Che user object
+   * @param scmServerUrls Git provider endpoints
+   * @param namespaceName The user's namespace name.
+   * @return personal access token of each of the given endpoints that could be got, in the order of
+   *     the endpoints
+   */
+  Map<String, Optional<PersonalAccessToken>> getAll(
+      Subject cheUser, Collection<String> scmServerUrls, @Nullable String namespaceName);
+
   /**
    * Gets {@link PersonalAccessToken} from permanent storage. If the token is not found try to fetch
    * it from scm provider and save it in a permanent storage and set (update) git-credentials.
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2012-2026 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.api.factory.server.scm;
+
+import static java.time.Duration.ofSeconds;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import jakarta.annotation.PreDestroy;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import org.eclipse.che.commons.annotation.Nullable;
+import org.eclipse.che.commons.lang.concurrent.LoggingUncaughtExceptionHandler;
+import org.eclipse.che.commons.observability.ExecutorServiceWrapper;
+
+/**
+ * Hands out long-lived {@link HttpClient}s to the SCM provider API clients, one per SCM endpoint
+ * (scheme and authority), so that connections and TLS sessions to the same server are reused
+ * between factory resolutions instead of being established by each newly created API client.
+ *
+ * <p>All the clients share a single executor which is stopped together with the server. Its number
+ * of threads is bounded and the tasks which find all the threads busy wait in the queue, they never
+ * run on the submitting thread, which may be the selector thread of a client serving the I/O of all
+ * the requests to its endpoint. HTTP/2 is negotiated for HTTPS endpoints and transparently falls
+ * back to HTTP/1.1 when the server does not support it; plain HTTP endpoints always use HTTP/1.1 to
+ * avoid an h2c upgrade round trip.
+ */
+@Singleton
+public class ScmHttpClientRegistry {
+
+  private static final Duration DEFAULT_CONNECT_TIMEOUT = ofSeconds(10);
+  private static final int MAX_ENDPOINTS = 256;
+  private static final int MAX_THREADS = Math.max(4, Runtime.getRuntime().availableProcessors());
+
+  private final ExecutorService executor;
+  private final Cache<String, HttpClient> clients;
+
+  @Inject
+  public ScmHttpClientRegistry(ExecutorServiceWrapper executorServiceWrapper) {
+    ThreadPoolExecutor threadPoolExecutor =
+        new ThreadPoolExecutor(
+            MAX_THREADS,
+            MAX_THREADS,
+            60L,
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(),
+            new ThreadFactoryBuilder()
+                .setUncaughtExceptionHandler(LoggingUncaughtExceptionHandler.getInstance())
+                .setNameFormat("ScmHttpClientRegistry-%d")
+                .setDaemon(true)
+                .build());
+    threadPoolExecutor.allowCoreThreadTimeOut(true);
+    this.executor =
+        executorServiceWrapper.wrap(threadPoolExecutor, ScmHttpClientRegistry.class.getName());
+    this.clients = CacheBuilder.newBuilder().maximumSize(MAX_ENDPOINTS).build();
+  }
+
+  /**
+   * Returns the HTTP client for the endpoint the given URL belongs to.
+   *
+   * @param endpointUrl any URL of the SCM endpoint, only its scheme and authority are taken into
+   *     account
+   */
+  public HttpClient getClient(@Nullable String endpointUrl) {
+    return getClient(endpointUrl == null ? null : URI.create(endpointUrl));
+  }
+
+  /**
+   * Returns the HTTP client for the endpoint the given URI belongs to.
+   *
+   * @param endpointUri any URI of the SCM endpoint, only its scheme and authority are taken into
+   *     account
+   */
+  public HttpClient getClient(@Nullable URI endpointUri) {
+    String scheme =
+        endpointUri == null || endpointUri.getScheme() == null
+            ? "https"
+            : endpointUri.getScheme().toLowerCase(Locale.ROOT);
+    String authority =
+        endpointUri == null || endpointUri.getRawAuthority() == null
+            ? ""
+            : endpointUri.getRawAuthority().toLowerCase(Locale.ROOT);
+    try {
+      return clients.get(scheme + "://" + authority, () -> newClient(scheme));
+    } catch (ExecutionException e) {
+      throw new IllegalStateException(e.getCause());
+    }
+  }
+
+  /** Stops the executor of the clients. */
+  @PreDestroy
+  public void shutdown() {
+    clients.invalidateAll();
+    executor.shutdownNow();
+  }
+
+  private HttpClient newClient(String scheme) {
+    return HttpClient.newBuilder()
+        .executor(executor)
+        .connectTimeout(DEFAULT_CONNECT_TIMEOUT)
+        .version("https".equals(scheme) ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1)
+        .build();
+  }
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2012-2026 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.api.factory.server.scm;
+
+import static java.net.HttpURLConnection.HTTP_NOT_MODIFIED;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.google.common.hash.Hashing;
+import java.io.InputStream;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Optional;
+import java.util.function.Function;
+import org.eclipse.che.api.factory.server.scm.exception.ScmBadRequestException;
+import org.eclipse.che.api.factory.server.scm.exception.ScmCommunicationException;
+import org.eclipse.che.api.factory.server.scm.exception.ScmItemNotFoundException;
+import org.eclipse.che.api.factory.server.scm.exception.ScmUnauthorizedException;
+import org.eclipse.che.commons.annotation.Nullable;
+
+/**
+ * Cache of SCM REST API responses which allows sending conditional requests to SCM providers.
+ *
+ * <p>The cache keeps the validators (the {@code ETag} and {@code Last-Modified} headers) of a
+ * response together with the value that was already converted from its body. The next identical
+ * request is sent with {@code If-None-Match} and {@code If-Modified-Since} headers, and when the
+ * SCM provider answers with {@code 304 Not Modified} the cached value is returned without reading
+ * and parsing the body.
+ */
+public interface ScmResponseCache {
+
+  /** Returns the cached response of the request with the given key. */
+  Optional<Entry> get(String key);
+
+  /** Stores the response of the request with the given key. */
+  void put(String key, Entry entry);
+
+  /**
+   * Sends the request conditionally, if the response of the same request was already cached. The
+   * cached value is returned if the resource was not modified since then, otherwise the value
+   * converted from the response is cached, if the response has validators.
+   *
+   * @param kind kind of the conversion of the response, see {@link #keyOf(String, HttpRequest)}
+   * @param request request to send
+   * @param sender sends the request and converts the successful response with the given converter
+   * @param responseConverter converts the body of the response
+   */
+  default <T> T execute(
+      String kind,
+      HttpRequest request,
+      Sender<T> sender,
+      Function<HttpResponse<InputStream>, T> responseConverter)
+      throws ScmBadRequestException,
+          ScmItemNotFoundException,
+          ScmCommunicationException,
+          ScmUnauthorizedException {
+    String key = keyOf(kind, request);
+    Optional<Entry> cached = get(key);
+    return sender.send(
+        cached.map(entry -> entry.applyTo(request)).orElse(request),
+        response -> {
+          if (response.statusCode() == HTTP_NOT_MODIFIED && cached.isPresent()) {
+            return cached.get().getValue();
+          }
+          T value = responseConverter.apply(response);
+          Entry.of(response, value).ifPresent(entry -> put(key, entry));
+          return value;
+        });
+  }
+
+  /**
+   * Returns whether the given request has validators, so that {@code 304 Not Modified} is a
+   * successful response to it.
+   */
+  static boolean isConditional(HttpRequest request) {
+    return request.headers().firstValue("If-None-Match").isPresent()
+        || request.headers().firstValue("If-Modified-Since").isPresent();
+  }
+
+  /**
+   * Returns the key of the given request. Requests with different kind of conversion of the
+   * response (e.g. different methods of API client calling the same endpoint) must use different
+   * kinds. The credentials sent with the request are a part of the key, but only as a hash.
+   *
+   * @param kind kind of the conversion of the response
+   * @param request request to compute key for
+   */
+  static String keyOf(String kind, HttpRequest request) {
+    String credentials =
+        Hashing.sha256()
+            .hashString(request.headers().firstValue("Authorization").orElse(""), UTF_8)
+            .toString();
+    return kind + ' ' + request.method() + ' ' + request.uri() + ' ' + credentials;
+  }
+
+  /** Sends the requests of {@link #execute(String, HttpRequest, Sender, Function)}. */
+  @FunctionalInterface
+  interface Sender<T> {
+
+    /**
+     * Sends the request and converts the successful response, which is {@code 304 Not Modified}
+     * too if the request is {@link #isConditional(HttpRequest) conditional}.
+     */
+    T send(HttpRequest request, Function<HttpResponse<InputStream>, T> responseConverter)
+        throws ScmBadRequestException,
+            ScmItemNotFoundException,
+            ScmCommunicationException,
+            ScmUnauthorizedException;
+  }
+
+  /** Validators of a response and the value converted from its body. */
+  final class Entry {
+
+    private final String eTag;
+    private final String lastModified;
+    private final Object value;
+
+    private Entry(@Nullable String eTag, @Nullable String lastModified, Object value) {
+      this.eTag = eTag;
+      this.lastModified = lastModified;
+      this.value = value;
+    }
+
+    /**
+     * Creates cache entry from the given response.
+     *
+     * @param response response to take validators from
+     * @param value value converted from the response body
+     * @return cache entry, or empty optional if the response has no validators or no value
+     */
+    public static Optional<Entry> of(HttpResponse<?> response, @Nullable Object value) {
+      Optional<String> eTag = response.headers().firstValue("ETag");
+      Optional<String> lastModified = response.headers().firstValue("Last-Modified");
+      if (value == null || (eTag.isEmpty() && lastModified.isEmpty())) {
+        return Optional.empty();
+      }
+      return Optional.of(new Entry(eTag.orElse(null), lastModified.orElse(null), value));
+    }
+
+    @Nullable
+    public String getETag() {
+      return eTag;
+    }
+
+    @Nullable
+    public String getLastModified() {
+      return lastModified;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T getValue() {
+      return (T) value;
+    }
+
+    /** Returns a copy of the given request with the validators of this entry. */
+    public HttpRequest applyTo(HttpRequest request) {
+      HttpRequest.Builder builder =
+          HttpRequest.newBuilder(request.uri())
+              .method(
+                  request.method(),
+                  request.bodyPublisher().orElse(HttpRequest.BodyPublishers.noBody()))
+              .expectContinue(request.expectContinue());
+      request.timeout().ifPresent(builder::timeout);
+      request.version().ifPresent(builder::version);
+      request
+          .headers()
+          .map()
+          .forEach((name, values) -> values.forEach(value -> builder.header(name, value)));
+      if (eTag != null) {
+        builder.header("If-None-Match", eTag);
+      }
+      if (lastModified != null) {
+        builder.header("If-Modified-Since", lastModified);
+      }
+      return builder.build();
+    }
+  }
+}
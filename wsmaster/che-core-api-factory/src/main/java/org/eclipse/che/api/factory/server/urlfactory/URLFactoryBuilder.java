@@ -19,8 +19,13 @@ import static org.eclipse.che.dto.server.DtoFactory.newDto;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import javax.inject.Inject;
 import javax.inject.Named;
 import javax.inject.Singleton;
@@ -29,6 +34,7 @@ import org.eclipse.che.api.factory.server.scm.exception.ScmUnauthorizedException
 import org.eclipse.che.api.factory.server.urlfactory.RemoteFactoryUrl.DevfileLocation;
 import org.eclipse.che.api.factory.shared.dto.FactoryDevfileV2Dto;
 import org.eclipse.che.api.factory.shared.dto.FactoryMetaDto;
+import org.eclipse.che.api.workspace.server.devfile.DevfileFetchPool;
 import org.eclipse.che.api.workspace.server.devfile.DevfileParser;
 import org.eclipse.che.api.workspace.server.devfile.DevfileVersionDetector;
 import org.eclipse.che.api.workspace.server.devfile.FileContentProvider;
@@ -56,6 +62,7 @@ public class URLFactoryBuilder {
   private final boolean devWorskspacesEnabled;
   private final DevfileParser devfileParser;
   private final DevfileVersionDetector devfileVersionDetector;
+  private final DevfileFetchPool devfileFetchPool;
 
   @Inject
   public URLFactoryBuilder(
@@ -63,12 +70,14 @@ public class URLFactoryBuilder {
       @Nullable @Named("che.factory.default_plugins") String defaultChePlugins,
       @Named("che.devworkspaces.enabled") boolean devWorskspacesEnabled,
       DevfileParser devfileParser,
-      DevfileVersionDetector devfileVersionDetector) {
+      DevfileVersionDetector devfileVersionDetector,
+      DevfileFetchPool devfileFetchPool) {
     this.defaultCheEditor = defaultCheEditor;
     this.defaultChePlugins = defaultChePlugins;
     this.devWorskspacesEnabled = devWorskspacesEnabled;
     this.devfileParser = devfileParser;
     this.devfileVersionDetector = devfileVersionDetector;
+    this.devfileFetchPool = devfileFetchPool;
   }
 
   /**
@@ -81,6 +90,11 @@ public class URLFactoryBuilder {
    * If devfile has `name` and `generateName`, we remove `name` and use just `generateName`. <br>
    * If devfile has `generateName`, we use that.
    *
+   * <p>All the devfile locations of the factory URL are probed concurrently. The content found at
+   * the first location in the order of {@link RemoteFactoryUrl#devfileFileLocations()} is used. As
+   * soon as a location is found, the probes of the locations that follow it are cancelled, so that
+   * they do not keep sending requests to the SCM server.
+   *
    * @param remoteFactoryUrl parsed factory URL object
    * @param fileContentProvider service-specific devfile related file content provider
    * @param overrideProperties map of overridden properties to apply in devfile
@@ -99,50 +113,107 @@ public class URLFactoryBuilder {
       remoteFactoryUrl.setDevfileFilename(overrideProperties.get(DEVFILE_FILENAME));
     }
 
-    for (DevfileLocation location : remoteFactoryUrl.devfileFileLocations()) {
-      String devfileLocation = location.location();
-      try {
-        Optional<String> credentialsOptional = remoteFactoryUrl.getCredentials();
-        if (skipAuthentication) {
-          devfileYamlContent =
-              fileContentProvider.fetchContentWithoutAuthentication(devfileLocation);
-        } else if (credentialsOptional.isPresent()) {
-          devfileYamlContent =
-              fileContentProvider.fetchContent(devfileLocation, credentialsOptional.get());
-        } else {
-          devfileYamlContent = fileContentProvider.fetchContent(devfileLocation);
-        }
-      } catch (IOException ex) {
-        // try next location
-        LOG.debug(
-            "Unreachable devfile location met: {}. Error is: {}", devfileLocation, ex.getMessage());
-        continue;
-      } catch (DevfileException e) {
-        LOG.debug("Unexpected devfile exception: {}", e.getMessage());
-        throw e.getCause() instanceof ScmUnauthorizedException
-            ? toApiException(e, location)
-            : new ApiException(e.getMessage());
+    List<DevfileLocation> locations = remoteFactoryUrl.devfileFileLocations();
+    // When there are several candidate locations, all of them are probed at once, but the first
+    // one in the configured order still wins.
+    List<CompletableFuture<String>> probes = new ArrayList<>(locations.size());
+    if (locations.size() > 1) {
+      for (DevfileLocation location : locations) {
+        probes.add(
+            devfileFetchPool.submit(
+                () ->
+                    fetchDevfileContent(
+                        remoteFactoryUrl, fileContentProvider, location, skipAuthentication)));
       }
-      if (isNullOrEmpty(devfileYamlContent)) {
-        return Optional.empty();
+      for (int i = 0; i < probes.size(); i++) {
+        List<CompletableFuture<String>> following = probes.subList(i + 1, probes.size());
+        probes.get(i).thenRun(() -> following.forEach(probe -> probe.cancel(true)));
       }
-      try {
-        JsonNode parsedDevfile = devfileParser.parseYamlRaw(devfileYamlContent);
-        // We might have an html content in the parsed devfile, in case if the access is restricted,
-        // or if the URL points to a wrong resource.
+    }
+    try {
+      for (int i = 0; i < locations.size(); i++) {
+        DevfileLocation location = locations.get(i);
+        String devfileLocation = location.location();
+        try {
+          devfileYamlContent =
+              probes.isEmpty()
+                  ? fetchDevfileContent(
+                      remoteFactoryUrl, fileContentProvider, location, skipAuthentication)
+                  : awaitProbe(probes.get(i));
+        } catch (IOException ex) {
+          // try next location
+          LOG.debug(
+              "Unreachable devfile location met: {}. Error is: {}",
+              devfileLocation,
+              ex.getMessage());
+          continue;
+        } catch (DevfileException e) {
+          LOG.debug("Unexpected devfile exception: {}", e.getMessage());
+          throw e.getCause() instanceof ScmUnauthorizedException
+              ? toApiException(e, location)
+              : new ApiException(e.getMessage());
+        }
+        if (isNullOrEmpty(devfileYamlContent)) {
+          return Optional.empty();
+        }
         try {
-          devfileVersionDetector.devfileVersion(parsedDevfile);
+          JsonNode parsedDevfile = devfileParser.parseYamlRaw(devfileYamlContent);
+          // We might have an html content in the parsed devfile, in case if the access is
+          // restricted, or if the URL points to a wrong resource.
+          try {
+            devfileVersionDetector.devfileVersion(parsedDevfile);
+          } catch (DevfileException e) {
+            throw new ApiException(getDevfileConnectionErrorMessage(devfileLocation));
+          }
+          return Optional.of(createFactory(parsedDevfile, location));
         } catch (DevfileException e) {
-          throw new ApiException(getDevfileConnectionErrorMessage(devfileLocation));
+          throw toApiException(e, location);
         }
-        return Optional.of(createFactory(parsedDevfile, location));
-      } catch (DevfileException e) {
-        throw toApiException(e, location);
       }
+    } finally {
+      // lower priority locations are not needed any more
+      probes.forEach(probe -> probe.cancel(true));
     }
     return Optional.empty();
   }
 
+  private String fetchDevfileContent(
+      RemoteFactoryUrl remoteFactoryUrl,
+      FileContentProvider fileContentProvider,
+      DevfileLocation location,
+      boolean skipAuthentication)
+      throws IOException, DevfileException {
+    Optional<String> credentialsOptional = remoteFactoryUrl.getCredentials();
+    if (skipAuthentication) {
+      return fileContentProvider.fetchContentWithoutAuthentication(location.location());
+    } else if (credentialsOptional.isPresent()) {
+      return fileContentProvider.fetchContent(location.location(), credentialsOptional.get());
+    } else {
+      return fileContentProvider.fetchContent(location.location());
+    }
+  }
+
+  /** Waits for the result of the location probe, unwrapping the exception it failed with. */
+  private String awaitProbe(Future<String> probe)
+      throws IOException, DevfileException, ApiException {
+    try {
+      return probe.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new ApiException("Interrupted while fetching the devfile");
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof IOException) {
+        throw (IOException) cause;
+      } else if (cause instanceof DevfileException) {
+        throw (DevfileException) cause;
+      } else if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      throw new ApiException(cause.getMessage());
+    }
+  }
+
   /**
    * Converts given devfile json into factory.
    *
@@ -29,12 +29,18 @@ import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
 import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
 
 import com.google.common.collect.ImmutableMap;
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.google.inject.multibindings.Multibinder;
 import io.restassured.http.ContentType;
 import io.restassured.response.Response;
 import java.lang.reflect.Field;
@@ -43,6 +49,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import org.eclipse.che.api.core.BadRequestException;
 import org.eclipse.che.api.core.model.user.User;
 import org.eclipse.che.api.core.rest.ApiExceptionMapper;
 import org.eclipse.che.api.core.rest.shared.dto.ServiceError;
@@ -333,4 +340,174 @@ public class FactoryServiceTest {
     // then
     assertEquals(factoryParametersResolver, defaultPriorityResolver);
   }
+
+  @Test
+  public void shouldCheckOnlyServerOwnerForNextUrlOfSameServer() throws Exception {
+    // given
+    specificFactoryParametersResolvers.clear();
+    FactoryParametersResolver githubResolver = mock(FactoryParametersResolver.class);
+    FactoryParametersResolver gitlabResolver = mock(FactoryParametersResolver.class);
+    when(githubResolver.accept(anyMap())).thenReturn(true);
+    when(githubResolver.priority()).thenReturn(DEFAULT);
+    when(gitlabResolver.priority()).thenReturn(DEFAULT);
+    specificFactoryParametersResolvers.add(githubResolver);
+    specificFactoryParametersResolvers.add(gitlabResolver);
+    factoryParametersResolverHolder.getFactoryParametersResolver(
+        singletonMap(URL_PARAMETER_NAME, "https://github.com/eclipse/che"));
+
+    // when
+    FactoryParametersResolver factoryParametersResolver =
+        factoryParametersResolverHolder.getFactoryParametersResolver(
+            singletonMap(URL_PARAMETER_NAME, "https://GitHub.com/eclipse-che/che-server"));
+
+    // then
+    assertEquals(factoryParametersResolver, githubResolver);
+    verify(githubResolver, times(2)).accept(anyMap());
+    verify(gitlabResolver, times(1)).accept(anyMap());
+  }
+
+  @Test
+  public void shouldPreferHigherPriorityResolverOverServerOwner() throws Exception {
+    // given
+    Map<String, String> devfileParams =
+        singletonMap(URL_PARAMETER_NAME, "https://github.com/eclipse/che/raw/main/devfile.yaml");
+    specificFactoryParametersResolvers.clear();
+    FactoryParametersResolver githubResolver = mock(FactoryParametersResolver.class);
+    when(githubResolver.accept(anyMap())).thenReturn(true);
+    when(githubResolver.priority()).thenReturn(DEFAULT);
+    when(rawDevfileUrlFactoryParameterResolver.accept(anyMap())).thenReturn(false, true);
+    when(rawDevfileUrlFactoryParameterResolver.priority()).thenReturn(HIGHEST);
+    specificFactoryParametersResolvers.add(githubResolver);
+    specificFactoryParametersResolvers.add(rawDevfileUrlFactoryParameterResolver);
+    factoryParametersResolverHolder.getFactoryParametersResolver(
+        singletonMap(URL_PARAMETER_NAME, "https://github.com/eclipse/che"));
+
+    // when
+    FactoryParametersResolver factoryParametersResolver =
+        factoryParametersResolverHolder.getFactoryParametersResolver(devfileParams);
+
+    // then
+    assertEquals(factoryParametersResolver, rawDevfileUrlFactoryParameterResolver);
+  }
+
+  @Test
+  public void shouldAskResolversAgainForUrlNoResolverAccepted() throws Exception {
+    // given
+    Map<String, String> params = singletonMap(URL_PARAMETER_NAME, "https://host/repo");
+    when(rawDevfileUrlFactoryParameterResolver.accept(eq(params))).thenReturn(false, true);
+    try {
+      factoryParametersResolverHolder.getFactoryParametersResolver(params);
+      fail("BadRequestException expected");
+    } catch (BadRequestException expected) {
+    }
+
+    // when
+    FactoryParametersResolver factoryParametersResolver =
+        factoryParametersResolverHolder.getFactoryParametersResolver(params);
+
+    // then
+    assertEquals(factoryParametersResolver, rawDevfileUrlFactoryParameterResolver);
+  }
+
+  @Test
+  public void shouldShareResolverHolderBetweenRequests() throws Exception {
+    // given
+    Map<String, String> params = singletonMap(URL_PARAMETER_NAME, "https://host/repo");
+    FactoryParametersResolver scmResolver = mock(FactoryParametersResolver.class);
+    when(scmResolver.accept(eq(params))).thenReturn(true);
+    when(scmResolver.priority()).thenReturn(HIGHEST);
+    when(rawDevfileUrlFactoryParameterResolver.priority()).thenReturn(LOWEST);
+    Injector injector =
+        Guice.createInjector(
+            binder -> {
+              Multibinder<FactoryParametersResolver> resolvers =
+                  Multibinder.newSetBinder(binder, FactoryParametersResolver.class);
+              resolvers.addBinding().toInstance(scmResolver);
+              resolvers.addBinding().toInstance(rawDevfileUrlFactoryParameterResolver);
+            });
+
+    // when
+    FactoryParametersResolver first =
+        injector
+            .getInstance(FactoryParametersResolverHolder.class)
+            .getFactoryParametersResolver(params);
+    FactoryParametersResolver second =
+        injector
+            .getInstance(FactoryParametersResolverHolder.class)
+            .getFactoryParametersResolver(params);
+
+    // then
+    assertEquals(first, scmResolver);
+    assertEquals(second, scmResolver);
+    verify(rawDevfileUrlFactoryParameterResolver, times(1)).accept(eq(params));
+  }
+
+  @Test
+  public void shouldForgetServerOwnersWhenResolversChange() throws Exception {
+    // given
+    Map<String, String> params = singletonMap(URL_PARAMETER_NAME, "https://host/repo");
+    specificFactoryParametersResolvers.clear();
+    FactoryParametersResolver firstResolver = mock(FactoryParametersResolver.class);
+    FactoryParametersResolver secondResolver = mock(FactoryParametersResolver.class);
+    when(firstResolver.accept(eq(params))).thenReturn(true);
+    when(firstResolver.priority()).thenReturn(LOWEST);
+    when(secondResolver.accept(eq(params))).thenReturn(true);
+    when(secondResolver.priority()).thenReturn(DEFAULT);
+    specificFactoryParametersResolvers.add(firstResolver);
+    factoryParametersResolverHolder.getFactoryParametersResolver(params);
+
+    // when
+    specificFactoryParametersResolvers.add(secondResolver);
+    FactoryParametersResolver factoryParametersResolver =
+        factoryParametersResolverHolder.getFactoryParametersResolver(params);
+
+    // then
+    assertEquals(factoryParametersResolver, secondResolver);
+  }
+
+  @Test
+  public void shouldComputeServerKeys() {
+    assertEquals(
+        FactoryParametersResolverHolder.serverKeyOf("https://GitHub.com/eclipse/che"),
+        "https://github.com");
+    assertEquals(
+        FactoryParametersResolverHolder.serverKeyOf("https://user@host:8443/scm/repo.git"),
+        "https://host:8443");
+    assertEquals(
+        FactoryParametersResolverHolder.serverKeyOf("git@github.com:eclipse/che.git"),
+        "scp://github.com");
+    assertNull(FactoryParametersResolverHolder.serverKeyOf("not a url"));
+    assertNull(FactoryParametersResolverHolder.serverKeyOf(null));
+  }
+
+  @Test
+  public void shouldNotLetHigherPriorityResolverTakeOverServer() throws Exception {
+    // given
+    Map<String, String> devfileParams =
+        singletonMap(URL_PARAMETER_NAME, "https://github.com/eclipse/che/raw/main/devfile.yaml");
+    Map<String, String> repositoryParams =
+        singletonMap(URL_PARAMETER_NAME, "https://github.com/eclipse/che");
+    specificFactoryParametersResolvers.clear();
+    FactoryParametersResolver githubResolver = mock(FactoryParametersResolver.class);
+    FactoryParametersResolver gitlabResolver = mock(FactoryParametersResolver.class);
+    when(githubResolver.accept(anyMap())).thenReturn(true);
+    when(githubResolver.priority()).thenReturn(DEFAULT);
+    when(gitlabResolver.priority()).thenReturn(DEFAULT);
+    when(rawDevfileUrlFactoryParameterResolver.accept(eq(devfileParams))).thenReturn(true);
+    when(rawDevfileUrlFactoryParameterResolver.accept(eq(repositoryParams))).thenReturn(false);
+    when(rawDevfileUrlFactoryParameterResolver.priority()).thenReturn(HIGHEST);
+    specificFactoryParametersResolvers.add(githubResolver);
+    specificFactoryParametersResolvers.add(gitlabResolver);
+    specificFactoryParametersResolvers.add(rawDevfileUrlFactoryParameterResolver);
+    factoryParametersResolverHolder.getFactoryParametersResolver(devfileParams);
+    factoryParametersResolverHolder.getFactoryParametersResolver(repositoryParams);
+
+    // when
+    FactoryParametersResolver factoryParametersResolver =
+        factoryParametersResolverHolder.getFactoryParametersResolver(repositoryParams);
+
+    // then
+    assertEquals(factoryParametersResolver, githubResolver);
+    verify(gitlabResolver, times(2)).accept(anyMap());
+  }
 }
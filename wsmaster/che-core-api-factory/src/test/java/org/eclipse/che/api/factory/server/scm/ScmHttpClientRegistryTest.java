@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2012-2026 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.api.factory.server.scm;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+import java.net.http.HttpClient;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+import org.eclipse.che.commons.observability.NoopExecutorServiceWrapper;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+public class ScmHttpClientRegistryTest {
+
+  private ScmHttpClientRegistry registry;
+
+  @BeforeMethod
+  public void setUp() {
+    registry = new ScmHttpClientRegistry(new NoopExecutorServiceWrapper());
+  }
+
+  @AfterMethod
+  public void tearDown() {
+    registry.shutdown();
+  }
+
+  @Test
+  public void shouldReturnSameClientForSameEndpoint() {
+    // when
+    HttpClient first = registry.getClient("https://github.com/eclipse/che");
+    HttpClient second = registry.getClient("https://GitHub.com/api/v3/user");
+
+    // then
+    assertSame(first, second);
+  }
+
+  @Test
+  public void shouldReturnDifferentClientsForDifferentEndpoints() {
+    // when
+    HttpClient github = registry.getClient("https://github.com");
+    HttpClient gitlab = registry.getClient("https://gitlab.com");
+    HttpClient githubOnPort = registry.getClient("https://github.com:8443");
+
+    // then
+    assertNotSame(github, gitlab);
+    assertNotSame(github, githubOnPort);
+  }
+
+  @Test
+  public void shouldShareExecutorBetweenClients() {
+    // when
+    HttpClient github = registry.getClient("https://github.com");
+    HttpClient gitlab = registry.getClient("http://gitlab.com");
+
+    // then
+    assertSame(github.executor().get(), gitlab.executor().get());
+  }
+
+  @Test
+  public void shouldUseHttp2OnlyForHttpsEndpoints() {
+    // when
+    HttpClient secure = registry.getClient("https://bitbucket.org");
+    HttpClient plain = registry.getClient("http://bitbucket.example.com");
+
+    // then
+    assertEquals(secure.version(), HttpClient.Version.HTTP_2);
+    assertEquals(plain.version(), HttpClient.Version.HTTP_1_1);
+  }
+
+  @Test
+  public void shouldReturnDefaultClientForAbsentEndpoint() {
+    // when
+    HttpClient client = registry.getClient((String) null);
+
+    // then
+    assertEquals(client.version(), HttpClient.Version.HTTP_2);
+    assertSame(client, registry.getClient((String) null));
+  }
+
+  @Test(timeOut = 20_000)
+  public void shouldNotRunTasksOnSubmittingThreadWhenExecutorIsSaturated() throws Exception {
+    // given
+    Executor executor = registry.getClient("https://github.com").executor().get();
+    CountDownLatch release = new CountDownLatch(1);
+    for (int i = 0; i < 2048; i++) {
+      executor.execute(
+          () -> {
+            try {
+              release.await();
+            } catch (InterruptedException e) {
+              Thread.currentThread().interrupt();
+            }
+          });
+    }
+
+    // when
+    AtomicReference<Thread> runner = new AtomicReference<>();
+    CountDownLatch ran = new CountDownLatch(1);
+    executor.execute(
+        () -> {
+          runner.set(Thread.currentThread());
+          ran.countDown();
+        });
+    release.countDown();
+
+    // then
+    assertTrue(ran.await(10, SECONDS));
+    assertNotSame(runner.get(), Thread.currentThread());
+  }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2012-2026 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.api.factory.server.scm;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.net.URI;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.testng.annotations.Test;
+
+public class ScmResponseCacheTest {
+
+  @Test
+  public void shouldComputeDifferentKeysForDifferentCredentials() {
+    // given
+    HttpRequest first = request("token1");
+    HttpRequest second = request("token2");
+
+    // when
+    String firstKey = ScmResponseCache.keyOf("user", first);
+    String secondKey = ScmResponseCache.keyOf("user", second);
+
+    // then
+    assertNotEquals(firstKey, secondKey);
+    assertEquals(firstKey, ScmResponseCache.keyOf("user", request("token1")));
+    assertNotEquals(firstKey, ScmResponseCache.keyOf("scopes", first));
+    assertFalse(firstKey.contains("token1"));
+  }
+
+  @Test
+  public void shouldAddValidatorsToRequest() {
+    // given
+    ScmResponseCache.Entry entry =
+        ScmResponseCache.Entry.of(
+                response(
+                    Map.of(
+                        "ETag", List.of("\"abc\""),
+                        "Last-Modified", List.of("Wed, 21 Oct 2015 07:28:00 GMT"))),
+                "value")
+            .orElseThrow();
+
+    // when
+    HttpRequest conditional = entry.applyTo(request("token1"));
+
+    // then
+    assertEquals(conditional.uri(), URI.create("https://api.github.com/user"));
+    assertEquals(conditional.timeout(), Optional.of(Duration.ofSeconds(10)));
+    assertEquals(conditional.headers().firstValue("Authorization"), Optional.of("token token1"));
+    assertEquals(conditional.headers().firstValue("If-None-Match"), Optional.of("\"abc\""));
+    assertEquals(
+        conditional.headers().firstValue("If-Modified-Since"),
+        Optional.of("Wed, 21 Oct 2015 07:28:00 GMT"));
+    assertEquals(entry.<String>getValue(), "value");
+    assertTrue(ScmResponseCache.isConditional(conditional));
+    assertFalse(ScmResponseCache.isConditional(request("token1")));
+  }
+
+  @Test
+  public void shouldNotCreateEntryForResponseWithoutValidators() {
+    assertFalse(ScmResponseCache.Entry.of(response(Map.of()), "value").isPresent());
+    assertFalse(
+        ScmResponseCache.Entry.of(response(Map.of("ETag", List.of("\"abc\""))), null).isPresent());
+    assertTrue(
+        ScmResponseCache.Entry.of(response(Map.of("ETag", List.of("\"abc\""))), "value")
+            .isPresent());
+  }
+
+  @Test
+  public void shouldReturnStoredEntry() {
+    // given
+    InMemoryScmResponseCache cache = new InMemoryScmResponseCache(10);
+    ScmResponseCache.Entry entry =
+        ScmResponseCache.Entry.of(response(Map.of("ETag", List.of("\"abc\""))), "value")
+            .orElseThrow();
+
+    // when
+    cache.put("key", entry);
+
+    // then
+    assertEquals(cache.get("key"), Optional.of(entry));
+    assertFalse(cache.get("other").isPresent());
+  }
+
+  private static HttpRequest request(String token) {
+    return HttpRequest.newBuilder(URI.create("https://api.github.com/user"))
+        .headers("Authorization", "token " + token)
+        .timeout(Duration.ofSeconds(10))
+        .build();
+  }
+
+  @SuppressWarnings("unchecked")
+  private static HttpResponse<Void> response(Map<String, List<String>> headers) {
+    HttpResponse<Void> response = mock(HttpResponse.class);
+    when(response.headers()).thenReturn(HttpHeaders.of(headers, (name, value) -> true));
+    return response;
+  }
+}
@@ -11,6 +11,7 @@
  */
 package org.eclipse.che.api.factory.server.urlfactory;
 
+import static java.util.Arrays.asList;
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
@@ -18,6 +19,8 @@ import static org.eclipse.che.api.workspace.server.devfile.Constants.KUBERNETES_
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNotNull;
@@ -32,6 +35,9 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import org.eclipse.che.api.core.ApiException;
 import org.eclipse.che.api.core.ServerException;
 import org.eclipse.che.api.core.UnauthorizedException;
@@ -42,6 +48,7 @@ import org.eclipse.che.api.factory.server.scm.exception.UnknownScmProviderExcept
 import org.eclipse.che.api.factory.server.urlfactory.RemoteFactoryUrl.DevfileLocation;
 import org.eclipse.che.api.factory.shared.dto.FactoryDevfileV2Dto;
 import org.eclipse.che.api.factory.shared.dto.FactoryMetaDto;
+import org.eclipse.che.api.workspace.server.devfile.DevfileFetchPool;
 import org.eclipse.che.api.workspace.server.devfile.DevfileParser;
 import org.eclipse.che.api.workspace.server.devfile.DevfileVersionDetector;
 import org.eclipse.che.api.workspace.server.devfile.FileContentProvider;
@@ -52,6 +59,10 @@ import org.eclipse.che.api.workspace.server.model.impl.RecipeImpl;
 import org.eclipse.che.api.workspace.server.model.impl.WorkspaceConfigImpl;
 import org.eclipse.che.api.workspace.server.model.impl.devfile.DevfileImpl;
 import org.eclipse.che.api.workspace.server.model.impl.devfile.MetadataImpl;
+import org.eclipse.che.commons.env.EnvironmentContext;
+import org.eclipse.che.commons.observability.NoopExecutorServiceWrapper;
+import org.eclipse.che.commons.subject.Subject;
+import org.eclipse.che.commons.subject.SubjectImpl;
 import org.mockito.Mock;
 import org.mockito.testng.MockitoTestNGListener;
 import org.testng.annotations.BeforeMethod;
@@ -87,7 +98,12 @@ public class URLFactoryBuilderTest {
   public void setUp() throws IOException, DevfileException {
     this.urlFactoryBuilder =
         new URLFactoryBuilder(
-            defaultEditor, defaultPlugin, true, devfileParser, devfileVersionDetector);
+            defaultEditor,
+            defaultPlugin,
+            true,
+            devfileParser,
+            devfileVersionDetector,
+            new DevfileFetchPool(new NoopExecutorServiceWrapper()));
   }
 
   @Test
@@ -314,7 +330,12 @@ public class URLFactoryBuilderTest {
 
     URLFactoryBuilder localUrlFactoryBuilder =
         new URLFactoryBuilder(
-            defaultEditor, defaultPlugin, false, devfileParser, devfileVersionDetector);
+            defaultEditor,
+            defaultPlugin,
+            false,
+            devfileParser,
+            devfileVersionDetector,
+            new DevfileFetchPool(new NoopExecutorServiceWrapper()));
 
     FactoryMetaDto factory =
         localUrlFactoryBuilder
@@ -394,6 +415,121 @@ public class URLFactoryBuilderTest {
     }
   }
 
+  @Test
+  public void shouldPreferFirstDevfileLocationWhenProbingConcurrently() throws Exception {
+    // given
+    DefaultFactoryUrl defaultFactoryUrl = mock(DefaultFactoryUrl.class);
+    when(defaultFactoryUrl.devfileFileLocations())
+        .thenReturn(
+            asList(
+                devfileLocation("devfile.yaml"),
+                devfileLocation(".devfile.yaml"),
+                devfileLocation("devfile.yml")));
+    CountDownLatch lowerPriorityFetched = new CountDownLatch(1);
+    when(fileContentProvider.fetchContent(eq("http://foo.bar/devfile.yaml")))
+        .thenAnswer(
+            invocation -> {
+              // the lower priority location is resolved first
+              lowerPriorityFetched.await(10, TimeUnit.SECONDS);
+              throw new IOException("not found");
+            });
+    when(fileContentProvider.fetchContent(eq("http://foo.bar/.devfile.yaml")))
+        .thenAnswer(
+            invocation -> {
+              // resolved after the lower priority location too
+              lowerPriorityFetched.await(10, TimeUnit.SECONDS);
+              return "second";
+            });
+    when(fileContentProvider.fetchContent(eq("http://foo.bar/devfile.yml")))
+        .thenAnswer(
+            invocation -> {
+              lowerPriorityFetched.countDown();
+              return "third";
+            });
+    when(devfileParser.parseYamlRaw(eq("second")))
+        .thenReturn(new ObjectNode(JsonNodeFactory.instance));
+
+    // when
+    FactoryMetaDto factory =
+        urlFactoryBuilder
+            .createFactoryFromDevfile(defaultFactoryUrl, fileContentProvider, emptyMap(), false)
+            .get();
+
+    // then
+    assertEquals(factory.getSource(), ".devfile.yaml");
+    verify(devfileParser, never()).parseYamlRaw(eq("third"));
+  }
+
+  @Test
+  public void shouldCancelLowerPriorityProbesOnceDevfileLocationIsFound() throws Exception {
+    // given
+    DefaultFactoryUrl defaultFactoryUrl = mock(DefaultFactoryUrl.class);
+    when(defaultFactoryUrl.devfileFileLocations())
+        .thenReturn(asList(devfileLocation("devfile.yaml"), devfileLocation(".devfile.yaml")));
+    CountDownLatch lowerPriorityStarted = new CountDownLatch(1);
+    CountDownLatch lowerPriorityInterrupted = new CountDownLatch(1);
+    when(fileContentProvider.fetchContent(eq("http://foo.bar/devfile.yaml")))
+        .thenAnswer(
+            invocation -> {
+              lowerPriorityStarted.await(10, TimeUnit.SECONDS);
+              return "first";
+            });
+    when(fileContentProvider.fetchContent(eq("http://foo.bar/.devfile.yaml")))
+        .thenAnswer(
+            invocation -> {
+              lowerPriorityStarted.countDown();
+              try {
+                new CountDownLatch(1).await(10, TimeUnit.SECONDS);
+              } catch (InterruptedException e) {
+                lowerPriorityInterrupted.countDown();
+              }
+              return "second";
+            });
+    when(devfileParser.parseYamlRaw(eq("first")))
+        .thenReturn(new ObjectNode(JsonNodeFactory.instance));
+
+    // when
+    FactoryMetaDto factory =
+        urlFactoryBuilder
+            .createFactoryFromDevfile(defaultFactoryUrl, fileContentProvider, emptyMap(), false)
+            .get();
+
+    // then
+    assertEquals(factory.getSource(), "devfile.yaml");
+    assertTrue(lowerPriorityInterrupted.await(5, TimeUnit.SECONDS));
+  }
+
+  @Test
+  public void shouldPropagateEnvironmentContextToDevfileLocationProbes() throws Exception {
+    // given
+    DefaultFactoryUrl defaultFactoryUrl = mock(DefaultFactoryUrl.class);
+    when(defaultFactoryUrl.devfileFileLocations())
+        .thenReturn(asList(devfileLocation("devfile.yaml"), devfileLocation(".devfile.yaml")));
+    Subject subject = new SubjectImpl("user", Collections.emptyList(), "id", "token", false);
+    Map<String, Subject> probeSubjects = new ConcurrentHashMap<>();
+    when(fileContentProvider.fetchContent(anyString()))
+        .thenAnswer(
+            invocation -> {
+              probeSubjects.put(
+                  invocation.getArgument(0), EnvironmentContext.getCurrent().getSubject());
+              return "content";
+            });
+    when(devfileParser.parseYamlRaw(anyString()))
+        .thenReturn(new ObjectNode(JsonNodeFactory.instance));
+    EnvironmentContext.getCurrent().setSubject(subject);
+
+    // when
+    try {
+      urlFactoryBuilder.createFactoryFromDevfile(
+          defaultFactoryUrl, fileContentProvider, emptyMap(), false);
+    } finally {
+      EnvironmentContext.reset();
+    }
+
+    // then
+    assertEquals(probeSubjects.get("http://foo.bar/devfile.yaml"), subject);
+  }
+
   @Test(
       expectedExceptions = ApiException.class,
       expectedExceptionsMessageRegExp = "Could not reach devfile at location")
@@ -439,4 +575,18 @@ public class URLFactoryBuilderTest {
       }
     };
   }
+
+  private static DevfileLocation devfileLocation(String filename) {
+    return new DevfileLocation() {
+      @Override
+      public Optional<String> filename() {
+        return Optional.of(filename);
+      }
+
+      @Override
+      public String location() {
+        return "http://foo.bar/" + filename;
+      }
+    };
+  }
 }
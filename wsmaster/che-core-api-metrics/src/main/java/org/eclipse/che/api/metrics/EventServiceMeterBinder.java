@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2012-2026 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.api.metrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.concurrent.TimeUnit;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import org.eclipse.che.api.core.notification.EventService;
+
+/**
+ * Provides metrics of the events delivered to the asynchronous subscribers of {@link EventService}.
+ */
+@Singleton
+public class EventServiceMeterBinder implements MeterBinder {
+
+  private final EventService eventService;
+
+  @Inject
+  public EventServiceMeterBinder(EventService eventService) {
+    this.eventService = eventService;
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    Gauge.builder("che.event.async.queued", eventService, EventService::getAsyncQueuedCount)
+        .description("Number of events waiting for the asynchronous subscribers")
+        .register(registry);
+    FunctionTimer.builder(
+            "che.event.async.lag",
+            eventService,
+            EventService::getAsyncDeliveredCount,
+            EventService::getAsyncLagNanos,
+            TimeUnit.NANOSECONDS)
+        .description("Time the events waited for the asynchronous subscribers")
+        .register(registry);
+    FunctionCounter.builder(
+            "che.event.async.undelivered", eventService, EventService::getAsyncFailedCount)
+        .tag("reason", "failed")
+        .description("Number of events the asynchronous subscribers failed to handle")
+        .register(registry);
+    FunctionCounter.builder(
+            "che.event.async.undelivered", eventService, EventService::getAsyncRejectedCount)
+        .tag("reason", "rejected")
+        .description("Number of events rejected because the subscriber queue was full")
+        .register(registry);
+  }
+}
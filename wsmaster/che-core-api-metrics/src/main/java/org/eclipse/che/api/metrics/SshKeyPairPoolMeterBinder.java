@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2012-2026 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.api.metrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.concurrent.TimeUnit;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import org.eclipse.che.api.ssh.server.SshKeyPairPool;
+
+/** Provides metrics of the ssh key pairs generated in advance by {@link SshKeyPairPool}. */
+@Singleton
+public class SshKeyPairPoolMeterBinder implements MeterBinder {
+
+  private final SshKeyPairPool keyPairPool;
+
+  @Inject
+  public SshKeyPairPoolMeterBinder(SshKeyPairPool keyPairPool) {
+    this.keyPairPool = keyPairPool;
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    FunctionCounter.builder(
+            "che.ssh.key_pair.pool.requests", keyPairPool, SshKeyPairPool::getHitCount)
+        .tag("result", "hit")
+        .description("Number of key pairs taken from the pool")
+        .register(registry);
+    FunctionCounter.builder(
+            "che.ssh.key_pair.pool.requests", keyPairPool, SshKeyPairPool::getMissCount)
+        .tag("result", "miss")
+        .description("Number of key pairs generated by the caller because the pool was empty")
+        .register(registry);
+    Gauge.builder("che.ssh.key_pair.pool.size", keyPairPool, SshKeyPairPool::getSize)
+        .description("Number of key pairs generated in advance")
+        .register(registry);
+    FunctionTimer.builder(
+            "che.ssh.key_pair.generation",
+            keyPairPool,
+            SshKeyPairPool::getGeneratedCount,
+            SshKeyPairPool::getGenerationNanos,
+            TimeUnit.NANOSECONDS)
+        .description("Time spent generating ssh key pairs")
+        .register(registry);
+  }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2012-2026 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.api.metrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import org.eclipse.che.api.workspace.server.devfile.URLFetcher;
+
+/** Provides metrics of the cache of files fetched by {@link URLFetcher}. */
+@Singleton
+public class URLFetcherCacheMeterBinder implements MeterBinder {
+
+  private final URLFetcher urlFetcher;
+
+  @Inject
+  public URLFetcherCacheMeterBinder(URLFetcher urlFetcher) {
+    this.urlFetcher = urlFetcher;
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    FunctionCounter.builder(
+            "che.factory.fetcher.cache.requests", urlFetcher, URLFetcher::getCacheHitCount)
+        .tag("result", "hit")
+        .description("Number of fetches answered from the cache without a request")
+        .register(registry);
+    FunctionCounter.builder(
+            "che.factory.fetcher.cache.requests", urlFetcher, URLFetcher::getCacheRevalidationCount)
+        .tag("result", "revalidated")
+        .description("Number of fetches answered from the cache after a conditional request")
+        .register(registry);
+    FunctionCounter.builder(
+            "che.factory.fetcher.cache.requests", urlFetcher, URLFetcher::getCacheMissCount)
+        .tag("result", "miss")
+        .description("Number of fetches that downloaded the content")
+        .register(registry);
+    Gauge.builder("che.factory.fetcher.cache.size", urlFetcher, URLFetcher::getCacheSize)
+        .description("Number of the cached files")
+        .register(registry);
+  }
+}
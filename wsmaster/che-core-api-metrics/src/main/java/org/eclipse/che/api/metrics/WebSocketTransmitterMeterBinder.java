@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2012-2026 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.api.metrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.concurrent.TimeUnit;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import org.eclipse.che.api.core.websocket.impl.BasicWebSocketMessageTransmitter;
+
+/**
+ * Provides metrics of the messages sent to the WebSocket clients by {@link
+ * BasicWebSocketMessageTransmitter}.
+ */
+@Singleton
+public class WebSocketTransmitterMeterBinder implements MeterBinder {
+
+  private final BasicWebSocketMessageTransmitter transmitter;
+
+  @Inject
+  public WebSocketTransmitterMeterBinder(BasicWebSocketMessageTransmitter transmitter) {
+    this.transmitter = transmitter;
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    Gauge.builder(
+            "che.websocket.send_queue.size",
+            transmitter,
+            BasicWebSocketMessageTransmitter::getQueuedCount)
+        .description("Number of messages waiting to be sent over all the WebSocket sessions")
+        .register(registry);
+    FunctionCounter.builder(
+            "che.websocket.messages.dropped",
+            transmitter,
+            BasicWebSocketMessageTransmitter::getDroppedCount)
+        .description("Number of messages dropped because the send queue of the session was full")
+        .register(registry);
+    FunctionCounter.builder(
+            "che.websocket.sessions.disconnected",
+            transmitter,
+            BasicWebSocketMessageTransmitter::getDisconnectedCount)
+        .description("Number of sessions closed because their send queue was full")
+        .register(registry);
+    FunctionCounter.builder(
+            "che.websocket.messages.failed",
+            transmitter,
+            BasicWebSocketMessageTransmitter::getFailedCount)
+        .description("Number of messages which failed to be sent")
+        .register(registry);
+    FunctionTimer.builder(
+            "che.websocket.messages.send",
+            transmitter,
+            t -> t.getSentCount() + t.getFailedCount(),
+            BasicWebSocketMessageTransmitter::getSendNanos,
+            TimeUnit.NANOSECONDS)
+        .description("Time spent sending messages to the WebSocket clients")
+        .register(registry);
+  }
+}
@@ -35,5 +35,9 @@ public class WsMasterMetricsModule extends AbstractModule {
     meterMultibinder.addBinding().to(WorkspaceInterruptedStartAttemptsMeterBinder.class);
     meterMultibinder.addBinding().to(UserMeterBinder.class);
     meterMultibinder.addBinding().to(RuntimeLogMeterBinder.class);
+    meterMultibinder.addBinding().to(URLFetcherCacheMeterBinder.class);
+    meterMultibinder.addBinding().to(SshKeyPairPoolMeterBinder.class);
+    meterMultibinder.addBinding().to(WebSocketTransmitterMeterBinder.class);
+    meterMultibinder.addBinding().to(EventServiceMeterBinder.class);
   }
 }
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2012-2026 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.api.metrics;
+
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.che.api.core.notification.EventService;
+import org.mockito.Mock;
+import org.mockito.testng.MockitoTestNGListener;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+@Listeners(MockitoTestNGListener.class)
+public class EventServiceMeterBinderTest {
+
+  @Mock private EventService eventService;
+
+  private MeterRegistry registry;
+
+  @BeforeMethod
+  public void setUp() {
+    registry = new SimpleMeterRegistry();
+    new EventServiceMeterBinder(eventService).bindTo(registry);
+  }
+
+  @Test
+  public void shouldCollectQueuedEvents() {
+    when(eventService.getAsyncQueuedCount()).thenReturn(12L);
+
+    assertEquals(registry.find("che.event.async.queued").gauge().value(), 12.0);
+  }
+
+  @Test
+  public void shouldCollectLag() {
+    when(eventService.getAsyncDeliveredCount()).thenReturn(6L);
+    when(eventService.getAsyncLagNanos()).thenReturn(TimeUnit.SECONDS.toNanos(3));
+
+    FunctionTimer timer = registry.find("che.event.async.lag").functionTimer();
+
+    assertEquals(timer.count(), 6.0);
+    assertEquals(timer.totalTime(TimeUnit.SECONDS), 3.0);
+  }
+
+  @Test
+  public void shouldCollectUndeliveredEvents() {
+    when(eventService.getAsyncFailedCount()).thenReturn(2L);
+    when(eventService.getAsyncRejectedCount()).thenReturn(5L);
+
+    assertEquals(
+        registry
+            .find("che.event.async.undelivered")
+            .tag("reason", "failed")
+            .functionCounter()
+            .count(),
+        2.0);
+    assertEquals(
+        registry
+            .find("che.event.async.undelivered")
+            .tag("reason", "rejected")
+            .functionCounter()
+            .count(),
+        5.0);
+  }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2012-2026 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.api.metrics;
+
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.che.api.ssh.server.SshKeyPairPool;
+import org.mockito.Mock;
+import org.mockito.testng.MockitoTestNGListener;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+@Listeners(MockitoTestNGListener.class)
+public class SshKeyPairPoolMeterBinderTest {
+
+  @Mock private SshKeyPairPool keyPairPool;
+
+  private MeterRegistry registry;
+
+  @BeforeMethod
+  public void setUp() {
+    registry = new SimpleMeterRegistry();
+    new SshKeyPairPoolMeterBinder(keyPairPool).bindTo(registry);
+  }
+
+  @Test
+  public void shouldCollectPoolRequests() {
+    when(keyPairPool.getHitCount()).thenReturn(5L);
+    when(keyPairPool.getMissCount()).thenReturn(2L);
+
+    assertEquals(
+        registry
+            .find("che.ssh.key_pair.pool.requests")
+            .tag("result", "hit")
+            .functionCounter()
+            .count(),
+        5.0);
+    assertEquals(
+        registry
+            .find("che.ssh.key_pair.pool.requests")
+            .tag("result", "miss")
+            .functionCounter()
+            .count(),
+        2.0);
+  }
+
+  @Test
+  public void shouldCollectPoolSize() {
+    when(keyPairPool.getSize()).thenReturn(3);
+
+    assertEquals(registry.find("che.ssh.key_pair.pool.size").gauge().value(), 3.0);
+  }
+
+  @Test
+  public void shouldCollectGenerationTime() {
+    when(keyPairPool.getGeneratedCount()).thenReturn(4L);
+    when(keyPairPool.getGenerationNanos()).thenReturn(TimeUnit.SECONDS.toNanos(2));
+
+    FunctionTimer timer = registry.find("che.ssh.key_pair.generation").functionTimer();
+
+    assertEquals(timer.count(), 4.0);
+    assertEquals(timer.totalTime(TimeUnit.SECONDS), 2.0);
+  }
+}
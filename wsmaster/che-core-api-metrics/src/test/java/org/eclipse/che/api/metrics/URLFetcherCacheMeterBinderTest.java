@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2012-2026 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.api.metrics;
+
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.eclipse.che.api.workspace.server.devfile.URLFetcher;
+import org.mockito.Mock;
+import org.mockito.testng.MockitoTestNGListener;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+@Listeners(MockitoTestNGListener.class)
+public class URLFetcherCacheMeterBinderTest {
+
+  @Mock private URLFetcher urlFetcher;
+
+  private MeterRegistry registry;
+
+  @BeforeMethod
+  public void setUp() {
+    registry = new SimpleMeterRegistry();
+    new URLFetcherCacheMeterBinder(urlFetcher).bindTo(registry);
+  }
+
+  @Test
+  public void shouldCollectCacheRequests() {
+    when(urlFetcher.getCacheHitCount()).thenReturn(3L);
+    when(urlFetcher.getCacheRevalidationCount()).thenReturn(2L);
+    when(urlFetcher.getCacheMissCount()).thenReturn(1L);
+
+    assertEquals(
+        registry
+            .find("che.factory.fetcher.cache.requests")
+            .tag("result", "hit")
+            .functionCounter()
+            .count(),
+        3.0);
+    assertEquals(
+        registry
+            .find("che.factory.fetcher.cache.requests")
+            .tag("result", "revalidated")
+            .functionCounter()
+            .count(),
+        2.0);
+    assertEquals(
+        registry
+            .find("che.factory.fetcher.cache.requests")
+            .tag("result", "miss")
+            .functionCounter()
+            .count(),
+        1.0);
+  }
+
+  @Test
+  public void shouldCollectCacheSize() {
+    when(urlFetcher.getCacheSize()).thenReturn(7L);
+
+    assertEquals(registry.find("che.factory.fetcher.cache.size").gauge().value(), 7.0);
+  }
+}
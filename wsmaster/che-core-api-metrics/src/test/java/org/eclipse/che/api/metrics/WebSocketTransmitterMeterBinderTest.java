@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2012-2026 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.api.metrics;
+
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.che.api.core.websocket.impl.BasicWebSocketMessageTransmitter;
+import org.mockito.Mock;
+import org.mockito.testng.MockitoTestNGListener;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+@Listeners(MockitoTestNGListener.class)
+public class WebSocketTransmitterMeterBinderTest {
+
+  @Mock private BasicWebSocketMessageTransmitter transmitter;
+
+  private MeterRegistry registry;
+
+  @BeforeMethod
+  public void setUp() {
+    registry = new SimpleMeterRegistry();
+    new WebSocketTransmitterMeterBinder(transmitter).bindTo(registry);
+  }
+
+  @Test
+  public void shouldCollectQueueSize() {
+    when(transmitter.getQueuedCount()).thenReturn(7L);
+
+    assertEquals(registry.find("che.websocket.send_queue.size").gauge().value(), 7.0);
+  }
+
+  @Test
+  public void shouldCollectDroppedMessagesAndDisconnectedSessions() {
+    when(transmitter.getDroppedCount()).thenReturn(3L);
+    when(transmitter.getDisconnectedCount()).thenReturn(1L);
+
+    assertEquals(registry.find("che.websocket.messages.dropped").functionCounter().count(), 3.0);
+    assertEquals(
+        registry.find("che.websocket.sessions.disconnected").functionCounter().count(), 1.0);
+  }
+
+  @Test
+  public void shouldCollectSendTime() {
+    when(transmitter.getSentCount()).thenReturn(8L);
+    when(transmitter.getFailedCount()).thenReturn(2L);
+    when(transmitter.getSendNanos()).thenReturn(TimeUnit.SECONDS.toNanos(5));
+
+    FunctionTimer timer = registry.find("che.websocket.messages.send").functionTimer();
+
+    assertEquals(timer.count(), 10.0);
+    assertEquals(timer.totalTime(TimeUnit.SECONDS), 5.0);
+    assertEquals(registry.find("che.websocket.messages.failed").functionCounter().count(), 2.0);
+  }
+}
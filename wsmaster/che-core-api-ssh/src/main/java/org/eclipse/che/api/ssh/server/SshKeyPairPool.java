@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2012-2026 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.api.ssh.server;
+
+import static java.lang.String.format;
+
+import com.jcraft.jsch.JSch;
+import com.jcraft.jsch.JSchException;
+import com.jcraft.jsch.KeyPair;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.Locale;
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Singleton;
+import org.eclipse.che.commons.lang.concurrent.BackgroundGeneratedPool;
+import org.eclipse.che.inject.ConfigurationException;
+
+/**
+ * Ssh key pairs generated in advance, e.g. for the default key of a user who starts a workspace for
+ * the first time, configured with {@code che.ssh.key_pair_*} properties.
+ *
+ * @see BackgroundGeneratedPool
+ */
+@Singleton
+public class SshKeyPairPool {
+
+  private final BackgroundGeneratedPool<KeyPair, JSchException> pool;
+
+  /**
+   * @param capacity maximum number of the key pairs generated in advance, 0 disables the generation
+   *     in advance
+   * @param algorithm algorithm of the key pairs, one of {@code rsa}, {@code dsa} or {@code ecdsa}
+   * @param keySize size of the keys in bits
+   */
+  @Inject
+  public SshKeyPairPool(
+      @Named("che.ssh.key_pair_pool_size") int capacity,
+      @Named("che.ssh.key_pair_algorithm") String algorithm,
+      @Named("che.ssh.key_pair_size") int keySize) {
+    JSch jsch = new JSch();
+    int type = typeOf(algorithm);
+    this.pool =
+        new BackgroundGeneratedPool<>(
+            SshKeyPairPool.class.getSimpleName(),
+            capacity,
+            () -> KeyPair.genKeyPair(jsch, type, keySize));
+  }
+
+  /**
+   * Returns a key pair generated in advance, or a newly generated one if there is none.
+   *
+   * @throws JSchException when the key pair cannot be generated
+   */
+  public KeyPair take() throws JSchException {
+    return pool.take();
+  }
+
+  /** Fills the pool in the background unless it is being filled already. */
+  @PostConstruct
+  public void refill() {
+    pool.refill();
+  }
+
+  /** Stops the background generation of the key pairs. */
+  @PreDestroy
+  public void shutdown() {
+    pool.shutdown();
+  }
+
+  /** Returns the number of key pairs generated in advance and not taken yet. */
+  public int getSize() {
+    return pool.size();
+  }
+
+  /** Returns the number of key pairs taken from the pool. */
+  public long getHitCount() {
+    return pool.getHitCount();
+  }
+
+  /** Returns the number of key pairs generated by the caller because the pool was empty. */
+  public long getMissCount() {
+    return pool.getMissCount();
+  }
+
+  /** Returns the number of generated key pairs. */
+  public long getGeneratedCount() {
+    return pool.getGeneratedCount();
+  }
+
+  /** Returns the total time spent generating key pairs, in nanoseconds. */
+  public long getGenerationNanos() {
+    return pool.getGenerationNanos();
+  }
+
+  private static int typeOf(String algorithm) {
+    switch (algorithm.toLowerCase(Locale.ROOT)) {
+      case "rsa":
+        return KeyPair.RSA;
+      case "dsa":
+        return KeyPair.DSA;
+      case "ecdsa":
+        return KeyPair.ECDSA;
+      default:
+        throw new ConfigurationException(
+            format(
+                "Unsupported ssh key pair algorithm '%s', supported are 'rsa', 'dsa' and 'ecdsa'",
+                algorithm));
+    }
+  }
+}
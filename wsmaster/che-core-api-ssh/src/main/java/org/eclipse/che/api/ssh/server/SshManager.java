@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012-2018 Red Hat, Inc.
+ * Copyright (c) 2012-2026 Red Hat, Inc.
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
  * which is available at https://www.eclipse.org/legal/epl-2.0/
@@ -11,7 +11,6 @@
  */
 package org.eclipse.che.api.ssh.server;
 
-import com.jcraft.jsch.JSch;
 import com.jcraft.jsch.JSchException;
 import com.jcraft.jsch.KeyPair;
 import java.io.ByteArrayOutputStream;
@@ -31,13 +30,13 @@ import org.eclipse.che.api.ssh.server.spi.SshDao;
  */
 @Singleton
 public class SshManager {
-  private final JSch genJSch;
   private final SshDao sshDao;
+  private final SshKeyPairPool keyPairPool;
 
   @Inject
-  public SshManager(SshDao sshDao) {
+  public SshManager(SshDao sshDao, SshKeyPairPool keyPairPool) {
     this.sshDao = sshDao;
-    this.genJSch = new JSch();
+    this.keyPairPool = keyPairPool;
   }
 
   /**
@@ -54,7 +53,7 @@ public class SshManager {
       throws ServerException, ConflictException {
     KeyPair keyPair;
     try {
-      keyPair = KeyPair.genKeyPair(genJSch, 2, 2048);
+      keyPair = keyPairPool.take();
     } catch (JSchException e) {
       throw new ServerException("Failed to generate ssh pair.", e);
     }
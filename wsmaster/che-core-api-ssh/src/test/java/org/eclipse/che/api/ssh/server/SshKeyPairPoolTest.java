@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2012-2026 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.api.ssh.server;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+
+import com.jcraft.jsch.KeyPair;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.che.inject.ConfigurationException;
+import org.testng.annotations.Test;
+
+/** Tests {@link SshKeyPairPool}. */
+public class SshKeyPairPoolTest {
+
+  private static final String ALGORITHM = "ecdsa";
+  private static final int KEY_SIZE = 256;
+
+  @Test
+  public void shouldTakeKeyPairFromFilledPool() throws Exception {
+    SshKeyPairPool pool = new SshKeyPairPool(2, ALGORITHM, KEY_SIZE);
+    pool.refill();
+    awaitSize(pool, 2);
+
+    KeyPair keyPair = pool.take();
+
+    assertEquals(keyPair.getKeyType(), KeyPair.ECDSA);
+    assertEquals(pool.getHitCount(), 1);
+    assertEquals(pool.getMissCount(), 0);
+  }
+
+  @Test
+  public void shouldGenerateKeyPairWhenPoolIsEmpty() throws Exception {
+    SshKeyPairPool pool = new SshKeyPairPool(2, ALGORITHM, KEY_SIZE);
+
+    KeyPair keyPair = pool.take();
+
+    assertNotNull(keyPair);
+    assertEquals(pool.getMissCount(), 1);
+    assertEquals(pool.getHitCount(), 0);
+  }
+
+  @Test
+  public void shouldRefillPoolInBackgroundAfterTake() throws Exception {
+    SshKeyPairPool pool = new SshKeyPairPool(2, ALGORITHM, KEY_SIZE);
+
+    pool.take();
+
+    awaitSize(pool, 2);
+    assertEquals(pool.getGeneratedCount(), 3);
+  }
+
+  @Test
+  public void shouldGenerateEveryKeyPairWhenCapacityIsZero() throws Exception {
+    SshKeyPairPool pool = new SshKeyPairPool(0, "rsa", 1024);
+    pool.refill();
+
+    KeyPair keyPair = pool.take();
+
+    assertEquals(keyPair.getKeyType(), KeyPair.RSA);
+    assertEquals(pool.getSize(), 0);
+    assertEquals(pool.getMissCount(), 1);
+    assertEquals(pool.getGeneratedCount(), 1);
+  }
+
+  @Test(expectedExceptions = ConfigurationException.class)
+  public void shouldRejectUnsupportedAlgorithm() {
+    new SshKeyPairPool(1, "ed25519", KEY_SIZE);
+  }
+
+  private static void awaitSize(SshKeyPairPool pool, int expected) throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+    while (pool.getSize() < expected && System.nanoTime() < deadline) {
+      Thread.sleep(10);
+    }
+    assertEquals(pool.getSize(), expected);
+  }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2012-2026 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.api.workspace.server.devfile;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import jakarta.annotation.PreDestroy;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import org.eclipse.che.commons.lang.concurrent.LoggingUncaughtExceptionHandler;
+import org.eclipse.che.commons.lang.concurrent.ThreadLocalPropagateContext;
+import org.eclipse.che.commons.observability.ExecutorServiceWrapper;
+
+/**
+ * Provides a single bounded {@link ExecutorService} instance for fetching devfiles and the files
+ * they reference concurrently.
+ *
+ * <p>When all the threads are busy and the queue is full, a fetch runs on the thread which submits
+ * it, so that concurrent requests slow down instead of queueing fetches without a limit.
+ */
+@Singleton
+public class DevfileFetchPool {
+
+  private static final int MAX_THREADS = 16;
+  private static final int MAX_QUEUED_FETCHES = 64;
+
+  private final ExecutorService executor;
+
+  @Inject
+  public DevfileFetchPool(ExecutorServiceWrapper executorServiceWrapper) {
+    ThreadPoolExecutor threadPoolExecutor =
+        new ThreadPoolExecutor(
+            MAX_THREADS,
+            MAX_THREADS,
+            60L,
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(MAX_QUEUED_FETCHES),
+            new ThreadFactoryBuilder()
+                .setUncaughtExceptionHandler(LoggingUncaughtExceptionHandler.getInstance())
+                .setNameFormat("DevfileFetchPool-%d")
+                .setDaemon(true)
+                .build());
+    threadPoolExecutor.allowCoreThreadTimeOut(true);
+    this.executor =
+        executorServiceWrapper.wrap(threadPoolExecutor, DevfileFetchPool.class.getName());
+  }
+
+  /**
+   * Runs the given fetch asynchronously, propagating thread locals to it like defined by {@link
+   * ThreadLocalPropagateContext}. Cancellation of the returned future interrupts the fetch.
+   */
+  public <T> CompletableFuture<T> submit(Callable<T> fetch) {
+    return submit(fetch, 0, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Runs the given fetch asynchronously like {@link #submit(Callable)} does. The returned future
+   * fails with a {@link java.util.concurrent.TimeoutException} and the fetch is interrupted if it
+   * does not complete within the given timeout, counted from the moment the fetch starts.
+   *
+   * @param timeout time given to the fetch, not positive for no timeout
+   */
+  public <T> CompletableFuture<T> submit(Callable<T> fetch, long timeout, TimeUnit unit) {
+    CompletableFuture<T> result = new CompletableFuture<>();
+    Callable<T> propagating = ThreadLocalPropagateContext.wrap(fetch);
+    AtomicBoolean fetched = new AtomicBoolean();
+    FutureTask<Void> running =
+        new FutureTask<>(
+            () -> {
+              if (timeout > 0) {
+                result.orTimeout(timeout, unit);
+              }
+              try {
+                T value = propagating.call();
+                fetched.set(true);
+                result.complete(value);
+              } catch (Throwable e) {
+                fetched.set(true);
+                result.completeExceptionally(e);
+              }
+            },
+            null);
+    result.whenComplete(
+        (value, e) -> {
+          // completed by a timeout or a cancellation, not by the fetch itself
+          if (!fetched.get()) {
+            running.cancel(true);
+          }
+        });
+    try {
+      executor.execute(running);
+    } catch (RejectedExecutionException e) {
+      running.run();
+      if (running.isCancelled()) {
+        // the fetch was interrupted on this thread, which keeps running
+        Thread.interrupted();
+      }
+    }
+    return result;
+  }
+
+  /** Interrupts the running fetches and stops the executor. */
+  @PreDestroy
+  public void shutdown() {
+    executor.shutdownNow();
+  }
+}
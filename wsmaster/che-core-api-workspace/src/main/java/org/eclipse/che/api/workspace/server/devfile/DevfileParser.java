@@ -15,6 +15,7 @@ import static com.google.common.base.MoreObjects.firstNonNull;
 import static com.google.common.base.Strings.isNullOrEmpty;
 import static java.lang.String.format;
 import static java.util.Collections.emptyMap;
+import static java.util.stream.Collectors.toCollection;
 import static org.eclipse.che.api.workspace.server.devfile.Constants.KUBERNETES_COMPONENT_TYPE;
 import static org.eclipse.che.api.workspace.server.devfile.Constants.OPENSHIFT_COMPONENT_TYPE;
 
@@ -26,9 +27,17 @@ import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 import com.google.common.annotations.Beta;
 import com.google.common.annotations.VisibleForTesting;
 import java.io.IOException;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -48,25 +57,40 @@ import org.eclipse.che.api.workspace.server.model.impl.devfile.DevfileImpl;
 @Singleton
 public class DevfileParser {
 
+  /**
+   * Time given to the fetch of a single reference, counted from the moment it starts. It is the
+   * time {@link URLFetcher} allows to a request: to connect and then to read the content.
+   */
+  private static final long REFERENCE_FETCH_TIMEOUT_MILLIS =
+      2L * URLFetcher.CONNECTION_READ_TIMEOUT;
+
   private final ObjectMapper yamlMapper;
   private final ObjectMapper jsonMapper;
   private final DevfileIntegrityValidator integrityValidator;
   private final OverridePropertiesApplier overridePropertiesApplier;
+  private final DevfileFetchPool devfileFetchPool;
 
   @Inject
-  public DevfileParser(DevfileIntegrityValidator integrityValidator) {
-    this(integrityValidator, new ObjectMapper(new YAMLFactory()), new ObjectMapper());
+  public DevfileParser(
+      DevfileIntegrityValidator integrityValidator, DevfileFetchPool devfileFetchPool) {
+    this(
+        integrityValidator,
+        new ObjectMapper(new YAMLFactory()),
+        new ObjectMapper(),
+        devfileFetchPool);
   }
 
   @VisibleForTesting
   DevfileParser(
       DevfileIntegrityValidator integrityValidator,
       ObjectMapper yamlMapper,
-      ObjectMapper jsonMapper) {
+      ObjectMapper jsonMapper,
+      DevfileFetchPool devfileFetchPool) {
     this.integrityValidator = integrityValidator;
     this.yamlMapper = yamlMapper;
     this.jsonMapper = jsonMapper;
     this.overridePropertiesApplier = new OverridePropertiesApplier();
+    this.devfileFetchPool = devfileFetchPool;
   }
 
   /**
@@ -160,6 +184,11 @@ public class DevfileParser {
   /**
    * Resolve devfile component references into their reference content.
    *
+   * <p>All the distinct references are fetched concurrently, each one is fetched only once even if
+   * it is referenced by several components. Each fetch is given the time {@link URLFetcher} allows
+   * to a request. If any of the references can't be fetched, the error of the first such component
+   * in the devfile order is reported.
+   *
    * @param devfile input devfile
    * @param fileContentProvider provider to fetch reference content
    */
@@ -173,19 +202,67 @@ public class DevfileParser {
                         || c.getType().equals(OPENSHIFT_COMPONENT_TYPE))
             .filter(c -> !isNullOrEmpty(c.getReference()))
             .collect(Collectors.toList());
-    for (ComponentImpl c : toResolve) {
-      try {
-        c.setReferenceContent(fileContentProvider.fetchContent(c.getReference()));
-      } catch (IOException e) {
-        throw new DevfileException(
-            format(
-                "Unable to resolve reference of component: %s",
-                firstNonNull(c.getAlias(), c.getReference())),
-            e);
+    Set<String> references =
+        toResolve.stream()
+            .map(ComponentImpl::getReference)
+            .collect(toCollection(LinkedHashSet::new));
+    if (references.size() <= 1) {
+      for (ComponentImpl c : toResolve) {
+        try {
+          c.setReferenceContent(fileContentProvider.fetchContent(c.getReference()));
+        } catch (IOException e) {
+          throw unresolvableReference(c, e);
+        }
+      }
+      return;
+    }
+
+    Map<String, CompletableFuture<String>> fetches = new HashMap<>();
+    for (String reference : references) {
+      fetches.put(
+          reference,
+          devfileFetchPool.submit(
+              () -> fileContentProvider.fetchContent(reference),
+              REFERENCE_FETCH_TIMEOUT_MILLIS,
+              TimeUnit.MILLISECONDS));
+    }
+    try {
+      for (ComponentImpl c : toResolve) {
+        c.setReferenceContent(awaitReference(c, fetches.get(c.getReference())));
       }
+    } finally {
+      fetches.values().forEach(fetch -> fetch.cancel(true));
     }
   }
 
+  private String awaitReference(ComponentImpl component, Future<String> fetch)
+      throws DevfileException {
+    try {
+      return fetch.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw unresolvableReference(component, e);
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof TimeoutException) {
+        throw unresolvableReference(component, cause);
+      } else if (cause instanceof DevfileException) {
+        throw (DevfileException) cause;
+      } else if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      throw unresolvableReference(component, cause);
+    }
+  }
+
+  private static DevfileException unresolvableReference(ComponentImpl component, Throwable cause) {
+    return new DevfileException(
+        format(
+            "Unable to resolve reference of component: %s",
+            firstNonNull(component.getAlias(), component.getReference())),
+        cause);
+  }
+
   private DevfileImpl parse(
       String content, ObjectMapper mapper, Map<String, String> overrideProperties)
       throws DevfileFormatException, OverrideParameterException {
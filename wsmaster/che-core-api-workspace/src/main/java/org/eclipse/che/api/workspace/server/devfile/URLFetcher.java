@@ -12,10 +12,14 @@
 package org.eclipse.che.api.workspace.server.devfile;
 
 import static com.google.common.base.Strings.isNullOrEmpty;
+import static java.net.HttpURLConnection.HTTP_NOT_MODIFIED;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Objects.requireNonNull;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
 import com.google.common.io.ByteStreams;
 import jakarta.validation.constraints.NotNull;
 import jakarta.ws.rs.core.HttpHeaders;
@@ -23,8 +27,12 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.net.HttpURLConnection;
 import java.net.URL;
 import java.net.URLConnection;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -38,6 +46,13 @@ import org.slf4j.LoggerFactory;
 /**
  * Allow to grab content from URL
  *
+ * <p>Fetched content may be kept in a bounded cache. Entries are keyed by the URL together with the
+ * hash of the authorization sent with the request, so content fetched with the credentials of one
+ * user is never returned to another user. Cached content is returned without a request while it is
+ * fresh according to the {@code Cache-Control: max-age} of the response, afterwards it is
+ * revalidated with a conditional request using the {@code ETag} and {@code Last-Modified}
+ * validators of the response. Responses with {@code Cache-Control: no-store} are not cached.
+ *
  * @author Florent Benoit
  */
 @Singleton
@@ -47,7 +62,7 @@ public class URLFetcher {
   private static final Logger LOG = LoggerFactory.getLogger(URLFetcher.class);
 
   /** timeout when reading */
-  @VisibleForTesting static final int CONNECTION_READ_TIMEOUT = 10 * 1000; // 10s
+  static final int CONNECTION_READ_TIMEOUT = 10 * 1000; // 10s
 
   /** The Compiled REGEX PATTERN that can be used for http|https git urls */
   final Pattern GIT_HTTP_URL_PATTERN = Pattern.compile("(?<sanitized>^http[s]?://.*)\\.git$");
@@ -55,9 +70,31 @@ public class URLFetcher {
   /** Maximum size of allowed data. */
   protected long maximumReadBytes;
 
+  private final Cache<String, CachedContent> cache;
+  private final long cacheTtlMillis;
+  private final AtomicLong cacheHits = new AtomicLong();
+  private final AtomicLong cacheRevalidations = new AtomicLong();
+  private final AtomicLong cacheMisses = new AtomicLong();
+
+  public URLFetcher(long maxFetchBytes) {
+    this(maxFetchBytes, 0, 0);
+  }
+
   @Inject
-  public URLFetcher(@Named("che.factory.scm_file_fetcher_limit_bytes") long maxFetchBytes) {
+  public URLFetcher(
+      @Named("che.factory.scm_file_fetcher_limit_bytes") long maxFetchBytes,
+      @Named("che.factory.scm_file_fetcher_cache.max_size_bytes") long cacheMaxSizeBytes,
+      @Named("che.factory.scm_file_fetcher_cache.ttl_sec") long cacheTtlSec) {
     this.maximumReadBytes = maxFetchBytes;
+    this.cacheTtlMillis = TimeUnit.SECONDS.toMillis(cacheTtlSec);
+    this.cache =
+        cacheMaxSizeBytes > 0 && cacheTtlSec > 0
+            ? CacheBuilder.newBuilder()
+                .maximumWeight(cacheMaxSizeBytes)
+                .weigher((String key, CachedContent value) -> value.weight(key))
+                .expireAfterWrite(cacheTtlSec, TimeUnit.SECONDS)
+                .build()
+            : null;
   }
 
   /**
@@ -128,13 +165,113 @@ public class URLFetcher {
   String fetch(@NotNull final String url, int timeout, @Nullable String authorization)
       throws IOException {
     requireNonNull(url, "url parameter can't be null");
-    URLConnection connection = new URL(sanitized(url)).openConnection();
+    String sanitizedUrl = sanitized(url);
+    if (cache == null) {
+      return fetch(openConnection(sanitizedUrl, timeout, authorization));
+    }
+
+    String key = cacheKey(sanitizedUrl, authorization);
+    CachedContent cached = cache.getIfPresent(key);
+    if (cached != null && cached.isFresh()) {
+      cacheHits.incrementAndGet();
+      return cached.content;
+    }
+    URLConnection connection = openConnection(sanitizedUrl, timeout, authorization);
+    if (cached != null) {
+      cached.addValidators(connection);
+      if (connection instanceof HttpURLConnection
+          && ((HttpURLConnection) connection).getResponseCode() == HTTP_NOT_MODIFIED) {
+        cacheRevalidations.incrementAndGet();
+        long freshnessMillis = freshnessMillis(connection, authorization);
+        if (freshnessMillis >= 0) {
+          cache.put(key, cached.revalidated(freshnessMillis));
+        } else {
+          cache.invalidate(key);
+        }
+        return cached.content;
+      }
+    }
+    cacheMisses.incrementAndGet();
+    String content = fetch(connection);
+    long freshnessMillis = freshnessMillis(connection, authorization);
+    if (freshnessMillis >= 0) {
+      cache.put(key, new CachedContent(content, connection, freshnessMillis));
+    } else {
+      cache.invalidate(key);
+    }
+    return content;
+  }
+
+  private URLConnection openConnection(String url, int timeout, @Nullable String authorization)
+      throws IOException {
+    URLConnection connection = new URL(url).openConnection();
     connection.setConnectTimeout(timeout);
     connection.setReadTimeout(timeout);
     if (!isNullOrEmpty(authorization)) {
       connection.setRequestProperty(HttpHeaders.AUTHORIZATION, authorization);
     }
-    return fetch(connection);
+    return connection;
+  }
+
+  private static String cacheKey(String url, @Nullable String authorization) {
+    return url
+        + ' '
+        + (isNullOrEmpty(authorization)
+            ? ""
+            : Hashing.sha256().hashString(authorization, UTF_8).toString());
+  }
+
+  /**
+   * Returns for how long the response of the given connection may be returned from the cache
+   * without revalidation, or a negative value if the response must not be cached at all.
+   */
+  private long freshnessMillis(URLConnection connection, @Nullable String authorization) {
+    if (!(connection instanceof HttpURLConnection)) {
+      // local resources are not worth caching
+      return -1;
+    }
+    String cacheControl = connection.getHeaderField(HttpHeaders.CACHE_CONTROL);
+    if (cacheControl == null) {
+      return 0;
+    }
+    long maxAgeMillis = 0;
+    for (String directive : cacheControl.toLowerCase(Locale.ROOT).split(",")) {
+      directive = directive.trim();
+      if (directive.equals("no-store")
+          || (directive.equals("private") && isNullOrEmpty(authorization))) {
+        return -1;
+      } else if (directive.equals("no-cache")) {
+        return 0;
+      } else if (directive.startsWith("max-age=")) {
+        try {
+          maxAgeMillis =
+              TimeUnit.SECONDS.toMillis(Long.parseLong(directive.substring("max-age=".length())));
+        } catch (NumberFormatException e) {
+          return 0;
+        }
+      }
+    }
+    return Math.min(Math.max(maxAgeMillis, 0), cacheTtlMillis);
+  }
+
+  /** Returns the number of fetches answered from the cache without any request. */
+  public long getCacheHitCount() {
+    return cacheHits.get();
+  }
+
+  /** Returns the number of fetches answered from the cache after a conditional request. */
+  public long getCacheRevalidationCount() {
+    return cacheRevalidations.get();
+  }
+
+  /** Returns the number of fetches that had to download the content. */
+  public long getCacheMissCount() {
+    return cacheMisses.get();
+  }
+
+  /** Returns the number of the cached entries. */
+  public long getCacheSize() {
+    return cache == null ? 0 : cache.size();
   }
 
   /**
@@ -162,6 +299,54 @@ public class URLFetcher {
     return value;
   }
 
+  private static final class CachedContent {
+
+    private final String content;
+    private final String eTag;
+    private final String lastModified;
+    private final long freshUntil;
+
+    private CachedContent(String content, URLConnection connection, long freshnessMillis) {
+      this(
+          content,
+          connection.getHeaderField(HttpHeaders.ETAG),
+          connection.getHeaderField(HttpHeaders.LAST_MODIFIED),
+          freshnessMillis);
+    }
+
+    private CachedContent(
+        String content,
+        @Nullable String eTag,
+        @Nullable String lastModified,
+        long freshnessMillis) {
+      this.content = content;
+      this.eTag = eTag;
+      this.lastModified = lastModified;
+      this.freshUntil = System.currentTimeMillis() + freshnessMillis;
+    }
+
+    private boolean isFresh() {
+      return System.currentTimeMillis() < freshUntil;
+    }
+
+    private void addValidators(URLConnection connection) {
+      if (eTag != null) {
+        connection.setRequestProperty(HttpHeaders.IF_NONE_MATCH, eTag);
+      }
+      if (lastModified != null) {
+        connection.setRequestProperty(HttpHeaders.IF_MODIFIED_SINCE, lastModified);
+      }
+    }
+
+    private CachedContent revalidated(long freshnessMillis) {
+      return new CachedContent(content, eTag, lastModified, freshnessMillis);
+    }
+
+    private int weight(String key) {
+      return key.length() + content.length();
+    }
+  }
+
   /**
    * Maximum size that can be read.
    *
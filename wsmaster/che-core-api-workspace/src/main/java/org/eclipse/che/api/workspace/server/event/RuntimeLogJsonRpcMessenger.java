@@ -15,7 +15,6 @@ import static org.eclipse.che.api.workspace.shared.Constants.MACHINE_LOG_METHOD;
 import static org.eclipse.che.api.workspace.shared.Constants.RUNTIME_LOG_METHOD;
 
 import jakarta.annotation.PostConstruct;
-import java.util.Map;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import org.eclipse.che.api.core.notification.RemoteSubscriptionManager;
@@ -39,17 +38,17 @@ public class RuntimeLogJsonRpcMessenger {
 
   @PostConstruct
   private void postConstruct() {
-    subscriptionManager.register(RUNTIME_LOG_METHOD, RuntimeLogEvent.class, this::predicate);
     subscriptionManager.register(
-        MACHINE_LOG_METHOD, RuntimeLogEvent.class, this::predicateMachineLog);
-  }
-
-  private boolean predicate(RuntimeLogEvent event, Map<String, String> scope) {
-    return event.getRuntimeId().getWorkspaceId().equals(scope.get("workspaceId"));
-  }
-
-  private boolean predicateMachineLog(RuntimeLogEvent event, Map<String, String> scope) {
-    return event.getMachineName() != null
-        && event.getRuntimeId().getWorkspaceId().equals(scope.get("workspaceId"));
+        RUNTIME_LOG_METHOD,
+        RuntimeLogEvent.class,
+        "workspaceId",
+        event -> event.getRuntimeId().getWorkspaceId(),
+        (event, scope) -> true);
+    subscriptionManager.register(
+        MACHINE_LOG_METHOD,
+        RuntimeLogEvent.class,
+        "workspaceId",
+        event -> event.getRuntimeId().getWorkspaceId(),
+        (event, scope) -> event.getMachineName() != null);
   }
 }
@@ -12,7 +12,6 @@
 package org.eclipse.che.api.workspace.server.event;
 
 import jakarta.annotation.PostConstruct;
-import java.util.Map;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import org.eclipse.che.api.core.notification.RemoteSubscriptionManager;
@@ -31,10 +30,10 @@ public class RuntimeStatusJsonRpcMessenger {
   @PostConstruct
   private void postConstruct() {
     remoteSubscriptionManager.register(
-        "runtime/statusChanged", RuntimeStatusEvent.class, this::predicate);
-  }
-
-  private boolean predicate(RuntimeStatusEvent event, Map<String, String> scope) {
-    return event.getIdentity().getWorkspaceId().equals(scope.get("workspaceId"));
+        "runtime/statusChanged",
+        RuntimeStatusEvent.class,
+        "workspaceId",
+        event -> event.getIdentity().getWorkspaceId(),
+        (event, scope) -> true);
   }
 }
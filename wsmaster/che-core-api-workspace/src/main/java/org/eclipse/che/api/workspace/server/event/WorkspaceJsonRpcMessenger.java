@@ -14,7 +14,6 @@ package org.eclipse.che.api.workspace.server.event;
 import static org.eclipse.che.api.workspace.shared.Constants.WORKSPACE_STATUS_CHANGED_METHOD;
 
 import jakarta.annotation.PostConstruct;
-import java.util.Map;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import org.eclipse.che.api.core.notification.RemoteSubscriptionManager;
@@ -33,10 +32,10 @@ public class WorkspaceJsonRpcMessenger {
   @PostConstruct
   private void postConstruct() {
     remoteSubscriptionManager.register(
-        WORKSPACE_STATUS_CHANGED_METHOD, WorkspaceStatusEvent.class, this::predicate);
-  }
-
-  private boolean predicate(WorkspaceStatusEvent event, Map<String, String> scope) {
-    return event.getWorkspaceId().equals(scope.get("workspaceId"));
+        WORKSPACE_STATUS_CHANGED_METHOD,
+        WorkspaceStatusEvent.class,
+        "workspaceId",
+        WorkspaceStatusEvent::getWorkspaceId,
+        (event, scope) -> true);
   }
 }
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2012-2026 Red Hat, Inc.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.api.workspace.server.devfile;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.eclipse.che.commons.observability.NoopExecutorServiceWrapper;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+public class DevfileFetchPoolTest {
+
+  private DevfileFetchPool pool;
+
+  @BeforeMethod
+  public void setUp() {
+    pool = new DevfileFetchPool(new NoopExecutorServiceWrapper());
+  }
+
+  @AfterMethod
+  public void tearDown() {
+    pool.shutdown();
+  }
+
+  @Test
+  public void shouldReturnFetchedContent() throws Exception {
+    assertEquals(pool.submit(() -> "content").get(5, TimeUnit.SECONDS), "content");
+  }
+
+  @Test
+  public void shouldInterruptFetchWhichDoesNotCompleteInTime() throws Exception {
+    // given
+    CountDownLatch interrupted = new CountDownLatch(1);
+
+    // when
+    ExecutionException thrown =
+        expectThrows(
+            ExecutionException.class,
+            () ->
+                pool.submit(
+                        () -> {
+                          try {
+                            new CountDownLatch(1).await(10, TimeUnit.SECONDS);
+                          } catch (InterruptedException e) {
+                            interrupted.countDown();
+                          }
+                          return "content";
+                        },
+                        100,
+                        TimeUnit.MILLISECONDS)
+                    .get(5, TimeUnit.SECONDS));
+
+    // then
+    assertTrue(thrown.getCause() instanceof TimeoutException);
+    assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+  }
+
+  @Test
+  public void shouldInterruptCancelledFetch() throws Exception {
+    // given
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch interrupted = new CountDownLatch(1);
+
+    CompletableFuture<String> fetch =
+        pool.submit(
+            () -> {
+              started.countDown();
+              try {
+                new CountDownLatch(1).await(10, TimeUnit.SECONDS);
+              } catch (InterruptedException e) {
+                interrupted.countDown();
+              }
+              return "content";
+            });
+    assertTrue(started.await(5, TimeUnit.SECONDS));
+
+    // when
+    fetch.cancel(true);
+
+    // then
+    assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+  }
+
+  @Test
+  public void shouldFetchOnCallingThreadWhenPoolIsShutDown() throws Exception {
+    // given
+    pool.shutdown();
+
+    // when
+    Thread fetchThread = pool.submit(Thread::currentThread).get(5, TimeUnit.SECONDS);
+
+    // then
+    assertEquals(fetchThread, Thread.currentThread());
+  }
+}
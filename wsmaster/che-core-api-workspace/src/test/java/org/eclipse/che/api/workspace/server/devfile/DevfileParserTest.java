@@ -18,6 +18,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
@@ -28,6 +29,8 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import org.eclipse.che.api.workspace.server.devfile.exception.DevfileException;
 import org.eclipse.che.api.workspace.server.devfile.exception.DevfileFormatException;
 import org.eclipse.che.api.workspace.server.devfile.validator.DevfileIntegrityValidator;
@@ -36,6 +39,7 @@ import org.eclipse.che.api.workspace.server.model.impl.devfile.CommandImpl;
 import org.eclipse.che.api.workspace.server.model.impl.devfile.ComponentImpl;
 import org.eclipse.che.api.workspace.server.model.impl.devfile.DevfileImpl;
 import org.eclipse.che.api.workspace.server.model.impl.devfile.EndpointImpl;
+import org.eclipse.che.commons.observability.NoopExecutorServiceWrapper;
 import org.mockito.Mock;
 import org.mockito.testng.MockitoTestNGListener;
 import org.testng.annotations.BeforeMethod;
@@ -59,7 +63,12 @@ public class DevfileParserTest {
   @BeforeMethod
   public void setUp() throws Exception {
     devfile = new DevfileImpl();
-    devfileParser = new DevfileParser(integrityValidator, yamlMapper, jsonMapper);
+    devfileParser =
+        new DevfileParser(
+            integrityValidator,
+            yamlMapper,
+            jsonMapper,
+            new DevfileFetchPool(new NoopExecutorServiceWrapper()));
 
     lenient().when(jsonMapper.treeToValue(any(), eq(DevfileImpl.class))).thenReturn(devfile);
     lenient().when(yamlMapper.treeToValue(any(), eq(DevfileImpl.class))).thenReturn(devfile);
@@ -136,6 +145,54 @@ public class DevfileParserTest {
     assertEquals(devfile.getComponents().get(0).getReferenceContent(), referenceContent);
   }
 
+  @Test
+  public void shouldFetchEachDistinctReferenceOnce() throws Exception {
+    // given
+    when(contentProvider.fetchContent("a.yaml")).thenReturn("content_a");
+    when(contentProvider.fetchContent("b.yaml")).thenReturn("content_b");
+    devfile.getComponents().add(referencedComponent("first", "a.yaml"));
+    devfile.getComponents().add(referencedComponent("second", "b.yaml"));
+    devfile.getComponents().add(referencedComponent("third", "a.yaml"));
+
+    // when
+    devfileParser.resolveReference(devfile, contentProvider);
+
+    // then
+    verify(contentProvider, times(1)).fetchContent(eq("a.yaml"));
+    verify(contentProvider, times(1)).fetchContent(eq("b.yaml"));
+    assertEquals(devfile.getComponents().get(0).getReferenceContent(), "content_a");
+    assertEquals(devfile.getComponents().get(1).getReferenceContent(), "content_b");
+    assertEquals(devfile.getComponents().get(2).getReferenceContent(), "content_a");
+  }
+
+  @Test(
+      expectedExceptions = DevfileException.class,
+      expectedExceptionsMessageRegExp = "Unable to resolve reference of component: first")
+  public void shouldReportFirstUnresolvableReferenceInDevfileOrder() throws Exception {
+    // given
+    CountDownLatch secondFailed = new CountDownLatch(1);
+    when(contentProvider.fetchContent("a.yaml"))
+        .thenAnswer(
+            invocation -> {
+              // fails after the reference of the second component
+              secondFailed.await(10, TimeUnit.SECONDS);
+              throw new IOException("a.yaml is not available");
+            });
+    when(contentProvider.fetchContent("b.yaml"))
+        .thenAnswer(
+            invocation -> {
+              secondFailed.countDown();
+              throw new IOException("b.yaml is not available");
+            });
+    devfile.getComponents().add(referencedComponent("first", "a.yaml"));
+    devfile.getComponents().add(referencedComponent("second", "b.yaml"));
+
+    // when
+    devfileParser.resolveReference(devfile, contentProvider);
+
+    // then exception is thrown
+  }
+
   @Test(
       expectedExceptions = DevfileException.class,
       expectedExceptionsMessageRegExp = "Unable to parse Devfile - provided source is empty")
@@ -193,4 +250,12 @@ public class DevfileParserTest {
     // then
     verify(yamlMapper).convertValue(eq(devfileJsonNode), any(TypeReference.class));
   }
+
+  private static ComponentImpl referencedComponent(String alias, String reference) {
+    ComponentImpl component = new ComponentImpl();
+    component.setType(KUBERNETES_COMPONENT_TYPE);
+    component.setAlias(alias);
+    component.setReference(reference);
+    return component;
+  }
 }
@@ -18,12 +18,16 @@ import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNull;
 
 import com.google.common.base.Strings;
+import com.sun.net.httpserver.HttpServer;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.InetSocketAddress;
 import java.net.SocketTimeoutException;
 import java.net.URL;
 import java.net.URLConnection;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import org.mockito.Mockito;
 import org.mockito.testng.MockitoTestNGListener;
@@ -42,6 +46,9 @@ public class URLFetcherTest {
   /** Instance to test. */
   private URLFetcher urlFetcher = new URLFetcher(1024);
 
+  private final AtomicInteger requests = new AtomicInteger();
+  private final AtomicReference<String> lastIfNoneMatch = new AtomicReference<>();
+
   /** Check that when url is null, NPE is thrown */
   @Test(expectedExceptions = NullPointerException.class)
   public void checkNullURL() {
@@ -174,6 +181,173 @@ public class URLFetcherTest {
     fetcher.fetch(connection);
   }
 
+  @Test
+  public void shouldReturnFreshContentFromCache() throws Exception {
+    // given
+    HttpServer server = startServer("max-age=60", "\"etag1\"");
+    try {
+      URLFetcher fetcher = new URLFetcher(1024, 1024, 60);
+      String url = serverUrl(server);
+
+      // when
+      String first = fetcher.fetch(url, "token user1");
+      String second = fetcher.fetch(url, "token user1");
+
+      // then
+      assertEquals(first, "content");
+      assertEquals(second, "content");
+      assertEquals(requests.get(), 1);
+      assertEquals(fetcher.getCacheMissCount(), 1);
+      assertEquals(fetcher.getCacheHitCount(), 1);
+    } finally {
+      server.stop(0);
+    }
+  }
+
+  @Test
+  public void shouldRevalidateCachedContentWithoutMaxAge() throws Exception {
+    // given
+    HttpServer server = startServer(null, "\"etag1\"");
+    try {
+      URLFetcher fetcher = new URLFetcher(1024, 1024, 60);
+      String url = serverUrl(server);
+
+      // when
+      fetcher.fetch(url, "token user1");
+      String second = fetcher.fetch(url, "token user1");
+
+      // then
+      assertEquals(second, "content");
+      assertEquals(requests.get(), 2);
+      assertEquals(lastIfNoneMatch.get(), "\"etag1\"");
+      assertEquals(fetcher.getCacheRevalidationCount(), 1);
+    } finally {
+      server.stop(0);
+    }
+  }
+
+  @Test
+  public void shouldNotShareCachedContentBetweenCredentials() throws Exception {
+    // given
+    HttpServer server = startServer("max-age=60", "\"etag1\"");
+    try {
+      URLFetcher fetcher = new URLFetcher(1024, 1024, 60);
+      String url = serverUrl(server);
+
+      // when
+      fetcher.fetch(url, "token user1");
+      fetcher.fetch(url, "token user2");
+      fetcher.fetch(url);
+
+      // then
+      assertEquals(requests.get(), 3);
+      assertEquals(fetcher.getCacheMissCount(), 3);
+    } finally {
+      server.stop(0);
+    }
+  }
+
+  @Test
+  public void shouldNotCacheContentWithNoStore() throws Exception {
+    // given
+    HttpServer server = startServer("no-store", "\"etag1\"");
+    try {
+      URLFetcher fetcher = new URLFetcher(1024, 1024, 60);
+      String url = serverUrl(server);
+
+      // when
+      fetcher.fetch(url, "token user1");
+      fetcher.fetch(url, "token user1");
+
+      // then
+      assertEquals(requests.get(), 2);
+      assertNull(lastIfNoneMatch.get());
+      assertEquals(fetcher.getCacheSize(), 0);
+    } finally {
+      server.stop(0);
+    }
+  }
+
+  @Test
+  public void shouldDropCachedContentWhenRevalidationForbidsStoring() throws Exception {
+    // given
+    HttpServer server = startServer(null, "no-store", "\"etag1\"");
+    try {
+      URLFetcher fetcher = new URLFetcher(1024, 1024, 60);
+      String url = serverUrl(server);
+
+      // when
+      fetcher.fetch(url, "token user1");
+      String second = fetcher.fetch(url, "token user1");
+      fetcher.fetch(url, "token user1");
+
+      // then
+      assertEquals(second, "content");
+      assertEquals(fetcher.getCacheRevalidationCount(), 1);
+      assertEquals(fetcher.getCacheMissCount(), 2);
+      assertNull(lastIfNoneMatch.get());
+    } finally {
+      server.stop(0);
+    }
+  }
+
+  @Test
+  public void shouldNotCacheWhenDisabled() throws Exception {
+    // given
+    HttpServer server = startServer("max-age=60", "\"etag1\"");
+    try {
+      String url = serverUrl(server);
+
+      // when
+      urlFetcher.fetch(url, "token user1");
+      urlFetcher.fetch(url, "token user1");
+
+      // then
+      assertEquals(requests.get(), 2);
+    } finally {
+      server.stop(0);
+    }
+  }
+
+  private HttpServer startServer(String cacheControl, String eTag) throws IOException {
+    return startServer(cacheControl, cacheControl, eTag);
+  }
+
+  private HttpServer startServer(String cacheControl, String notModifiedCacheControl, String eTag)
+      throws IOException {
+    requests.set(0);
+    lastIfNoneMatch.set(null);
+    HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    server.createContext(
+        "/devfile.yaml",
+        exchange -> {
+          requests.incrementAndGet();
+          String ifNoneMatch = exchange.getRequestHeaders().getFirst("If-None-Match");
+          lastIfNoneMatch.set(ifNoneMatch);
+          exchange.getResponseHeaders().add("ETag", eTag);
+          if (eTag.equals(ifNoneMatch)) {
+            if (notModifiedCacheControl != null) {
+              exchange.getResponseHeaders().add("Cache-Control", notModifiedCacheControl);
+            }
+            exchange.sendResponseHeaders(304, -1);
+          } else {
+            if (cacheControl != null) {
+              exchange.getResponseHeaders().add("Cache-Control", cacheControl);
+            }
+            byte[] body = "content".getBytes(UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+          }
+          exchange.close();
+        });
+    server.start();
+    return server;
+  }
+
+  private static String serverUrl(HttpServer server) {
+    return "http://localhost:" + server.getAddress().getPort() + "/devfile.yaml";
+  }
+
   /** Limit to only one Byte. */
   static class OneByteURLFetcher extends URLFetcher {
 
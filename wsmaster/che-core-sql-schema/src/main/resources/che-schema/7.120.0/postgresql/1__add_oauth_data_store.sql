@@ -0,0 +1,20 @@
+--
+-- Copyright (c) 2012-2026 Red Hat, Inc.
+-- This program and the accompanying materials are made
+-- available under the terms of the Eclipse Public License 2.0
+-- which is available at https://www.eclipse.org/legal/epl-2.0/
+--
+-- SPDX-License-Identifier: EPL-2.0
+--
+-- Contributors:
+--   Red Hat, Inc. - initial API and implementation
+--
+
+-- OAuth data store entry ------------------------------------------------------------
+CREATE TABLE che_oauth_data_store_entry (
+    data_store_id         VARCHAR(255) NOT NULL,
+    entry_key             VARCHAR(255) NOT NULL,
+    entry_value           BYTEA        NOT NULL,
+
+    PRIMARY KEY (data_store_id, entry_key)
+);